@@ -0,0 +1,329 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the cost of the steps of an analysis, such as running a rule or parsing a
+ * file. For each step, the number of times that it was measured and the total wall
+ * time, CPU time and allocated bytes are recorded. Totals are held in
+ * {@link LongAdder LongAdders} so that steps can be recorded concurrently by many
+ * threads without contention.
+ * <p>
+ * CPU time and allocated bytes are measured for the current thread using the
+ * platform's {@link ThreadMXBean}. Allocated bytes are only available when it is a
+ * {@code com.sun.management.ThreadMXBean}, as it is on HotSpot JVMs. When a measurement
+ * is unavailable, it is recorded as zero.
+ *
+ * @author Andy Wilkinson
+ */
+public final class AnalysisMetrics {
+
+	private static final ThreadClock clock = new ThreadClock();
+
+	private static final AnalysisMetrics DISABLED = new AnalysisMetrics(false);
+
+	private static final Measurement NO_OP = new Measurement(DISABLED, 0, 0, 0);
+
+	private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+	private final boolean enabled;
+
+	public AnalysisMetrics() {
+		this(true);
+	}
+
+	private AnalysisMetrics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns metrics that do not record anything.
+	 *
+	 * @return the disabled metrics
+	 */
+	public static AnalysisMetrics disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Starts measuring a step on the current thread. The returned measurement should be
+	 * {@link Measurement#stop(String) stopped} on the same thread.
+	 *
+	 * @return the measurement
+	 */
+	public Measurement start() {
+		if (!this.enabled) {
+			return NO_OP;
+		}
+		return new Measurement(this, System.nanoTime(), clock.getCpuTime(),
+				clock.getAllocatedBytes());
+	}
+
+	/**
+	 * Records a step that took the given {@code wallTime} without measuring its CPU
+	 * time or allocation.
+	 *
+	 * @param step the name of the step
+	 * @param wallTime the wall time in nanoseconds
+	 */
+	public void record(String step, long wallTime) {
+		if (this.enabled) {
+			record(step, wallTime, 0, 0);
+		}
+	}
+
+	private void record(String step, long wallTime, long cpuTime, long allocatedBytes) {
+		Counters counters = this.counters.computeIfAbsent(step, (key) -> new Counters());
+		counters.count.increment();
+		counters.wallTime.add(wallTime);
+		counters.cpuTime.add(cpuTime);
+		counters.allocatedBytes.add(allocatedBytes);
+	}
+
+	/**
+	 * Returns the totals of each step that has been recorded, most expensive first.
+	 *
+	 * @return the totals
+	 */
+	public List<StepMetrics> getSteps() {
+		List<StepMetrics> steps = new ArrayList<>();
+		this.counters.forEach((step, counters) -> steps.add(new StepMetrics(step,
+				counters.count.sum(), counters.wallTime.sum(), counters.cpuTime.sum(),
+				counters.allocatedBytes.sum())));
+		steps.sort(Comparator.comparingLong(StepMetrics::getWallTime).reversed());
+		return steps;
+	}
+
+	/**
+	 * An in-progress measurement of a step.
+	 */
+	public static final class Measurement {
+
+		private final AnalysisMetrics metrics;
+
+		private final long wallTime;
+
+		private final long cpuTime;
+
+		private final long allocatedBytes;
+
+		private Measurement(AnalysisMetrics metrics, long wallTime, long cpuTime,
+				long allocatedBytes) {
+			this.metrics = metrics;
+			this.wallTime = wallTime;
+			this.cpuTime = cpuTime;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		/**
+		 * Stops the measurement and records it against the given {@code step}.
+		 *
+		 * @param step the name of the step
+		 * @return the wall time of the step in nanoseconds, or {@code 0} if the metrics
+		 * are disabled
+		 */
+		public long stop(String step) {
+			if (!this.metrics.enabled) {
+				return 0;
+			}
+			long wallTime = System.nanoTime() - this.wallTime;
+			this.metrics.record(step, wallTime, clock.getCpuTime() - this.cpuTime,
+					clock.getAllocatedBytes() - this.allocatedBytes);
+			return wallTime;
+		}
+
+	}
+
+	/**
+	 * The totals of a step.
+	 */
+	public static final class StepMetrics {
+
+		private final String step;
+
+		private final long count;
+
+		private final long wallTime;
+
+		private final long cpuTime;
+
+		private final long allocatedBytes;
+
+		private StepMetrics(String step, long count, long wallTime, long cpuTime,
+				long allocatedBytes) {
+			this.step = step;
+			this.count = count;
+			this.wallTime = wallTime;
+			this.cpuTime = cpuTime;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		public String getStep() {
+			return this.step;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the total wall time in nanoseconds.
+		 *
+		 * @return the wall time
+		 */
+		public long getWallTime() {
+			return this.wallTime;
+		}
+
+		/**
+		 * Returns the total CPU time in nanoseconds.
+		 *
+		 * @return the CPU time
+		 */
+		public long getCpuTime() {
+			return this.cpuTime;
+		}
+
+		public long getAllocatedBytes() {
+			return this.allocatedBytes;
+		}
+
+	}
+
+	private static final class Counters {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder wallTime = new LongAdder();
+
+		private final LongAdder cpuTime = new LongAdder();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+	}
+
+	/**
+	 * Measures the CPU time and allocation of the current thread.
+	 */
+	private static final class ThreadClock {
+
+		private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		private final boolean cpuTimeSupported;
+
+		private final AllocationCounter allocationCounter;
+
+		private ThreadClock() {
+			this.cpuTimeSupported = this.threadMXBean.isCurrentThreadCpuTimeSupported()
+					&& this.threadMXBean.isThreadCpuTimeEnabled();
+			this.allocationCounter = createAllocationCounter(this.threadMXBean);
+		}
+
+		private static AllocationCounter createAllocationCounter(
+				ThreadMXBean threadMXBean) {
+			try {
+				AllocationCounter counter = ReflectiveAllocationCounter
+						.create(threadMXBean);
+				if (counter != null) {
+					return counter;
+				}
+			}
+			catch (ReflectiveOperationException | LinkageError ex) {
+				// Allocation is not measurable on this JVM
+			}
+			return () -> 0;
+		}
+
+		private long getCpuTime() {
+			return this.cpuTimeSupported ? this.threadMXBean.getCurrentThreadCpuTime()
+					: 0;
+		}
+
+		private long getAllocatedBytes() {
+			return this.allocationCounter.getAllocatedBytes();
+		}
+
+	}
+
+	@FunctionalInterface
+	private interface AllocationCounter {
+
+		long getAllocatedBytes();
+
+	}
+
+	/**
+	 * An {@link AllocationCounter} that calls
+	 * {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes(long)}. The method
+	 * is found reflectively as the {@code com.sun.management} package is not part of
+	 * the bundle's execution environment. It is resolved once to a method handle that is
+	 * bound to the bean so that each call is not a reflective invocation.
+	 */
+	private static final class ReflectiveAllocationCounter implements AllocationCounter {
+
+		private static final String SUN_THREAD_MX_BEAN = "com.sun.management."
+				+ "ThreadMXBean";
+
+		private final MethodHandle getThreadAllocatedBytes;
+
+		private ReflectiveAllocationCounter(MethodHandle getThreadAllocatedBytes) {
+			this.getThreadAllocatedBytes = getThreadAllocatedBytes;
+		}
+
+		@Override
+		public long getAllocatedBytes() {
+			try {
+				return (long) this.getThreadAllocatedBytes
+						.invokeExact(Thread.currentThread().getId());
+			}
+			catch (Throwable ex) {
+				return 0;
+			}
+		}
+
+		private static AllocationCounter create(ThreadMXBean threadMXBean)
+				throws ReflectiveOperationException {
+			Class<?> type = Class.forName(SUN_THREAD_MX_BEAN, false,
+					ClassLoader.getSystemClassLoader());
+			if (!type.isInstance(threadMXBean)) {
+				return null;
+			}
+			Method getThreadAllocatedBytes = type.getMethod("getThreadAllocatedBytes",
+					long.class);
+			boolean enabled = invoke(type, "isThreadAllocatedMemorySupported",
+					threadMXBean)
+					&& invoke(type, "isThreadAllocatedMemoryEnabled", threadMXBean);
+			if (!enabled) {
+				return null;
+			}
+			return new ReflectiveAllocationCounter(MethodHandles.publicLookup()
+					.unreflect(getThreadAllocatedBytes).bindTo(threadMXBean));
+		}
+
+		private static boolean invoke(Class<?> type, String name,
+				ThreadMXBean threadMXBean) throws ReflectiveOperationException {
+			return (Boolean) type.getMethod(name).invoke(threadMXBean);
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@link Fingerprints fingerprints} of known problems that should not be reported.
+ * A baseline is read from a file with one fingerprint per line, optionally followed by
+ * the name of the problem. Lines that start with {@code #} are ignored. The fingerprints
+ * are held in an open-addressing hash table of {@code long} values so that a large
+ * baseline is compact and checking whether it contains a problem does not allocate.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Baseline {
+
+	/**
+	 * The name of the file, in the root of a project, that contains its baseline.
+	 */
+	public static final String FILE_NAME = ".spring-boot-baseline";
+
+	private static final Baseline EMPTY = new Baseline(new long[0], 0);
+
+	private final long[] table;
+
+	private final int mask;
+
+	private final boolean containsZero;
+
+	private final int size;
+
+	private Baseline(long[] fingerprints, int count) {
+		int capacity = 2;
+		while (capacity < count * 2) {
+			capacity <<= 1;
+		}
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+		boolean containsZero = false;
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			long fingerprint = fingerprints[i];
+			if (fingerprint == 0) {
+				size += containsZero ? 0 : 1;
+				containsZero = true;
+			}
+			else if (insert(fingerprint)) {
+				size++;
+			}
+		}
+		this.containsZero = containsZero;
+		this.size = size;
+	}
+
+	private boolean insert(long fingerprint) {
+		int index = indexOf(fingerprint);
+		while (this.table[index] != 0) {
+			if (this.table[index] == fingerprint) {
+				return false;
+			}
+			index = (index + 1) & this.mask;
+		}
+		this.table[index] = fingerprint;
+		return true;
+	}
+
+	private int indexOf(long fingerprint) {
+		return (int) (fingerprint ^ (fingerprint >>> 32)) & this.mask;
+	}
+
+	/**
+	 * Returns whether the baseline contains the given {@code fingerprint}.
+	 *
+	 * @param fingerprint the fingerprint
+	 * @return {@code true} if the fingerprint is in the baseline, otherwise
+	 * {@code false}
+	 */
+	public boolean contains(long fingerprint) {
+		if (fingerprint == 0) {
+			return this.containsZero;
+		}
+		int index = indexOf(fingerprint);
+		long candidate;
+		while ((candidate = this.table[index]) != 0) {
+			if (candidate == fingerprint) {
+				return true;
+			}
+			index = (index + 1) & this.mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of fingerprints in the baseline.
+	 *
+	 * @return the number of fingerprints
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns an empty baseline.
+	 *
+	 * @return the empty baseline
+	 */
+	public static Baseline empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Reads a baseline from the given {@code input}. The input is closed once it has
+	 * been read.
+	 *
+	 * @param input the input to read from
+	 * @return the baseline
+	 * @throws IOException if the baseline cannot be read or is malformed
+	 */
+	public static Baseline read(InputStream input) throws IOException {
+		long[] fingerprints = new long[1024];
+		int count = 0;
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				int end = line.indexOf(' ');
+				if (count == fingerprints.length) {
+					fingerprints = Arrays.copyOf(fingerprints, count * 2);
+				}
+				try {
+					fingerprints[count++] = Fingerprints
+							.parse((end != -1) ? line.substring(0, end) : line);
+				}
+				catch (NumberFormatException ex) {
+					throw new IOException("Malformed baseline entry '" + line + "'", ex);
+				}
+			}
+		}
+		return (count > 0) ? new Baseline(fingerprints, count) : EMPTY;
+	}
+
+	/**
+	 * Builds a baseline, and the content of its file, from the problems that are
+	 * accepted. Problems may be accepted concurrently.
+	 */
+	public static final class Builder implements ProblemSink {
+
+		private final Map<Long, Problem> problems = new TreeMap<>(Long::compareUnsigned);
+
+		@Override
+		public synchronized void accept(ReportedProblem problem) {
+			add(problem.getFingerprint(), problem.getProblem());
+		}
+
+		/**
+		 * Adds the problem with the given {@code fingerprint} to the baseline.
+		 *
+		 * @param fingerprint the fingerprint of the problem
+		 * @param problem the problem
+		 */
+		public synchronized void add(long fingerprint, Problem problem) {
+			this.problems.put(fingerprint, problem);
+		}
+
+		/**
+		 * Builds the baseline.
+		 *
+		 * @return the baseline
+		 */
+		public synchronized Baseline build() {
+			long[] fingerprints = new long[this.problems.size()];
+			int i = 0;
+			for (Long fingerprint : this.problems.keySet()) {
+				fingerprints[i++] = fingerprint;
+			}
+			return (i > 0) ? new Baseline(fingerprints, i) : EMPTY;
+		}
+
+		/**
+		 * Writes the baseline's file to the given {@code writer} with its fingerprints
+		 * in order so that changes to it are easy to review.
+		 *
+		 * @param writer the writer
+		 * @throws IOException if the baseline cannot be written
+		 */
+		public synchronized void write(Writer writer) throws IOException {
+			writer.write("# Known Spring Boot development problems that are not "
+					+ "reported.\n# Regenerate rather than editing by hand.\n");
+			for (Map.Entry<Long, Problem> entry : this.problems.entrySet()) {
+				writer.write(Fingerprints.toString(entry.getKey()));
+				writer.write(' ');
+				writer.write(entry.getValue().name());
+				writer.write('\n');
+			}
+			writer.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.ArrayInitializer;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IExtendedModifier;
+import org.eclipse.jdt.core.dom.LineComment;
+import org.eclipse.jdt.core.dom.MemberValuePair;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.NormalAnnotation;
+import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationExpression;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
+
+/**
+ * Finds the {@link Suppressions} in a {@link CompilationUnit} that has been parsed by
+ * JDT.
+ *
+ * @author Andy Wilkinson
+ */
+final class CompilationUnitSuppressions {
+
+	private CompilationUnitSuppressions() {
+
+	}
+
+	/**
+	 * Finds the suppressions in the given {@code compilationUnit}.
+	 *
+	 * @param compilationUnit the compilation unit
+	 * @param source the source of the compilation unit, used to read its line comments
+	 * @return the suppressions
+	 */
+	static Suppressions find(CompilationUnit compilationUnit, String source) {
+		Suppressions.Builder builder = new Suppressions.Builder();
+		compilationUnit.accept(new SuppressWarningsVisitor(builder));
+		if (source != null) {
+			findIgnoreComments(compilationUnit, source, builder);
+		}
+		return builder.build();
+	}
+
+	private static void findIgnoreComments(CompilationUnit compilationUnit,
+			String source, Suppressions.Builder builder) {
+		for (Object comment : compilationUnit.getCommentList()) {
+			if (!(comment instanceof LineComment)) {
+				continue;
+			}
+			int start = ((LineComment) comment).getStartPosition();
+			int end = start + ((LineComment) comment).getLength();
+			if (end > source.length()
+					|| !Suppressions.isIgnoreComment(source.substring(start + 2, end))) {
+				continue;
+			}
+			int line = compilationUnit.getLineNumber(start);
+			int lineStart = compilationUnit.getPosition(line, 0);
+			if (source.substring(lineStart, start).trim().isEmpty()) {
+				line++;
+			}
+			int regionStart = compilationUnit.getPosition(line, 0);
+			int regionEnd = compilationUnit.getPosition(line + 1, 0);
+			if (regionStart >= 0) {
+				builder.ignore(regionStart,
+						(regionEnd >= 0) ? regionEnd : source.length());
+			}
+		}
+	}
+
+	/**
+	 * {@link ASTVisitor} that finds the regions of declarations that are annotated with
+	 * {@code @SuppressWarnings} for one or more rules.
+	 */
+	private static final class SuppressWarningsVisitor extends ASTVisitor {
+
+		private final Suppressions.Builder builder;
+
+		private SuppressWarningsVisitor(Suppressions.Builder builder) {
+			this.builder = builder;
+		}
+
+		@Override
+		public boolean visit(TypeDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(EnumDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(AnnotationTypeDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(FieldDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationStatement node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationExpression node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			return visitDeclaration(node, node.modifiers());
+		}
+
+		private boolean visitDeclaration(ASTNode node, List<?> modifiers) {
+			List<String> values = new ArrayList<>();
+			for (Object modifier : modifiers) {
+				if (((IExtendedModifier) modifier).isAnnotation()) {
+					collectSuppressWarningsValues((Annotation) modifier, values);
+				}
+			}
+			if (!values.isEmpty()) {
+				this.builder.suppressWarnings(node.getStartPosition(),
+						node.getStartPosition() + node.getLength(), values);
+			}
+			return true;
+		}
+
+		private void collectSuppressWarningsValues(Annotation annotation,
+				List<String> values) {
+			String name = annotation.getTypeName().getFullyQualifiedName();
+			if (!"SuppressWarnings".equals(name)
+					&& !"java.lang.SuppressWarnings".equals(name)) {
+				return;
+			}
+			if (annotation instanceof SingleMemberAnnotation) {
+				collectValues(((SingleMemberAnnotation) annotation).getValue(), values);
+			}
+			else if (annotation instanceof NormalAnnotation) {
+				for (Object value : ((NormalAnnotation) annotation).values()) {
+					MemberValuePair pair = (MemberValuePair) value;
+					if ("value".equals(pair.getName().getIdentifier())) {
+						collectValues(pair.getValue(), values);
+					}
+				}
+			}
+		}
+
+		private void collectValues(Expression value, List<String> values) {
+			if (value instanceof StringLiteral) {
+				values.add(((StringLiteral) value).getLiteralValue());
+			}
+			else if (value instanceof ArrayInitializer) {
+				for (Object expression : ((ArrayInitializer) value).expressions()) {
+					collectValues((Expression) expression, values);
+				}
+			}
+		}
+
+	}
+
+}
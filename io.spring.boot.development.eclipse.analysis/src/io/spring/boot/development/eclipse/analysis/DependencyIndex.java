@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+/**
+ * An index of the source types that are declared and referenced by each source file,
+ * used to find the files that depend upon the files that have changed. A file depends
+ * upon the types that it references, including every super-type of the types that it
+ * declares.
+ *
+ * @author Andy Wilkinson
+ */
+final class DependencyIndex {
+
+	private final Map<Path, Set<String>> declaredTypes = new HashMap<>();
+
+	private final Map<Path, Set<String>> referencedTypes = new HashMap<>();
+
+	private final Map<String, Set<Path>> dependents = new HashMap<>();
+
+	/**
+	 * Updates the index with the types that are declared and referenced by the given
+	 * {@code compilationUnit}.
+	 *
+	 * @param file the source file of the compilation unit
+	 * @param compilationUnit the compilation unit
+	 */
+	synchronized void update(Path file, CompilationUnit compilationUnit) {
+		remove(file);
+		TypeCollector collector = new TypeCollector();
+		compilationUnit.accept(collector);
+		this.declaredTypes.put(file, collector.declared);
+		this.referencedTypes.put(file, collector.referenced);
+		for (String type : collector.referenced) {
+			this.dependents.computeIfAbsent(type, (key) -> new HashSet<>()).add(file);
+		}
+	}
+
+	/**
+	 * Removes the given {@code file} from the index.
+	 *
+	 * @param file the file to remove
+	 */
+	synchronized void remove(Path file) {
+		this.declaredTypes.remove(file);
+		Set<String> referenced = this.referencedTypes.remove(file);
+		if (referenced != null) {
+			for (String type : referenced) {
+				Set<Path> files = this.dependents.get(type);
+				files.remove(file);
+				if (files.isEmpty()) {
+					this.dependents.remove(type);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the files that are known to the index.
+	 *
+	 * @return the files
+	 */
+	synchronized Set<Path> getFiles() {
+		return new HashSet<>(this.declaredTypes.keySet());
+	}
+
+	/**
+	 * Returns the files that directly or indirectly depend upon the given {@code files}.
+	 * The given files are not included unless they depend upon each other.
+	 *
+	 * @param files the files
+	 * @return the dependent files
+	 */
+	synchronized Set<Path> findDependents(Collection<Path> files) {
+		Set<Path> dependents = new LinkedHashSet<>();
+		Set<Path> visited = new HashSet<>(files);
+		Deque<Path> queue = new ArrayDeque<>(files);
+		while (!queue.isEmpty()) {
+			Path file = queue.poll();
+			for (String type : this.declaredTypes.getOrDefault(file,
+					Collections.emptySet())) {
+				for (Path dependent : this.dependents.getOrDefault(type,
+						Collections.emptySet())) {
+					if (!dependent.equals(file)) {
+						dependents.add(dependent);
+					}
+					if (visited.add(dependent)) {
+						queue.add(dependent);
+					}
+				}
+			}
+		}
+		return dependents;
+	}
+
+	private static final class TypeCollector extends ASTVisitor {
+
+		private final Set<String> declared = new HashSet<>();
+
+		private final Set<String> referenced = new HashSet<>();
+
+		@Override
+		public boolean visit(TypeDeclaration type) {
+			declare(type);
+			return true;
+		}
+
+		@Override
+		public boolean visit(EnumDeclaration type) {
+			declare(type);
+			return true;
+		}
+
+		@Override
+		public boolean visit(AnnotationTypeDeclaration type) {
+			declare(type);
+			return true;
+		}
+
+		@Override
+		public boolean visit(SimpleName name) {
+			IBinding binding = name.resolveBinding();
+			if (binding instanceof ITypeBinding) {
+				reference((ITypeBinding) binding);
+			}
+			else if (binding instanceof IMethodBinding) {
+				reference(((IMethodBinding) binding).getDeclaringClass());
+			}
+			else if (binding instanceof IVariableBinding
+					&& ((IVariableBinding) binding).isField()) {
+				reference(((IVariableBinding) binding).getDeclaringClass());
+			}
+			return true;
+		}
+
+		private void declare(AbstractTypeDeclaration type) {
+			ITypeBinding binding = type.resolveBinding();
+			if (binding != null) {
+				String name = getName(binding);
+				if (name != null) {
+					this.declared.add(name);
+				}
+				referenceSuperTypes(binding, new HashSet<>());
+			}
+		}
+
+		private void referenceSuperTypes(ITypeBinding type, Set<String> seen) {
+			ITypeBinding superclass = type.getSuperclass();
+			if (superclass != null && reference(superclass, seen)) {
+				referenceSuperTypes(superclass, seen);
+			}
+			for (ITypeBinding superInterface : type.getInterfaces()) {
+				if (reference(superInterface, seen)) {
+					referenceSuperTypes(superInterface, seen);
+				}
+			}
+		}
+
+		private boolean reference(ITypeBinding type, Set<String> seen) {
+			String name = (type != null) ? getName(type) : null;
+			if (name == null || !seen.add(name)) {
+				return false;
+			}
+			this.referenced.add(name);
+			return true;
+		}
+
+		private void reference(ITypeBinding type) {
+			String name = (type != null) ? getName(type) : null;
+			if (name != null) {
+				this.referenced.add(name);
+			}
+		}
+
+		private String getName(ITypeBinding type) {
+			ITypeBinding candidate = type.isArray() ? type.getElementType() : type;
+			candidate = candidate.getErasure();
+			if (!candidate.isFromSource() || candidate.getQualifiedName().isEmpty()) {
+				return null;
+			}
+			return candidate.getQualifiedName();
+		}
+
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A catalogue of the constructors and factory methods that create objects that are
+ * expensive to create. Each entry is keyed by the fully qualified name of a class and
+ * the name of one of its static factory methods, or {@code new} for its constructors,
+ * separated by {@code #}. Its value is {@code thread-safe} when the created object can
+ * be shared, {@code not-thread-safe} when it cannot, or {@code ignore} to remove the
+ * entry. The catalogue also records the instance methods that read an expensive object
+ * without configuring it. Such an entry is keyed by the fully qualified name of the
+ * object's class and the name of the method, or {@code *} when the object is immutable,
+ * and its value is {@code read}. The catalogue's default entries can be customized
+ * using a project's {@link #FILE_NAME} file.
+ *
+ * @author Andy Wilkinson
+ */
+public final class ExpensiveObjects {
+
+	/**
+	 * The name of the file, in the root of a project, that customizes its catalogue.
+	 */
+	public static final String FILE_NAME = ".spring-boot-expensive-objects";
+
+	private static final String THREAD_SAFE = "thread-safe";
+
+	private static final String NOT_THREAD_SAFE = "not-thread-safe";
+
+	private static final String READ = "read";
+
+	private static final String IGNORE = "ignore";
+
+	private static final ExpensiveObjects DEFAULTS = new ExpensiveObjects(
+			loadDefaults());
+
+	private final Map<String, String> entries;
+
+	private ExpensiveObjects(Properties entries) {
+		this(new HashMap<>(), entries);
+	}
+
+	private ExpensiveObjects(Map<String, String> entries, Properties customizations) {
+		this.entries = entries;
+		for (String key : customizations.stringPropertyNames()) {
+			String value = customizations.getProperty(key).trim();
+			if (IGNORE.equals(value)) {
+				this.entries.remove(key);
+			}
+			else if (THREAD_SAFE.equals(value) || NOT_THREAD_SAFE.equals(value)
+					|| READ.equals(value)) {
+				this.entries.put(key, value);
+			}
+			else {
+				throw new IllegalStateException("Invalid value '" + value + "' for '"
+						+ key + "'. Expected '" + THREAD_SAFE + "', '" + NOT_THREAD_SAFE
+						+ "', '" + READ + "', or '" + IGNORE + "'");
+			}
+		}
+	}
+
+	private static Properties loadDefaults() {
+		Properties properties = new Properties();
+		try (InputStream input = ExpensiveObjects.class
+				.getResourceAsStream("expensive-objects.properties")) {
+			properties.load(input);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns the catalogue's default entries.
+	 *
+	 * @return the default catalogue
+	 */
+	public static ExpensiveObjects defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Returns a new catalogue that contains the default entries customized by the given
+	 * {@code entries}.
+	 *
+	 * @param entries the entries, typically loaded from a project's {@link #FILE_NAME}
+	 * file
+	 * @return the customized catalogue
+	 */
+	public static ExpensiveObjects customize(Properties entries) {
+		return new ExpensiveObjects(new HashMap<>(DEFAULTS.entries), entries);
+	}
+
+	/**
+	 * Returns whether calling the given constructor or factory method creates an
+	 * expensive object.
+	 *
+	 * @param className the fully qualified name of the class that declares the
+	 * constructor or method
+	 * @param name the name of the method or {@code new} for a constructor
+	 * @return {@code true} if the object is expensive to create, otherwise {@code false}
+	 */
+	public boolean isExpensive(String className, String name) {
+		String value = this.entries.get(className + "#" + name);
+		return THREAD_SAFE.equals(value) || NOT_THREAD_SAFE.equals(value);
+	}
+
+	/**
+	 * Returns whether the object that is created by the given constructor or factory
+	 * method can be shared.
+	 *
+	 * @param className the fully qualified name of the class that declares the
+	 * constructor or method
+	 * @param name the name of the method or {@code new} for a constructor
+	 * @return {@code true} if the object is thread-safe, otherwise {@code false}
+	 */
+	public boolean isThreadSafe(String className, String name) {
+		return THREAD_SAFE.equals(this.entries.get(className + "#" + name));
+	}
+
+	/**
+	 * Returns whether the given instance method reads an expensive object without
+	 * configuring it, such that calling it on a shared instance has the same effect as
+	 * calling it on a new instance.
+	 *
+	 * @param className the fully qualified name of the expensive object's class
+	 * @param name the name of the method
+	 * @return {@code true} if the method only reads the object, otherwise {@code false}
+	 */
+	public boolean isReadMethod(String className, String name) {
+		return READ.equals(this.entries.get(className + "#" + name))
+				|| READ.equals(this.entries.get(className + "#*"));
+	}
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * Computes stable fingerprints for reported problems. A fingerprint is a 64-bit FNV-1a
+ * hash of the problem's id, the path of the type or member in which it was found and
+ * its normalized source snippet. When the same snippet occurs more than once in a
+ * member, the index of its occurrence is also included. Line numbers and offsets are
+ * not included so that a problem's fingerprint does not change when unrelated code
+ * above it is edited.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Fingerprints {
+
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long PRIME = 0x100000001b3L;
+
+	private Fingerprints() {
+
+	}
+
+	/**
+	 * Returns the fingerprint of a problem that was reported against the given
+	 * {@code node}.
+	 *
+	 * @param problem the problem
+	 * @param node the node
+	 * @return the fingerprint
+	 */
+	public static long of(Problem problem, ASTNode node) {
+		long hash = hash(OFFSET_BASIS, Integer.toString(problem.getId()));
+		hash = hash(hash, getMemberPath(node));
+		String snippet = getSnippet(node);
+		hash = hash(hash, snippet);
+		int occurrence = getOccurrence(node, snippet);
+		// The first occurrence is not indexed so that its fingerprint is unchanged
+		return (occurrence > 0) ? hash(hash, Integer.toString(occurrence)) : hash;
+	}
+
+	/**
+	 * Returns the fingerprint of a problem that was reported against a whole file or
+	 * package identified by the given {@code path}. The path should be independent of
+	 * the location of the project, for example a package name or a package name and file
+	 * name.
+	 *
+	 * @param problem the problem
+	 * @param path the path of the file or package
+	 * @return the fingerprint
+	 */
+	public static long of(Problem problem, String path) {
+		return hash(hash(OFFSET_BASIS, Integer.toString(problem.getId())), path);
+	}
+
+	/**
+	 * Returns the path, relative to its source root, of a whole file problem that was
+	 * reported against the given {@code compilationUnit}.
+	 *
+	 * @param compilationUnit the compilation unit
+	 * @param fileName the name of the compilation unit's file
+	 * @return the path
+	 */
+	public static String getPath(CompilationUnit compilationUnit, String fileName) {
+		return (compilationUnit.getPackage() != null)
+				? compilationUnit.getPackage().getName().getFullyQualifiedName() + "/"
+						+ fileName
+				: fileName;
+	}
+
+	/**
+	 * Returns the given {@code fingerprint} as a 16 character hexadecimal string.
+	 *
+	 * @param fingerprint the fingerprint
+	 * @return the string form of the fingerprint
+	 */
+	public static String toString(long fingerprint) {
+		String hex = Long.toHexString(fingerprint);
+		StringBuilder string = new StringBuilder(16);
+		for (int i = hex.length(); i < 16; i++) {
+			string.append('0');
+		}
+		return string.append(hex).toString();
+	}
+
+	/**
+	 * Parses a fingerprint from its string form.
+	 *
+	 * @param fingerprint the string form of the fingerprint
+	 * @return the fingerprint
+	 * @see #toString(long)
+	 */
+	public static long parse(String fingerprint) {
+		return Long.parseUnsignedLong(fingerprint, 16);
+	}
+
+	private static String getMemberPath(ASTNode node) {
+		StringBuilder path = new StringBuilder();
+		ASTNode candidate = node;
+		while (candidate != null) {
+			String segment = getSegment(candidate);
+			if (segment != null) {
+				path.insert(0, segment).insert(0, '/');
+			}
+			candidate = candidate.getParent();
+		}
+		return path.toString();
+	}
+
+	private static String getSegment(ASTNode node) {
+		if (node instanceof CompilationUnit) {
+			CompilationUnit compilationUnit = (CompilationUnit) node;
+			return (compilationUnit.getPackage() != null)
+					? compilationUnit.getPackage().getName().getFullyQualifiedName() : "";
+		}
+		if (node instanceof AbstractTypeDeclaration) {
+			return ((AbstractTypeDeclaration) node).getName().getIdentifier();
+		}
+		if (node instanceof AnonymousClassDeclaration) {
+			return "$";
+		}
+		if (node instanceof MethodDeclaration) {
+			return getSignature((MethodDeclaration) node);
+		}
+		if (node instanceof FieldDeclaration) {
+			List<?> fragments = ((FieldDeclaration) node).fragments();
+			return fragments.isEmpty() ? "" : ((VariableDeclarationFragment) fragments
+					.get(0)).getName().getIdentifier();
+		}
+		return null;
+	}
+
+	private static String getSignature(MethodDeclaration method) {
+		StringBuilder signature = new StringBuilder(method.getName().getIdentifier());
+		signature.append('(');
+		for (Object parameter : method.parameters()) {
+			if (signature.charAt(signature.length() - 1) != '(') {
+				signature.append(',');
+			}
+			signature.append(((SingleVariableDeclaration) parameter).getType());
+		}
+		return signature.append(')').toString();
+	}
+
+	private static String getSnippet(ASTNode node) {
+		if (node instanceof BodyDeclaration) {
+			// Identified by the member path. The body is excluded so that unrelated edits
+			// to it do not change the fingerprint
+			return Integer.toString(node.getNodeType());
+		}
+		String source = node.toString();
+		StringBuilder snippet = new StringBuilder(source.length());
+		for (int i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				snippet.append(c);
+			}
+		}
+		return snippet.toString();
+	}
+
+	private static int getOccurrence(ASTNode node, String snippet) {
+		if (node instanceof BodyDeclaration) {
+			return 0;
+		}
+		ASTNode member = node.getParent();
+		while (member != null && getSegment(member) == null) {
+			member = member.getParent();
+		}
+		if (member == null) {
+			return 0;
+		}
+		OccurrenceCounter counter = new OccurrenceCounter(member, node, snippet);
+		member.accept(counter);
+		return counter.getOccurrence();
+	}
+
+	private static long hash(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * PRIME;
+		}
+		// Separate the components so that moving a character from one to the next
+		// changes the hash
+		return (hash ^ 0xffff) * PRIME;
+	}
+
+	/**
+	 * Counts the nodes of a member that precede a node and that have the same snippet.
+	 * Nested types and members have their own member paths so they are not visited.
+	 */
+	private static final class OccurrenceCounter extends ASTVisitor {
+
+		private final ASTNode member;
+
+		private final ASTNode node;
+
+		private final String snippet;
+
+		private int occurrence;
+
+		private OccurrenceCounter(ASTNode member, ASTNode node, String snippet) {
+			this.member = member;
+			this.node = node;
+			this.snippet = snippet;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode candidate) {
+			if (candidate.getStartPosition() > this.node.getStartPosition()
+					|| (candidate != this.member && getSegment(candidate) != null)) {
+				return false;
+			}
+			if (candidate.getNodeType() == this.node.getNodeType()
+					&& candidate.getStartPosition() + candidate.getLength() <= this.node
+							.getStartPosition()
+					&& getSnippet(candidate).equals(this.snippet)) {
+				this.occurrence++;
+			}
+			return true;
+		}
+
+		private int getOccurrence() {
+			return this.occurrence;
+		}
+
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the files in a local git repository that have changed since a base. The base
+ * may be a commit or any other revision, such as a branch. Changes are made relative to
+ * the merge base of {@code HEAD} and the base so that, when the base is a branch, only
+ * the changes that have been made since the current branch diverged from it are found.
+ * Changes that have yet to be committed and untracked files that are not ignored are
+ * included. Only the local repository is used.
+ *
+ * @author Andy Wilkinson
+ */
+public final class GitChanges {
+
+	private final Path directory;
+
+	/**
+	 * Creates a new {@code GitChanges} for the repository that contains the given
+	 * {@code directory}.
+	 *
+	 * @param directory a directory in the repository
+	 */
+	public GitChanges(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the absolute paths of the files that have changed since the given
+	 * {@code base} and that still exist.
+	 *
+	 * @param base the base revision
+	 * @return the changed files
+	 * @throws IOException if git cannot be run or reports a failure
+	 */
+	public Set<Path> getChangedFiles(String base) throws IOException {
+		Path topLevel = Paths.get(git("rev-parse", "--show-toplevel").trim());
+		String mergeBase = git("merge-base", "HEAD", base).trim();
+		Set<Path> changedFiles = new LinkedHashSet<>();
+		for (String file : split(git("diff", "--name-only", "-z", "--diff-filter=d",
+				mergeBase))) {
+			changedFiles.add(topLevel.resolve(file).normalize());
+		}
+		for (String file : split(git("ls-files", "--others", "--exclude-standard",
+				"--full-name", "-z"))) {
+			changedFiles.add(topLevel.resolve(file).normalize());
+		}
+		return changedFiles;
+	}
+
+	private List<String> split(String output) {
+		List<String> entries = new ArrayList<>();
+		for (String entry : output.split("\0")) {
+			if (!entry.isEmpty()) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	private String git(String... args) throws IOException {
+		List<String> command = new ArrayList<>();
+		command.add("git");
+		command.addAll(Arrays.asList(args));
+		Process process = new ProcessBuilder(command).directory(this.directory.toFile())
+				.redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		process.getOutputStream().close();
+		String output = read(process.getInputStream());
+		try {
+			int exitCode = process.waitFor();
+			if (exitCode != 0) {
+				throw new IOException(String.join(" ", command)
+						+ " failed with exit code " + exitCode);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for " + command, ex);
+		}
+		return output;
+	}
+
+	private String read(InputStream input) throws IOException {
+		try (InputStream stream = input) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				output.write(buffer, 0, read);
+			}
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -7,7 +7,9 @@
  * http://www.eclipse.org/legal/epl-v10.html
  */
 
-package io.spring.boot.development.eclipse;
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.Locale;
 
 public enum Problem {
 
@@ -55,7 +57,49 @@ public enum Problem {
 			"Bean method proxying must be enabled as it is required by a super-class"),
 
 	SINGLE_CHARACTER_STRING_LITERAL_INDEX_OF(16,
-			"Call to String %s(String) should use %s(char) instead");
+			"Call to String %s(String) should use %s(char) instead"),
+
+	ANALYSIS_TIME_BUDGET_EXCEEDED(17,
+			"Analysis took longer than %dms so %d checks were skipped or stopped early"),
+
+	SINGLE_CHARACTER_STRING_LITERAL_REPLACE(18,
+			"Call to String replace(CharSequence, CharSequence) should use "
+					+ "replace(char, char) instead"),
+
+	CASE_CONVERSION_BEFORE_EQUALS(19,
+			"Call to String %s() before equals(Object) should use "
+					+ "equalsIgnoreCase(String) instead"),
+
+	EQUALS_EMPTY_STRING(20,
+			"Comparison with an empty string should use isEmpty() instead"),
+
+	BOXING_ROUND_TRIP(21, "Boxing to %s is unnecessary, use %s instead"),
+
+	REGEX_COMPILED_ON_EACH_CALL(22,
+			"Regular expression is compiled on each call, use a static final Pattern "
+					+ "instead"),
+
+	REGEX_COMPILED_REPEATEDLY(23,
+			"Regular expression is compiled repeatedly in a %s, use a static final "
+					+ "Pattern instead"),
+
+	LOG_MESSAGE_EVALUATED_EAGERLY(24,
+			"Log message is built even when %s logging is disabled"),
+
+	SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL(25,
+			"Expensive %s is created on each call, share a single instance instead"),
+
+	SHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY(26,
+			"Expensive %s is created repeatedly in a %s, share a single instance "
+					+ "instead"),
+
+	UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL(27,
+			"Expensive %s is created on each call and is not thread-safe, consider a "
+					+ "thread-safe alternative"),
+
+	UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY(28,
+			"Expensive %s is created repeatedly in a %s and is not thread-safe, "
+					+ "consider a thread-safe alternative");
 
 	private final int id;
 
@@ -70,6 +114,16 @@ public enum Problem {
 		return this.id;
 	}
 
+	/**
+	 * Returns the name of the rule that identifies the problem when it is suppressed,
+	 * for example {@code unused-method-parameter}.
+	 *
+	 * @return the rule name
+	 */
+	public String getRuleName() {
+		return name().toLowerCase(Locale.ENGLISH).replace('_', '-');
+	}
+
 	public String getMessage(Object... args) {
 		if (args.length == 0) {
 			return this.message;
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+/**
+ * A sink for the problems that are reported by a {@link SourceAnalyzer}.
+ *
+ * @author Andy Wilkinson
+ */
+@FunctionalInterface
+public interface ProblemSink {
+
+	/**
+	 * Accepts the given {@code problem}.
+	 *
+	 * @param problem the problem
+	 */
+	void accept(ReportedProblem problem);
+
+}
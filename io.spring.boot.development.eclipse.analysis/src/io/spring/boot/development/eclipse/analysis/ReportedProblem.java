@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.nio.file.Path;
+
+/**
+ * A {@link Problem} that has been reported against a source file.
+ *
+ * @author Andy Wilkinson
+ */
+public final class ReportedProblem {
+
+	private final Path file;
+
+	private final Problem problem;
+
+	private final Severity severity;
+
+	private final String message;
+
+	private final int lineNumber;
+
+	private final int startPosition;
+
+	private final int length;
+
+	private final long fingerprint;
+
+	/**
+	 * Creates a new {@code ReportedProblem}.
+	 *
+	 * @param file the file against which the problem was reported
+	 * @param problem the problem
+	 * @param severity the severity of the problem
+	 * @param message the problem's message
+	 * @param lineNumber the line number or {@code -1}
+	 * @param startPosition the start position or {@code -1}
+	 * @param length the length of the problem's source range
+	 * @param fingerprint the problem's fingerprint
+	 * @see Fingerprints
+	 */
+	public ReportedProblem(Path file, Problem problem, Severity severity,
+			String message, int lineNumber, int startPosition, int length,
+			long fingerprint) {
+		this.file = file;
+		this.problem = problem;
+		this.severity = severity;
+		this.message = message;
+		this.lineNumber = lineNumber;
+		this.startPosition = startPosition;
+		this.length = length;
+		this.fingerprint = fingerprint;
+	}
+
+	public Path getFile() {
+		return this.file;
+	}
+
+	public Problem getProblem() {
+		return this.problem;
+	}
+
+	public Severity getSeverity() {
+		return this.severity;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+
+	/**
+	 * Returns the line number of the problem or {@code -1} if it applies to the whole
+	 * file.
+	 *
+	 * @return the line number
+	 */
+	public int getLineNumber() {
+		return this.lineNumber;
+	}
+
+	/**
+	 * Returns the character offset of the start of the problem or {@code -1} if it
+	 * applies to the whole file.
+	 *
+	 * @return the start position
+	 */
+	public int getStartPosition() {
+		return this.startPosition;
+	}
+
+	public int getLength() {
+		return this.length;
+	}
+
+	/**
+	 * Returns the fingerprint of the problem that remains the same when unrelated
+	 * changes are made to the file.
+	 *
+	 * @return the fingerprint
+	 * @see Fingerprints
+	 */
+	public long getFingerprint() {
+		return this.fingerprint;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder();
+		description.append(this.severity).append(" ").append(this.file);
+		if (this.lineNumber > 0) {
+			description.append(":").append(this.lineNumber);
+		}
+		description.append(": ").append(this.message);
+		return description.toString();
+	}
+
+	/**
+	 * The severity of a reported problem.
+	 */
+	public enum Severity {
+
+		WARNING, ERROR
+
+	}
+
+}
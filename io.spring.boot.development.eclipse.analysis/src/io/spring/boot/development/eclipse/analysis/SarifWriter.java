@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import io.spring.boot.development.eclipse.analysis.ReportedProblem.Severity;
+
+/**
+ * A {@link ProblemSink} that writes problems as a SARIF 2.1.0 log. Each problem is
+ * written as soon as it is accepted and nothing is retained once it has been written
+ * so that any number of problems can be written in constant memory. Each
+ * {@link Problem} is described as a rule whose id is the problem's id and each result
+ * has a partial fingerprint that is computed by {@link Fingerprints}. The URIs of files
+ * that are identified relative to the base directory are percent-encoded.
+ * <p>
+ * The log is not complete until the writer has been {@link #close() closed}.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SarifWriter implements ProblemSink, Closeable {
+
+	private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+	private static final String INFORMATION_URI = "https://github.com/wilkinsona/"
+			+ "spring-boot-development-eclipse-plugin";
+
+	private static final String FINGERPRINT = "springBootProblem/v1";
+
+	private static final String SOURCE_ROOT = "SRCROOT";
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private final Writer writer;
+
+	private final Path baseDirectory;
+
+	private boolean firstResult = true;
+
+	/**
+	 * Creates a new {@code SarifWriter} that will write to the given {@code writer}.
+	 * When a {@code baseDirectory} is provided, the files that it contains are
+	 * identified relative to it.
+	 *
+	 * @param writer the writer
+	 * @param baseDirectory the base directory or {@code null}
+	 * @throws IOException if the start of the log cannot be written
+	 */
+	public SarifWriter(Writer writer, Path baseDirectory) throws IOException {
+		this.writer = writer;
+		this.baseDirectory = (baseDirectory != null)
+				? baseDirectory.toAbsolutePath().normalize() : null;
+		writeStart();
+	}
+
+	@Override
+	public synchronized void accept(ReportedProblem problem) {
+		try {
+			writeResult(problem);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			this.writer.write("]}]}\n");
+		}
+		finally {
+			this.writer.close();
+		}
+	}
+
+	private void writeStart() throws IOException {
+		this.writer.write("{\"$schema\":");
+		writeString(SCHEMA);
+		this.writer.write(",\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{");
+		this.writer.write("\"name\":\"Spring Boot Development\",\"informationUri\":");
+		writeString(INFORMATION_URI);
+		this.writer.write(",\"rules\":[");
+		for (Problem problem : Problem.values()) {
+			if (problem.ordinal() > 0) {
+				this.writer.write(',');
+			}
+			this.writer.write("{\"id\":");
+			writeString(Integer.toString(problem.getId()));
+			this.writer.write(",\"name\":");
+			writeString(problem.name());
+			this.writer.write(",\"shortDescription\":{\"text\":");
+			writeString(problem.getMessage());
+			this.writer.write("}}");
+		}
+		this.writer.write("]}}");
+		if (this.baseDirectory != null) {
+			this.writer.write(",\"originalUriBaseIds\":{");
+			writeString(SOURCE_ROOT);
+			this.writer.write(":{\"uri\":");
+			writeString(this.baseDirectory.toUri().toString());
+			this.writer.write("}}");
+		}
+		this.writer.write(",\"results\":[");
+	}
+
+	private void writeResult(ReportedProblem problem) throws IOException {
+		if (!this.firstResult) {
+			this.writer.write(',');
+		}
+		this.firstResult = false;
+		this.writer.write("{\"ruleId\":");
+		writeString(Integer.toString(problem.getProblem().getId()));
+		this.writer.write(",\"ruleIndex\":");
+		this.writer.write(Integer.toString(problem.getProblem().ordinal()));
+		this.writer.write(",\"level\":");
+		writeString((problem.getSeverity() == Severity.ERROR) ? "error" : "warning");
+		this.writer.write(",\"message\":{\"text\":");
+		writeString(problem.getMessage());
+		this.writer.write("},\"locations\":[{\"physicalLocation\":{");
+		writeArtifactLocation(problem.getFile());
+		writeRegion(problem);
+		this.writer.write("}}],\"partialFingerprints\":{");
+		writeString(FINGERPRINT);
+		this.writer.write(':');
+		writeString(Fingerprints.toString(problem.getFingerprint()));
+		this.writer.write("}}");
+	}
+
+	private void writeArtifactLocation(Path file) throws IOException {
+		Path absolute = file.toAbsolutePath().normalize();
+		this.writer.write("\"artifactLocation\":{\"uri\":");
+		if (this.baseDirectory != null && absolute.startsWith(this.baseDirectory)) {
+			StringBuilder uri = new StringBuilder();
+			for (Path segment : this.baseDirectory.relativize(absolute)) {
+				if (uri.length() > 0) {
+					uri.append('/');
+				}
+				appendEncoded(uri, segment.toString());
+			}
+			writeString(uri.toString());
+			this.writer.write(",\"uriBaseId\":");
+			writeString(SOURCE_ROOT);
+		}
+		else {
+			writeString(absolute.toUri().toString());
+		}
+		this.writer.write('}');
+	}
+
+	private void appendEncoded(StringBuilder uri, String segment) {
+		for (byte b : segment.getBytes(StandardCharsets.UTF_8)) {
+			if (isUnreserved(b)) {
+				uri.append((char) b);
+			}
+			else {
+				uri.append('%').append(HEX_DIGITS[(b >> 4) & 0xF])
+						.append(HEX_DIGITS[b & 0xF]);
+			}
+		}
+	}
+
+	private boolean isUnreserved(byte b) {
+		return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')
+				|| b == '-' || b == '.' || b == '_' || b == '~';
+	}
+
+	private void writeRegion(ReportedProblem problem) throws IOException {
+		if (problem.getLineNumber() <= 0) {
+			return;
+		}
+		this.writer.write(",\"region\":{\"startLine\":");
+		this.writer.write(Integer.toString(problem.getLineNumber()));
+		if (problem.getStartPosition() >= 0) {
+			this.writer.write(",\"charOffset\":");
+			this.writer.write(Integer.toString(problem.getStartPosition()));
+			this.writer.write(",\"charLength\":");
+			this.writer.write(Integer.toString(problem.getLength()));
+		}
+		this.writer.write('}');
+	}
+
+	private void writeString(String value) throws IOException {
+		this.writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				this.writer.write('\\');
+				this.writer.write(c);
+			}
+			else if (c < 0x20) {
+				this.writer.write(String.format("\\u%04x", (int) c));
+			}
+			else {
+				this.writer.write(c);
+			}
+		}
+		this.writer.write('"');
+	}
+
+}
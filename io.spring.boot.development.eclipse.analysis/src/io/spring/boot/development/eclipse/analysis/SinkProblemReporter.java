@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.nio.file.Path;
+
+import io.spring.boot.development.eclipse.analysis.ReportedProblem.Severity;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * A {@link ProblemReporter} that reports the problems in a source file to a
+ * {@link ProblemSink}.
+ *
+ * @author Andy Wilkinson
+ */
+public class SinkProblemReporter implements ProblemReporter {
+
+	private final Path file;
+
+	private final CompilationUnit compilationUnit;
+
+	private final ProblemSink sink;
+
+	/**
+	 * Creates a new {@code SinkProblemReporter} that will report the problems in the
+	 * given {@code compilationUnit} to the given {@code sink}.
+	 *
+	 * @param file the source file of the compilation unit
+	 * @param compilationUnit the compilation unit
+	 * @param sink the sink to report problems to
+	 */
+	public SinkProblemReporter(Path file, CompilationUnit compilationUnit,
+			ProblemSink sink) {
+		this.file = file;
+		this.compilationUnit = compilationUnit;
+		this.sink = sink;
+	}
+
+	@Override
+	public void warning(Problem problem, ASTNode node, Object... args) {
+		report(problem, Severity.WARNING, node, args);
+	}
+
+	@Override
+	public void error(Problem problem, ASTNode node, Object... args) {
+		report(problem, Severity.ERROR, node, args);
+	}
+
+	@Override
+	public void warning(Problem problem, Object... args) {
+		long fingerprint = Fingerprints.of(problem, Fingerprints
+				.getPath(this.compilationUnit, this.file.getFileName().toString()));
+		this.sink.accept(new ReportedProblem(this.file, problem, Severity.WARNING,
+				problem.getMessage(args), -1, -1, 0, fingerprint));
+	}
+
+	private void report(Problem problem, Severity severity, ASTNode node,
+			Object... args) {
+		int startPosition = node.getStartPosition();
+		this.sink.accept(new ReportedProblem(this.file, problem, severity,
+				problem.getMessage(args),
+				this.compilationUnit.getLineNumber(startPosition), startPosition,
+				node.getLength(), Fingerprints.of(problem, node)));
+	}
+
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.spring.boot.development.eclipse.visitors.AstVisitors;
+import io.spring.boot.development.eclipse.visitors.TypeFacts;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+
+/**
+ * Analyzes source files without a workspace or Java model. Files are parsed with a
+ * source path and classpath that are configured using
+ * {@link ASTParser#setEnvironment(String[], String[], String[], boolean)} and their
+ * problems are reported to a {@link ProblemSink}. An analyzer can be reused to
+ * analyze files many times, with the facts that it learns about types and the
+ * {@code spring.factories} of its projects being retained between analyses. When files
+ * change, {@link #changed(Collection)} should be called to discard what is no longer
+ * known to be true and to find the files that need to be analyzed again. The source of
+ * a file that is being edited can also be {@link #analyze(Path, String, ProblemSink)
+ * analyzed} before it has been saved.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SourceAnalyzer {
+
+	private static final Path SRC_MAIN_JAVA = Paths.get("src", "main", "java");
+
+	private static final Path SRC_MAIN_RESOURCES = Paths.get("src", "main", "resources");
+
+	private static final Path SPRING_FACTORIES = Paths.get("META-INF",
+			"spring.factories");
+
+	private final List<Path> sourceRoots;
+
+	private final String[] sourcepath;
+
+	private final String[] classpath;
+
+	private final Map<String, String> compilerOptions;
+
+	private final TypeFacts typeFacts = new TypeFacts();
+
+	private final Map<Path, Optional<SpringFactories>> springFactories = new ConcurrentHashMap<>();
+
+	private final Map<Path, ExpensiveObjects> expensiveObjects = new ConcurrentHashMap<>();
+
+	private final DependencyIndex dependencies = new DependencyIndex();
+
+	/**
+	 * Creates a new {@code SourceAnalyzer} that will resolve types using the given
+	 * {@code sourceRoots} and {@code classpath}.
+	 *
+	 * @param sourceRoots the source roots
+	 * @param classpath the classpath entries, either jars or directories
+	 */
+	public SourceAnalyzer(List<Path> sourceRoots, List<Path> classpath) {
+		this.sourceRoots = new ArrayList<>();
+		for (Path sourceRoot : sourceRoots) {
+			this.sourceRoots.add(sourceRoot.toAbsolutePath().normalize());
+		}
+		this.sourcepath = toStrings(this.sourceRoots);
+		this.classpath = toStrings(classpath);
+		this.compilerOptions = JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_11, this.compilerOptions);
+	}
+
+	private static String[] toStrings(List<Path> paths) {
+		String[] strings = new String[paths.size()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = paths.get(i).toAbsolutePath().toString();
+		}
+		return strings;
+	}
+
+	/**
+	 * Analyzes the given source {@code files}, reporting their problems to the given
+	 * {@code sink}.
+	 *
+	 * @param files the source files to analyze
+	 * @param sink the sink to report problems to
+	 */
+	public void analyze(List<Path> files, ProblemSink sink) {
+		if (files.isEmpty()) {
+			return;
+		}
+		createParser().createASTs(toStrings(files), null, new String[0],
+				new FileASTRequestor() {
+
+					@Override
+					public void acceptAST(String sourceFilePath,
+							CompilationUnit compilationUnit) {
+						Path file = Paths.get(sourceFilePath);
+						analyze(file, compilationUnit, () -> readSource(file), sink);
+					}
+
+				}, null);
+	}
+
+	/**
+	 * Analyzes the given {@code source} of a {@code file}, which may differ from the
+	 * file's contents on disk, reporting its problems to the given {@code sink}. Other
+	 * files are read from disk. As the source may have changed, the facts that have been
+	 * learned about source types are discarded. The facts about binary types are
+	 * retained.
+	 *
+	 * @param file the source file
+	 * @param source the source of the file
+	 * @param sink the sink to report problems to
+	 */
+	public void analyze(Path file, String source, ProblemSink sink) {
+		this.typeFacts.clearSourceTypeFacts();
+		analyze(file, parse(file, source), () -> source, sink);
+	}
+
+	/**
+	 * Parses the given {@code source} of a {@code file}, resolving bindings using the
+	 * analyzer's source roots and classpath.
+	 *
+	 * @param file the source file
+	 * @param source the source of the file
+	 * @return the compilation unit
+	 */
+	public CompilationUnit parse(Path file, String source) {
+		ASTParser parser = createParser();
+		parser.setUnitName(file.toAbsolutePath().toString());
+		parser.setSource(source.toCharArray());
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	/**
+	 * Returns the context in which the given {@code file} is analyzed.
+	 *
+	 * @param file the source file
+	 * @return the analysis context
+	 */
+	public AnalysisContext getContext(Path file) {
+		return new SourceFileAnalysisContext(
+				findSourceRoot(file.toAbsolutePath().normalize()));
+	}
+
+	private ASTParser createParser() {
+		ASTParser parser = ASTParser.newParser(AST.JLS11);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setCompilerOptions(this.compilerOptions);
+		parser.setEnvironment(this.classpath, this.sourcepath, null, true);
+		parser.setResolveBindings(true);
+		parser.setBindingsRecovery(true);
+		return parser;
+	}
+
+	private void analyze(Path file, CompilationUnit compilationUnit,
+			Supplier<String> source, ProblemSink sink) {
+		AnalysisContext context = getContext(file);
+		ProblemReporter problemReporter = new SuppressingProblemReporter(
+				new SinkProblemReporter(file, compilationUnit, sink), compilationUnit,
+				source);
+		for (ASTVisitor visitor : new AstVisitors(context, problemReporter,
+				this.typeFacts)) {
+			compilationUnit.accept(visitor);
+		}
+		this.dependencies.update(file.toAbsolutePath().normalize(), compilationUnit);
+	}
+
+	private String readSource(Path file) {
+		try {
+			// The parser reads files using the default encoding as none is configured
+			return new String(Files.readAllBytes(file), Charset.defaultCharset());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Notifies the analyzer that the given {@code paths} have been created, modified or
+	 * deleted, and returns the source files that should be analyzed again as a result.
+	 * The returned files are the changed source files that still exist and the files
+	 * that, directly or indirectly, depend upon a changed source file. When a
+	 * {@code spring.factories} or {@link ExpensiveObjects#FILE_NAME} file has changed,
+	 * every previously analyzed file in its project is returned.
+	 *
+	 * @param paths the paths that have changed
+	 * @return the source files to analyze
+	 */
+	public Set<Path> changed(Collection<Path> paths) {
+		Set<Path> changedSources = new LinkedHashSet<>();
+		Set<Path> files = new LinkedHashSet<>();
+		for (Path path : paths) {
+			Path normalized = path.toAbsolutePath().normalize();
+			if (normalized.endsWith(SPRING_FACTORIES)) {
+				Path project = getProject(normalized.getParent().getParent());
+				this.springFactories.remove(project);
+				files.addAll(getAnalyzedFiles(project));
+			}
+			else if (normalized.endsWith(ExpensiveObjects.FILE_NAME)) {
+				Path project = normalized.getParent();
+				this.expensiveObjects.remove(project);
+				files.addAll(getAnalyzedFiles(project));
+			}
+			else if (normalized.toString().endsWith(".java")) {
+				changedSources.add(normalized);
+			}
+		}
+		if (!changedSources.isEmpty()) {
+			this.typeFacts.clearSourceTypeFacts();
+			files.addAll(changedSources);
+			files.addAll(this.dependencies.findDependents(changedSources));
+		}
+		Iterator<Path> iterator = files.iterator();
+		while (iterator.hasNext()) {
+			Path file = iterator.next();
+			if (!Files.isRegularFile(file)) {
+				this.dependencies.remove(file);
+				iterator.remove();
+			}
+		}
+		return files;
+	}
+
+	private List<Path> getAnalyzedFiles(Path project) {
+		List<Path> files = new ArrayList<>();
+		for (Path file : this.dependencies.getFiles()) {
+			Path sourceRoot = findSourceRoot(file);
+			if (sourceRoot != null && getProject(sourceRoot).equals(project)) {
+				files.add(file);
+			}
+		}
+		return files;
+	}
+
+	private Path findSourceRoot(Path file) {
+		Path match = null;
+		for (Path sourceRoot : this.sourceRoots) {
+			if (file.startsWith(sourceRoot) && (match == null
+					|| sourceRoot.getNameCount() > match.getNameCount())) {
+				match = sourceRoot;
+			}
+		}
+		return match;
+	}
+
+	private SpringFactories findSpringFactories(Path sourceRoot) {
+		Path project = getProject(sourceRoot);
+		return this.springFactories
+				.computeIfAbsent(project,
+						(key) -> Optional.ofNullable(loadSpringFactories(key)))
+				.orElse(null);
+	}
+
+	private SpringFactories loadSpringFactories(Path project) {
+		List<Path> candidates = new ArrayList<>();
+		for (Path sourceRoot : this.sourceRoots) {
+			if (getProject(sourceRoot).equals(project)) {
+				candidates.add(sourceRoot);
+			}
+		}
+		candidates.add(project.resolve(SRC_MAIN_RESOURCES));
+		for (Path candidate : candidates) {
+			Path springFactories = candidate.resolve(SPRING_FACTORIES);
+			if (Files.isRegularFile(springFactories)) {
+				Properties properties = new Properties();
+				try (InputStream input = Files.newInputStream(springFactories)) {
+					properties.load(input);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(
+							"Failure while loading " + springFactories, ex);
+				}
+				return new SpringFactories(properties);
+			}
+		}
+		return null;
+	}
+
+	private ExpensiveObjects findExpensiveObjects(Path sourceRoot) {
+		return this.expensiveObjects.computeIfAbsent(getProject(sourceRoot),
+				this::loadExpensiveObjects);
+	}
+
+	private ExpensiveObjects loadExpensiveObjects(Path project) {
+		Path file = project.resolve(ExpensiveObjects.FILE_NAME);
+		if (!Files.isRegularFile(file)) {
+			return ExpensiveObjects.defaults();
+		}
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(file)) {
+			properties.load(input);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failure while loading " + file, ex);
+		}
+		return ExpensiveObjects.customize(properties);
+	}
+
+	private Path getProject(Path sourceRoot) {
+		if (sourceRoot.getNameCount() > 3
+				&& sourceRoot.getName(sourceRoot.getNameCount() - 3).toString()
+						.equals("src")) {
+			return sourceRoot.getParent().getParent().getParent();
+		}
+		return sourceRoot.getParent();
+	}
+
+	private final class SourceFileAnalysisContext implements AnalysisContext {
+
+		private final Path sourceRoot;
+
+		private SourceFileAnalysisContext(Path sourceRoot) {
+			this.sourceRoot = sourceRoot;
+		}
+
+		@Override
+		public boolean isMainCode() {
+			return this.sourceRoot != null && this.sourceRoot.endsWith(SRC_MAIN_JAVA);
+		}
+
+		@Override
+		public SpringFactories getSpringFactories() {
+			return (this.sourceRoot != null) ? findSpringFactories(this.sourceRoot)
+					: null;
+		}
+
+		@Override
+		public ExpensiveObjects getExpensiveObjects() {
+			return (this.sourceRoot != null) ? findExpensiveObjects(this.sourceRoot)
+					: ExpensiveObjects.defaults();
+		}
+
+	}
+
+}
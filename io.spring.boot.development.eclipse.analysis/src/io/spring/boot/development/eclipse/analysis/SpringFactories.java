@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.StringTokenizer;
+
+/**
+ * Programmatic representation of a project's {@code META-INF/spring.factories} file.
+ *
+ * @author Andy Wilkinson
+ */
+public class SpringFactories {
+
+	private final Properties properties;
+
+	public SpringFactories(Properties properties) {
+		this.properties = properties;
+	}
+
+	public List<String> get(String key) {
+		String value = this.properties.getProperty(key);
+		List<String> values = new ArrayList<String>();
+		if (value != null) {
+			StringTokenizer tokenizer = new StringTokenizer(value, ",");
+			while (tokenizer.hasMoreTokens()) {
+				values.add(tokenizer.nextToken().trim());
+			}
+		}
+		return values;
+	}
+
+}
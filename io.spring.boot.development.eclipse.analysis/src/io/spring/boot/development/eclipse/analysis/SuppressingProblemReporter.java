@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * A {@link ProblemReporter} that drops problems that have been {@link Suppressions
+ * suppressed} in the source of a compilation unit before they reach a delegate. The
+ * suppressions are found the first time that a problem is reported so that
+ * compilation units without any problems do not pay for them. A reporter should only be
+ * used by one thread at a time.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SuppressingProblemReporter implements ProblemReporter {
+
+	private final ProblemReporter delegate;
+
+	private final CompilationUnit compilationUnit;
+
+	private final Supplier<String> source;
+
+	private Suppressions suppressions;
+
+	/**
+	 * Creates a new {@code SuppressingProblemReporter}.
+	 *
+	 * @param delegate the reporter to which problems that are not suppressed are
+	 * reported
+	 * @param compilationUnit the compilation unit whose problems are being reported
+	 * @param source supplies the source of the compilation unit or {@code null} if it
+	 * is not available
+	 */
+	public SuppressingProblemReporter(ProblemReporter delegate,
+			CompilationUnit compilationUnit, Supplier<String> source) {
+		this.delegate = delegate;
+		this.compilationUnit = compilationUnit;
+		this.source = source;
+	}
+
+	@Override
+	public void warning(Problem problem, ASTNode node, Object... args) {
+		if (!isSuppressed(problem, node)) {
+			this.delegate.warning(problem, node, args);
+		}
+	}
+
+	@Override
+	public void error(Problem problem, ASTNode node, Object... args) {
+		if (!isSuppressed(problem, node)) {
+			this.delegate.error(problem, node, args);
+		}
+	}
+
+	@Override
+	public void warning(Problem problem, Object... args) {
+		this.delegate.warning(problem, args);
+	}
+
+	private boolean isSuppressed(Problem problem, ASTNode node) {
+		if (this.suppressions == null) {
+			this.suppressions = CompilationUnitSuppressions.find(this.compilationUnit,
+					this.source.get());
+		}
+		return this.suppressions.isSuppressed(problem, node.getStartPosition());
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The regions of a source file in which problems are suppressed. Problems are
+ * suppressed by annotating a type, method, field or local variable with
+ * {@code @SuppressWarnings("springboot:<rule>")}, where {@code <rule>} is a
+ * {@link Problem#getRuleName() rule name} or {@code all}, or by a
+ * {@code // springboot:ignore} comment. A comment at the end of a line suppresses
+ * problems on that line and a comment on a line of its own suppresses problems on the
+ * following line.
+ * <p>
+ * The suppressed regions are flattened into a sorted array of non-overlapping segments,
+ * each with a bit mask of the suppressed problem ids, so that checking whether a problem
+ * is suppressed is a binary search. Suppressions do not depend on how the source file
+ * was parsed so that they can be shared by the JDT visitors and the javac plugin.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Suppressions {
+
+	private static final String PREFIX = "springboot:";
+
+	private static final String IGNORE_COMMENT = "springboot:ignore";
+
+	private static final long ALL = -1L;
+
+	private static final Suppressions NONE = new Suppressions(new int[0], new long[0]);
+
+	private final int[] starts;
+
+	private final long[] masks;
+
+	private Suppressions(int[] starts, long[] masks) {
+		this.starts = starts;
+		this.masks = masks;
+	}
+
+	/**
+	 * Returns whether the given {@code problem} is suppressed at the given
+	 * {@code position}.
+	 *
+	 * @param problem the problem
+	 * @param position the character offset of the problem
+	 * @return {@code true} if the problem is suppressed, otherwise {@code false}
+	 */
+	public boolean isSuppressed(Problem problem, int position) {
+		int index = Arrays.binarySearch(this.starts, position);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		return index >= 0 && (this.masks[index] & mask(problem)) != 0;
+	}
+
+	/**
+	 * Returns whether the given text of a line comment, without its leading {@code //},
+	 * is a {@code springboot:ignore} comment.
+	 *
+	 * @param text the text of the comment
+	 * @return {@code true} if the comment suppresses all problems, otherwise
+	 * {@code false}
+	 */
+	public static boolean isIgnoreComment(String text) {
+		return text.trim().startsWith(IGNORE_COMMENT);
+	}
+
+	private static long mask(Problem problem) {
+		return 1L << problem.getId();
+	}
+
+	private static long mask(String value) {
+		if (!value.startsWith(PREFIX)) {
+			return 0;
+		}
+		String rule = value.substring(PREFIX.length());
+		if ("all".equals(rule)) {
+			return ALL;
+		}
+		for (Problem problem : Problem.values()) {
+			if (problem.getRuleName().equals(rule)) {
+				return mask(problem);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Builds {@link Suppressions} from the regions of a source file that are suppressed.
+	 */
+	public static final class Builder {
+
+		private final List<long[]> regions = new ArrayList<>();
+
+		/**
+		 * Adds the region of a declaration that is annotated with
+		 * {@code @SuppressWarnings}. Values that do not identify a rule are ignored.
+		 *
+		 * @param start the start offset of the declaration
+		 * @param end the end offset of the declaration
+		 * @param values the values of the {@code @SuppressWarnings} annotation
+		 */
+		public void suppressWarnings(int start, int end, List<String> values) {
+			long mask = 0;
+			for (String value : values) {
+				mask |= mask(value);
+			}
+			if (mask != 0) {
+				this.regions.add(new long[] { start, end, mask });
+			}
+		}
+
+		/**
+		 * Adds the region of a line in which all problems are suppressed by a
+		 * {@code springboot:ignore} comment.
+		 *
+		 * @param start the start offset of the line
+		 * @param end the end offset of the line
+		 */
+		public void ignore(int start, int end) {
+			this.regions.add(new long[] { start, end, ALL });
+		}
+
+		/**
+		 * Builds the suppressions.
+		 *
+		 * @return the suppressions
+		 */
+		public Suppressions build() {
+			return this.regions.isEmpty() ? NONE : flatten(this.regions);
+		}
+
+		private static Suppressions flatten(List<long[]> regions) {
+			int[] boundaries = new int[regions.size() * 2];
+			for (int i = 0; i < regions.size(); i++) {
+				boundaries[i * 2] = (int) regions.get(i)[0];
+				boundaries[i * 2 + 1] = (int) regions.get(i)[1];
+			}
+			Arrays.sort(boundaries);
+			int count = 0;
+			for (int i = 0; i < boundaries.length; i++) {
+				if (i == 0 || boundaries[i] != boundaries[i - 1]) {
+					boundaries[count++] = boundaries[i];
+				}
+			}
+			int[] starts = Arrays.copyOf(boundaries, count);
+			long[] masks = new long[count];
+			for (long[] region : regions) {
+				int from = Arrays.binarySearch(starts, (int) region[0]);
+				int to = Arrays.binarySearch(starts, (int) region[1]);
+				for (int i = from; i < to; i++) {
+					masks[i] |= region[2];
+				}
+			}
+			return new Suppressions(starts, masks);
+		}
+
+	}
+
+}
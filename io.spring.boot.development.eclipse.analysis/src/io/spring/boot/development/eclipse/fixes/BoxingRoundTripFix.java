@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+/**
+ * A {@link Fix} that replaces a boxing round trip with a call to the primitive
+ * wrapper's static {@code parse} or {@code toString} method.
+ *
+ * @author Andy Wilkinson
+ */
+class BoxingRoundTripFix extends Fix {
+
+	BoxingRoundTripFix() {
+		super(Problem.BOXING_ROUND_TRIP, "Remove unnecessary boxing");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		if (!(problemNode instanceof MethodInvocation)
+				|| problemNode.getRoot() != compilationUnit) {
+			return false;
+		}
+		MethodInvocation methodInvocation = (MethodInvocation) problemNode;
+		Expression boxed = AstUtils.getBoxedArgument(methodInvocation.getExpression());
+		if (boxed == null) {
+			return false;
+		}
+		ITypeBinding wrapperType = methodInvocation.getExpression().resolveTypeBinding();
+		String primitive = AstUtils.getPrimitiveTypeName(wrapperType);
+		if (primitive == null) {
+			return false;
+		}
+		AST ast = methodInvocation.getAST();
+		MethodInvocation replacement = ast.newMethodInvocation();
+		replacement.setExpression(ast.newSimpleName(wrapperType.getName()));
+		replacement.setName(ast.newSimpleName(
+				methodInvocation.getName().getIdentifier().equals("toString")
+						? "toString" : AstUtils.getParseMethodName(primitive)));
+		replacement.arguments().add(ASTNode.copySubtree(ast, boxed));
+		replace(methodInvocation, replacement);
+		return true;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+/**
+ * A {@link Fix} that replaces a call to {@code equals} on the result of a case
+ * conversion with a call to {@code equalsIgnoreCase}. The same case conversion is also
+ * removed from the argument.
+ *
+ * @author Andy Wilkinson
+ */
+class CaseConversionBeforeEqualsFix extends Fix {
+
+	CaseConversionBeforeEqualsFix() {
+		super(Problem.CASE_CONVERSION_BEFORE_EQUALS, "Use equalsIgnoreCase");
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null
+				|| !methodInvocation.getName().getIdentifier().equals("equals")
+				|| !(methodInvocation.getExpression() instanceof MethodInvocation)) {
+			return false;
+		}
+		MethodInvocation receiver = (MethodInvocation) methodInvocation.getExpression();
+		if (receiver.getExpression() == null) {
+			return false;
+		}
+		AST ast = methodInvocation.getAST();
+		String conversion = receiver.getName().getIdentifier();
+		Expression argument = (Expression) methodInvocation.arguments().get(0);
+		if (argument instanceof MethodInvocation
+				&& ((MethodInvocation) argument).getName().getIdentifier()
+						.equals(conversion)
+				&& ((MethodInvocation) argument).getExpression() != null) {
+			replace(argument, ASTNode.copySubtree(ast,
+					((MethodInvocation) argument).getExpression()));
+		}
+		methodInvocation.setExpression(
+				(Expression) ASTNode.copySubtree(ast, receiver.getExpression()));
+		methodInvocation.setName(ast.newSimpleName("equalsIgnoreCase"));
+		return true;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2017 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -7,11 +7,12 @@
  * http://www.eclipse.org/legal/epl-v10.html
  */
 
-package io.spring.boot.development.eclipse.resolution;
+package io.spring.boot.development.eclipse.fixes;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import io.spring.boot.development.eclipse.analysis.Problem;
 import io.spring.boot.development.eclipse.visitors.AstUtils;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -21,7 +22,6 @@ import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldAccess;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
-import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.MemberValuePair;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.MethodInvocation;
@@ -32,40 +32,41 @@ import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.ui.IMarkerResolution;
 
 /**
- * An {@link IMarkerResolution} that rewrites a {@code Configuration} class to use
- * constructor injection.
+ * A {@link Fix} that rewrites a {@code Configuration} class to use constructor
+ * injection.
  *
  * @author Andy Wilkinson
  */
-class ConfigurationClassConstructorInjectionMarkerResolution
-		extends CompilationUnitRewritingMarkerResolution {
+class ConfigurationClassConstructorInjectionFix extends Fix {
 
-	@Override
-	public String getLabel() {
-		return "Use constructor injection";
+	ConfigurationClassConstructorInjectionFix() {
+		super(Problem.CONFIGURATION_CLASS_CONSTRUCTOR_INJECTION,
+				"Use constructor injection");
 	}
 
 	@Override
-	protected boolean resolveMarker(CompilationUnit compilationUnit, ASTNode markedNode) {
-		TypeDeclaration declaringType = AstUtils.findAncestor(markedNode,
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		TypeDeclaration declaringType = AstUtils.findAncestor(problemNode,
 				TypeDeclaration.class);
 		if (declaringType == null) {
 			return false;
 		}
-		convertToConstructorInjection(compilationUnit, declaringType);
+		List<AutowiredField> autowiredFields = findAutowiredFields(declaringType);
+		if (autowiredFields.isEmpty()) {
+			return false;
+		}
+		convertToConstructorInjection(compilationUnit, declaringType, autowiredFields);
 		return true;
 	}
 
 	@SuppressWarnings("unchecked")
 	private void convertToConstructorInjection(CompilationUnit compilationUnit,
-			TypeDeclaration type) {
+			TypeDeclaration type, List<AutowiredField> autowiredFields) {
 		AST ast = type.getAST();
 		MethodDeclaration constructor = createConstructor(type);
 		Block body = ast.newBlock();
-		List<AutowiredField> autowiredFields = findAutowiredFields(type);
 		for (AutowiredField autowiredField : autowiredFields) {
 			SingleVariableDeclaration argument = createArgument(compilationUnit,
 					autowiredField);
@@ -163,21 +164,6 @@ class ConfigurationClassConstructorInjectionMarkerResolution
 		return argument;
 	}
 
-	@SuppressWarnings("unchecked")
-	private void addImportIfNecessary(CompilationUnit compilationUnit,
-			String classToImport) {
-		List<ImportDeclaration> imports = compilationUnit.imports();
-		for (ImportDeclaration importDeclaration : imports) {
-			if (classToImport
-					.equals(importDeclaration.getName().getFullyQualifiedName())) {
-				return;
-			}
-		}
-		ImportDeclaration newImport = compilationUnit.getAST().newImportDeclaration();
-		newImport.setName(compilationUnit.getAST().newName(classToImport));
-		imports.add(newImport);
-	}
-
 	@SuppressWarnings("unchecked")
 	private boolean dependencyIsOptional(Annotation autowired) {
 		if (autowired instanceof NormalAnnotation) {
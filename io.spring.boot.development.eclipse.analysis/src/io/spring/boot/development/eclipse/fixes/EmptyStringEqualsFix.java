@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+/**
+ * A {@link Fix} that replaces a call to {@code equals} with an empty string literal
+ * with a call to {@code isEmpty}.
+ *
+ * @author Andy Wilkinson
+ */
+class EmptyStringEqualsFix extends Fix {
+
+	EmptyStringEqualsFix() {
+		super(Problem.EQUALS_EMPTY_STRING, "Use isEmpty()");
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null
+				|| !methodInvocation.getName().getIdentifier().equals("equals")) {
+			return false;
+		}
+		methodInvocation.setName(methodInvocation.getAST().newSimpleName("isEmpty"));
+		methodInvocation.arguments().clear();
+		return true;
+	}
+
+}
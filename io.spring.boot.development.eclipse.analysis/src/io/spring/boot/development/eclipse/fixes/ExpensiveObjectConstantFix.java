@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.Type;
+
+/**
+ * An {@link ExpensiveObjectFix} that hoists the creation of an expensive, thread-safe
+ * object into a {@code private static final} field of the top-level type and replaces
+ * the creation with the field. An existing field that creates the object in the same
+ * way is reused. The fix only applies when the object is created from literals,
+ * static final fields and operators that are applied to them so that its creation can
+ * be moved into a static initializer without changing its meaning.
+ *
+ * @author Andy Wilkinson
+ */
+class ExpensiveObjectConstantFix extends ExpensiveObjectFix {
+
+	ExpensiveObjectConstantFix(Problem problem) {
+		super(problem, "Hoist to a static final field");
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, Expression creation,
+			Type type) {
+		AbstractTypeDeclaration topLevelClass = findTopLevelClass(creation);
+		if (topLevelClass == null || !isStatic(creation)) {
+			return false;
+		}
+		String field = getOrCreateConstant(topLevelClass, type,
+				(Expression) ASTNode.copySubtree(creation.getAST(), creation),
+				toConstantName(getSimpleName(type)));
+		replace(creation, creation.getAST().newSimpleName(field));
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean isStatic(Expression creation) {
+		List<Expression> arguments;
+		if (creation instanceof ClassInstanceCreation) {
+			ClassInstanceCreation instanceCreation = (ClassInstanceCreation) creation;
+			if (instanceCreation.getExpression() != null
+					|| instanceCreation.getAnonymousClassDeclaration() != null) {
+				return false;
+			}
+			arguments = instanceCreation.arguments();
+		}
+		else {
+			MethodInvocation methodInvocation = (MethodInvocation) creation;
+			Expression expression = methodInvocation.getExpression();
+			if (expression != null && !(expression instanceof Name
+					&& ((Name) expression).resolveBinding() instanceof ITypeBinding)) {
+				return false;
+			}
+			arguments = methodInvocation.arguments();
+		}
+		for (Expression argument : arguments) {
+			if (!isStaticExpression(argument)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.PackageDeclaration;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
+
+/**
+ * Base class for {@link Fix fixes} that replace the creation of an expensive object,
+ * either by a constructor or by a static factory method, with an object that is
+ * shared. A fix only applies when the object is not configured after its creation,
+ * that is when the object, or the local variable that it initializes, is only the
+ * target of the methods that the {@link ExpensiveObjects catalogue} lists as reading
+ * the object. An object that is passed as an argument, returned or assigned is
+ * considered to be configured.
+ *
+ * @author Andy Wilkinson
+ */
+abstract class ExpensiveObjectFix extends Fix {
+
+	ExpensiveObjectFix(Problem problem, String label) {
+		super(problem, label);
+	}
+
+	@Override
+	protected final boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		return fix(compilationUnit, problemNode, ExpensiveObjects.defaults());
+	}
+
+	@Override
+	protected final boolean fix(CompilationUnit compilationUnit, ASTNode problemNode,
+			AnalysisContext context) {
+		return fix(compilationUnit, problemNode, context.getExpensiveObjects());
+	}
+
+	private boolean fix(CompilationUnit compilationUnit, ASTNode problemNode,
+			ExpensiveObjects expensiveObjects) {
+		Expression creation = findCreation(problemNode);
+		if (creation == null || creation.getRoot() != compilationUnit
+				|| isConfigured(creation, expensiveObjects)) {
+			return false;
+		}
+		ITypeBinding returnType = getReturnType(creation);
+		Type type = createType(compilationUnit.getAST(), creation, returnType);
+		if (type == null || !fix(compilationUnit, creation, type)) {
+			return false;
+		}
+		if (returnType != null && requiresImport(compilationUnit, returnType)) {
+			addImportIfNecessary(compilationUnit, returnType.getQualifiedName());
+		}
+		return true;
+	}
+
+	/**
+	 * Fixes the problem by replacing the given {@code creation}.
+	 *
+	 * @param compilationUnit the compilation unit, recording its modifications
+	 * @param creation the expression that creates the expensive object
+	 * @param type the type of the expensive object
+	 * @return {@code true} if the compilation unit was modified, otherwise {@code false}
+	 */
+	protected abstract boolean fix(CompilationUnit compilationUnit, Expression creation,
+			Type type);
+
+	private Expression findCreation(ASTNode node) {
+		ASTNode candidate = node;
+		while (candidate != null) {
+			if (candidate instanceof ClassInstanceCreation
+					|| candidate instanceof MethodInvocation) {
+				return (Expression) candidate;
+			}
+			candidate = candidate.getParent();
+		}
+		return null;
+	}
+
+	private boolean isConfigured(Expression creation, ExpensiveObjects expensiveObjects) {
+		ITypeBinding createdType = creation.resolveTypeBinding();
+		if (createdType == null) {
+			return true;
+		}
+		String className = createdType.getErasure().getQualifiedName();
+		ASTNode parent = creation.getParent();
+		if (parent instanceof VariableDeclarationFragment
+				&& parent.getParent() instanceof VariableDeclarationStatement) {
+			return isConfigured((VariableDeclarationFragment) parent, className,
+					expensiveObjects);
+		}
+		return !isRead(creation, className, expensiveObjects);
+	}
+
+	private boolean isConfigured(VariableDeclarationFragment local, String className,
+			ExpensiveObjects expensiveObjects) {
+		IVariableBinding binding = local.resolveBinding();
+		if (binding == null) {
+			return true;
+		}
+		VariableReferenceCollector collector = new VariableReferenceCollector(binding);
+		local.getParent().getParent().accept(collector);
+		for (SimpleName reference : collector.getReferences()) {
+			if (reference != local.getName()
+					&& !isRead(reference, className, expensiveObjects)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given {@code object} is only read where it is used, that is
+	 * whether it is the target of a method that reads it. An object that escapes, for
+	 * example by being passed as an argument, returned or assigned, may be configured
+	 * elsewhere so it is not considered to be read.
+	 *
+	 * @param object the expression that creates or references the object
+	 * @param className the name of the object's class
+	 * @param expensiveObjects the catalogue of expensive objects
+	 * @return {@code true} if the object is only read, otherwise {@code false}
+	 */
+	private boolean isRead(Expression object, String className,
+			ExpensiveObjects expensiveObjects) {
+		ASTNode parent = object.getParent();
+		if (parent instanceof ParenthesizedExpression) {
+			return isRead((Expression) parent, className, expensiveObjects);
+		}
+		if (parent instanceof MethodInvocation
+				&& ((MethodInvocation) parent).getExpression() == object) {
+			return expensiveObjects.isReadMethod(className,
+					((MethodInvocation) parent).getName().getIdentifier());
+		}
+		return false;
+	}
+
+	private ITypeBinding getReturnType(Expression creation) {
+		if (creation instanceof MethodInvocation) {
+			IMethodBinding binding = ((MethodInvocation) creation)
+					.resolveMethodBinding();
+			return (binding != null) ? binding.getReturnType().getErasure() : null;
+		}
+		return null;
+	}
+
+	private Type createType(AST ast, Expression creation, ITypeBinding returnType) {
+		if (creation instanceof ClassInstanceCreation) {
+			return (Type) ASTNode.copySubtree(ast,
+					((ClassInstanceCreation) creation).getType());
+		}
+		if (returnType == null || returnType.isPrimitive() || returnType.isArray()) {
+			return null;
+		}
+		return ast.newSimpleType(ast.newSimpleName(returnType.getName()));
+	}
+
+	private boolean requiresImport(CompilationUnit compilationUnit, ITypeBinding type) {
+		String packageName = type.getPackage().getName();
+		PackageDeclaration packageDeclaration = compilationUnit.getPackage();
+		return !packageName.equals("java.lang") && (packageDeclaration == null
+				|| !packageName.equals(packageDeclaration.getName()
+						.getFullyQualifiedName()));
+	}
+
+	/**
+	 * Returns the simple name of the given {@code type}, without any type arguments.
+	 *
+	 * @param type the type
+	 * @return the simple name
+	 */
+	protected static String getSimpleName(Type type) {
+		String name = type.toString();
+		int typeArgumentsIndex = name.indexOf('<');
+		if (typeArgumentsIndex != -1) {
+			name = name.substring(0, typeArgumentsIndex);
+		}
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+
+	private static final class VariableReferenceCollector extends ASTVisitor {
+
+		private final IVariableBinding binding;
+
+		private final List<SimpleName> references = new ArrayList<>();
+
+		private VariableReferenceCollector(IVariableBinding binding) {
+			this.binding = binding;
+		}
+
+		@Override
+		public boolean visit(SimpleName name) {
+			if (this.binding.equals(name.resolveBinding())) {
+				this.references.add(name);
+			}
+			return false;
+		}
+
+		private List<SimpleName> getReferences() {
+			return this.references;
+		}
+
+	}
+
+}
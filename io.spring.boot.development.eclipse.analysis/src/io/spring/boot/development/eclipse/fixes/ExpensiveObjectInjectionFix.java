@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTMatcher;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * An {@link ExpensiveObjectFix} that replaces the creation of an expensive, thread-safe
+ * object in an instance method of a Spring component with a {@code final} field that is
+ * injected using the component's constructor. An existing instance field of the same
+ * type is reused. A constructor is added when the component has none and the fix does
+ * not apply when it has more than one. A bean of the required type must be defined for
+ * the component to be injected.
+ *
+ * @author Andy Wilkinson
+ */
+class ExpensiveObjectInjectionFix extends ExpensiveObjectFix {
+
+	private static final String COMPONENT_ANNOTATION_CLASS_NAME = "org.springframework.stereotype.Component";
+
+	ExpensiveObjectInjectionFix(Problem problem) {
+		super(problem, "Inject as a bean");
+	}
+
+	@Override
+	public boolean requiresFullAst() {
+		return true;
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, Expression creation,
+			Type type) {
+		MethodDeclaration method = AstUtils.findAncestor(creation,
+				MethodDeclaration.class);
+		if (method == null || Modifier.isStatic(method.getModifiers())
+				|| !(method.getParent() instanceof TypeDeclaration)) {
+			return false;
+		}
+		TypeDeclaration component = (TypeDeclaration) method.getParent();
+		if (component.isInterface()
+				|| !AstUtils.hasAnnotation(component, COMPONENT_ANNOTATION_CLASS_NAME)) {
+			return false;
+		}
+		String field = findField(component, type);
+		if (field == null) {
+			field = addInjectedField(component, type);
+			if (field == null) {
+				return false;
+			}
+		}
+		AST ast = creation.getAST();
+		FieldAccess fieldAccess = ast.newFieldAccess();
+		fieldAccess.setExpression(ast.newThisExpression());
+		fieldAccess.setName(ast.newSimpleName(field));
+		replace(creation, fieldAccess);
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String findField(TypeDeclaration component, Type type) {
+		for (FieldDeclaration field : component.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers())
+					&& type.subtreeMatch(new ASTMatcher(), field.getType())) {
+				List<VariableDeclarationFragment> fragments = field.fragments();
+				return fragments.get(0).getName().getIdentifier();
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String addInjectedField(TypeDeclaration component, Type type) {
+		List<MethodDeclaration> constructors = getConstructors(component);
+		if (constructors.size() > 1) {
+			return null;
+		}
+		MethodDeclaration constructor = constructors.isEmpty()
+				? addConstructor(component) : constructors.get(0);
+		if (constructor.getBody() == null) {
+			return null;
+		}
+		AST ast = component.getAST();
+		String name = getUniqueName(component, constructor, type);
+		VariableDeclarationFragment fragment = ast.newVariableDeclarationFragment();
+		fragment.setName(ast.newSimpleName(name));
+		FieldDeclaration field = ast.newFieldDeclaration(fragment);
+		field.setType((Type) ASTNode.copySubtree(ast, type));
+		field.modifiers().add(ast.newModifier(ModifierKeyword.PRIVATE_KEYWORD));
+		field.modifiers().add(ast.newModifier(ModifierKeyword.FINAL_KEYWORD));
+		component.bodyDeclarations().add(getLastFieldIndex(component) + 1, field);
+		SingleVariableDeclaration parameter = ast.newSingleVariableDeclaration();
+		parameter.setType((Type) ASTNode.copySubtree(ast, type));
+		parameter.setName(ast.newSimpleName(name));
+		constructor.parameters().add(parameter);
+		Assignment assignment = ast.newAssignment();
+		FieldAccess fieldAccess = ast.newFieldAccess();
+		fieldAccess.setExpression(ast.newThisExpression());
+		fieldAccess.setName(ast.newSimpleName(name));
+		assignment.setLeftHandSide(fieldAccess);
+		assignment.setRightHandSide(ast.newSimpleName(name));
+		List<Statement> statements = constructor.getBody().statements();
+		statements.add(getFirstAssignmentIndex(statements),
+				ast.newExpressionStatement(assignment));
+		return name;
+	}
+
+	private List<MethodDeclaration> getConstructors(TypeDeclaration component) {
+		List<MethodDeclaration> constructors = new ArrayList<>();
+		for (MethodDeclaration method : component.getMethods()) {
+			if (method.isConstructor()) {
+				constructors.add(method);
+			}
+		}
+		return constructors;
+	}
+
+	private int getFirstAssignmentIndex(List<Statement> statements) {
+		if (!statements.isEmpty() && (statements.get(0) instanceof ConstructorInvocation
+				|| statements.get(0) instanceof SuperConstructorInvocation)) {
+			return 1;
+		}
+		return 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MethodDeclaration addConstructor(TypeDeclaration component) {
+		AST ast = component.getAST();
+		MethodDeclaration constructor = ast.newMethodDeclaration();
+		constructor.setConstructor(true);
+		constructor.setName(ast.newSimpleName(component.getName().getIdentifier()));
+		constructor.modifiers().add(ast.newModifier(ModifierKeyword.PUBLIC_KEYWORD));
+		constructor.setBody(ast.newBlock());
+		component.bodyDeclarations().add(getLastFieldIndex(component) + 1, constructor);
+		return constructor;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int getLastFieldIndex(TypeDeclaration component) {
+		List<BodyDeclaration> bodyDeclarations = component.bodyDeclarations();
+		int lastField = -1;
+		for (int i = 0; i < bodyDeclarations.size(); i++) {
+			if (bodyDeclarations.get(i) instanceof FieldDeclaration) {
+				lastField = i;
+			}
+		}
+		return lastField;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String getUniqueName(TypeDeclaration component,
+			MethodDeclaration constructor, Type type) {
+		Set<String> names = new HashSet<>();
+		for (FieldDeclaration field : component.getFields()) {
+			List<VariableDeclarationFragment> fragments = field.fragments();
+			for (VariableDeclarationFragment fragment : fragments) {
+				names.add(fragment.getName().getIdentifier());
+			}
+		}
+		List<SingleVariableDeclaration> parameters = constructor.parameters();
+		for (SingleVariableDeclaration parameter : parameters) {
+			names.add(parameter.getName().getIdentifier());
+		}
+		String simpleName = getSimpleName(type);
+		String name = Character.toLowerCase(simpleName.charAt(0))
+				+ simpleName.substring(1);
+		String candidate = name;
+		for (int i = 2; names.contains(candidate); i++) {
+			candidate = name + i;
+		}
+		return candidate;
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTMatcher;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.NullLiteral;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.TypeLiteral;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jface.text.Document;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * A fix for a {@link Problem} that rewrites the {@link CompilationUnit} in which it was
+ * reported. A fix does not depend on a workspace so that it can be used by both the
+ * Eclipse plugin's marker resolutions and editors that use the language server.
+ *
+ * @author Andy Wilkinson
+ */
+public abstract class Fix {
+
+	private final Problem problem;
+
+	private final String label;
+
+	/**
+	 * Creates a new {@code Fix} for the given {@code problem}.
+	 *
+	 * @param problem the problem that is fixed
+	 * @param label the label that describes the fix to the user
+	 */
+	protected Fix(Problem problem, String label) {
+		this.problem = problem;
+		this.label = label;
+	}
+
+	public Problem getProblem() {
+		return this.problem;
+	}
+
+	public String getLabel() {
+		return this.label;
+	}
+
+	/**
+	 * Returns whether the fix requires a compilation unit that has been fully parsed.
+	 * When a single problem is fixed, its compilation unit may be parsed with a focal
+	 * position so that the bodies of the methods that do not contain the problem are
+	 * empty. A fix that examines or modifies the bodies of other methods, such as
+	 * constructors, must return {@code true}.
+	 *
+	 * @return {@code true} if the fix requires a full parse, otherwise {@code false}
+	 */
+	public boolean requiresFullAst() {
+		return false;
+	}
+
+	/**
+	 * Applies the fix to the problems that were reported at the given source
+	 * {@code ranges} of the compilation unit. The compilation unit should have been
+	 * parsed with bindings from the given {@code source} and is modified by the fix.
+	 *
+	 * @param compilationUnit the compilation unit
+	 * @param source the source of the compilation unit
+	 * @param ranges the source ranges of the problems
+	 * @param context the context in which the compilation unit was analyzed
+	 * @return the edit that fixes the problems or {@code null} if none of them needed
+	 * fixing
+	 */
+	public final TextEdit apply(CompilationUnit compilationUnit, String source,
+			List<ISourceRange> ranges, AnalysisContext context) {
+		List<ASTNode> problemNodes = new ArrayList<>();
+		for (ISourceRange range : ranges) {
+			problemNodes.add(NodeFinder.perform(compilationUnit, range.getOffset(),
+					range.getLength()));
+		}
+		compilationUnit.recordModifications();
+		boolean modified = false;
+		for (ASTNode problemNode : problemNodes) {
+			modified |= fix(compilationUnit, problemNode, context);
+		}
+		return modified ? compilationUnit.rewrite(new Document(source), null) : null;
+	}
+
+	/**
+	 * Fixes the problem on the given {@code problemNode}. When multiple problems in the
+	 * same compilation unit are fixed together, this method is called once for each
+	 * problem with the same {@code compilationUnit}. Implementations should return
+	 * {@code false} when an earlier call has already fixed the problem.
+	 *
+	 * @param compilationUnit the compilation unit, recording its modifications
+	 * @param problemNode the node on which the problem was reported
+	 * @return {@code true} if the compilation unit was modified, otherwise {@code false}
+	 */
+	protected abstract boolean fix(CompilationUnit compilationUnit, ASTNode problemNode);
+
+	/**
+	 * Fixes the problem on the given {@code problemNode} using the given
+	 * {@code context}. By default, the context is ignored and the problem is fixed by
+	 * {@link #fix(CompilationUnit, ASTNode)}.
+	 *
+	 * @param compilationUnit the compilation unit, recording its modifications
+	 * @param problemNode the node on which the problem was reported
+	 * @param context the context in which the compilation unit was analyzed
+	 * @return {@code true} if the compilation unit was modified, otherwise {@code false}
+	 */
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode,
+			AnalysisContext context) {
+		return fix(compilationUnit, problemNode);
+	}
+
+	/**
+	 * Adds an import for the given {@code classToImport} to the given
+	 * {@code compilationUnit} unless it is already imported.
+	 *
+	 * @param compilationUnit the compilation unit
+	 * @param classToImport the fully qualified name of the class to import
+	 */
+	@SuppressWarnings("unchecked")
+	protected static void addImportIfNecessary(CompilationUnit compilationUnit,
+			String classToImport) {
+		List<ImportDeclaration> imports = compilationUnit.imports();
+		for (ImportDeclaration importDeclaration : imports) {
+			if (classToImport
+					.equals(importDeclaration.getName().getFullyQualifiedName())) {
+				return;
+			}
+		}
+		ImportDeclaration newImport = compilationUnit.getAST().newImportDeclaration();
+		newImport.setName(compilationUnit.getAST().newName(classToImport));
+		imports.add(newImport);
+	}
+
+	/**
+	 * Replaces the given {@code node} with the given {@code replacement} in its parent.
+	 *
+	 * @param node the node to replace
+	 * @param replacement the replacement node
+	 */
+	@SuppressWarnings("unchecked")
+	protected static void replace(ASTNode node, ASTNode replacement) {
+		StructuralPropertyDescriptor location = node.getLocationInParent();
+		if (location.isChildListProperty()) {
+			List<ASTNode> siblings = (List<ASTNode>) node.getParent()
+					.getStructuralProperty(location);
+			siblings.set(siblings.indexOf(node), replacement);
+		}
+		else {
+			node.getParent().setStructuralProperty(location, replacement);
+		}
+	}
+
+	/**
+	 * Finds the top-level class or enum that contains the given {@code node}.
+	 *
+	 * @param node the node
+	 * @return the top-level type or {@code null} if it is an interface or an annotation
+	 */
+	protected static AbstractTypeDeclaration findTopLevelClass(ASTNode node) {
+		AbstractTypeDeclaration type = AstUtils.findAncestor(node,
+				AbstractTypeDeclaration.class);
+		while (type != null && !(type.getParent() instanceof CompilationUnit)) {
+			type = AstUtils.findAncestor(type, AbstractTypeDeclaration.class);
+		}
+		if (type instanceof TypeDeclaration) {
+			return ((TypeDeclaration) type).isInterface() ? null : type;
+		}
+		return (type instanceof EnumDeclaration) ? type : null;
+	}
+
+	/**
+	 * Returns the name of a {@code static final} field of the given {@code type} that is
+	 * initialized by the given {@code initializer}. When the type has no such field, a
+	 * {@code private static final} field is added after its last static field, named
+	 * {@code name} or, if a field with that name already exists, {@code name} with a
+	 * numeric suffix.
+	 *
+	 * @param type the type that declares the field
+	 * @param fieldType the type of the field
+	 * @param initializer the initializer of the field
+	 * @param name the preferred name of the field
+	 * @return the name of the field
+	 */
+	@SuppressWarnings("unchecked")
+	protected static String getOrCreateConstant(AbstractTypeDeclaration type,
+			Type fieldType, Expression initializer, String name) {
+		AST ast = type.getAST();
+		Set<String> fieldNames = new HashSet<>();
+		int index = 0;
+		List<BodyDeclaration> bodyDeclarations = type.bodyDeclarations();
+		for (int i = 0; i < bodyDeclarations.size(); i++) {
+			if (bodyDeclarations.get(i) instanceof FieldDeclaration) {
+				FieldDeclaration field = (FieldDeclaration) bodyDeclarations.get(i);
+				List<VariableDeclarationFragment> fragments = field.fragments();
+				for (VariableDeclarationFragment fragment : fragments) {
+					if (Modifier.isStatic(field.getModifiers())
+							&& Modifier.isFinal(field.getModifiers())
+							&& initializer.subtreeMatch(new ASTMatcher(),
+									fragment.getInitializer())) {
+						return fragment.getName().getIdentifier();
+					}
+					fieldNames.add(fragment.getName().getIdentifier());
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					index = i + 1;
+				}
+			}
+		}
+		String uniqueName = name;
+		for (int i = 2; fieldNames.contains(uniqueName); i++) {
+			uniqueName = name + "_" + i;
+		}
+		VariableDeclarationFragment fragment = ast.newVariableDeclarationFragment();
+		fragment.setName(ast.newSimpleName(uniqueName));
+		fragment.setInitializer(initializer);
+		FieldDeclaration field = ast.newFieldDeclaration(fragment);
+		field.setType(fieldType);
+		field.modifiers().add(ast.newModifier(ModifierKeyword.PRIVATE_KEYWORD));
+		field.modifiers().add(ast.newModifier(ModifierKeyword.STATIC_KEYWORD));
+		field.modifiers().add(ast.newModifier(ModifierKeyword.FINAL_KEYWORD));
+		bodyDeclarations.add(index, field);
+		return uniqueName;
+	}
+
+	/**
+	 * Returns whether the given {@code expression} can be moved into the initializer of
+	 * a static field without changing its meaning or referring to a variable that is not
+	 * in scope. This is the case for literals, for references to static final fields and
+	 * for operators that are applied to such expressions.
+	 *
+	 * @param expression the expression
+	 * @return {@code true} if the expression can be moved, otherwise {@code false}
+	 */
+	@SuppressWarnings("unchecked")
+	protected static boolean isStaticExpression(Expression expression) {
+		if (expression instanceof StringLiteral || expression instanceof NumberLiteral
+				|| expression instanceof CharacterLiteral
+				|| expression instanceof BooleanLiteral
+				|| expression instanceof NullLiteral || expression instanceof TypeLiteral) {
+			return true;
+		}
+		if (expression instanceof Name) {
+			return isStaticFinalField((Name) expression);
+		}
+		if (expression instanceof ParenthesizedExpression) {
+			return isStaticExpression(
+					((ParenthesizedExpression) expression).getExpression());
+		}
+		if (expression instanceof PrefixExpression) {
+			return isStaticExpression(((PrefixExpression) expression).getOperand());
+		}
+		if (expression instanceof InfixExpression) {
+			InfixExpression infixExpression = (InfixExpression) expression;
+			List<Expression> operands = new ArrayList<>();
+			operands.add(infixExpression.getLeftOperand());
+			operands.add(infixExpression.getRightOperand());
+			operands.addAll(infixExpression.extendedOperands());
+			for (Expression operand : operands) {
+				if (!isStaticExpression(operand)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean isStaticFinalField(Name name) {
+		if (name instanceof QualifiedName && !(((QualifiedName) name).getQualifier()
+				.resolveBinding() instanceof ITypeBinding)) {
+			return false;
+		}
+		IBinding binding = name.resolveBinding();
+		return binding instanceof IVariableBinding
+				&& ((IVariableBinding) binding).isField()
+				&& Modifier.isStatic(binding.getModifiers())
+				&& Modifier.isFinal(binding.getModifiers());
+	}
+
+	/**
+	 * Converts the given camel case {@code name} into the upper case, underscore
+	 * separated form that is used for the names of constants.
+	 *
+	 * @param name the camel case name
+	 * @return the constant name
+	 */
+	protected static String toConstantName(String name) {
+		StringBuilder constantName = new StringBuilder();
+		for (char c : name.toCharArray()) {
+			if (Character.isUpperCase(c) && constantName.length() > 0) {
+				constantName.append('_');
+			}
+			constantName.append(Character.toUpperCase(c));
+		}
+		return constantName.toString();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * The available {@link Fix fixes}, keyed by the {@link Problem} that they fix. A
+ * problem may have several alternative fixes, in which case they are ordered from the
+ * most to the least preferred.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Fixes {
+
+	private static final Map<Problem, List<Fix>> fixes;
+
+	static {
+		fixes = new EnumMap<>(Problem.class);
+		register(new ConfigurationClassConstructorInjectionFix());
+		register(new LambdaExpressionParameterParenthesesFix());
+		register(new SingleCharacterStringLiteralFix(
+				Problem.SINGLE_CHARACTER_STRING_LITERAL_INDEX_OF));
+		register(new SingleCharacterStringLiteralFix(
+				Problem.SINGLE_CHARACTER_STRING_LITERAL_REPLACE));
+		register(new CaseConversionBeforeEqualsFix());
+		register(new EmptyStringEqualsFix());
+		register(new BoxingRoundTripFix());
+		register(new RegexPatternConstantFix(Problem.REGEX_COMPILED_ON_EACH_CALL));
+		register(new RegexPatternConstantFix(Problem.REGEX_COMPILED_REPEATEDLY));
+		register(new LogLevelGuardFix());
+		register(new LogMessageDeferringFix());
+		register(new ExpensiveObjectConstantFix(
+				Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL));
+		register(new ExpensiveObjectInjectionFix(
+				Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL));
+		register(new ExpensiveObjectConstantFix(
+				Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY));
+		register(new ExpensiveObjectInjectionFix(
+				Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY));
+	}
+
+	private Fixes() {
+
+	}
+
+	private static void register(Fix fix) {
+		fixes.computeIfAbsent(fix.getProblem(), (problem) -> new ArrayList<>()).add(fix);
+	}
+
+	/**
+	 * Returns the fixes for the given {@code problem}.
+	 *
+	 * @param problem the problem
+	 * @return the fixes, empty if the problem cannot be fixed automatically
+	 */
+	public static List<Fix> forProblem(Problem problem) {
+		return fixes.getOrDefault(problem, Collections.emptyList());
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+
+/**
+ * A {@link Fix} that adds parentheses to a lambda expression's parameter.
+ *
+ * @author Andy Wilkinson
+ */
+class LambdaExpressionParameterParenthesesFix extends Fix {
+
+	LambdaExpressionParameterParenthesesFix() {
+		super(Problem.MISSING_PARENTHESES_AROUND_LAMBDA_PARAMETER, "Add parentheses");
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		LambdaExpression lambdaExpression = AstUtils.findAncestor(problemNode,
+				LambdaExpression.class);
+		if (lambdaExpression == null || lambdaExpression.hasParentheses()) {
+			return false;
+		}
+		lambdaExpression.setParentheses(true);
+		return true;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import io.spring.boot.development.eclipse.visitors.LogUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ExpressionStatement;
+import org.eclipse.jdt.core.dom.IfStatement;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Statement;
+
+/**
+ * A {@link Fix} that wraps a log call in an {@code if} statement that checks that the
+ * call's level is enabled.
+ *
+ * @author Andy Wilkinson
+ */
+class LogLevelGuardFix extends Fix {
+
+	LogLevelGuardFix() {
+		super(Problem.LOG_MESSAGE_EVALUATED_EAGERLY, "Guard with a log level check");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null || methodInvocation.getRoot() != compilationUnit
+				|| methodInvocation.getExpression() == null
+				|| !(methodInvocation.getParent() instanceof ExpressionStatement)) {
+			return false;
+		}
+		String level = methodInvocation.getName().getIdentifier();
+		if (!LogUtils.LEVELS.contains(level)) {
+			return false;
+		}
+		AST ast = methodInvocation.getAST();
+		MethodInvocation levelCheck = ast.newMethodInvocation();
+		levelCheck.setExpression(
+				(Expression) ASTNode.copySubtree(ast, methodInvocation.getExpression()));
+		levelCheck.setName(ast.newSimpleName(LogUtils.getLevelCheck(level)));
+		Block block = ast.newBlock();
+		Statement statement = (Statement) methodInvocation.getParent();
+		block.statements().add(ASTNode.copySubtree(ast, statement));
+		IfStatement guard = ast.newIfStatement();
+		guard.setExpression(levelCheck);
+		guard.setThenStatement(block);
+		replace(statement, guard);
+		return true;
+	}
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import io.spring.boot.development.eclipse.visitors.LogUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.ThisExpression;
+
+/**
+ * A {@link Fix} that defers building a log message until it is logged. With SLF4J, a
+ * concatenated message is replaced with a parameterized message that uses {@code {}}
+ * placeholders. With Commons Logging, a concatenated or {@code String.format} message
+ * is replaced with Spring Framework's {@code LogMessage.format} and a
+ * {@code toString()} message is replaced with the object on which it was called. The
+ * fix is only applied when the values in the message are variables or literals as
+ * other values would still be evaluated eagerly.
+ *
+ * @author Andy Wilkinson
+ */
+class LogMessageDeferringFix extends Fix {
+
+	LogMessageDeferringFix() {
+		super(Problem.LOG_MESSAGE_EVALUATED_EAGERLY, "Use a parameterized log message");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null || methodInvocation.getRoot() != compilationUnit
+				|| methodInvocation.arguments().isEmpty()) {
+			return false;
+		}
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding == null) {
+			return false;
+		}
+		List<Expression> arguments = methodInvocation.arguments();
+		if (LogUtils.isSlf4jLogger(binding.getDeclaringClass())) {
+			return parameterize(arguments);
+		}
+		if (LogUtils.isCommonsLoggingLog(binding.getDeclaringClass())) {
+			return useLogMessage(compilationUnit, arguments.get(0));
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean parameterize(List<Expression> arguments) {
+		if (arguments.size() > 2
+				|| (arguments.size() == 2 && !isThrowable(arguments.get(1)))) {
+			return false;
+		}
+		List<Expression> values = new ArrayList<>();
+		String format = getFormat(arguments.get(0), "{}", values);
+		if (format == null) {
+			return false;
+		}
+		AST ast = arguments.get(0).getAST();
+		List<Expression> parameterized = new ArrayList<>();
+		parameterized.add(newStringLiteral(ast, format));
+		for (Expression value : values) {
+			parameterized.add((Expression) ASTNode.copySubtree(ast, value));
+		}
+		for (Expression argument : arguments.subList(1, arguments.size())) {
+			parameterized.add((Expression) ASTNode.copySubtree(ast, argument));
+		}
+		arguments.clear();
+		arguments.addAll(parameterized);
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean useLogMessage(CompilationUnit compilationUnit, Expression message) {
+		AST ast = message.getAST();
+		if (isToString(message)) {
+			replace(message, ASTNode.copySubtree(ast,
+					((MethodInvocation) message).getExpression()));
+			return true;
+		}
+		List<Expression> values = new ArrayList<>();
+		String format = isStringFormat(message)
+				? getStringFormat((MethodInvocation) message, values)
+				: getFormat(message, "%s", values);
+		if (format == null) {
+			return false;
+		}
+		MethodInvocation logMessage = ast.newMethodInvocation();
+		logMessage.setExpression(ast.newSimpleName("LogMessage"));
+		logMessage.setName(ast.newSimpleName("format"));
+		logMessage.arguments().add(newStringLiteral(ast, format));
+		for (Expression value : values) {
+			logMessage.arguments().add(ASTNode.copySubtree(ast, value));
+		}
+		replace(message, logMessage);
+		addImportIfNecessary(compilationUnit, LogUtils.LOG_MESSAGE_CLASS_NAME);
+		return true;
+	}
+
+	/**
+	 * Returns the format of the given concatenated {@code message}, replacing each value
+	 * that is not a string literal with the given {@code placeholder} and adding it to
+	 * the given {@code values}.
+	 *
+	 * @param message the message
+	 * @param placeholder the placeholder for values
+	 * @param values the values in the message
+	 * @return the format or {@code null} if the message cannot be parameterized
+	 */
+	@SuppressWarnings("unchecked")
+	private String getFormat(Expression message, String placeholder,
+			List<Expression> values) {
+		if (!(message instanceof InfixExpression)
+				|| !LogUtils.isConcatenation((InfixExpression) message)) {
+			return null;
+		}
+		InfixExpression concatenation = (InfixExpression) message;
+		if (!isString(concatenation.getLeftOperand())
+				&& !isString(concatenation.getRightOperand())) {
+			return null;
+		}
+		List<Expression> operands = new ArrayList<>();
+		operands.add(concatenation.getLeftOperand());
+		operands.add(concatenation.getRightOperand());
+		operands.addAll(concatenation.extendedOperands());
+		StringBuilder format = new StringBuilder();
+		for (Expression operand : operands) {
+			if (operand instanceof StringLiteral) {
+				String literal = ((StringLiteral) operand).getLiteralValue();
+				if (placeholder.equals("%s")) {
+					format.append(literal.replace("%", "%%"));
+				}
+				else if (!literal.contains(placeholder)) {
+					format.append(literal);
+				}
+				else {
+					return null;
+				}
+			}
+			else if (isSimpleValue(operand)) {
+				format.append(placeholder);
+				values.add(operand);
+			}
+			else {
+				return null;
+			}
+		}
+		return format.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private String getStringFormat(MethodInvocation stringFormat,
+			List<Expression> values) {
+		List<Expression> arguments = stringFormat.arguments();
+		if (!(arguments.get(0) instanceof StringLiteral)) {
+			return null;
+		}
+		for (Expression argument : arguments.subList(1, arguments.size())) {
+			if (!isSimpleValue(argument)) {
+				return null;
+			}
+			values.add(argument);
+		}
+		return ((StringLiteral) arguments.get(0)).getLiteralValue();
+	}
+
+	private boolean isToString(Expression message) {
+		return message instanceof MethodInvocation
+				&& ((MethodInvocation) message).getName().getIdentifier()
+						.equals("toString")
+				&& ((MethodInvocation) message).arguments().isEmpty()
+				&& isSimpleValue(((MethodInvocation) message).getExpression());
+	}
+
+	private boolean isStringFormat(Expression message) {
+		if (!(message instanceof MethodInvocation)) {
+			return false;
+		}
+		IMethodBinding binding = ((MethodInvocation) message).resolveMethodBinding();
+		return binding != null
+				&& binding.getDeclaringClass().getQualifiedName()
+						.equals(String.class.getName())
+				&& binding.getName().equals("format")
+				&& binding.getParameterTypes()[0].getQualifiedName()
+						.equals(String.class.getName());
+	}
+
+	private boolean isSimpleValue(Expression expression) {
+		return expression instanceof Name || expression instanceof ThisExpression
+				|| expression instanceof NumberLiteral
+				|| expression instanceof CharacterLiteral
+				|| expression instanceof BooleanLiteral
+				|| (expression instanceof FieldAccess && ((FieldAccess) expression)
+						.getExpression() instanceof ThisExpression);
+	}
+
+	private boolean isString(Expression expression) {
+		ITypeBinding type = expression.resolveTypeBinding();
+		return type != null && type.getQualifiedName().equals(String.class.getName());
+	}
+
+	private boolean isThrowable(Expression expression) {
+		ITypeBinding type = expression.resolveTypeBinding();
+		while (type != null) {
+			if (type.getQualifiedName().equals(Throwable.class.getName())) {
+				return true;
+			}
+			type = type.getSuperclass();
+		}
+		return false;
+	}
+
+	private StringLiteral newStringLiteral(AST ast, String value) {
+		StringLiteral literal = ast.newStringLiteral();
+		literal.setLiteralValue(value);
+		return literal;
+	}
+
+}
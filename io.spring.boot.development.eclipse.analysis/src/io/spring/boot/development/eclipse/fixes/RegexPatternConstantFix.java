@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * A {@link Fix} that hoists a constant regular expression into a
+ * {@code private static final Pattern} field of the top-level type and rewrites the
+ * call that compiled it to use the field. An existing field that compiles the same
+ * regular expression is reused. A regular expression or flags that are held in a local
+ * or instance constant are written into the field's initializer as literals.
+ *
+ * @author Andy Wilkinson
+ */
+class RegexPatternConstantFix extends Fix {
+
+	private static final String PATTERN_CLASS_NAME = "java.util.regex.Pattern";
+
+	RegexPatternConstantFix(Problem problem) {
+		super(problem, "Extract Pattern constant");
+	}
+
+	@Override
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null || methodInvocation.getRoot() != compilationUnit) {
+			return false;
+		}
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		AbstractTypeDeclaration type = findTopLevelClass(methodInvocation);
+		if (binding == null || type == null) {
+			return false;
+		}
+		boolean pattern = binding.getDeclaringClass().getQualifiedName()
+				.equals(PATTERN_CLASS_NAME);
+		if (!pattern && methodInvocation.getExpression() == null) {
+			return false;
+		}
+		boolean compile = pattern && binding.getName().equals("compile");
+		String field = getOrCreatePatternField(methodInvocation, type,
+				getPatternArguments(methodInvocation, compile));
+		if (field == null) {
+			return false;
+		}
+		replace(methodInvocation,
+				compile ? methodInvocation.getAST().newSimpleName(field)
+						: createReplacement(methodInvocation, binding, pattern, field));
+		addImportIfNecessary(compilationUnit, PATTERN_CLASS_NAME);
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Expression> getPatternArguments(MethodInvocation methodInvocation,
+			boolean compile) {
+		List<Expression> arguments = methodInvocation.arguments();
+		return compile ? arguments : arguments.subList(0, 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private String getOrCreatePatternField(MethodInvocation methodInvocation,
+			AbstractTypeDeclaration type, List<Expression> patternArguments) {
+		AST ast = type.getAST();
+		MethodInvocation initializer = ast.newMethodInvocation();
+		initializer.setExpression(ast.newSimpleName("Pattern"));
+		initializer.setName(ast.newSimpleName("compile"));
+		for (Expression argument : patternArguments) {
+			Expression staticArgument = toStaticExpression(ast, argument);
+			if (staticArgument == null) {
+				return null;
+			}
+			initializer.arguments().add(staticArgument);
+		}
+		return getOrCreateConstant(type,
+				ast.newSimpleType(ast.newSimpleName("Pattern")), initializer,
+				getFieldName(methodInvocation));
+	}
+
+	/**
+	 * Returns a copy of the given constant {@code argument} that can be used in the
+	 * initializer of a static field. An argument that refers to a local variable or to an
+	 * instance field is replaced with a literal of its value.
+	 *
+	 * @param ast the AST of the field
+	 * @param argument the argument
+	 * @return the expression or {@code null} if the argument's value cannot be written
+	 * as a literal
+	 */
+	private Expression toStaticExpression(AST ast, Expression argument) {
+		if (isStaticExpression(argument)) {
+			return (Expression) ASTNode.copySubtree(ast, argument);
+		}
+		Object value = argument.resolveConstantExpressionValue();
+		if (value instanceof String) {
+			StringLiteral literal = ast.newStringLiteral();
+			literal.setLiteralValue((String) value);
+			return literal;
+		}
+		if (value instanceof Integer && (Integer) value >= 0) {
+			return ast.newNumberLiteral(value.toString());
+		}
+		return null;
+	}
+
+	private String getFieldName(MethodInvocation methodInvocation) {
+		MethodDeclaration method = AstUtils.findAncestor(methodInvocation,
+				MethodDeclaration.class);
+		if (method == null || method.isConstructor()) {
+			return "PATTERN";
+		}
+		return toConstantName(method.getName().getIdentifier()) + "_PATTERN";
+	}
+
+	@SuppressWarnings("unchecked")
+	private Expression createReplacement(MethodInvocation methodInvocation,
+			IMethodBinding binding, boolean pattern, String field) {
+		AST ast = methodInvocation.getAST();
+		List<Expression> arguments = methodInvocation.arguments();
+		Expression input = pattern ? arguments.get(1) : methodInvocation.getExpression();
+		MethodInvocation replacement = ast.newMethodInvocation();
+		if (binding.getName().equals("split")) {
+			replacement.setExpression(ast.newSimpleName(field));
+			replacement.setName(ast.newSimpleName("split"));
+			replacement.arguments().add(ASTNode.copySubtree(ast, input));
+		}
+		else {
+			MethodInvocation matcher = ast.newMethodInvocation();
+			matcher.setExpression(ast.newSimpleName(field));
+			matcher.setName(ast.newSimpleName("matcher"));
+			matcher.arguments().add(ASTNode.copySubtree(ast, input));
+			replacement.setExpression(matcher);
+			replacement.setName(ast.newSimpleName(binding.getName()));
+		}
+		if (!pattern) {
+			for (Expression argument : arguments.subList(1, arguments.size())) {
+				replacement.arguments().add(ASTNode.copySubtree(ast, argument));
+			}
+		}
+		return replacement;
+	}
+
+}
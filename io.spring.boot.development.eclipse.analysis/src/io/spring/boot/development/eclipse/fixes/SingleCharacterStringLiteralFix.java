@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.fixes;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.visitors.AstUtils;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * A {@link Fix} that replaces the single character string literal arguments of a
+ * {@code String} method invocation with character literals so that the method's
+ * {@code char} variant is called instead.
+ *
+ * @author Andy Wilkinson
+ */
+class SingleCharacterStringLiteralFix extends Fix {
+
+	SingleCharacterStringLiteralFix(Problem problem) {
+		super(problem, "Use character literal");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean fix(CompilationUnit compilationUnit, ASTNode problemNode) {
+		MethodInvocation methodInvocation = AstUtils.findAncestor(problemNode,
+				MethodInvocation.class);
+		if (methodInvocation == null) {
+			return false;
+		}
+		boolean modified = false;
+		List<Expression> arguments = methodInvocation.arguments();
+		for (int i = 0; i < arguments.size(); i++) {
+			Expression argument = arguments.get(i);
+			String value = (argument instanceof StringLiteral)
+					? ((StringLiteral) argument).getLiteralValue() : null;
+			if (value != null && value.length() == 1) {
+				CharacterLiteral characterLiteral = argument.getAST()
+						.newCharacterLiteral();
+				characterLiteral.setCharValue(value.charAt(0));
+				arguments.set(i, characterLiteral);
+				modified = true;
+			}
+		}
+		return modified;
+	}
+
+}
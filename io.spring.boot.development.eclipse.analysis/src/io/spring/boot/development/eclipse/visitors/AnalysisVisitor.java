@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Base class for the {@link ASTVisitor ASTVisitors} that analyze a compilation unit.
+ * Before visiting each node, a visitor checks the condition with which its
+ * {@link AstVisitors} were {@link AstVisitors#stopWhen(BooleanSupplier) configured},
+ * and stops visiting the compilation unit once the condition is met.
+ *
+ * @author Andy Wilkinson
+ */
+abstract class AnalysisVisitor extends ASTVisitor {
+
+	private BooleanSupplier stopCondition = () -> false;
+
+	void stopWhen(BooleanSupplier stopCondition) {
+		this.stopCondition = stopCondition;
+	}
+
+	@Override
+	public final boolean preVisit2(ASTNode node) {
+		return !this.stopCondition.getAsBoolean();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2018 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -11,18 +11,29 @@ package io.spring.boot.development.eclipse.visitors;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.DoStatement;
+import org.eclipse.jdt.core.dom.EnhancedForStatement;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ForStatement;
 import org.eclipse.jdt.core.dom.IAnnotationBinding;
 import org.eclipse.jdt.core.dom.IExtendedModifier;
+import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
 import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.WhileStatement;
 
 /**
  * Utility methods for working with JDT's AST.
@@ -31,6 +42,21 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  */
 public final class AstUtils {
 
+	private static final Map<String, String> PRIMITIVE_TYPES;
+
+	static {
+		Map<String, String> primitiveTypes = new HashMap<>();
+		primitiveTypes.put(Boolean.class.getName(), "boolean");
+		primitiveTypes.put(Byte.class.getName(), "byte");
+		primitiveTypes.put(Character.class.getName(), "char");
+		primitiveTypes.put(Double.class.getName(), "double");
+		primitiveTypes.put(Float.class.getName(), "float");
+		primitiveTypes.put(Integer.class.getName(), "int");
+		primitiveTypes.put(Long.class.getName(), "long");
+		primitiveTypes.put(Short.class.getName(), "short");
+		PRIMITIVE_TYPES = Collections.unmodifiableMap(primitiveTypes);
+	}
+
 	private AstUtils() {
 
 	}
@@ -138,7 +164,14 @@ public final class AstUtils {
 		return null;
 	}
 
-	private static List<String> getImplementedInterfaces(ITypeBinding type) {
+	/**
+	 * Gets the fully qualified name of all of the interfaces and their super-interfaces
+	 * implemented by the given {@code type} and its superclasses.
+	 *
+	 * @param type the type
+	 * @return the fully qualified interface names
+	 */
+	public static List<String> getImplementedInterfaces(ITypeBinding type) {
 		List<String> implementedInterfaces = new ArrayList<String>();
 		for (ITypeBinding iface : type.getInterfaces()) {
 			implementedInterfaces.add(iface.getQualifiedName());
@@ -150,6 +183,90 @@ public final class AstUtils {
 		return implementedInterfaces;
 	}
 
+	/**
+	 * Returns the name of the primitive type that is wrapped by the given {@code type}.
+	 *
+	 * @param type the type
+	 * @return the name of the primitive type or {@code null} if the type is not a
+	 * primitive wrapper
+	 */
+	public static String getPrimitiveTypeName(ITypeBinding type) {
+		return type == null ? null : PRIMITIVE_TYPES.get(type.getQualifiedName());
+	}
+
+	/**
+	 * Returns the name of the primitive wrapper method that parses a {@code String} into
+	 * the given {@code primitive} type, for example {@code parseInt} for {@code int}.
+	 *
+	 * @param primitive the name of the primitive type
+	 * @return the name of the parse method
+	 */
+	public static String getParseMethodName(String primitive) {
+		return "parse" + Character.toUpperCase(primitive.charAt(0))
+				+ primitive.substring(1);
+	}
+
+	/**
+	 * Returns the argument that is boxed by the given {@code expression} when it is a
+	 * call to a primitive wrapper's single-argument {@code valueOf} method or
+	 * constructor.
+	 *
+	 * @param expression the expression, may be {@code null}
+	 * @return the boxed argument or {@code null} if the expression does not box its
+	 * argument
+	 */
+	public static Expression getBoxedArgument(Expression expression) {
+		if (expression instanceof MethodInvocation) {
+			MethodInvocation methodInvocation = (MethodInvocation) expression;
+			IMethodBinding binding = methodInvocation.resolveMethodBinding();
+			if (binding != null && binding.getName().equals("valueOf")
+					&& methodInvocation.arguments().size() == 1
+					&& getPrimitiveTypeName(binding.getDeclaringClass()) != null) {
+				return (Expression) methodInvocation.arguments().get(0);
+			}
+		}
+		else if (expression instanceof ClassInstanceCreation) {
+			ClassInstanceCreation classInstanceCreation = (ClassInstanceCreation) expression;
+			if (classInstanceCreation.getAnonymousClassDeclaration() == null
+					&& classInstanceCreation.arguments().size() == 1
+					&& getPrimitiveTypeName(
+							classInstanceCreation.resolveTypeBinding()) != null) {
+				return (Expression) classInstanceCreation.arguments().get(0);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the repetition, within its enclosing body declaration, that causes the given
+	 * {@code node} to be evaluated more than once each time the declaration is executed.
+	 * The repetition is either a {@code "loop"}, when the node is in the body or the
+	 * condition or updaters of a loop, or a {@code "lambda expression"}.
+	 *
+	 * @param node the node
+	 * @return a description of the repetition or {@code null} if the node is not
+	 * repeated
+	 */
+	public static String findRepetition(ASTNode node) {
+		ASTNode child = node;
+		ASTNode parent = node.getParent();
+		while (parent != null && !(parent instanceof BodyDeclaration)) {
+			if (parent instanceof LambdaExpression) {
+				return "lambda expression";
+			}
+			if (parent instanceof WhileStatement || parent instanceof DoStatement
+					|| (parent instanceof EnhancedForStatement
+							&& child == ((EnhancedForStatement) parent).getBody())
+					|| (parent instanceof ForStatement && child.getLocationInParent()
+							!= ForStatement.INITIALIZERS_PROPERTY)) {
+				return "loop";
+			}
+			child = parent;
+			parent = parent.getParent();
+		}
+		return null;
+	}
+
 	private static String findQualifiedTypeName(Annotation annotation) {
 		Name name = annotation.getTypeName();
 		if (name.isSimpleName()) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * The {@link ASTVisitor ASTVisitors} that are used to analyze a compilation unit.
+ * Visitors are divided into standard visitors and expensive visitors. Expensive visitors
+ * walk type hierarchies or read other resources and may be skipped when analysis of a
+ * compilation unit is taking too long. Every visitor can be
+ * {@link #stopWhen(BooleanSupplier) stopped} part way through a compilation unit, for
+ * example when its analysis has been cancelled.
+ *
+ * @author Andy Wilkinson
+ */
+public class AstVisitors implements Iterable<ASTVisitor> {
+
+	private final List<AnalysisVisitor> standardVisitors;
+
+	private final List<AnalysisVisitor> expensiveVisitors;
+
+	public AstVisitors(AnalysisContext context, ProblemReporter problemReporter,
+			TypeFacts typeFacts) {
+		this.standardVisitors = Arrays.asList(
+				new NoAutowiredWithSingleConstructorVisitor(problemReporter),
+				new ConfigurationClassConstructorInjectionVisitor(problemReporter,
+						context),
+				new NoComponentInMainCodeVisitor(problemReporter, context),
+				new MissingFunctionalInterfaceVisitor(problemReporter, context),
+				new MissingLambdaParameterParenthesesVisitor(problemReporter),
+				new LambdaExpressionWithUnnecessaryBlockBodyVisitor(problemReporter),
+				new IncompleteAssertThatVisitor(problemReporter),
+				new JavadocLinkToAnnotationValidatingVisitor(problemReporter),
+				new PreferAssertJExceptionAssertionVisitor(problemReporter),
+				new StringIndexOfVisitor(problemReporter),
+				new StringReplaceVisitor(problemReporter),
+				new CaseConversionBeforeEqualsVisitor(problemReporter),
+				new EmptyStringEqualsVisitor(problemReporter),
+				new BoxingRoundTripVisitor(problemReporter),
+				new RegexCompilationVisitor(problemReporter),
+				new LogMessageEvaluationVisitor(problemReporter),
+				new ExpensiveObjectCreationVisitor(problemReporter, context));
+		this.expensiveVisitors = Arrays.asList(
+				new FailureAnalyzerSpringFactoriesVisitor(problemReporter, context,
+						typeFacts),
+				new UnusedMethodParameterVisitor(problemReporter, context),
+				new BeanMethodProxyingVisitor(problemReporter, typeFacts),
+				new BeanMethodOnNonConfigurationClassVisitor(problemReporter, typeFacts));
+	}
+
+	/**
+	 * Configures every visitor to stop visiting a compilation unit once the given
+	 * {@code condition} is met. The condition is checked before each node is visited.
+	 *
+	 * @param condition the condition that stops the visitors
+	 */
+	public void stopWhen(BooleanSupplier condition) {
+		for (AnalysisVisitor visitor : this.standardVisitors) {
+			visitor.stopWhen(condition);
+		}
+		for (AnalysisVisitor visitor : this.expensiveVisitors) {
+			visitor.stopWhen(condition);
+		}
+	}
+
+	/**
+	 * Returns the standard visitors. Standard visitors should always be run unless
+	 * analysis of the compilation unit has been stopped.
+	 *
+	 * @return the standard visitors
+	 */
+	public List<ASTVisitor> getStandardVisitors() {
+		return Collections.unmodifiableList(this.standardVisitors);
+	}
+
+	/**
+	 * Returns the expensive visitors. Expensive visitors may be skipped if analysis is
+	 * taking too long.
+	 *
+	 * @return the expensive visitors
+	 */
+	public List<ASTVisitor> getExpensiveVisitors() {
+		return Collections.unmodifiableList(this.expensiveVisitors);
+	}
+
+	@Override
+	public Iterator<ASTVisitor> iterator() {
+		List<ASTVisitor> visitors = new ArrayList<>(this.standardVisitors);
+		visitors.addAll(this.expensiveVisitors);
+		return visitors.iterator();
+	}
+
+}
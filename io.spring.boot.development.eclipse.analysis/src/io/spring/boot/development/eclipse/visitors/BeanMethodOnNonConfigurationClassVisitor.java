@@ -11,8 +11,8 @@ package io.spring.boot.development.eclipse.visitors;
 
 import java.lang.reflect.Modifier;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.IAnnotationBinding;
@@ -27,7 +27,7 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-final class BeanMethodOnNonConfigurationClassVisitor extends ASTVisitor {
+final class BeanMethodOnNonConfigurationClassVisitor extends AnalysisVisitor {
 
 	private static final String BEAN_ANNOTATION_NAME = "org.springframework.context.annotation.Bean";
 
@@ -35,8 +35,12 @@ final class BeanMethodOnNonConfigurationClassVisitor extends ASTVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	BeanMethodOnNonConfigurationClassVisitor(ProblemReporter problemReporter) {
+	private final TypeFacts typeFacts;
+
+	BeanMethodOnNonConfigurationClassVisitor(ProblemReporter problemReporter,
+			TypeFacts typeFacts) {
 		this.problemReporter = problemReporter;
+		this.typeFacts = typeFacts;
 	}
 
 	@Override
@@ -52,17 +56,23 @@ final class BeanMethodOnNonConfigurationClassVisitor extends ASTVisitor {
 	}
 
 	private boolean hasInheritedBeanMethod(ITypeBinding binding) {
-		if (binding != null) {
-			while ((binding = binding.getSuperclass()) != null) {
-				IMethodBinding[] methods = binding.getDeclaredMethods();
-				for (IMethodBinding method : methods) {
-					IAnnotationBinding[] annotations = method.getAnnotations();
-					for (IAnnotationBinding annotation : annotations) {
-						if (BEAN_ANNOTATION_NAME.equals(
-								annotation.getAnnotationType().getQualifiedName())) {
-							return true;
-						}
-					}
+		return binding != null && hasBeanMethod(binding.getSuperclass());
+	}
+
+	private boolean hasBeanMethod(ITypeBinding binding) {
+		if (binding == null) {
+			return false;
+		}
+		return this.typeFacts.get(binding, "hasBeanMethod",
+				(type) -> declaresBeanMethod(type) || hasBeanMethod(type.getSuperclass()));
+	}
+
+	private boolean declaresBeanMethod(ITypeBinding binding) {
+		for (IMethodBinding method : binding.getDeclaredMethods()) {
+			for (IAnnotationBinding annotation : method.getAnnotations()) {
+				if (BEAN_ANNOTATION_NAME
+						.equals(annotation.getAnnotationType().getQualifiedName())) {
+					return true;
 				}
 			}
 		}
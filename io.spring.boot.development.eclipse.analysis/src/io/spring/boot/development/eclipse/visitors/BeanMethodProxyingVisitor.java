@@ -13,9 +13,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
-import io.spring.boot.development.eclipse.StandardProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.IAnnotationBinding;
@@ -30,7 +29,7 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-final class BeanMethodProxyingVisitor extends ASTVisitor {
+final class BeanMethodProxyingVisitor extends AnalysisVisitor {
 
 	private static final Set<String> CONFIGURATION_ANNOTATION_NAMES = new HashSet<>(
 			Arrays.asList("org.springframework.context.annotation.Configuration",
@@ -40,8 +39,11 @@ final class BeanMethodProxyingVisitor extends ASTVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	BeanMethodProxyingVisitor(StandardProblemReporter problemReporter) {
+	private final TypeFacts typeFacts;
+
+	BeanMethodProxyingVisitor(ProblemReporter problemReporter, TypeFacts typeFacts) {
 		this.problemReporter = problemReporter;
+		this.typeFacts = typeFacts;
 	}
 
 	@Override
@@ -87,6 +89,11 @@ final class BeanMethodProxyingVisitor extends ASTVisitor {
 		if (typeBinding == null) {
 			return false;
 		}
+		return this.typeFacts.get(typeBinding, "beanMethodsAreProxied",
+				this::computeBeanMethodsAreProxied);
+	}
+
+	private boolean computeBeanMethodsAreProxied(ITypeBinding typeBinding) {
 		for (IAnnotationBinding annotation : typeBinding.getAnnotations()) {
 			for (String name : CONFIGURATION_ANNOTATION_NAMES) {
 				if (name.equals(annotation.getAnnotationType().getQualifiedName())) {
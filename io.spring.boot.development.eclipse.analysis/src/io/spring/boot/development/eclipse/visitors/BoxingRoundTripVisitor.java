@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+/**
+ * An {@link ASTVisitor} that warns about values that are boxed using a primitive
+ * wrapper's {@code valueOf} method or constructor only to be immediately unboxed or
+ * converted to a {@code String}, for example {@code Integer.valueOf(string).intValue()}
+ * or {@code Long.valueOf(value).toString()}, and recommends the use of the wrapper's
+ * static {@code parse} or {@code toString} method instead.
+ *
+ * @author Andy Wilkinson
+ */
+class BoxingRoundTripVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	BoxingRoundTripVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		if (!methodInvocation.arguments().isEmpty()) {
+			return true;
+		}
+		Expression boxed = AstUtils.getBoxedArgument(methodInvocation.getExpression());
+		if (boxed == null) {
+			return true;
+		}
+		ITypeBinding wrapperType = methodInvocation.getExpression().resolveTypeBinding();
+		ITypeBinding boxedType = boxed.resolveTypeBinding();
+		String primitive = AstUtils.getPrimitiveTypeName(wrapperType);
+		if (boxedType == null || primitive == null) {
+			return true;
+		}
+		String name = methodInvocation.getName().getIdentifier();
+		String wrapper = wrapperType.getName();
+		if (name.equals(primitive + "Value")
+				&& boxedType.getQualifiedName().equals(String.class.getName())) {
+			this.problemReporter.warning(Problem.BOXING_ROUND_TRIP, methodInvocation,
+					wrapper, wrapper + "." + AstUtils.getParseMethodName(primitive)
+							+ "(String)");
+		}
+		else if (name.equals("toString") && boxedType.isPrimitive()) {
+			this.problemReporter.warning(Problem.BOXING_ROUND_TRIP, methodInvocation,
+					wrapper, wrapper + ".toString(" + primitive + ")");
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * An {@link ASTVisitor} that warns about calls to {@link String#equals(Object)} on the
+ * result of {@link String#toLowerCase()} or {@link String#toUpperCase()} and recommends
+ * the use of {@link String#equalsIgnoreCase(String)} instead. Converting the case
+ * creates a new {@code String} that is immediately discarded. A call is only reported
+ * when its argument has the same case conversion applied to it or is a string literal
+ * that the conversion leaves unchanged. The result of the comparison can still change:
+ * the conversions use the default locale while {@code equalsIgnoreCase} compares
+ * characters independently of locale, so, for example, {@code "TITLE".toLowerCase()}
+ * is not equal to {@code "title"} in the Turkish locale but {@code equalsIgnoreCase}
+ * considers them equal.
+ *
+ * @author Andy Wilkinson
+ */
+class CaseConversionBeforeEqualsVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	CaseConversionBeforeEqualsVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		if (isStringMethod(methodInvocation, "equals", 1)
+				&& methodInvocation.getExpression() instanceof MethodInvocation) {
+			MethodInvocation receiver = (MethodInvocation) methodInvocation
+					.getExpression();
+			if ((isStringMethod(receiver, "toLowerCase", 0)
+					|| isStringMethod(receiver, "toUpperCase", 0))
+					&& isConverted(methodInvocation.arguments().get(0),
+							receiver.getName().getIdentifier())) {
+				this.problemReporter.warning(Problem.CASE_CONVERSION_BEFORE_EQUALS,
+						methodInvocation.getName(), receiver.getName().getIdentifier());
+			}
+		}
+		return true;
+	}
+
+	private boolean isConverted(Object argument, String conversion) {
+		if (argument instanceof StringLiteral) {
+			String value = ((StringLiteral) argument).getLiteralValue();
+			return value.equals(conversion.equals("toLowerCase") ? value.toLowerCase()
+					: value.toUpperCase());
+		}
+		return argument instanceof MethodInvocation
+				&& ((MethodInvocation) argument).getExpression() != null
+				&& isStringMethod((MethodInvocation) argument, conversion, 0);
+	}
+
+	private boolean isStringMethod(MethodInvocation methodInvocation, String name,
+			int arguments) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		return binding != null
+				&& binding.getDeclaringClass().getQualifiedName()
+						.equals(String.class.getName())
+				&& binding.getName().equals(name)
+				&& methodInvocation.arguments().size() == arguments;
+	}
+
+}
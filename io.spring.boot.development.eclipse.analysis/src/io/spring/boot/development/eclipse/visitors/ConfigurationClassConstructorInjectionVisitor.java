@@ -9,9 +9,9 @@
 
 package io.spring.boot.development.eclipse.visitors;
 
-import io.spring.boot.development.eclipse.JavaElementUtils;
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
@@ -24,18 +24,22 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-final class ConfigurationClassConstructorInjectionVisitor extends ASTVisitor {
+final class ConfigurationClassConstructorInjectionVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	ConfigurationClassConstructorInjectionVisitor(ProblemReporter problemReporter) {
+	private final AnalysisContext context;
+
+	ConfigurationClassConstructorInjectionVisitor(ProblemReporter problemReporter,
+			AnalysisContext context) {
 		this.problemReporter = problemReporter;
+		this.context = context;
 	}
 
 	@Override
 	public boolean visit(TypeDeclaration type) {
 		ITypeBinding binding = type.resolveBinding();
-		if (binding != null && JavaElementUtils.isMainCode(binding.getJavaElement())
+		if (binding != null && this.context.isMainCode()
 				&& AstUtils.hasAnnotation(type,
 						"org.springframework.context.annotation.Configuration")) {
 			analyzeFields(type.getFields());
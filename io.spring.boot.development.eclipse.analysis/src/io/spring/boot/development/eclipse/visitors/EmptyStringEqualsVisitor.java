@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * An {@link ASTVisitor} that warns about calls to {@link String#equals(Object)} with an
+ * empty string literal and recommends the use of {@link String#isEmpty()} instead.
+ * Calls where the empty string literal is the receiver are not reported as they are
+ * {@code null}-safe.
+ *
+ * @author Andy Wilkinson
+ */
+class EmptyStringEqualsVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	EmptyStringEqualsVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding == null) {
+			return true;
+		}
+		if (binding.getDeclaringClass().getQualifiedName()
+				.equals(String.class.getName())
+				&& binding.getName().equals("equals")
+				&& methodInvocation.getExpression() != null
+				&& !(methodInvocation.getExpression() instanceof StringLiteral)
+				&& methodInvocation.arguments().size() == 1) {
+			Object argument = methodInvocation.arguments().get(0);
+			if (argument instanceof StringLiteral
+					&& ((StringLiteral) argument).getLiteralValue().isEmpty()) {
+				this.problemReporter.warning(Problem.EQUALS_EMPTY_STRING,
+						methodInvocation.getName());
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Modifier;
+
+/**
+ * An {@link ASTVisitor} that warns about objects that are expensive to create, as
+ * described by the project's {@link ExpensiveObjects catalogue}, being created each time
+ * an instance method is called. A separate warning is reported when an object is
+ * created repeatedly in a loop or a lambda expression. Objects that are created in
+ * constructors, static methods, initializers and {@code @Bean} methods are not
+ * reported, even in a loop or a lambda expression, as they are typically only created
+ * during startup.
+ *
+ * @author Andy Wilkinson
+ */
+class ExpensiveObjectCreationVisitor extends AnalysisVisitor {
+
+	private static final String BEAN_ANNOTATION_CLASS_NAME = "org.springframework.context.annotation.Bean";
+
+	private final ProblemReporter problemReporter;
+
+	private final AnalysisContext context;
+
+	private ExpensiveObjects expensiveObjects;
+
+	ExpensiveObjectCreationVisitor(ProblemReporter problemReporter,
+			AnalysisContext context) {
+		this.problemReporter = problemReporter;
+		this.context = context;
+	}
+
+	@Override
+	public boolean visit(ClassInstanceCreation classInstanceCreation) {
+		IMethodBinding binding = classInstanceCreation.resolveConstructorBinding();
+		if (binding != null) {
+			check(classInstanceCreation, classInstanceCreation.getType(),
+					binding.getDeclaringClass(), "new");
+		}
+		return true;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding != null && Modifier.isStatic(binding.getModifiers())) {
+			check(methodInvocation, methodInvocation.getName(),
+					binding.getDeclaringClass(), binding.getName());
+		}
+		return true;
+	}
+
+	private void check(ASTNode creation, ASTNode problemNode, ITypeBinding type,
+			String name) {
+		String className = type.getErasure().getQualifiedName();
+		ExpensiveObjects expensiveObjects = getExpensiveObjects();
+		if (!expensiveObjects.isExpensive(className, name) || !isCalledRepeatedly(
+				AstUtils.findAncestor(creation, BodyDeclaration.class))) {
+			return;
+		}
+		boolean threadSafe = expensiveObjects.isThreadSafe(className, name);
+		String repetition = AstUtils.findRepetition(creation);
+		if (repetition != null) {
+			this.problemReporter.warning(threadSafe
+					? Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY
+					: Problem.UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY,
+					problemNode, type.getErasure().getName(), repetition);
+		}
+		else {
+			this.problemReporter.warning(threadSafe
+					? Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL
+					: Problem.UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+					problemNode, type.getErasure().getName());
+		}
+	}
+
+	private boolean isCalledRepeatedly(BodyDeclaration bodyDeclaration) {
+		if (!(bodyDeclaration instanceof MethodDeclaration)) {
+			return false;
+		}
+		MethodDeclaration method = (MethodDeclaration) bodyDeclaration;
+		return !method.isConstructor() && !Modifier.isStatic(method.getModifiers())
+				&& !AstUtils.hasAnnotation(method, BEAN_ANNOTATION_CLASS_NAME);
+	}
+
+	private ExpensiveObjects getExpensiveObjects() {
+		if (this.expensiveObjects == null) {
+			this.expensiveObjects = this.context.getExpensiveObjects();
+		}
+		return this.expensiveObjects;
+	}
+
+}
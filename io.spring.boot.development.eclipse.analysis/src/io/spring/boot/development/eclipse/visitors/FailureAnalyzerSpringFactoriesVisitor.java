@@ -10,11 +10,12 @@
 package io.spring.boot.development.eclipse.visitors;
 
 import java.lang.reflect.Modifier;
+import java.util.List;
 
-import io.spring.boot.development.eclipse.JavaElementUtils;
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
-import org.eclipse.core.resources.IProject;
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
@@ -25,25 +26,28 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-class FailureAnalyzerSpringFactoriesVisitor extends ASTVisitor {
+class FailureAnalyzerSpringFactoriesVisitor extends AnalysisVisitor {
 
 	private static final String CLASS_NAME_FAILURE_ANALYZER = "org.springframework.boot.diagnostics.FailureAnalyzer";
 
 	private final ProblemReporter problemReporter;
 
-	private final IProject project;
+	private final AnalysisContext context;
+
+	private final TypeFacts typeFacts;
 
 	FailureAnalyzerSpringFactoriesVisitor(ProblemReporter problemReporter,
-			IProject project) {
+			AnalysisContext context, TypeFacts typeFacts) {
 		this.problemReporter = problemReporter;
-		this.project = project;
+		this.context = context;
+		this.typeFacts = typeFacts;
 	}
 
 	@Override
 	public boolean visit(TypeDeclaration type) {
 		if (isFailureAnalyzer(type)) {
 			ITypeBinding binding = type.resolveBinding();
-			if (binding != null && JavaElementUtils.isMainCode(binding.getJavaElement())
+			if (binding != null && this.context.isMainCode()
 					&& !isListedInSpringFactories(binding)) {
 				this.problemReporter.error(
 						Problem.FAILURE_ANALYZER_NOT_IN_SPRING_FACTORIES, type.getName());
@@ -53,15 +57,22 @@ class FailureAnalyzerSpringFactoriesVisitor extends ASTVisitor {
 	}
 
 	private boolean isListedInSpringFactories(ITypeBinding binding) {
-		SpringFactories springFactories = SpringFactories.find(this.project);
+		SpringFactories springFactories = this.context.getSpringFactories();
 		return springFactories != null && springFactories.get(CLASS_NAME_FAILURE_ANALYZER)
 				.contains(binding.getQualifiedName());
 	}
 
 	private boolean isFailureAnalyzer(TypeDeclaration type) {
-		return !type.isInterface() && !Modifier.isAbstract(type.getModifiers())
-				&& AstUtils.getImplementedInterfaces(type)
-						.contains(CLASS_NAME_FAILURE_ANALYZER);
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+			return false;
+		}
+		ITypeBinding binding = type.resolveBinding();
+		if (binding == null) {
+			return false;
+		}
+		List<String> implementedInterfaces = this.typeFacts.get(binding,
+				"implementedInterfaces", AstUtils::getImplementedInterfaces);
+		return implementedInterfaces.contains(CLASS_NAME_FAILURE_ANALYZER);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2018 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -13,8 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.ExpressionStatement;
 import org.eclipse.jdt.core.dom.IMethodBinding;
@@ -28,7 +28,7 @@ import org.eclipse.jdt.core.dom.MethodInvocation;
  *
  * @author Andy Wilkinson
  */
-public class IncompleteAssertThatVisitor extends ASTVisitor {
+public class IncompleteAssertThatVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
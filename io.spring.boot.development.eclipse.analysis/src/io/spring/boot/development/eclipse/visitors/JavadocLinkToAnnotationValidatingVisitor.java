@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2018 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -11,8 +11,8 @@ package io.spring.boot.development.eclipse.visitors;
 
 import java.util.List;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -27,7 +27,7 @@ import org.eclipse.jdt.core.dom.TextElement;
  *
  * @author Andy Wilkinson
  */
-class JavadocLinkToAnnotationValidatingVisitor extends ASTVisitor {
+class JavadocLinkToAnnotationValidatingVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
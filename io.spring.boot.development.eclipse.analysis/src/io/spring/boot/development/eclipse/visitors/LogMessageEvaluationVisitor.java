@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IfStatement;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.ReturnStatement;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.ThrowStatement;
+
+/**
+ * An {@link ASTVisitor} that warns about calls to the {@code trace}, {@code debug} and
+ * {@code info} methods of Commons Logging's {@code Log} and SLF4J's {@code Logger} with
+ * arguments that are evaluated even when the level is disabled. An argument is
+ * evaluated eagerly when it contains a method call, such as {@code String.format} or
+ * {@code toString()}, or a {@code String} concatenation that is not a constant. A call
+ * is not reported when it is guarded by an {@code if} statement that checks that the
+ * level, or a finer level, is enabled or follows an {@code if} statement that returns
+ * when it is not.
+ *
+ * @author Andy Wilkinson
+ */
+class LogMessageEvaluationVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	LogMessageEvaluationVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		String level = getLevel(methodInvocation);
+		if (level != null && evaluatesEagerly(methodInvocation)
+				&& !isGuarded(methodInvocation, level)) {
+			this.problemReporter.warning(Problem.LOG_MESSAGE_EVALUATED_EAGERLY,
+					methodInvocation.getName(), level);
+		}
+		return true;
+	}
+
+	private String getLevel(MethodInvocation methodInvocation) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding == null || !LogUtils.isLogger(binding.getDeclaringClass())) {
+			return null;
+		}
+		return LogUtils.LEVELS.contains(binding.getName()) ? binding.getName() : null;
+	}
+
+	private boolean evaluatesEagerly(MethodInvocation methodInvocation) {
+		EagerEvaluationDetector detector = new EagerEvaluationDetector();
+		for (Object argument : methodInvocation.arguments()) {
+			((Expression) argument).accept(detector);
+		}
+		return detector.eager;
+	}
+
+	private boolean isGuarded(ASTNode node, String level) {
+		ASTNode child = node;
+		ASTNode parent = node.getParent();
+		while (parent != null && !(parent instanceof BodyDeclaration)) {
+			if (parent instanceof IfStatement
+					&& child.getLocationInParent() == IfStatement.THEN_STATEMENT_PROPERTY
+					&& checksLevel(((IfStatement) parent).getExpression(), level)) {
+				return true;
+			}
+			if (parent instanceof Block && isPrecededByReturnGuard((Block) parent,
+					(Statement) child, level)) {
+				return true;
+			}
+			child = parent;
+			parent = parent.getParent();
+		}
+		return false;
+	}
+
+	private boolean isPrecededByReturnGuard(Block block, Statement statement,
+			String level) {
+		for (Object candidate : block.statements()) {
+			if (candidate == statement) {
+				return false;
+			}
+			if (candidate instanceof IfStatement) {
+				IfStatement ifStatement = (IfStatement) candidate;
+				Expression condition = ifStatement.getExpression();
+				if (condition instanceof PrefixExpression
+						&& ((PrefixExpression) condition)
+								.getOperator() == PrefixExpression.Operator.NOT
+						&& checksLevel(((PrefixExpression) condition).getOperand(), level)
+						&& exits(ifStatement.getThenStatement())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean exits(Statement statement) {
+		if (statement instanceof Block) {
+			List<?> statements = ((Block) statement).statements();
+			return statements.size() == 1 && exits((Statement) statements.get(0));
+		}
+		return statement instanceof ReturnStatement
+				|| statement instanceof ThrowStatement;
+	}
+
+	private boolean checksLevel(Expression condition, String level) {
+		LevelCheckDetector detector = new LevelCheckDetector(level);
+		condition.accept(detector);
+		return detector.found;
+	}
+
+	private static final class EagerEvaluationDetector extends ASTVisitor {
+
+		private boolean eager;
+
+		@Override
+		public boolean visit(MethodInvocation methodInvocation) {
+			IMethodBinding binding = methodInvocation.resolveMethodBinding();
+			if (binding == null || !LogUtils.LOG_MESSAGE_CLASS_NAME
+					.equals(binding.getDeclaringClass().getQualifiedName())) {
+				this.eager = true;
+			}
+			return !this.eager;
+		}
+
+		@Override
+		public boolean visit(SuperMethodInvocation superMethodInvocation) {
+			this.eager = true;
+			return false;
+		}
+
+		@Override
+		public boolean visit(InfixExpression infixExpression) {
+			if (LogUtils.isConcatenation(infixExpression)
+					&& infixExpression.resolveConstantExpressionValue() == null) {
+				this.eager = true;
+			}
+			return !this.eager;
+		}
+
+		@Override
+		public boolean visit(LambdaExpression lambdaExpression) {
+			return false;
+		}
+
+	}
+
+	private static final class LevelCheckDetector extends ASTVisitor {
+
+		private final List<String> checks;
+
+		private boolean found;
+
+		private LevelCheckDetector(String level) {
+			this.checks = Arrays.asList(LogUtils.getLevelChecks(level));
+		}
+
+		@Override
+		public boolean visit(MethodInvocation methodInvocation) {
+			if (methodInvocation.arguments().isEmpty() && this.checks
+					.contains(methodInvocation.getName().getIdentifier())) {
+				this.found = true;
+			}
+			return !this.found;
+		}
+
+	}
+
+}
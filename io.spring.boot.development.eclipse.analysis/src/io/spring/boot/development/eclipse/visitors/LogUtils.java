@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.InfixExpression;
+
+/**
+ * Utility methods for working with calls to Commons Logging's {@code Log} and SLF4J's
+ * {@code Logger}.
+ *
+ * @author Andy Wilkinson
+ */
+public final class LogUtils {
+
+	/**
+	 * The levels, from finest to coarsest, whose messages are checked for eager
+	 * evaluation.
+	 */
+	public static final List<String> LEVELS = Arrays.asList("trace", "debug", "info");
+
+	/**
+	 * The name of Spring Framework's {@code LogMessage} class.
+	 */
+	public static final String LOG_MESSAGE_CLASS_NAME = "org.springframework.core.log.LogMessage";
+
+	private static final String COMMONS_LOGGING_LOG_CLASS_NAME = "org.apache.commons.logging.Log";
+
+	private static final String SLF4J_LOGGER_CLASS_NAME = "org.slf4j.Logger";
+
+	private LogUtils() {
+
+	}
+
+	/**
+	 * Returns whether the given {@code type} is Commons Logging's {@code Log} or SLF4J's
+	 * {@code Logger}.
+	 *
+	 * @param type the type
+	 * @return {@code true} if the type is a logger, otherwise {@code false}
+	 */
+	public static boolean isLogger(ITypeBinding type) {
+		return isCommonsLoggingLog(type) || isSlf4jLogger(type);
+	}
+
+	/**
+	 * Returns whether the given {@code type} is Commons Logging's {@code Log}.
+	 *
+	 * @param type the type
+	 * @return {@code true} if the type is {@code Log}, otherwise {@code false}
+	 */
+	public static boolean isCommonsLoggingLog(ITypeBinding type) {
+		return type != null && COMMONS_LOGGING_LOG_CLASS_NAME
+				.equals(type.getErasure().getQualifiedName());
+	}
+
+	/**
+	 * Returns whether the given {@code type} is SLF4J's {@code Logger}.
+	 *
+	 * @param type the type
+	 * @return {@code true} if the type is {@code Logger}, otherwise {@code false}
+	 */
+	public static boolean isSlf4jLogger(ITypeBinding type) {
+		return type != null && SLF4J_LOGGER_CLASS_NAME
+				.equals(type.getErasure().getQualifiedName());
+	}
+
+	/**
+	 * Returns the name of the method that checks whether the given {@code level} is
+	 * enabled, for example {@code isDebugEnabled} for {@code debug}.
+	 *
+	 * @param level the level
+	 * @return the name of the method
+	 */
+	public static String getLevelCheck(String level) {
+		return "is" + Character.toUpperCase(level.charAt(0)) + level.substring(1)
+				+ "Enabled";
+	}
+
+	/**
+	 * Returns the names of the methods that check whether the given {@code level}, or a
+	 * finer level, is enabled. A call at the level is only made when any of the checks
+	 * passes.
+	 *
+	 * @param level the level
+	 * @return the names of the methods
+	 */
+	public static String[] getLevelChecks(String level) {
+		List<String> levels = LEVELS.subList(0, LEVELS.indexOf(level) + 1);
+		String[] checks = new String[levels.size()];
+		for (int i = 0; i < checks.length; i++) {
+			checks[i] = getLevelCheck(levels.get(i));
+		}
+		return checks;
+	}
+
+	/**
+	 * Returns whether the given {@code infixExpression} concatenates {@code Strings}.
+	 *
+	 * @param infixExpression the infix expression
+	 * @return {@code true} if the expression is a concatenation, otherwise {@code false}
+	 */
+	public static boolean isConcatenation(InfixExpression infixExpression) {
+		ITypeBinding type = infixExpression.resolveTypeBinding();
+		return infixExpression.getOperator() == InfixExpression.Operator.PLUS
+				&& type != null && type.getQualifiedName().equals(String.class.getName());
+	}
+
+}
@@ -9,9 +9,9 @@
 
 package io.spring.boot.development.eclipse.visitors;
 
-import io.spring.boot.development.eclipse.JavaElementUtils;
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.Modifier;
@@ -23,12 +23,16 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-class MissingFunctionalInterfaceVisitor extends ASTVisitor {
+class MissingFunctionalInterfaceVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	MissingFunctionalInterfaceVisitor(ProblemReporter problemReporter) {
+	private final AnalysisContext context;
+
+	MissingFunctionalInterfaceVisitor(ProblemReporter problemReporter,
+			AnalysisContext context) {
 		this.problemReporter = problemReporter;
+		this.context = context;
 	}
 
 	@Override
@@ -43,7 +47,7 @@ class MissingFunctionalInterfaceVisitor extends ASTVisitor {
 
 	private boolean isMainCode(TypeDeclaration type) {
 		ITypeBinding binding = type.resolveBinding();
-		return binding != null && JavaElementUtils.isMainCode(binding.getJavaElement());
+		return binding != null && this.context.isMainCode();
 	}
 
 	private boolean isPublicOrProtected(TypeDeclaration type) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2018 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -9,9 +9,8 @@
 
 package io.spring.boot.development.eclipse.visitors;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
-import io.spring.boot.development.eclipse.StandardProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.LambdaExpression;
@@ -22,11 +21,11 @@ import org.eclipse.jdt.core.dom.LambdaExpression;
  *
  * @author Andy Wilkinson
  */
-class MissingLambdaParameterParenthesesVisitor extends ASTVisitor {
+class MissingLambdaParameterParenthesesVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	MissingLambdaParameterParenthesesVisitor(StandardProblemReporter problemReporter) {
+	MissingLambdaParameterParenthesesVisitor(ProblemReporter problemReporter) {
 		this.problemReporter = problemReporter;
 	}
 
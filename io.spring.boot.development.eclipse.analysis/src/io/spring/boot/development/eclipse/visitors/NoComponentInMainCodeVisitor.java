@@ -9,9 +9,9 @@
 
 package io.spring.boot.development.eclipse.visitors;
 
-import io.spring.boot.development.eclipse.JavaElementUtils;
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
@@ -21,19 +21,23 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
  *
  * @author Andy Wilkinson
  */
-class NoComponentInMainCodeVisitor extends ASTVisitor {
+class NoComponentInMainCodeVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	NoComponentInMainCodeVisitor(ProblemReporter problemReporter) {
+	private final AnalysisContext context;
+
+	NoComponentInMainCodeVisitor(ProblemReporter problemReporter,
+			AnalysisContext context) {
 		this.problemReporter = problemReporter;
+		this.context = context;
 	}
 
 	@Override
 	public boolean visit(TypeDeclaration typeDeclaration) {
 		ITypeBinding binding = typeDeclaration.resolveBinding();
 		if (binding != null && isInSpringBootPackage(binding)
-				&& JavaElementUtils.isMainCode(binding.getJavaElement())
+				&& this.context.isMainCode()
 				&& isComponent(typeDeclaration)) {
 			this.problemReporter.warning(Problem.MAIN_CODE_COMPONENT,
 					typeDeclaration.getName());
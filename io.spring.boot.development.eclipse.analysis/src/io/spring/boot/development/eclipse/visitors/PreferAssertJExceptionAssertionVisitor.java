@@ -12,8 +12,8 @@ package io.spring.boot.development.eclipse.visitors;
 import java.util.Stack;
 import java.util.function.Consumer;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CatchClause;
 import org.eclipse.jdt.core.dom.IMethodBinding;
@@ -30,7 +30,7 @@ import org.eclipse.jdt.core.dom.Type;
  *
  * @author Andy Wilkinson
  */
-class PreferAssertJExceptionAssertionVisitor extends ASTVisitor {
+class PreferAssertJExceptionAssertionVisitor extends AnalysisVisitor {
 
 	private Stack<Consumer<MethodInvocation>> methodInvocationHandler = new Stack<>();
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+/**
+ * An {@link ASTVisitor} that warns about regular expressions that are constant but are
+ * compiled each time a method is called, either explicitly using
+ * {@code Pattern.compile} or {@code Pattern.matches}, or implicitly using
+ * {@code String}'s {@code matches}, {@code replaceAll}, {@code replaceFirst} and
+ * {@code split} methods. A separate warning is reported when the regular expression
+ * is compiled repeatedly in a loop or a lambda expression. Regular expressions that are
+ * compiled in field or static initializers, even in a loop or a lambda expression, and
+ * calls to {@code split} that do not use a regular expression are not reported.
+ *
+ * @author Andy Wilkinson
+ */
+class RegexCompilationVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	RegexCompilationVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		if (!compilesConstantRegex(methodInvocation) || !(AstUtils.findAncestor(
+				methodInvocation, BodyDeclaration.class) instanceof MethodDeclaration)) {
+			return true;
+		}
+		String repetition = AstUtils.findRepetition(methodInvocation);
+		if (repetition != null) {
+			this.problemReporter.warning(Problem.REGEX_COMPILED_REPEATEDLY,
+					methodInvocation.getName(), repetition);
+		}
+		else {
+			this.problemReporter.warning(Problem.REGEX_COMPILED_ON_EACH_CALL,
+					methodInvocation.getName());
+		}
+		return true;
+	}
+
+	private boolean compilesConstantRegex(MethodInvocation methodInvocation) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding == null || methodInvocation.arguments().isEmpty()) {
+			return false;
+		}
+		Object regex = ((Expression) methodInvocation.arguments().get(0))
+				.resolveConstantExpressionValue();
+		if (!(regex instanceof String)) {
+			return false;
+		}
+		String declaringClass = binding.getDeclaringClass().getQualifiedName();
+		String name = binding.getName();
+		if (declaringClass.equals("java.util.regex.Pattern")) {
+			return (name.equals("compile") && allConstant(methodInvocation))
+					|| name.equals("matches");
+		}
+		if (declaringClass.equals(String.class.getName())) {
+			return name.equals("matches") || name.equals("replaceAll")
+					|| name.equals("replaceFirst")
+					|| (name.equals("split") && !isFastSplit((String) regex));
+		}
+		return false;
+	}
+
+	private boolean allConstant(MethodInvocation methodInvocation) {
+		for (Object argument : methodInvocation.arguments()) {
+			if (((Expression) argument).resolveConstantExpressionValue() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether {@link String#split(String)} splits using the given {@code regex}
+	 * without compiling it. This is the case for a single character that is not a
+	 * regular expression metacharacter or an escaped character that is not a letter or
+	 * a digit.
+	 *
+	 * @param regex the regular expression
+	 * @return {@code true} if the regular expression is not compiled
+	 */
+	private boolean isFastSplit(String regex) {
+		if (regex.length() == 1) {
+			return ".$|()[{^?*+\\".indexOf(regex.charAt(0)) == -1
+					&& !Character.isSurrogate(regex.charAt(0));
+		}
+		if (regex.length() == 2 && regex.charAt(0) == '\\') {
+			char c = regex.charAt(1);
+			return !isAsciiLetterOrDigit(c) && !Character.isSurrogate(c);
+		}
+		return false;
+	}
+
+	private boolean isAsciiLetterOrDigit(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+}
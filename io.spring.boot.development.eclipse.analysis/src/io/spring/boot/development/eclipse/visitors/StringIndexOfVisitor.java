@@ -9,10 +9,9 @@
 
 package io.spring.boot.development.eclipse.visitors;
 
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.MethodInvocation;
@@ -25,7 +24,7 @@ import org.eclipse.jdt.core.dom.StringLiteral;
  *
  * @author Andy Wilkinson
  */
-class StringIndexOfVisitor extends ASTVisitor {
+class StringIndexOfVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * An {@link ASTVisitor} that warns about calls to
+ * {@link String#replace(CharSequence, CharSequence)} with two single character string
+ * literals and recommends the use of {@link String#replace(char, char)} instead.
+ *
+ * @author Andy Wilkinson
+ */
+class StringReplaceVisitor extends AnalysisVisitor {
+
+	private final ProblemReporter problemReporter;
+
+	StringReplaceVisitor(ProblemReporter problemReporter) {
+		this.problemReporter = problemReporter;
+	}
+
+	@Override
+	public boolean visit(MethodInvocation methodInvocation) {
+		IMethodBinding binding = methodInvocation.resolveMethodBinding();
+		if (binding == null) {
+			return true;
+		}
+		if (binding.getDeclaringClass().getQualifiedName()
+				.equals(String.class.getName())
+				&& binding.getName().equals("replace")
+				&& methodInvocation.arguments().size() == 2
+				&& isSingleCharacterStringLiteral(methodInvocation.arguments().get(0))
+				&& isSingleCharacterStringLiteral(methodInvocation.arguments().get(1))) {
+			this.problemReporter.warning(
+					Problem.SINGLE_CHARACTER_STRING_LITERAL_REPLACE,
+					methodInvocation.getName());
+		}
+		return true;
+	}
+
+	private boolean isSingleCharacterStringLiteral(Object argument) {
+		return argument instanceof StringLiteral
+				&& ((StringLiteral) argument).getLiteralValue().length() == 1;
+	}
+
+}
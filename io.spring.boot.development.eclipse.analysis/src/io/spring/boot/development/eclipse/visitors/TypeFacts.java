@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.visitors;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * A thread-safe cache of facts about types that are expensive to compute, such as
+ * whether a type inherits {@code @Bean} methods. Facts are keyed by the package fragment
+ * root (source folder or jar) that contains the type, allowing the facts about binary
+ * types and about the types of upstream projects to be shared by the analysis of every
+ * project in a build. When there is no Java model, as is the case when parsing with a
+ * source path and classpath, facts are keyed by the type alone. A {@code TypeFacts}
+ * should then only be shared by analyses that use the same classpath and the facts
+ * about source types should be {@link #clearSourceTypeFacts() cleared} when the source
+ * changes.
+ *
+ * @author Andy Wilkinson
+ */
+public final class TypeFacts {
+
+	private static final String SOURCE_TYPE_PREFIX = "source#";
+
+	private static final String BINARY_TYPE_PREFIX = "binary#";
+
+	private final ConcurrentMap<String, Object> facts = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the fact with the given {@code name} about the given {@code type}, using
+	 * the given {@code function} to compute it if it is not already known. The function
+	 * may itself request other facts but must not return {@code null}.
+	 *
+	 * @param <T> the type of the fact
+	 * @param type the type
+	 * @param name the name of the fact
+	 * @param function the function used to compute the fact
+	 * @return the fact
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T get(ITypeBinding type, String name, Function<ITypeBinding, T> function) {
+		String key = getKey(type, name);
+		if (key == null) {
+			return function.apply(type);
+		}
+		Object fact = this.facts.get(key);
+		if (fact == null) {
+			fact = function.apply(type);
+			this.facts.putIfAbsent(key, fact);
+		}
+		return (T) fact;
+	}
+
+	private String getKey(ITypeBinding type, String name) {
+		IJavaElement javaElement = type.getJavaElement();
+		IJavaElement root = (javaElement != null)
+				? javaElement.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT) : null;
+		if (root != null) {
+			return root.getPath() + "#" + type.getKey() + "#" + name;
+		}
+		if (javaElement == null && !type.isRecovered()) {
+			return (type.isFromSource() ? SOURCE_TYPE_PREFIX : BINARY_TYPE_PREFIX)
+					+ type.getKey() + "#" + name;
+		}
+		return null;
+	}
+
+	/**
+	 * Clears the facts about source types that were learned without a Java model. Facts
+	 * about binary types are retained.
+	 */
+	public void clearSourceTypeFacts() {
+		this.facts.keySet().removeIf((key) -> key.startsWith(SOURCE_TYPE_PREFIX));
+	}
+
+}
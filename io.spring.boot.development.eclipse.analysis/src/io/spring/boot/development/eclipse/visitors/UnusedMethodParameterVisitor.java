@@ -13,9 +13,9 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 
-import io.spring.boot.development.eclipse.JavaElementUtils;
-import io.spring.boot.development.eclipse.Problem;
-import io.spring.boot.development.eclipse.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.CompilationUnit;
@@ -33,17 +33,21 @@ import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
  *
  * @author Andy Wilkinson
  */
-class UnusedMethodParameterVisitor extends ASTVisitor {
+class UnusedMethodParameterVisitor extends AnalysisVisitor {
 
 	private final ProblemReporter problemReporter;
 
-	UnusedMethodParameterVisitor(ProblemReporter problemReporter) {
+	private final AnalysisContext context;
+
+	UnusedMethodParameterVisitor(ProblemReporter problemReporter,
+			AnalysisContext context) {
 		this.problemReporter = problemReporter;
+		this.context = context;
 	}
 
 	@Override
 	public boolean visit(CompilationUnit compilationUnit) {
-		return JavaElementUtils.isMainCode(compilationUnit.getJavaElement());
+		return this.context.isMainCode();
 	}
 
 	@Override
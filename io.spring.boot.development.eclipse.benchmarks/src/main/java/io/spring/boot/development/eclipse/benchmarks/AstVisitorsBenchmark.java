@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.visitors.AstVisitors;
+import io.spring.boot.development.eclipse.visitors.TypeFacts;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks running the full set of {@link AstVisitors} over the {@link Corpus}, with
+ * {@link TypeFacts} that are either shared by every invocation, as they are by the
+ * compilation units of a build, or created afresh for each invocation, as they are for
+ * the first build after a change to a source type.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+public class AstVisitorsBenchmark {
+
+	private final TypeFacts typeFacts = new TypeFacts();
+
+	private Corpus corpus;
+
+	private Map<Path, CompilationUnit> compilationUnits;
+
+	@Setup
+	public void parseCorpus() {
+		this.corpus = Corpus.extract();
+		this.compilationUnits = this.corpus.parse(true);
+	}
+
+	@TearDown
+	public void deleteCorpus() {
+		this.corpus.delete();
+	}
+
+	@Benchmark
+	public void sharedTypeFacts(Blackhole blackhole) {
+		visit(this.typeFacts, blackhole);
+	}
+
+	@Benchmark
+	public void freshTypeFacts(Blackhole blackhole) {
+		visit(new TypeFacts(), blackhole);
+	}
+
+	private void visit(TypeFacts typeFacts, Blackhole blackhole) {
+		BlackholeProblemReporter problemReporter = new BlackholeProblemReporter(
+				blackhole);
+		this.compilationUnits.forEach((file, compilationUnit) -> {
+			for (ASTVisitor visitor : new AstVisitors(this.corpus.getContext(file),
+					problemReporter, typeFacts)) {
+				compilationUnit.accept(visitor);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A {@link ProblemReporter} that consumes problems in a {@link Blackhole} so that the
+ * cost of running a visitor can be measured without the cost of reporting its problems.
+ *
+ * @author Andy Wilkinson
+ */
+final class BlackholeProblemReporter implements ProblemReporter {
+
+	private final Blackhole blackhole;
+
+	BlackholeProblemReporter(Blackhole blackhole) {
+		this.blackhole = blackhole;
+	}
+
+	@Override
+	public void warning(Problem problem, ASTNode node, Object... args) {
+		this.blackhole.consume(node);
+		this.blackhole.consume(args);
+	}
+
+	@Override
+	public void error(Problem problem, ASTNode node, Object... args) {
+		this.blackhole.consume(node);
+		this.blackhole.consume(args);
+	}
+
+	@Override
+	public void warning(Problem problem, Object... args) {
+		this.blackhole.consume(args);
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+
+/**
+ * The fixed corpus of Spring Boot-shaped source files against which the benchmarks run.
+ * The corpus is packaged as resources and extracted to a temporary directory so that it
+ * can be parsed with a source path, in the same way as the {@code SourceAnalyzer}. Stubs
+ * of the Spring Framework, Spring Boot, JUnit and AssertJ types that the rules look for
+ * are on the source path so that bindings are resolved without any jars.
+ *
+ * @author Andy Wilkinson
+ */
+final class Corpus {
+
+	private static final String RESOURCES = "corpus/";
+
+	private static final Path SRC_MAIN_JAVA = Paths.get("src", "main", "java");
+
+	private static final List<Path> SOURCE_ROOTS = Arrays.asList(SRC_MAIN_JAVA,
+			Paths.get("src", "test", "java"), Paths.get("stubs"));
+
+	private static final Path SPRING_FACTORIES = Paths.get("src", "main", "resources",
+			"META-INF", "spring.factories");
+
+	private final Path root;
+
+	private final List<Path> sourceFiles;
+
+	private final Map<String, String> compilerOptions;
+
+	private final SpringFactories springFactories;
+
+	private Corpus(Path root) {
+		this.root = root;
+		this.sourceFiles = findSourceFiles(root);
+		this.compilerOptions = JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_11, this.compilerOptions);
+		this.springFactories = loadSpringFactories(root.resolve(SPRING_FACTORIES));
+	}
+
+	/**
+	 * Extracts the corpus to a new temporary directory.
+	 *
+	 * @return the extracted corpus
+	 */
+	static Corpus extract() {
+		try {
+			Path root = Files.createTempDirectory("spring-boot-analysis-corpus");
+			for (String file : readIndex()) {
+				Path target = root.resolve(file);
+				Files.createDirectories(target.getParent());
+				try (InputStream input = getResource(file)) {
+					Files.copy(input, target);
+				}
+			}
+			return new Corpus(root);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to extract corpus", ex);
+		}
+	}
+
+	private static List<String> readIndex() throws IOException {
+		List<String> files = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getResource("files.txt"), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.trim().isEmpty() && !line.startsWith("#")) {
+					files.add(line.trim());
+				}
+			}
+		}
+		return files;
+	}
+
+	private static InputStream getResource(String name) throws IOException {
+		InputStream input = Corpus.class.getClassLoader()
+				.getResourceAsStream(RESOURCES + name);
+		if (input == null) {
+			throw new IOException("Corpus resource " + name + " was not found");
+		}
+		return input;
+	}
+
+	private static List<Path> findSourceFiles(Path root) {
+		try (Stream<Path> files = Files.walk(root.resolve("src"))) {
+			List<Path> sourceFiles = new ArrayList<>();
+			files.filter((file) -> file.toString().endsWith(".java")).sorted()
+					.forEach(sourceFiles::add);
+			return sourceFiles;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static SpringFactories loadSpringFactories(Path file) {
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(file)) {
+			properties.load(input);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return new SpringFactories(properties);
+	}
+
+	/**
+	 * Returns the corpus's source files, excluding the stubs.
+	 *
+	 * @return the source files
+	 */
+	List<Path> getSourceFiles() {
+		return this.sourceFiles;
+	}
+
+	/**
+	 * Parses the corpus's source files.
+	 *
+	 * @param resolveBindings whether bindings should be resolved
+	 * @return the compilation units, keyed by source file
+	 */
+	Map<Path, CompilationUnit> parse(boolean resolveBindings) {
+		ASTParser parser = ASTParser.newParser(AST.JLS11);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setCompilerOptions(this.compilerOptions);
+		parser.setEnvironment(new String[0], getSourcepath(), null, true);
+		parser.setResolveBindings(resolveBindings);
+		parser.setBindingsRecovery(resolveBindings);
+		Map<Path, CompilationUnit> compilationUnits = new LinkedHashMap<>();
+		String[] sourceFiles = new String[this.sourceFiles.size()];
+		for (int i = 0; i < sourceFiles.length; i++) {
+			sourceFiles[i] = this.sourceFiles.get(i).toString();
+		}
+		parser.createASTs(sourceFiles, null, new String[0], new FileASTRequestor() {
+
+			@Override
+			public void acceptAST(String sourceFilePath,
+					CompilationUnit compilationUnit) {
+				compilationUnits.put(Paths.get(sourceFilePath), compilationUnit);
+			}
+
+		}, null);
+		return compilationUnits;
+	}
+
+	private String[] getSourcepath() {
+		String[] sourcepath = new String[SOURCE_ROOTS.size()];
+		for (int i = 0; i < sourcepath.length; i++) {
+			sourcepath[i] = this.root.resolve(SOURCE_ROOTS.get(i)).toString();
+		}
+		return sourcepath;
+	}
+
+	/**
+	 * Reads the source of the given {@code file}.
+	 *
+	 * @param file the file
+	 * @return the source
+	 */
+	String readSource(Path file) {
+		try {
+			return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Returns the {@link AnalysisContext} of the given source {@code file}.
+	 *
+	 * @param file the file
+	 * @return the context
+	 */
+	AnalysisContext getContext(Path file) {
+		boolean mainCode = file.startsWith(this.root.resolve(SRC_MAIN_JAVA));
+		return new AnalysisContext() {
+
+			@Override
+			public boolean isMainCode() {
+				return mainCode;
+			}
+
+			@Override
+			public SpringFactories getSpringFactories() {
+				return Corpus.this.springFactories;
+			}
+
+			@Override
+			public ExpensiveObjects getExpensiveObjects() {
+				return ExpensiveObjects.defaults();
+			}
+
+		};
+	}
+
+	/**
+	 * Deletes the extracted corpus.
+	 */
+	void delete() {
+		try (Stream<Path> files = Files.walk(this.root)) {
+			List<Path> deepestFirst = files.sorted(Comparator.reverseOrder())
+					.collect(Collectors.toList());
+			for (Path file : deepestFirst) {
+				Files.delete(file);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks parsing the {@link Corpus} with and without resolving bindings.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean resolveBindings;
+
+	private Corpus corpus;
+
+	@Setup
+	public void extractCorpus() {
+		this.corpus = Corpus.extract();
+	}
+
+	@TearDown
+	public void deleteCorpus() {
+		this.corpus.delete();
+	}
+
+	@Benchmark
+	public Map<Path, CompilationUnit> parse() {
+		return this.corpus.parse(this.resolveBindings);
+	}
+
+}
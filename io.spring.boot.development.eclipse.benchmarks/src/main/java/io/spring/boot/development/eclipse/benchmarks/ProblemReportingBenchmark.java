@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import io.spring.boot.development.eclipse.analysis.ProblemSink;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem;
+import io.spring.boot.development.eclipse.analysis.SinkProblemReporter;
+import io.spring.boot.development.eclipse.analysis.SuppressingProblemReporter;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks reporting problems to an in-memory {@link ProblemSink}. A problem is
+ * reported against every method declaration and method invocation in the
+ * {@link Corpus}, which includes computing each problem's fingerprint and, optionally,
+ * finding the suppressions of each compilation unit. The sink stands in for the markers
+ * that are written in Eclipse, which require a workspace.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+public class ProblemReportingBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean suppressions;
+
+	private final Map<Path, List<ASTNode>> nodes = new HashMap<>();
+
+	private final Map<Path, String> sources = new HashMap<>();
+
+	private Corpus corpus;
+
+	private Map<Path, CompilationUnit> compilationUnits;
+
+	@Setup
+	public void parseCorpus() {
+		this.corpus = Corpus.extract();
+		this.compilationUnits = this.corpus.parse(true);
+		this.compilationUnits.forEach((file, compilationUnit) -> {
+			this.nodes.put(file, findNodes(compilationUnit));
+			this.sources.put(file, this.corpus.readSource(file));
+		});
+	}
+
+	private List<ASTNode> findNodes(CompilationUnit compilationUnit) {
+		List<ASTNode> nodes = new ArrayList<>();
+		compilationUnit.accept(new ASTVisitor() {
+
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				nodes.add(node);
+				return true;
+			}
+
+			@Override
+			public boolean visit(MethodInvocation node) {
+				nodes.add(node);
+				return true;
+			}
+
+		});
+		return nodes;
+	}
+
+	@TearDown
+	public void deleteCorpus() {
+		this.corpus.delete();
+	}
+
+	@Benchmark
+	public List<ReportedProblem> report() {
+		InMemoryProblemSink sink = new InMemoryProblemSink();
+		this.compilationUnits.forEach((file, compilationUnit) -> {
+			ProblemReporter problemReporter = new SinkProblemReporter(file,
+					compilationUnit, sink);
+			if (this.suppressions) {
+				problemReporter = new SuppressingProblemReporter(problemReporter,
+						compilationUnit, () -> this.sources.get(file));
+			}
+			for (ASTNode node : this.nodes.get(file)) {
+				problemReporter.warning(Problem.UNUSED_METHOD_PARAMETER, node);
+			}
+		});
+		return sink.problems;
+	}
+
+	private static final class InMemoryProblemSink implements ProblemSink {
+
+		private final List<ReportedProblem> problems = new ArrayList<>();
+
+		@Override
+		public void accept(ReportedProblem problem) {
+			this.problems.add(problem);
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.benchmarks;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.visitors.AstVisitors;
+import io.spring.boot.development.eclipse.visitors.TypeFacts;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks running each visitor alone over the {@link Corpus}. As in a build, the
+ * visitors are created for each compilation unit and their problems are discarded. The
+ * {@link TypeFacts} are shared by every invocation, as they are by the compilation
+ * units of a build, so expensive visitors are measured with a warm cache.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+public class VisitorBenchmark {
+
+	@Param({ "NoAutowiredWithSingleConstructorVisitor",
+			"ConfigurationClassConstructorInjectionVisitor",
+			"NoComponentInMainCodeVisitor", "MissingFunctionalInterfaceVisitor",
+			"MissingLambdaParameterParenthesesVisitor",
+			"LambdaExpressionWithUnnecessaryBlockBodyVisitor",
+			"IncompleteAssertThatVisitor", "JavadocLinkToAnnotationValidatingVisitor",
+			"PreferAssertJExceptionAssertionVisitor", "StringIndexOfVisitor",
+			"StringReplaceVisitor", "CaseConversionBeforeEqualsVisitor",
+			"EmptyStringEqualsVisitor", "BoxingRoundTripVisitor",
+			"RegexCompilationVisitor", "LogMessageEvaluationVisitor",
+			"ExpensiveObjectCreationVisitor",
+			"FailureAnalyzerSpringFactoriesVisitor", "UnusedMethodParameterVisitor",
+			"BeanMethodProxyingVisitor", "BeanMethodOnNonConfigurationClassVisitor" })
+	private String visitor;
+
+	private final TypeFacts typeFacts = new TypeFacts();
+
+	private Corpus corpus;
+
+	private Map<Path, CompilationUnit> compilationUnits;
+
+	@Setup
+	public void parseCorpus() {
+		this.corpus = Corpus.extract();
+		this.compilationUnits = this.corpus.parse(true);
+	}
+
+	@TearDown
+	public void deleteCorpus() {
+		this.corpus.delete();
+	}
+
+	@Benchmark
+	public void visit(Blackhole blackhole) {
+		BlackholeProblemReporter problemReporter = new BlackholeProblemReporter(
+				blackhole);
+		this.compilationUnits.forEach((file, compilationUnit) -> {
+			AstVisitors visitors = new AstVisitors(this.corpus.getContext(file),
+					problemReporter, this.typeFacts);
+			compilationUnit.accept(find(visitors));
+		});
+	}
+
+	private ASTVisitor find(AstVisitors visitors) {
+		for (ASTVisitor candidate : visitors) {
+			if (candidate.getClass().getSimpleName().equals(this.visitor)) {
+				return candidate;
+			}
+		}
+		throw new IllegalStateException("No visitor named " + this.visitor);
+	}
+
+}
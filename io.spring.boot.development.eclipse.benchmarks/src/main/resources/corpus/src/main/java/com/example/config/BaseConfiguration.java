@@ -0,0 +1,27 @@
+package com.example.config;
+
+import com.example.greeting.GreetingService;
+import com.example.greeting.Greeter;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Base configuration that uses bean method proxying.
+ */
+@Configuration
+public class BaseConfiguration {
+
+	@Bean
+	public Greeter greeter() {
+		return (name) -> {
+			return "Hello " + name;
+		};
+	}
+
+	@Bean
+	public GreetingService greetingService() {
+		return new GreetingService(greeter());
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.example.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.greeting.GreetingService;
+import com.example.greeting.Greeter;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration that disables bean method proxying while extending a class that uses
+ * it and that is configured using constructor injection.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExampleConfiguration extends BaseConfiguration {
+
+	private final List<String> names;
+
+	public ExampleConfiguration(List<String> names) {
+		this.names = names;
+	}
+
+	@Bean
+	public Map<String, String> greetings(GreetingService greetingService) {
+		return this.names.stream().collect(Collectors.toMap(Function.identity(),
+				name -> greetingService.greet(name)));
+	}
+
+	@Bean
+	public Greeter politeGreeter(Greeter greeter) {
+		return (name) -> {
+			return greeter.greet(name) + ", pleased to meet you";
+		};
+	}
+
+	@Bean
+	public Function<String, Integer> firstSpace() {
+		return (value) -> value.indexOf(" ");
+	}
+
+	static class NestedConfiguration {
+
+		@Bean
+		public Greeter shoutingGreeter(Greeter greeter) {
+			return (name) -> greeter.greet(name).toUpperCase();
+		}
+
+	}
+
+}
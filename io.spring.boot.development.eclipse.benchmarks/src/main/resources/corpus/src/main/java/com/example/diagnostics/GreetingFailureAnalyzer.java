@@ -0,0 +1,25 @@
+package com.example.diagnostics;
+
+import org.springframework.boot.diagnostics.FailureAnalysis;
+import org.springframework.boot.diagnostics.FailureAnalyzer;
+
+/**
+ * A {@link FailureAnalyzer} for greeting failures that is not registered in
+ * {@code spring.factories}.
+ */
+public class GreetingFailureAnalyzer implements FailureAnalyzer {
+
+	@Override
+	public FailureAnalysis analyze(Throwable failure) {
+		Throwable cause = failure;
+		while (cause != null) {
+			if (cause instanceof IllegalStateException
+					&& cause.getMessage().indexOf("g") >= 0) {
+				return new FailureAnalysis(cause.getMessage(), "Check the greeter", cause);
+			}
+			cause = cause.getCause();
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.diagnostics;
+
+import org.springframework.boot.diagnostics.FailureAnalysis;
+import org.springframework.boot.diagnostics.FailureAnalyzer;
+
+/**
+ * A {@link FailureAnalyzer} that is registered in {@code spring.factories}.
+ */
+public class RegisteredFailureAnalyzer implements FailureAnalyzer {
+
+	@Override
+	public FailureAnalysis analyze(Throwable failure) {
+		return (failure instanceof UnsupportedOperationException)
+				? new FailureAnalysis(failure.getMessage(), null, failure) : null;
+	}
+
+}
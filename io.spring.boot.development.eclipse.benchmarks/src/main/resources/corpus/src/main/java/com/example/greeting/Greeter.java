@@ -0,0 +1,10 @@
+package com.example.greeting;
+
+/**
+ * Creates a greeting for a name.
+ */
+public interface Greeter {
+
+	String greet(String name);
+
+}
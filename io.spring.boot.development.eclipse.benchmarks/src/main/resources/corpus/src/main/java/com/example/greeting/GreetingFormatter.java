@@ -0,0 +1,10 @@
+package com.example.greeting;
+
+/**
+ * Formats greetings.
+ */
+public interface GreetingFormatter {
+
+	String format(String greeting);
+
+}
@@ -0,0 +1,54 @@
+package com.example.greeting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service for creating greetings. See {@link Component} and {@link Component#value}.
+ */
+@Component
+public class GreetingService {
+
+	private final Greeter greeter;
+
+	private final List<String> history = new ArrayList<>();
+
+	@Autowired
+	public GreetingService(Greeter greeter) {
+		this.greeter = greeter;
+	}
+
+	public String greet(String name) {
+		String greeting = this.greeter.greet(name);
+		this.history.add(greeting);
+		return greeting;
+	}
+
+	public String greet(String name, Locale locale, boolean formal) {
+		String greeting = greet(name);
+		if (greeting.lastIndexOf("!") >= 0 || greeting.indexOf(",") > 0) {
+			return greeting;
+		}
+		return greeting + "!";
+	}
+
+	public List<String> greetAll(List<String> names) {
+		List<String> greetings = new ArrayList<>();
+		names.forEach(name -> {
+			greetings.add(greet(name));
+		});
+		names.stream().filter((name) -> !name.isEmpty()).map(name -> {
+			return name.trim();
+		}).forEach(this::greet);
+		return greetings;
+	}
+
+	public List<String> getHistory() {
+		return this.history;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.example.support;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import com.example.greeting.Greeter;
+
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Support class with a {@link Bean @Bean} method that is not a configuration class.
+ */
+public class GreetingSupport {
+
+	@Bean
+	public Greeter supportGreeter() {
+		return name -> "Hi " + name;
+	}
+
+	public Map<String, Integer> index(List<String> values, String separator) {
+		Map<String, Integer> index = new TreeMap<>();
+		for (String value : values) {
+			index.put(value, value.indexOf("-"));
+		}
+		return index;
+	}
+
+	public BiFunction<String, String, String> joiner() {
+		return (first, second) -> {
+			return first + second;
+		};
+	}
+
+	public Supplier<List<String>> empty(int size) {
+		return () -> Collections.emptyList();
+	}
+
+	public interface Transformer {
+
+		String transform(String input);
+
+	}
+
+}
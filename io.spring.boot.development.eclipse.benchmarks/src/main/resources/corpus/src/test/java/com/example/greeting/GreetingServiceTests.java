@@ -0,0 +1,51 @@
+package com.example.greeting;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link GreetingService}.
+ */
+public class GreetingServiceTests {
+
+	private final GreetingService service = new GreetingService((name) -> "Hello " + name);
+
+	@Test
+	public void greet() {
+		assertThat(this.service.greet("Alice")).isEqualTo("Hello Alice");
+	}
+
+	@Test
+	public void greetAll() {
+		assertThat(this.service.greetAll(Arrays.asList("Alice", "Bob")));
+	}
+
+	@Test
+	public void historyIsRecorded() {
+		this.service.greet("Alice");
+		assertThat(this.service.getHistory()).isNotNull();
+	}
+
+	@Test
+	public void greetWithNullFails() {
+		try {
+			this.service.greet(null, null, false);
+			fail("Expected NullPointerException");
+		}
+		catch (NullPointerException ex) {
+			assertThat(ex).isNotNull();
+		}
+	}
+
+	@Test
+	public void greetWithNullThrows() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> this.service.greet(null, null, true));
+	}
+
+}
@@ -0,0 +1,14 @@
+package org.assertj.core.api;
+
+public class Assertions {
+
+	public static <T> ObjectAssert<T> assertThat(T actual) {
+		return new ObjectAssert<>(actual);
+	}
+
+	public static ThrowableTypeAssert assertThatExceptionOfType(
+			Class<? extends Throwable> exceptionType) {
+		return new ThrowableTypeAssert();
+	}
+
+}
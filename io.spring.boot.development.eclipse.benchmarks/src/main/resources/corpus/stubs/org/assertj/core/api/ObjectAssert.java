@@ -0,0 +1,23 @@
+package org.assertj.core.api;
+
+public class ObjectAssert<T> {
+
+	private final T actual;
+
+	public ObjectAssert(T actual) {
+		this.actual = actual;
+	}
+
+	public ObjectAssert<T> isEqualTo(Object expected) {
+		return this;
+	}
+
+	public ObjectAssert<T> isNotNull() {
+		return this;
+	}
+
+	public ObjectAssert<T> hasMessage(String message) {
+		return this;
+	}
+
+}
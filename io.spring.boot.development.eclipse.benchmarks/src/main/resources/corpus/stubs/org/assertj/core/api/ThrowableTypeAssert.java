@@ -0,0 +1,9 @@
+package org.assertj.core.api;
+
+public class ThrowableTypeAssert {
+
+	public ObjectAssert<Throwable> isThrownBy(Runnable runnable) {
+		return new ObjectAssert<>(null);
+	}
+
+}
@@ -0,0 +1,9 @@
+package org.junit;
+
+public class Assert {
+
+	public static void fail(String message) {
+		throw new AssertionError(message);
+	}
+
+}
@@ -0,0 +1,22 @@
+package org.springframework.boot.diagnostics;
+
+public class FailureAnalysis {
+
+	private final String description;
+
+	private final String action;
+
+	public FailureAnalysis(String description, String action, Throwable cause) {
+		this.description = description;
+		this.action = action;
+	}
+
+	public String getDescription() {
+		return this.description;
+	}
+
+	public String getAction() {
+		return this.action;
+	}
+
+}
@@ -0,0 +1,7 @@
+package org.springframework.boot.diagnostics;
+
+public interface FailureAnalyzer {
+
+	FailureAnalysis analyze(Throwable failure);
+
+}
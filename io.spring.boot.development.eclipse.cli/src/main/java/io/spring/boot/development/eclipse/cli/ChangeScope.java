@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import io.spring.boot.development.eclipse.analysis.GitChanges;
+
+/**
+ * Limits analysis to the source files that have changed since a base revision and the
+ * files that depend upon them. A file is considered to depend upon a changed file if
+ * its source mentions the name of the changed file's top-level type. This is a
+ * conservative approximation that does not require any files to be parsed.
+ * <p>
+ * It differs from the scope of a build in Eclipse, which uses JDT's search index to
+ * find the files that reference a changed type. There is no search index outside of
+ * Eclipse, and building one would require every file to be parsed, so the launcher may
+ * analyze more files than Eclipse would. A file that mentions a changed type's name
+ * without referring to it, for example in a comment or as the name of an unrelated
+ * type, is in scope. A file that only refers to a type that is not the top-level type
+ * of its file is not.
+ *
+ * @author Andy Wilkinson
+ */
+final class ChangeScope {
+
+	private final GitChanges gitChanges;
+
+	private final String base;
+
+	ChangeScope(Path directory, String base) {
+		this.gitChanges = new GitChanges(directory);
+		this.base = base;
+	}
+
+	/**
+	 * Returns the candidate files that are in scope.
+	 *
+	 * @param candidates the candidate source files
+	 * @return the files that are in scope
+	 * @throws IOException if the changed files cannot be determined or a candidate
+	 * cannot be read
+	 */
+	List<Path> filter(Collection<Path> candidates) throws IOException {
+		Set<Path> changedFiles = this.gitChanges.getChangedFiles(this.base);
+		Set<Path> inScope = new LinkedHashSet<>();
+		List<Path> unchanged = new ArrayList<>();
+		List<String> changedTypes = new ArrayList<>();
+		for (Path candidate : candidates) {
+			if (changedFiles.contains(candidate.toAbsolutePath().normalize())) {
+				inScope.add(candidate);
+				String fileName = candidate.getFileName().toString();
+				changedTypes.add(Pattern
+						.quote(fileName.substring(0, fileName.length() - ".java".length())));
+			}
+			else {
+				unchanged.add(candidate);
+			}
+		}
+		if (!changedTypes.isEmpty()) {
+			Pattern references = Pattern
+					.compile("\\b(" + String.join("|", changedTypes) + ")\\b");
+			for (Path candidate : unchanged) {
+				String source = new String(Files.readAllBytes(candidate),
+						StandardCharsets.UTF_8);
+				if (references.matcher(source).find()) {
+					inScope.add(candidate);
+				}
+			}
+		}
+		return new ArrayList<>(inScope);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import io.spring.boot.development.eclipse.analysis.SourceAnalyzer;
+
+/**
+ * Watches source roots, and their sibling {@code resources} directories where
+ * {@code spring.factories} may be found, for changes using a {@link WatchService} and
+ * analyzes the changed files, and the files that depend upon them, again. Events that
+ * arrive in quick succession, as is typical when a file is saved, are coalesced into a
+ * single analysis.
+ *
+ * @author Andy Wilkinson
+ */
+final class SourceWatcher {
+
+	private static final long QUIET_PERIOD = 20;
+
+	private final SourceAnalyzer analyzer;
+
+	private final Collection<Path> sourceRoots;
+
+	private final Consumer<Set<Path>> analysis;
+
+	private final Map<WatchKey, Path> directories = new HashMap<>();
+
+	/**
+	 * Creates a new {@code SourceWatcher}.
+	 *
+	 * @param analyzer the analyzer that is notified of changes
+	 * @param sourceRoots the source roots to watch
+	 * @param analysis the analysis to perform with the files that need to be analyzed
+	 */
+	SourceWatcher(SourceAnalyzer analyzer, Collection<Path> sourceRoots,
+			Consumer<Set<Path>> analysis) {
+		this.analyzer = analyzer;
+		this.sourceRoots = sourceRoots;
+		this.analysis = analysis;
+	}
+
+	/**
+	 * Watches for changes until the current thread is interrupted.
+	 *
+	 * @throws IOException if a failure occurs while watching
+	 * @throws InterruptedException if the thread is interrupted
+	 */
+	void watch() throws IOException, InterruptedException {
+		try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+			for (Path sourceRoot : this.sourceRoots) {
+				register(watchService, sourceRoot);
+				if (sourceRoot.endsWith("java")) {
+					register(watchService, sourceRoot.resolveSibling("resources"));
+				}
+			}
+			while (true) {
+				Set<Path> changed = new LinkedHashSet<>();
+				WatchKey key = watchService.take();
+				while (key != null) {
+					processEvents(watchService, key, changed);
+					key = watchService.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS);
+				}
+				Set<Path> files = this.analyzer.changed(changed);
+				if (!files.isEmpty()) {
+					this.analysis.accept(files);
+				}
+			}
+		}
+	}
+
+	private void processEvents(WatchService watchService, WatchKey key,
+			Set<Path> changed) throws IOException {
+		Path directory = this.directories.get(key);
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (directory == null
+					|| event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				continue;
+			}
+			Path path = directory.resolve((Path) event.context());
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+					&& Files.isDirectory(path)) {
+				register(watchService, path);
+				try (Stream<Path> paths = Files.walk(path)) {
+					paths.filter(Files::isRegularFile).forEach(changed::add);
+				}
+			}
+			else {
+				changed.add(path);
+			}
+		}
+		if (!key.reset()) {
+			this.directories.remove(key);
+		}
+	}
+
+	private void register(WatchService watchService, Path root) throws IOException {
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir,
+					BasicFileAttributes attributes) throws IOException {
+				WatchKey key = dir.register(watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY,
+						StandardWatchEventKinds.ENTRY_DELETE);
+				SourceWatcher.this.directories.put(key, dir);
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.spring.boot.development.eclipse.analysis.Baseline;
+import io.spring.boot.development.eclipse.analysis.ProblemSink;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem.Severity;
+import io.spring.boot.development.eclipse.analysis.SarifWriter;
+import io.spring.boot.development.eclipse.analysis.SourceAnalyzer;
+
+/**
+ * Command-line launcher for analyzing source files without Eclipse. Each argument is a
+ * source file or a directory that is searched for source files. The source path and
+ * classpath that are used to resolve types can be configured using the
+ * {@code --source-path} and {@code --classpath} options. When no source path is
+ * configured, the source root of each file is inferred from its location. The launcher
+ * exits with a non-zero status if any errors are found.
+ * <p>
+ * With {@code --watch}, the launcher keeps running once the initial analysis is
+ * complete, analyzing files again whenever they or the files upon which they depend
+ * change. Results are printed to the console or, with {@code --output}, to a file.
+ * <p>
+ * With {@code --changed-since}, only the files that have changed since the given
+ * revision, according to the local git repository, and the files that depend upon them
+ * are analyzed.
+ * <p>
+ * With {@code --sarif}, the problems found by the initial analysis are also written to
+ * the given file as a SARIF log. Files are identified relative to the current directory.
+ * <p>
+ * With {@code --baseline}, problems whose fingerprints are in the given baseline file
+ * are not reported. Adding {@code --update-baseline} analyzes the files once and writes
+ * the fingerprints of every problem that is found to the baseline file instead.
+ * <p>
+ * With {@code --lsp}, the launcher runs a Language Server Protocol server that
+ * communicates over standard input and output instead of analyzing any files. The
+ * {@code --source-path}, {@code --classpath} and {@code --baseline} options apply to
+ * every document that the server analyzes.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SpringBootAnalysisLauncher {
+
+	private static final int EXIT_ERRORS = 1;
+
+	private static final int EXIT_USAGE = 2;
+
+	private static final String SOURCE_PATH_OPTION = "--source-path";
+
+	private static final String CLASSPATH_OPTION = "--classpath";
+
+	private static final String OUTPUT_OPTION = "--output";
+
+	private static final String WATCH_OPTION = "--watch";
+
+	private static final String CHANGED_SINCE_OPTION = "--changed-since";
+
+	private static final String SARIF_OPTION = "--sarif";
+
+	private static final String BASELINE_OPTION = "--baseline";
+
+	private static final String UPDATE_BASELINE_OPTION = "--update-baseline";
+
+	private static final String LSP_OPTION = "--lsp";
+
+	private final List<Path> sourcePath = new ArrayList<>();
+
+	private final List<Path> classpath = new ArrayList<>();
+
+	private final List<Path> files = new ArrayList<>();
+
+	private PrintStream out = System.out;
+
+	private boolean watch;
+
+	private String changedSince;
+
+	private Path sarifFile;
+
+	private Path baselineFile;
+
+	private Baseline baseline = Baseline.empty();
+
+	private boolean updateBaseline;
+
+	private boolean lsp;
+
+	private Path gitDirectory;
+
+	private SpringBootAnalysisLauncher() {
+
+	}
+
+	public static void main(String[] args)
+			throws IOException, InterruptedException, ExecutionException {
+		SpringBootAnalysisLauncher launcher = new SpringBootAnalysisLauncher();
+		if (!launcher.configure(args)) {
+			printUsage(System.err);
+			System.exit(EXIT_USAGE);
+		}
+		if (launcher.lsp) {
+			PrintStream protocol = System.out;
+			// Standard output carries the protocol so anything else is sent to error
+			System.setOut(System.err);
+			SpringBootLanguageServer.run(launcher.sourcePath, launcher.classpath,
+					launcher.baseline, System.in, protocol);
+			return;
+		}
+		SourceAnalyzer analyzer = new SourceAnalyzer(launcher.sourcePath,
+				launcher.classpath);
+		if (launcher.updateBaseline) {
+			launcher.updateBaseline(analyzer);
+			return;
+		}
+		int errors = launcher.analyze(analyzer, launcher.files);
+		if (launcher.watch) {
+			new SourceWatcher(analyzer, launcher.sourcePath,
+					(files) -> launcher.analyze(analyzer, files, (problem) -> {
+					})).watch();
+		}
+		if (errors > 0) {
+			System.exit(EXIT_ERRORS);
+		}
+	}
+
+	private boolean configure(String[] args) throws IOException {
+		for (int i = 0; i < args.length; i++) {
+			if (SOURCE_PATH_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.sourcePath.addAll(toPaths(args[++i]));
+			}
+			else if (CLASSPATH_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.classpath.addAll(toPaths(args[++i]));
+			}
+			else if (OUTPUT_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.out = new PrintStream(new FileOutputStream(args[++i]), true,
+						StandardCharsets.UTF_8.name());
+			}
+			else if (WATCH_OPTION.equals(args[i])) {
+				this.watch = true;
+			}
+			else if (CHANGED_SINCE_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.changedSince = args[++i];
+			}
+			else if (SARIF_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.sarifFile = Paths.get(args[++i]);
+			}
+			else if (BASELINE_OPTION.equals(args[i]) && i + 1 < args.length) {
+				this.baselineFile = Paths.get(args[++i]);
+			}
+			else if (UPDATE_BASELINE_OPTION.equals(args[i])) {
+				this.updateBaseline = true;
+			}
+			else if (LSP_OPTION.equals(args[i])) {
+				this.lsp = true;
+			}
+			else if (args[i].startsWith("--")) {
+				return false;
+			}
+			else {
+				Path path = Paths.get(args[i]).toAbsolutePath();
+				if (this.gitDirectory == null) {
+					this.gitDirectory = Files.isDirectory(path) ? path : path.getParent();
+				}
+				this.files.addAll(findSourceFiles(path));
+			}
+		}
+		if ((this.baselineFile == null || this.lsp) && this.updateBaseline) {
+			return false;
+		}
+		if (this.baselineFile != null && !this.updateBaseline
+				&& Files.isRegularFile(this.baselineFile)) {
+			this.baseline = Baseline.read(Files.newInputStream(this.baselineFile));
+		}
+		if (this.sourcePath.isEmpty()) {
+			this.sourcePath.addAll(inferSourceRoots(this.files));
+		}
+		if (this.changedSince != null && !this.files.isEmpty()) {
+			List<Path> inScope = new ChangeScope(this.gitDirectory, this.changedSince)
+					.filter(this.files);
+			this.files.clear();
+			this.files.addAll(inScope);
+			return true;
+		}
+		return this.lsp || !this.files.isEmpty();
+	}
+
+	private int analyze(SourceAnalyzer analyzer, Collection<Path> files)
+			throws IOException {
+		if (this.sarifFile == null) {
+			return analyze(analyzer, files, (problem) -> {
+			});
+		}
+		try (Writer writer = Files.newBufferedWriter(this.sarifFile,
+				StandardCharsets.UTF_8);
+				SarifWriter sarif = new SarifWriter(writer, Paths.get(""))) {
+			return analyze(analyzer, files, sarif);
+		}
+	}
+
+	private int analyze(SourceAnalyzer analyzer, Collection<Path> files,
+			ProblemSink sink) {
+		long start = System.nanoTime();
+		int[] counts = new int[2];
+		analyzer.analyze(new ArrayList<>(files), (problem) -> {
+			if (this.baseline.contains(problem.getFingerprint())) {
+				return;
+			}
+			counts[(problem.getSeverity() == Severity.ERROR) ? 0 : 1]++;
+			this.out.println(problem);
+			sink.accept(problem);
+		});
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.out.printf(
+				"Analyzed %d files in %dms (%.1f files/s): %d errors, %d warnings%n",
+				files.size(), elapsed,
+				(elapsed > 0) ? files.size() * 1000.0 / elapsed : (double) files.size(),
+				counts[0], counts[1]);
+		this.out.flush();
+		return counts[0];
+	}
+
+	private void updateBaseline(SourceAnalyzer analyzer) throws IOException {
+		Baseline.Builder builder = new Baseline.Builder();
+		analyzer.analyze(this.files, builder);
+		try (Writer writer = new OutputStreamWriter(
+				Files.newOutputStream(this.baselineFile), StandardCharsets.UTF_8)) {
+			builder.write(writer);
+		}
+		this.out.printf("Wrote %d problems to %s%n", builder.build().size(),
+				this.baselineFile);
+		this.out.flush();
+	}
+
+	private List<Path> toPaths(String pathList) {
+		List<Path> paths = new ArrayList<>();
+		for (String path : pathList.split(File.pathSeparator)) {
+			if (!path.isEmpty()) {
+				paths.add(Paths.get(path));
+			}
+		}
+		return paths;
+	}
+
+	private List<Path> findSourceFiles(Path path) throws IOException {
+		try (Stream<Path> paths = Files.walk(path)) {
+			return paths.filter((candidate) -> candidate.toString().endsWith(".java"))
+					.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+	}
+
+	private Set<Path> inferSourceRoots(List<Path> files) {
+		Set<Path> sourceRoots = new LinkedHashSet<>();
+		for (Path file : files) {
+			Path sourceRoot = inferSourceRoot(file.toAbsolutePath().normalize());
+			if (sourceRoot != null) {
+				sourceRoots.add(sourceRoot);
+			}
+		}
+		return sourceRoots;
+	}
+
+	private Path inferSourceRoot(Path file) {
+		Path candidate = file.getParent();
+		while (candidate != null && candidate.getNameCount() > 2) {
+			if (candidate.getFileName().toString().equals("java") && candidate
+					.getParent().getParent().getFileName().toString().equals("src")) {
+				return candidate;
+			}
+			candidate = candidate.getParent();
+		}
+		return file.getParent();
+	}
+
+	private static void printUsage(PrintStream out) {
+		out.println("Usage: java -jar io.spring.boot.development.eclipse.cli.jar ["
+				+ SOURCE_PATH_OPTION + " <paths>] [" + CLASSPATH_OPTION + " <paths>] ["
+				+ OUTPUT_OPTION + " <file>] [" + WATCH_OPTION + "] ["
+				+ CHANGED_SINCE_OPTION + " <revision>] [" + SARIF_OPTION + " <file>] ["
+				+ BASELINE_OPTION + " <file> [" + UPDATE_BASELINE_OPTION
+				+ "]] <file or directory>...");
+		out.println("       java -jar io.spring.boot.development.eclipse.cli.jar "
+				+ LSP_OPTION + " [" + SOURCE_PATH_OPTION + " <paths>] ["
+				+ CLASSPATH_OPTION + " <paths>] [" + BASELINE_OPTION + " <file>]");
+	}
+
+}
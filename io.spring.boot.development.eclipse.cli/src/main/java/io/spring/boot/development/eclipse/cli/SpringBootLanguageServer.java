@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import io.spring.boot.development.eclipse.analysis.Baseline;
+import io.spring.boot.development.eclipse.analysis.SourceAnalyzer;
+import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializeResult;
+import org.eclipse.lsp4j.SaveOptions;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.eclipse.lsp4j.TextDocumentSyncKind;
+import org.eclipse.lsp4j.TextDocumentSyncOptions;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.LanguageClientAware;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.lsp4j.services.TextDocumentService;
+import org.eclipse.lsp4j.services.WorkspaceService;
+
+/**
+ * A Language Server Protocol server that analyzes the documents that are open in an
+ * editor, such as VS Code, as they are edited. The server is long-lived so the
+ * {@link SourceAnalyzer}, and the facts that it learns about types, are retained between
+ * analyses. When no source path is configured, the source roots of the workspace folders
+ * are found when the server is initialized.
+ *
+ * @author Andy Wilkinson
+ */
+final class SpringBootLanguageServer implements LanguageServer, LanguageClientAware {
+
+	private static final List<Path> SOURCE_ROOTS = Arrays.asList(
+			Paths.get("src", "main", "java"), Paths.get("src", "test", "java"));
+
+	private static final List<String> IGNORED_DIRECTORIES = Arrays.asList("target",
+			"build", "bin", "node_modules");
+
+	private final List<Path> sourcePath;
+
+	private final List<Path> classpath;
+
+	private final SpringBootTextDocumentService textDocumentService;
+
+	private final WorkspaceService workspaceService = new SpringBootWorkspaceService();
+
+	private volatile boolean shutdown;
+
+	private SpringBootLanguageServer(List<Path> sourcePath, List<Path> classpath,
+			Baseline baseline) {
+		this.sourcePath = sourcePath;
+		this.classpath = classpath;
+		this.textDocumentService = new SpringBootTextDocumentService(baseline);
+	}
+
+	/**
+	 * Runs a server that communicates using the given streams until its input ends.
+	 *
+	 * @param sourcePath the source path or an empty list to find the source roots of the
+	 * workspace
+	 * @param classpath the classpath
+	 * @param baseline the baseline of problems that are not reported
+	 * @param in the input stream
+	 * @param out the output stream
+	 * @throws InterruptedException if the thread is interrupted while running
+	 * @throws ExecutionException if the connection to the client fails
+	 */
+	static void run(List<Path> sourcePath, List<Path> classpath, Baseline baseline,
+			InputStream in, OutputStream out)
+			throws InterruptedException, ExecutionException {
+		SpringBootLanguageServer server = new SpringBootLanguageServer(sourcePath,
+				classpath, baseline);
+		Launcher<LanguageClient> launcher = LSPLauncher.createServerLauncher(server, in,
+				out);
+		server.connect(launcher.getRemoteProxy());
+		launcher.startListening().get();
+	}
+
+	@Override
+	public void connect(LanguageClient client) {
+		this.textDocumentService.connect(client);
+	}
+
+	@Override
+	public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
+		List<Path> sourceRoots = this.sourcePath.isEmpty()
+				? findSourceRoots(getWorkspaceRoots(params)) : this.sourcePath;
+		this.textDocumentService
+				.initialize(new SourceAnalyzer(sourceRoots, this.classpath));
+		TextDocumentSyncOptions sync = new TextDocumentSyncOptions();
+		sync.setOpenClose(true);
+		sync.setChange(TextDocumentSyncKind.Incremental);
+		sync.setSave(new SaveOptions(false));
+		ServerCapabilities capabilities = new ServerCapabilities();
+		capabilities.setTextDocumentSync(sync);
+		capabilities.setCodeActionProvider(true);
+		return CompletableFuture.completedFuture(new InitializeResult(capabilities));
+	}
+
+	private List<Path> getWorkspaceRoots(InitializeParams params) {
+		List<WorkspaceFolder> folders = params.getWorkspaceFolders();
+		if (folders != null && !folders.isEmpty()) {
+			return folders.stream().map(WorkspaceFolder::getUri)
+					.map(SpringBootTextDocumentService::toPath)
+					.collect(Collectors.toList());
+		}
+		if (params.getRootUri() != null) {
+			return Arrays
+					.asList(SpringBootTextDocumentService.toPath(params.getRootUri()));
+		}
+		return Arrays.asList(Paths.get("").toAbsolutePath());
+	}
+
+	private List<Path> findSourceRoots(List<Path> workspaceRoots) {
+		List<Path> sourceRoots = new ArrayList<>();
+		for (Path workspaceRoot : workspaceRoots) {
+			try {
+				Files.walkFileTree(workspaceRoot, new SimpleFileVisitor<Path>() {
+
+					@Override
+					public FileVisitResult preVisitDirectory(Path directory,
+							BasicFileAttributes attributes) {
+						String name = String.valueOf(directory.getFileName());
+						if (name.startsWith(".") || IGNORED_DIRECTORIES.contains(name)) {
+							return FileVisitResult.SKIP_SUBTREE;
+						}
+						for (Path sourceRoot : SOURCE_ROOTS) {
+							if (directory.endsWith(sourceRoot)) {
+								sourceRoots.add(directory);
+								return FileVisitResult.SKIP_SUBTREE;
+							}
+						}
+						return FileVisitResult.CONTINUE;
+					}
+
+				});
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+		return sourceRoots;
+	}
+
+	@Override
+	public CompletableFuture<Object> shutdown() {
+		this.shutdown = true;
+		this.textDocumentService.shutdown();
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public void exit() {
+		System.exit(this.shutdown ? 0 : 1);
+	}
+
+	@Override
+	public TextDocumentService getTextDocumentService() {
+		return this.textDocumentService;
+	}
+
+	@Override
+	public WorkspaceService getWorkspaceService() {
+		return this.workspaceService;
+	}
+
+	private final class SpringBootWorkspaceService implements WorkspaceService {
+
+		@Override
+		public void didChangeConfiguration(DidChangeConfigurationParams params) {
+
+		}
+
+		@Override
+		public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+			SpringBootLanguageServer.this.textDocumentService.changed(params.getChanges()
+					.stream().map(FileEvent::getUri)
+					.map(SpringBootTextDocumentService::toPath)
+					.collect(Collectors.toList()));
+		}
+
+	}
+
+}
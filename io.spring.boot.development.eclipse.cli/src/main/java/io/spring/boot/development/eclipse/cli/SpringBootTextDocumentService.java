@@ -0,0 +1,396 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.Baseline;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem.Severity;
+import io.spring.boot.development.eclipse.analysis.SourceAnalyzer;
+import io.spring.boot.development.eclipse.fixes.Fix;
+import io.spring.boot.development.eclipse.fixes.Fixes;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.CodeActionParams;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.MessageType;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.TextDocumentService;
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+/**
+ * The {@link TextDocumentService} of the {@link SpringBootLanguageServer}. Open
+ * documents are held in memory and analyzed, using their unsaved text, when they are
+ * opened and, after a short delay that coalesces bursts of typing into a single
+ * analysis, when they change. When a document is saved, or the client reports that
+ * files have changed, the files that depend upon them are analyzed again too. Problems
+ * are published as diagnostics and problems with a {@link Fix} are offered as quick fix
+ * code actions.
+ * <p>
+ * Analysis and fixes run on a single thread so that the {@link SourceAnalyzer}, and the
+ * facts that it has learned about types, are shared by every analysis.
+ *
+ * @author Andy Wilkinson
+ */
+final class SpringBootTextDocumentService implements TextDocumentService {
+
+	private static final long ANALYSIS_DELAY = 200;
+
+	private static final String DIAGNOSTIC_SOURCE = "spring-boot";
+
+	private final Map<String, TextDocument> documents = new ConcurrentHashMap<>();
+
+	private final Map<String, ScheduledFuture<?>> pendingAnalyses = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService executor = Executors
+			.newSingleThreadScheduledExecutor((runnable) -> {
+				Thread thread = new Thread(runnable, "spring-boot-analysis");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private final Baseline baseline;
+
+	private volatile SourceAnalyzer analyzer;
+
+	private volatile LanguageClient client;
+
+	/**
+	 * Creates a new {@code SpringBootTextDocumentService}.
+	 *
+	 * @param baseline the baseline of problems that are not reported
+	 */
+	SpringBootTextDocumentService(Baseline baseline) {
+		this.baseline = baseline;
+	}
+
+	void connect(LanguageClient client) {
+		this.client = client;
+	}
+
+	void initialize(SourceAnalyzer analyzer) {
+		this.analyzer = analyzer;
+	}
+
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Override
+	public void didOpen(DidOpenTextDocumentParams params) {
+		TextDocumentItem item = params.getTextDocument();
+		this.documents.put(item.getUri(),
+				new TextDocument(toPath(item.getUri()), item.getVersion(), item.getText()));
+		scheduleAnalysis(item.getUri(), 0);
+	}
+
+	@Override
+	public void didChange(DidChangeTextDocumentParams params) {
+		String uri = params.getTextDocument().getUri();
+		int version = params.getTextDocument().getVersion();
+		this.documents.computeIfPresent(uri, (key, document) -> {
+			for (TextDocumentContentChangeEvent change : params.getContentChanges()) {
+				document = document.change(change.getRange(), change.getText(), version);
+			}
+			return document;
+		});
+		scheduleAnalysis(uri, ANALYSIS_DELAY);
+	}
+
+	@Override
+	public void didClose(DidCloseTextDocumentParams params) {
+		String uri = params.getTextDocument().getUri();
+		this.documents.remove(uri);
+		ScheduledFuture<?> pending = this.pendingAnalyses.remove(uri);
+		if (pending != null) {
+			pending.cancel(false);
+		}
+		this.executor.execute(() -> publish(uri, Collections.emptyList()));
+	}
+
+	@Override
+	public void didSave(DidSaveTextDocumentParams params) {
+		changed(Collections.singletonList(toPath(params.getTextDocument().getUri())));
+	}
+
+	/**
+	 * Analyzes the given files, which have changed on disk, and the files that depend
+	 * upon them again.
+	 *
+	 * @param files the files that have changed
+	 */
+	void changed(List<Path> files) {
+		this.executor.execute(() -> run(() -> analyzeChanged(files)));
+	}
+
+	private void scheduleAnalysis(String uri, long delay) {
+		ScheduledFuture<?> analysis = this.executor
+				.schedule(() -> run(() -> analyze(uri)), delay, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> previous = this.pendingAnalyses.put(uri, analysis);
+		if (previous != null) {
+			previous.cancel(false);
+		}
+	}
+
+	private void run(Runnable analysis) {
+		try {
+			analysis.run();
+		}
+		catch (RuntimeException ex) {
+			StringWriter stackTrace = new StringWriter();
+			ex.printStackTrace(new PrintWriter(stackTrace));
+			LanguageClient client = this.client;
+			if (client != null) {
+				client.logMessage(new MessageParams(MessageType.Error,
+						"Analysis failed: " + stackTrace));
+			}
+		}
+	}
+
+	private void analyze(String uri) {
+		TextDocument document = this.documents.get(uri);
+		if (document == null || this.analyzer == null) {
+			return;
+		}
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		this.analyzer.analyze(document.getFile(), document.getText(), (problem) -> {
+			if (!this.baseline.contains(problem.getFingerprint())) {
+				diagnostics.add(toDiagnostic(problem, document));
+			}
+		});
+		publish(uri, diagnostics);
+	}
+
+	private void analyzeChanged(List<Path> changed) {
+		if (this.analyzer == null) {
+			return;
+		}
+		Map<Path, String> open = new LinkedHashMap<>();
+		for (Map.Entry<String, TextDocument> entry : this.documents.entrySet()) {
+			open.put(entry.getValue().getFile(), entry.getKey());
+		}
+		List<Path> closed = new ArrayList<>();
+		for (Path file : this.analyzer.changed(changed)) {
+			if (open.containsKey(file)) {
+				analyze(open.get(file));
+			}
+			else {
+				closed.add(file);
+			}
+		}
+		analyzeClosed(closed);
+	}
+
+	private void analyzeClosed(Collection<Path> files) {
+		Map<Path, List<ReportedProblem>> problems = new LinkedHashMap<>();
+		for (Path file : files) {
+			problems.put(file, new ArrayList<>());
+		}
+		this.analyzer.analyze(new ArrayList<>(files), (problem) -> {
+			if (!this.baseline.contains(problem.getFingerprint())) {
+				problems.computeIfAbsent(
+						problem.getFile().toAbsolutePath().normalize(),
+						(file) -> new ArrayList<>()).add(problem);
+			}
+		});
+		for (Map.Entry<Path, List<ReportedProblem>> entry : problems.entrySet()) {
+			Path file = entry.getKey();
+			List<Diagnostic> diagnostics = new ArrayList<>();
+			if (!entry.getValue().isEmpty()) {
+				TextDocument document = new TextDocument(file, 0, readSource(file));
+				for (ReportedProblem problem : entry.getValue()) {
+					diagnostics.add(toDiagnostic(problem, document));
+				}
+			}
+			publish(file.toUri().toString(), diagnostics);
+		}
+	}
+
+	private String readSource(Path file) {
+		try {
+			// The analyzer reads files using the default encoding
+			return new String(Files.readAllBytes(file), Charset.defaultCharset());
+		}
+		catch (IOException ex) {
+			return "";
+		}
+	}
+
+	private Diagnostic toDiagnostic(ReportedProblem problem, TextDocument document) {
+		int start = Math.max(problem.getStartPosition(), 0);
+		int end = (problem.getStartPosition() >= 0) ? start + problem.getLength() : 0;
+		return new Diagnostic(
+				new Range(document.getPosition(start), document.getPosition(end)),
+				problem.getMessage(),
+				(problem.getSeverity() == Severity.ERROR) ? DiagnosticSeverity.Error
+						: DiagnosticSeverity.Warning,
+				DIAGNOSTIC_SOURCE, Integer.toString(problem.getProblem().getId()));
+	}
+
+	private void publish(String uri, List<Diagnostic> diagnostics) {
+		LanguageClient client = this.client;
+		if (client != null) {
+			client.publishDiagnostics(new PublishDiagnosticsParams(uri, diagnostics));
+		}
+	}
+
+	@Override
+	public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(
+			CodeActionParams params) {
+		return CompletableFuture.supplyAsync(() -> codeActions(params), this.executor);
+	}
+
+	private List<Either<Command, CodeAction>> codeActions(CodeActionParams params) {
+		String uri = params.getTextDocument().getUri();
+		TextDocument document = this.documents.get(uri);
+		List<Either<Command, CodeAction>> actions = new ArrayList<>();
+		if (document == null || this.analyzer == null) {
+			return actions;
+		}
+		AnalysisContext context = this.analyzer.getContext(document.getFile());
+		for (Diagnostic diagnostic : params.getContext().getDiagnostics()) {
+			for (Fix fix : findFixes(diagnostic)) {
+				// Each fix modifies the compilation unit so it cannot be shared
+				CompilationUnit compilationUnit = this.analyzer.parse(document.getFile(),
+						document.getText());
+				int start = document.getOffset(diagnostic.getRange().getStart());
+				int end = document.getOffset(diagnostic.getRange().getEnd());
+				org.eclipse.text.edits.TextEdit edit = fix.apply(compilationUnit,
+						document.getText(),
+						Collections.singletonList(new SourceRange(start, end - start)),
+						context);
+				if (edit != null) {
+					CodeAction action = new CodeAction(fix.getLabel());
+					action.setKind(CodeActionKind.QuickFix);
+					action.setDiagnostics(Collections.singletonList(diagnostic));
+					action.setEdit(new WorkspaceEdit(
+							Collections.singletonMap(uri, toTextEdits(edit, document))));
+					actions.add(Either.forRight(action));
+				}
+			}
+		}
+		return actions;
+	}
+
+	private List<Fix> findFixes(Diagnostic diagnostic) {
+		if (!DIAGNOSTIC_SOURCE.equals(diagnostic.getSource())
+				|| diagnostic.getCode() == null) {
+			return Collections.emptyList();
+		}
+		try {
+			return Fixes.forProblem(
+					Problem.valueOf(Integer.parseInt(diagnostic.getCode())));
+		}
+		catch (IllegalArgumentException ex) {
+			// Not the id of a problem, perhaps because the client has changed the code
+			return Collections.emptyList();
+		}
+	}
+
+	private List<TextEdit> toTextEdits(org.eclipse.text.edits.TextEdit edit,
+			TextDocument document) {
+		List<TextEdit> textEdits = new ArrayList<>();
+		if (flatten(edit, document, textEdits)) {
+			return textEdits;
+		}
+		// Edits such as moves cannot be expressed individually so replace everything
+		Document result = new Document(document.getText());
+		try {
+			edit.apply(result);
+		}
+		catch (MalformedTreeException | BadLocationException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return Collections.singletonList(new TextEdit(
+				new Range(document.getPosition(0),
+						document.getPosition(document.getText().length())),
+				result.get()));
+	}
+
+	private boolean flatten(org.eclipse.text.edits.TextEdit edit, TextDocument document,
+			List<TextEdit> textEdits) {
+		if (edit instanceof MultiTextEdit) {
+			for (org.eclipse.text.edits.TextEdit child : edit.getChildren()) {
+				if (!flatten(child, document, textEdits)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		String text;
+		if (edit instanceof ReplaceEdit) {
+			text = ((ReplaceEdit) edit).getText();
+		}
+		else if (edit instanceof InsertEdit) {
+			text = ((InsertEdit) edit).getText();
+		}
+		else if (edit instanceof DeleteEdit) {
+			text = "";
+		}
+		else {
+			return false;
+		}
+		if (edit.hasChildren()) {
+			return false;
+		}
+		textEdits.add(new TextEdit(new Range(document.getPosition(edit.getOffset()),
+				document.getPosition(edit.getExclusiveEnd())), text));
+		return true;
+	}
+
+	static Path toPath(String uri) {
+		return Paths.get(URI.create(uri)).toAbsolutePath().normalize();
+	}
+
+}
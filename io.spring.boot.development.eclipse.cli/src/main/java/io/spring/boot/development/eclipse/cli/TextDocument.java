@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.cli;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * An immutable snapshot of a document that is open in a language client. Positions are
+ * converted to and from offsets using the start offset of each line. Both the Language
+ * Server Protocol and {@link String} count characters in UTF-16 code units so no other
+ * conversion is necessary.
+ *
+ * @author Andy Wilkinson
+ */
+final class TextDocument {
+
+	private final Path file;
+
+	private final int version;
+
+	private final String text;
+
+	private final int[] lineStarts;
+
+	/**
+	 * Creates a new {@code TextDocument}.
+	 *
+	 * @param file the file of the document
+	 * @param version the version of the document
+	 * @param text the text of the document
+	 */
+	TextDocument(Path file, int version, String text) {
+		this.file = file;
+		this.version = version;
+		this.text = text;
+		this.lineStarts = findLineStarts(text);
+	}
+
+	private static int[] findLineStarts(String text) {
+		int[] lineStarts = new int[16];
+		int lines = 1;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || (c == '\r' && (i + 1 == text.length()
+					|| text.charAt(i + 1) != '\n'))) {
+				if (lines == lineStarts.length) {
+					lineStarts = Arrays.copyOf(lineStarts, lines * 2);
+				}
+				lineStarts[lines++] = i + 1;
+			}
+		}
+		return Arrays.copyOf(lineStarts, lines);
+	}
+
+	Path getFile() {
+		return this.file;
+	}
+
+	int getVersion() {
+		return this.version;
+	}
+
+	String getText() {
+		return this.text;
+	}
+
+	/**
+	 * Returns a new version of this document with the given {@code text} replacing the
+	 * given {@code range}. When the range is {@code null}, the text replaces the whole
+	 * document.
+	 *
+	 * @param range the range that has changed or {@code null}
+	 * @param text the new text of the range
+	 * @param version the version of the changed document
+	 * @return the changed document
+	 */
+	TextDocument change(Range range, String text, int version) {
+		if (range == null) {
+			return new TextDocument(this.file, version, text);
+		}
+		int start = getOffset(range.getStart());
+		int end = getOffset(range.getEnd());
+		return new TextDocument(this.file, version, new StringBuilder(
+				this.text.length() - (end - start) + text.length())
+						.append(this.text, 0, start).append(text)
+						.append(this.text, end, this.text.length()).toString());
+	}
+
+	/**
+	 * Returns the offset of the given {@code position}, clamped to the bounds of the
+	 * document.
+	 *
+	 * @param position the position
+	 * @return the offset
+	 */
+	int getOffset(Position position) {
+		int line = Math.max(0, Math.min(position.getLine(), this.lineStarts.length - 1));
+		int lineEnd = (line + 1 < this.lineStarts.length) ? this.lineStarts[line + 1]
+				: this.text.length();
+		return Math.min(this.lineStarts[line] + Math.max(position.getCharacter(), 0),
+				lineEnd);
+	}
+
+	/**
+	 * Returns the position of the given {@code offset}.
+	 *
+	 * @param offset the offset
+	 * @return the position
+	 */
+	Position getPosition(int offset) {
+		int clamped = Math.max(0, Math.min(offset, this.text.length()));
+		int line = Arrays.binarySearch(this.lineStarts, clamped);
+		if (line < 0) {
+			line = -line - 2;
+		}
+		return new Position(line, clamped - this.lineStarts[line]);
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Emits events that describe the phases of a build, such as parsing a file or running a
+ * rule, so that they can be seen alongside the JVM's own events in a profiler. Events
+ * are emitted to Java Flight Recorder when the
+ * {@code io.spring.boot.development.eclipse.jfr} fragment is installed and the JVM
+ * supports it. Otherwise, and when Flight Recorder is not recording, spans do nothing.
+ *
+ * @author Andy Wilkinson
+ */
+abstract class AnalysisEvents {
+
+	private static final String FLIGHT_RECORDER_EVENTS = "io.spring.boot.development"
+			+ ".eclipse.FlightRecorderAnalysisEvents";
+
+	private static final AnalysisEvents instance = create();
+
+	/**
+	 * Returns the events to which the builder should emit.
+	 *
+	 * @return the events
+	 */
+	static AnalysisEvents get() {
+		return instance;
+	}
+
+	/**
+	 * Begins a span for a build of the given {@code project}.
+	 *
+	 * @param project the project
+	 * @param kind the kind of the build
+	 * @return the span
+	 */
+	abstract Span build(IProject project, int kind);
+
+	/**
+	 * Begins a span for parsing and binding a file. The file is identified when the span
+	 * is closed as the parser does not report which file it is working on until it has
+	 * finished.
+	 *
+	 * @return the span
+	 */
+	abstract FileSpan parse();
+
+	/**
+	 * Begins a span for running the given {@code visitor} over the given
+	 * {@code resource}.
+	 *
+	 * @param resource the resource
+	 * @param visitor the visitor
+	 * @return the span
+	 */
+	abstract Span visit(IResource resource, ASTVisitor visitor);
+
+	/**
+	 * Begins a span for writing the marker of a {@code problem} on the given
+	 * {@code resource}.
+	 *
+	 * @param resource the resource
+	 * @param problem the problem
+	 * @return the span
+	 */
+	abstract Span markerWrite(IResource resource, Problem problem);
+
+	private static AnalysisEvents create() {
+		try {
+			return (AnalysisEvents) Class
+					.forName(FLIGHT_RECORDER_EVENTS, true,
+							AnalysisEvents.class.getClassLoader())
+					.getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | LinkageError ex) {
+			// Fragment is not installed or Flight Recorder is unavailable
+			return new NoOpAnalysisEvents();
+		}
+	}
+
+	/**
+	 * A span of time during a build. A span is emitted when it is closed.
+	 */
+	interface Span extends AutoCloseable {
+
+		@Override
+		void close();
+
+	}
+
+	/**
+	 * A span of time during a build that is spent working on a file that is identified
+	 * when the span is closed.
+	 */
+	interface FileSpan {
+
+		void close(IResource resource);
+
+	}
+
+	private static final class NoOpAnalysisEvents extends AnalysisEvents {
+
+		private static final NoOpSpan NO_OP = new NoOpSpan();
+
+		@Override
+		Span build(IProject project, int kind) {
+			return NO_OP;
+		}
+
+		@Override
+		FileSpan parse() {
+			return NO_OP;
+		}
+
+		@Override
+		Span visit(IResource resource, ASTVisitor visitor) {
+			return NO_OP;
+		}
+
+		@Override
+		Span markerWrite(IResource resource, Problem problem) {
+			return NO_OP;
+		}
+
+	}
+
+	private static final class NoOpSpan implements Span, FileSpan {
+
+		@Override
+		public void close() {
+
+		}
+
+		@Override
+		public void close(IResource resource) {
+
+		}
+
+	}
+
+}
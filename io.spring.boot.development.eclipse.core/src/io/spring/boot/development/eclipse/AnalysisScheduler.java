@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Schedules the parsing of compilation units in batches whose size is bounded by the
+ * memory that their ASTs are expected to require. The memory required by an AST is
+ * estimated from the size of its source file. The total estimated size of the ASTs
+ * that are in flight at any one time is capped at a fraction of the maximum heap and
+ * batches, and the number of workers that analyze them, shrink as heap headroom, as
+ * reported by the {@link MemoryMXBean}, falls.
+ *
+ * @author Andy Wilkinson
+ */
+final class AnalysisScheduler {
+
+	private static final int AST_BYTES_PER_SOURCE_BYTE = 40;
+
+	private static final long DEFAULT_SOURCE_SIZE = 16 * 1024;
+
+	private static final int MAX_HEAP_DIVISOR = 4;
+
+	private static final int HEADROOM_DIVISOR = 2;
+
+	private static final long KILOBYTE = 1024;
+
+	private static final long WORKER_HEADROOM = 128 * KILOBYTE * KILOBYTE;
+
+	private final MemoryMXBean memory;
+
+	private final int capacity;
+
+	private final Semaphore inFlight;
+
+	AnalysisScheduler() {
+		this(ManagementFactory.getMemoryMXBean());
+	}
+
+	AnalysisScheduler(MemoryMXBean memory) {
+		this.memory = memory;
+		this.capacity = (int) Math.min(Integer.MAX_VALUE,
+				getMaxHeap() / MAX_HEAP_DIVISOR / KILOBYTE);
+		this.inFlight = new Semaphore(this.capacity, true);
+	}
+
+	/**
+	 * Estimates the number of bytes that will be required by the AST and bindings of
+	 * the given compilation unit {@code resource}.
+	 *
+	 * @param resource the compilation unit resource
+	 * @return the estimated size in bytes
+	 */
+	long estimateAstSize(IResource resource) {
+		IPath location = resource.getLocation();
+		long sourceSize = (location != null) ? location.toFile().length() : 0;
+		return ((sourceSize > 0) ? sourceSize : DEFAULT_SOURCE_SIZE)
+				* AST_BYTES_PER_SOURCE_BYTE;
+	}
+
+	/**
+	 * Returns the number of workers that should be used to analyze compilation units
+	 * concurrently. The count falls as heap headroom falls and is never less than one
+	 * or more than the number of available processors.
+	 *
+	 * @return the number of workers
+	 */
+	int getWorkerCount() {
+		long headroom = getMaxHeap() - this.memory.getHeapMemoryUsage().getUsed();
+		return (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+				headroom / WORKER_HEADROOM));
+	}
+
+	/**
+	 * Removes the next batch of resources from the given {@code pending} resources,
+	 * synchronizing on {@code pending} while doing so. Blocks until the estimated size of
+	 * the batch's ASTs is available within the cap on the size of the ASTs that are in
+	 * flight. A batch always contains at least one resource. The returned batch must be
+	 * {@link Batch#close() closed} once all of its compilation units have been reported.
+	 *
+	 * @param pending the pending resources
+	 * @param monitor the monitor used to check for cancellation while waiting
+	 * @return the next batch or {@code null} if no resources are pending
+	 */
+	Batch nextBatch(Deque<IResource> pending, IProgressMonitor monitor) {
+		long limit = getBatchLimit();
+		List<IResource> resources = new ArrayList<>();
+		long size = 0;
+		synchronized (pending) {
+			while (!pending.isEmpty()) {
+				long estimate = estimateAstSize(pending.peek());
+				if (!resources.isEmpty() && size + estimate > limit) {
+					break;
+				}
+				resources.add(pending.poll());
+				size += estimate;
+			}
+		}
+		if (resources.isEmpty()) {
+			return null;
+		}
+		int permits = (int) Math.max(1,
+				Math.min(this.capacity, (size + KILOBYTE - 1) / KILOBYTE));
+		acquire(permits, monitor);
+		return new Batch(resources, permits);
+	}
+
+	private long getBatchLimit() {
+		MemoryUsage heap = this.memory.getHeapMemoryUsage();
+		long headroom = getMaxHeap() - heap.getUsed();
+		return Math.max(0,
+				Math.min(this.capacity * KILOBYTE, headroom / HEADROOM_DIVISOR));
+	}
+
+	private long getMaxHeap() {
+		long max = this.memory.getHeapMemoryUsage().getMax();
+		return (max > 0) ? max : Runtime.getRuntime().maxMemory();
+	}
+
+	private void acquire(int permits, IProgressMonitor monitor) {
+		try {
+			while (!this.inFlight.tryAcquire(permits, 100, TimeUnit.MILLISECONDS)) {
+				if (monitor != null && monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * A batch of resources whose ASTs are in flight.
+	 */
+	final class Batch implements AutoCloseable {
+
+		private final List<IResource> resources;
+
+		private final int permits;
+
+		private Batch(List<IResource> resources, int permits) {
+			this.resources = Collections.unmodifiableList(resources);
+			this.permits = permits;
+		}
+
+		List<IResource> getResources() {
+			return this.resources;
+		}
+
+		@Override
+		public void close() {
+			AnalysisScheduler.this.inFlight.release(this.permits);
+		}
+
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.Baseline;
+import org.eclipse.core.resources.ICommand;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Manages the {@link Baseline baselines} of projects. A project's baseline is read from
+ * the {@value Baseline#FILE_NAME} file in its root and cached until the file's
+ * modification stamp changes. Problems that are in a project's baseline do not create
+ * markers. A baseline file that cannot be read is treated as an empty baseline, the
+ * failure is logged, and a {@link #MARKER_TYPE marker} is created on the file.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Baselines {
+
+	/**
+	 * The type of the marker that is created on a baseline file that cannot be read. It
+	 * is distinct from {@link StandardProblemReporter#MARKER_TYPE} so that it is not
+	 * deleted when a project is built.
+	 */
+	static final String MARKER_TYPE = "io.spring.boot.development.eclipse.baseline";
+
+	private static final Map<IProject, CachedBaseline> baselines = new ConcurrentHashMap<>();
+
+	private static final Map<IProject, Baseline.Builder> recorders = new ConcurrentHashMap<>();
+
+	private Baselines() {
+
+	}
+
+	/**
+	 * Returns the baseline of the given {@code project}.
+	 *
+	 * @param project the project
+	 * @return the baseline
+	 */
+	static Baseline get(IProject project) {
+		IFile file = project.getFile(Baseline.FILE_NAME);
+		long modificationStamp = file.getModificationStamp();
+		CachedBaseline cached = baselines.get(project);
+		if (cached != null && cached.modificationStamp == modificationStamp) {
+			return cached.baseline;
+		}
+		Baseline baseline = read(file);
+		baselines.put(project, new CachedBaseline(modificationStamp, baseline));
+		return baseline;
+	}
+
+	/**
+	 * Returns whether the cached baseline of the given {@code project} is up to date
+	 * with its file. When it is not, problems that were reported against the previous
+	 * baseline may be incorrect.
+	 *
+	 * @param project the project
+	 * @return {@code true} if the baseline is current, otherwise {@code false}
+	 */
+	static boolean isCurrent(IProject project) {
+		CachedBaseline cached = baselines.get(project);
+		return cached == null || cached.modificationStamp == project
+				.getFile(Baseline.FILE_NAME).getModificationStamp();
+	}
+
+	/**
+	 * Returns the builder that is recording the problems of the given {@code project}
+	 * while its baseline is regenerated, or {@code null} if it is not being
+	 * regenerated.
+	 *
+	 * @param project the project
+	 * @return the recording builder or {@code null}
+	 */
+	static Baseline.Builder getRecorder(IProject project) {
+		return recorders.get(project);
+	}
+
+	/**
+	 * Regenerates the baseline of the given {@code project} so that it contains every
+	 * problem that is currently reported. The project is analyzed once with its problems
+	 * being recorded rather than creating markers. The caller should hold a scheduling
+	 * rule for the project.
+	 *
+	 * @param project the project
+	 * @param monitor the monitor to report progress to
+	 * @return the number of problems in the regenerated baseline
+	 * @throws CoreException if the baseline cannot be regenerated
+	 */
+	public static int regenerate(IProject project, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor,
+				"Regenerating baseline of " + project.getName(), 10);
+		Baseline.Builder builder = new Baseline.Builder();
+		recorders.put(project, builder);
+		try {
+			project.deleteMarkers(StandardProblemReporter.MARKER_TYPE, true,
+					IResource.DEPTH_INFINITE);
+			List<IResource> resources = new ArrayList<>();
+			project.accept(resources::add);
+			Map<String, String> arguments = getBuilderArguments(project);
+			List<ResourceAnalyzer> analyzers = SpringBootDevelopmentBuilder
+					.createAnalyzers(arguments, AnalysisMetrics.disabled(),
+							new SlowestFiles(0));
+			List<IResource> included = SpringBootDevelopmentBuilder.exclude(resources,
+					SpringBootDevelopmentBuilder.getExcludes(arguments));
+			SubMonitor analysisMonitor = subMonitor.split(9)
+					.setWorkRemaining(analyzers.size());
+			for (ResourceAnalyzer analyzer : analyzers) {
+				analyzer.analyze(included, analysisMonitor.split(1));
+			}
+		}
+		finally {
+			recorders.remove(project);
+		}
+		Baseline baseline = builder.build();
+		IFile file = project.getFile(Baseline.FILE_NAME);
+		write(builder, file, subMonitor.split(1));
+		file.deleteMarkers(MARKER_TYPE, false, IResource.DEPTH_ZERO);
+		baselines.put(project,
+				new CachedBaseline(file.getModificationStamp(), baseline));
+		return baseline.size();
+	}
+
+	private static Map<String, String> getBuilderArguments(IProject project)
+			throws CoreException {
+		for (ICommand command : project.getDescription().getBuildSpec()) {
+			String builderName = command.getBuilderName();
+			if (SpringBootDevelopmentBuilder.BUILDER_ID.equals(builderName)) {
+				return command.getArguments();
+			}
+		}
+		return null;
+	}
+
+	private static Baseline read(IFile file) {
+		if (!file.exists()) {
+			return Baseline.empty();
+		}
+		Baseline baseline;
+		String failure = null;
+		try {
+			baseline = Baseline.read(file.getContents(true));
+		}
+		catch (CoreException | IOException ex) {
+			SpringBootDevelopmentPlugin.logWarning(
+					"Failed to read baseline " + file.getFullPath(), ex);
+			baseline = Baseline.empty();
+			failure = ex.getMessage();
+		}
+		mark(file, failure);
+		return baseline;
+	}
+
+	private static void mark(IFile file, String failure) {
+		try {
+			file.deleteMarkers(MARKER_TYPE, false, IResource.DEPTH_ZERO);
+			if (failure != null) {
+				IMarker marker = file.createMarker(MARKER_TYPE);
+				marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+				marker.setAttribute(IMarker.MESSAGE, "Baseline could not be read so "
+						+ "no problems are accepted: " + failure);
+			}
+		}
+		catch (CoreException ex) {
+			SpringBootDevelopmentPlugin.logWarning(
+					"Failed to update the markers of baseline " + file.getFullPath(),
+					ex);
+		}
+	}
+
+	private static void write(Baseline.Builder builder, IFile file,
+			IProgressMonitor monitor) throws CoreException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (Writer writer = new OutputStreamWriter(content, StandardCharsets.UTF_8)) {
+			builder.write(writer);
+		}
+		catch (IOException ex) {
+			throw new CoreException(new Status(IStatus.ERROR,
+					"io.spring.boot.development.eclipse.core",
+					"Failed to write baseline " + file.getFullPath(), ex));
+		}
+		ByteArrayInputStream input = new ByteArrayInputStream(content.toByteArray());
+		if (file.exists()) {
+			file.setContents(input, IResource.FORCE | IResource.KEEP_HISTORY, monitor);
+		}
+		else {
+			file.create(input, IResource.FORCE, monitor);
+		}
+	}
+
+	private static final class CachedBaseline {
+
+		private final long modificationStamp;
+
+		private final Baseline baseline;
+
+		private CachedBaseline(long modificationStamp, Baseline baseline) {
+			this.modificationStamp = modificationStamp;
+			this.baseline = baseline;
+		}
+
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.spring.boot.development.eclipse.SlowestFiles.FileCost;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.StepMetrics;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Holds the {@link AnalysisMetrics} and {@link SlowestFiles slowest files} of the most
+ * recent build of each project and notifies listeners when a build's metrics are
+ * published. The slowest files of each build are also written to a report in the
+ * plugin's state location.
+ *
+ * @author Andy Wilkinson
+ */
+public final class BuildMetrics {
+
+	private static final Map<String, Build> builds = new ConcurrentHashMap<>();
+
+	private static final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+	private BuildMetrics() {
+
+	}
+
+	static void publish(IProject project, AnalysisMetrics metrics,
+			SlowestFiles slowestFiles) {
+		Build build = new Build(project.getName(), System.currentTimeMillis(),
+				metrics.getSteps(), slowestFiles.getFiles());
+		builds.put(project.getName(), build);
+		writeSlowestFilesReport(build);
+		for (Runnable listener : listeners) {
+			listener.run();
+		}
+	}
+
+	private static void writeSlowestFilesReport(Build build) {
+		Path report = getSlowestFilesReport(build.getProject());
+		try {
+			Files.createDirectories(report.getParent());
+			try (Writer writer = Files.newBufferedWriter(report,
+					StandardCharsets.UTF_8)) {
+				writeSlowestFilesCsv(build, writer);
+			}
+		}
+		catch (IOException ex) {
+			SpringBootDevelopmentPlugin.logWarning(
+					"Failed to write slowest files report to " + report, ex);
+		}
+	}
+
+	/**
+	 * Returns the location, in the plugin's state location, of the report of the
+	 * slowest files of the most recent build of the given {@code project}.
+	 *
+	 * @param project the name of the project
+	 * @return the location of the report
+	 */
+	public static Path getSlowestFilesReport(String project) {
+		Bundle bundle = FrameworkUtil.getBundle(BuildMetrics.class);
+		return Platform.getStateLocation(bundle).toFile().toPath()
+				.resolve("slowest-files").resolve(project + ".csv");
+	}
+
+	/**
+	 * Returns the most recent build of each project, ordered by project name.
+	 *
+	 * @return the builds
+	 */
+	public static List<Build> getBuilds() {
+		List<Build> result = new ArrayList<>(builds.values());
+		result.sort(Comparator.comparing(Build::getProject));
+		return result;
+	}
+
+	/**
+	 * Adds a listener that is called, on the building thread, whenever a build's
+	 * metrics are published.
+	 *
+	 * @param listener the listener
+	 */
+	public static void addListener(Runnable listener) {
+		listeners.add(listener);
+	}
+
+	public static void removeListener(Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Writes the metrics of the most recent build of each project to the given
+	 * {@code writer} as CSV with one row per project and step. Times are in
+	 * milliseconds.
+	 *
+	 * @param writer the writer
+	 * @throws IOException if the metrics cannot be written
+	 */
+	public static void writeCsv(Writer writer) throws IOException {
+		writer.write("project,step,count,wall_ms,cpu_ms,allocated_bytes\n");
+		for (Build build : getBuilds()) {
+			for (StepMetrics step : build.getSteps()) {
+				writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%d%n",
+						quote(build.getProject()), quote(step.getStep()), step.getCount(),
+						step.getWallTime() / 1e6, step.getCpuTime() / 1e6,
+						step.getAllocatedBytes()));
+			}
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Writes the slowest files of the given {@code build} to the given {@code writer} as
+	 * CSV with a row for the total time of each file followed by a row for each of its
+	 * steps. Times are in milliseconds.
+	 *
+	 * @param build the build
+	 * @param writer the writer
+	 * @throws IOException if the slowest files cannot be written
+	 */
+	public static void writeSlowestFilesCsv(Build build, Writer writer)
+			throws IOException {
+		writer.write("file,step,ms\n");
+		for (FileCost file : build.getSlowestFiles()) {
+			String path = quote(file.getPath());
+			writer.write(String.format(Locale.ROOT, "%s,Total,%.3f%n", path,
+					file.getTotalTime() / 1e6));
+			for (Map.Entry<String, Long> step : file.getSteps().entrySet()) {
+				writer.write(String.format(Locale.ROOT, "%s,%s,%.3f%n", path,
+						quote(step.getKey()), step.getValue() / 1e6));
+			}
+		}
+		writer.flush();
+	}
+
+	private static String quote(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+			return value;
+		}
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	 * The metrics of a project's build.
+	 */
+	public static final class Build {
+
+		private final String project;
+
+		private final long completedAt;
+
+		private final List<StepMetrics> steps;
+
+		private final List<FileCost> slowestFiles;
+
+		private Build(String project, long completedAt, List<StepMetrics> steps,
+				List<FileCost> slowestFiles) {
+			this.project = project;
+			this.completedAt = completedAt;
+			this.steps = steps;
+			this.slowestFiles = slowestFiles;
+		}
+
+		public String getProject() {
+			return this.project;
+		}
+
+		/**
+		 * Returns the time at which the build completed in milliseconds since the
+		 * epoch.
+		 *
+		 * @return the completion time
+		 */
+		public long getCompletedAt() {
+			return this.completedAt;
+		}
+
+		/**
+		 * Returns the totals of each step of the build, most expensive first.
+		 *
+		 * @return the steps
+		 */
+		public List<StepMetrics> getSteps() {
+			return this.steps;
+		}
+
+		/**
+		 * Returns the most expensive files of the build, most expensive first.
+		 *
+		 * @return the slowest files
+		 */
+		public List<FileCost> getSlowestFiles() {
+			return this.slowestFiles;
+		}
+
+	}
+
+}
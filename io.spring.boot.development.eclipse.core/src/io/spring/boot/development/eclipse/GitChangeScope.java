@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.spring.boot.development.eclipse.analysis.GitChanges;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+/**
+ * Finds the resources of a project that have changed since a base revision, according
+ * to the project's local git repository, and the resources that reference the types
+ * that they declare. References are found using JDT's search index so that no
+ * compilation units need to be parsed. The command-line launcher has no search index
+ * so it approximates references by searching the source of each file for the names of
+ * the changed types.
+ *
+ * @author Andy Wilkinson
+ */
+final class GitChangeScope {
+
+	private final IProject project;
+
+	private final String base;
+
+	GitChangeScope(IProject project, String base) {
+		this.project = project;
+		this.base = base;
+	}
+
+	/**
+	 * Returns the resources that are in scope. The folders that contain the changed
+	 * files are included.
+	 *
+	 * @param monitor the monitor to report progress to
+	 * @return the resources that are in scope
+	 * @throws CoreException if the changed files cannot be determined
+	 */
+	List<IResource> findResources(IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		Set<IResource> resources = new LinkedHashSet<>();
+		List<IJavaElement> changedTypes = new ArrayList<>();
+		for (Path changedFile : getChangedFiles()) {
+			IPath path = toProjectRelativePath(changedFile);
+			IFile file = (path != null) ? this.project.getFile(path) : null;
+			if (file == null || !file.exists()) {
+				continue;
+			}
+			resources.add(file);
+			resources.add(file.getParent());
+			IJavaElement javaElement = JavaCore.create(file);
+			if (javaElement instanceof ICompilationUnit) {
+				for (IType type : ((ICompilationUnit) javaElement).getTypes()) {
+					changedTypes.add(type);
+				}
+			}
+		}
+		subMonitor.worked(1);
+		if (!changedTypes.isEmpty()) {
+			resources.addAll(findReferences(changedTypes, subMonitor.split(1)));
+		}
+		return new ArrayList<>(resources);
+	}
+
+	private Set<Path> getChangedFiles() throws CoreException {
+		IPath location = this.project.getLocation();
+		if (location == null) {
+			return new LinkedHashSet<>();
+		}
+		try {
+			return new GitChanges(location.toFile().toPath()).getChangedFiles(this.base);
+		}
+		catch (IOException ex) {
+			throw new CoreException(new Status(IStatus.ERROR,
+					"io.spring.boot.development.eclipse.core",
+					"Failed to find the files that have changed since " + this.base,
+					ex));
+		}
+	}
+
+	private IPath toProjectRelativePath(Path changedFile) {
+		IPath location = org.eclipse.core.runtime.Path
+				.fromOSString(changedFile.toString());
+		IPath projectLocation = this.project.getLocation();
+		return projectLocation.isPrefixOf(location)
+				? location.makeRelativeTo(projectLocation) : null;
+	}
+
+	private Set<IResource> findReferences(List<IJavaElement> types,
+			IProgressMonitor monitor) throws CoreException {
+		SearchPattern pattern = null;
+		for (IJavaElement type : types) {
+			SearchPattern typePattern = SearchPattern.createPattern(type,
+					IJavaSearchConstants.REFERENCES);
+			pattern = (pattern != null)
+					? SearchPattern.createOrPattern(pattern, typePattern) : typePattern;
+		}
+		IJavaProject javaProject = JavaCore.create(this.project);
+		Set<IResource> references = new LinkedHashSet<>();
+		new SearchEngine().search(pattern,
+				new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				SearchEngine.createJavaSearchScope(new IJavaElement[] { javaProject },
+						IJavaSearchScope.SOURCES),
+				new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) {
+						if (match.getResource() != null) {
+							references.add(match.getResource());
+						}
+					}
+
+				}, monitor);
+		return references;
+	}
+
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import io.spring.boot.development.eclipse.AnalysisEvents.FileSpan;
+import io.spring.boot.development.eclipse.AnalysisEvents.Span;
+import io.spring.boot.development.eclipse.AnalysisScheduler.Batch;
+import io.spring.boot.development.eclipse.SlowestFiles.FileCost;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.Measurement;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.SuppressingProblemReporter;
+import io.spring.boot.development.eclipse.visitors.AstVisitors;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * A {@link ResourceAnalyzer} that analyzes Java source code.
+ * <p>
+ * Compilation units are parsed in batches that are sized by an
+ * {@link AnalysisScheduler}. Batches are analyzed concurrently by the
+ * {@link SpringBootBuildCoordinator coordinator's} workers. Each compilation unit is
+ * analyzed as soon as its AST has been created and no reference to the AST is retained
+ * once its problems have been reported. A binding-resolved AST refers to the lookup
+ * environment of its whole batch so retaining it would retain every other AST in the
+ * batch.
+ * <p>
+ * Analysis of each compilation unit, including parsing and binding it, is limited by a
+ * time budget. The parser sets up a batch of compilation units, parsing their
+ * declarations and binding their types, before it delivers the batch's first AST. The
+ * setup is not charged to the budget so the first compilation unit's budget starts
+ * when its AST is delivered. The budget and cancellation are checked as each AST node
+ * is visited. Once the budget has been exceeded, the running visitor is stopped, any
+ * visitors that have yet to run are skipped, and a warning is reported against the
+ * compilation unit.
+ * <p>
+ * When {@link AnalysisMetrics} are provided, the cost of each visitor and of parsing and
+ * binding each compilation unit is recorded on the worker that performs it. A
+ * compilation unit's parse and bind cost is the cost incurred by the parser between
+ * delivering the previous AST and delivering its AST. The cost incurred before the
+ * batch's first AST is delivered, which includes the batch's setup and cannot be
+ * divided between its compilation units, is recorded as a separate step. The same
+ * costs are emitted as {@link AnalysisEvents events}. The cost of each compilation
+ * unit, broken down by step, is offered to the build's {@link SlowestFiles}.
+ *
+ * @author Andy Wilkinson
+ */
+public class JavaSourceCodeAnalyzer implements ResourceAnalyzer {
+
+	static final String PARSE_STEP = "Parse and bind";
+
+	static final String READ_STEP = "Source reads";
+
+	static final String BATCH_SETUP_STEP = "Batch setup";
+
+	private final SpringBootBuildCoordinator coordinator;
+
+	private final long fileTimeBudget;
+
+	private final AnalysisMetrics metrics;
+
+	private final SlowestFiles slowestFiles;
+
+	private final AnalysisEvents events = AnalysisEvents.get();
+
+	/**
+	 * Creates a new {@code JavaSourceCodeAnalyzer} that will use the workspace's
+	 * {@link SpringBootBuildCoordinator} and that will allow the analysis of each
+	 * compilation unit to take up to {@code fileTimeBudget} milliseconds before skipping
+	 * expensive visitors.
+	 *
+	 * @param fileTimeBudget the time budget, in milliseconds, for each compilation unit
+	 */
+	public JavaSourceCodeAnalyzer(long fileTimeBudget) {
+		this(SpringBootBuildCoordinator.get(), fileTimeBudget, AnalysisMetrics.disabled(),
+				new SlowestFiles(0));
+	}
+
+	/**
+	 * Creates a new {@code JavaSourceCodeAnalyzer} that will use the given
+	 * {@code coordinator}, that will record the cost of the analysis in the given
+	 * {@code metrics}, and that will offer the cost of each compilation unit to the given
+	 * {@code slowestFiles}.
+	 *
+	 * @param coordinator the build coordinator
+	 * @param fileTimeBudget the time budget, in milliseconds, for each compilation unit
+	 * @param metrics the metrics to record to
+	 * @param slowestFiles the slowest files to offer each compilation unit's cost to
+	 */
+	JavaSourceCodeAnalyzer(SpringBootBuildCoordinator coordinator, long fileTimeBudget,
+			AnalysisMetrics metrics, SlowestFiles slowestFiles) {
+		this.coordinator = coordinator;
+		this.fileTimeBudget = fileTimeBudget;
+		this.metrics = metrics;
+		this.slowestFiles = slowestFiles;
+	}
+
+	@Override
+	public void analyze(List<IResource> resources, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, resources.size());
+		Deque<IResource> pending = new ArrayDeque<>();
+		for (IResource resource : resources) {
+			if (resource instanceof IFile && resource.getName().endsWith(".java")) {
+				pending.add(resource);
+			}
+		}
+		subMonitor.setWorkRemaining(pending.size());
+		IProgressMonitor workerMonitor = new NullProgressMonitor();
+		AtomicInteger analyzed = new AtomicInteger();
+		int workers = Math.min(this.coordinator.getScheduler().getWorkerCount(),
+				pending.size());
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < workers; i++) {
+			futures.add(this.coordinator.getExecutor().submit(
+					() -> analyzePending(pending, workerMonitor, analyzed)));
+		}
+		awaitWorkers(futures, subMonitor, workerMonitor, analyzed);
+	}
+
+	private void analyzePending(Deque<IResource> pending, IProgressMonitor monitor,
+			AtomicInteger analyzed) {
+		AnalysisScheduler scheduler = this.coordinator.getScheduler();
+		Batch batch;
+		while ((batch = scheduler.nextBatch(pending, monitor)) != null) {
+			try {
+				analyzeBatch(batch.getResources(), monitor, analyzed);
+			}
+			finally {
+				batch.close();
+			}
+		}
+	}
+
+	private void awaitWorkers(List<Future<?>> futures, SubMonitor subMonitor,
+			IProgressMonitor workerMonitor, AtomicInteger analyzed) {
+		int reported = 0;
+		RuntimeException failure = null;
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get(100, TimeUnit.MILLISECONDS);
+					break;
+				}
+				catch (TimeoutException ex) {
+					if (subMonitor.isCanceled()) {
+						workerMonitor.setCanceled(true);
+					}
+					int current = analyzed.get();
+					subMonitor.worked(current - reported);
+					reported = current;
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					workerMonitor.setCanceled(true);
+					throw new OperationCanceledException();
+				}
+				catch (ExecutionException ex) {
+					workerMonitor.setCanceled(true);
+					if (failure == null) {
+						failure = asRuntimeException(ex.getCause());
+					}
+					break;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		if (workerMonitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private RuntimeException asRuntimeException(Throwable ex) {
+		if (ex instanceof RuntimeException) {
+			return (RuntimeException) ex;
+		}
+		if (ex instanceof Error) {
+			throw (Error) ex;
+		}
+		return new IllegalStateException(ex);
+	}
+
+	private void analyzeBatch(List<IResource> resources, IProgressMonitor monitor,
+			AtomicInteger analyzed) {
+		List<ICompilationUnit> compilationUnits = new ArrayList<>();
+		for (IResource resource : resources) {
+			IJavaElement javaElement = JavaCore.create(resource);
+			if (javaElement instanceof ICompilationUnit) {
+				compilationUnits.add((ICompilationUnit) javaElement);
+			}
+		}
+		if (compilationUnits.isEmpty()) {
+			return;
+		}
+		ASTParser parser = ASTParser.newParser(AST.JLS11);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setProject(compilationUnits.get(0).getJavaProject());
+		parser.setResolveBindings(true);
+		Measurement[] parse = { this.metrics.start() };
+		FileSpan[] parseSpan = { this.events.parse() };
+		long[] parseStart = { System.nanoTime() };
+		boolean[] first = { true };
+		parser.createASTs(
+				compilationUnits.toArray(new ICompilationUnit[compilationUnits.size()]),
+				new String[0], new ASTRequestor() {
+
+					@Override
+					public void acceptAST(ICompilationUnit source,
+							CompilationUnit compilationUnit) {
+						// The parser sets up the whole batch before delivering its first
+						// AST so the setup is not charged to the first unit
+						long parseTime = 0;
+						long budgetStart = System.nanoTime();
+						if (first[0]) {
+							parse[0].stop(BATCH_SETUP_STEP);
+							first[0] = false;
+						}
+						else {
+							parseTime = parse[0].stop(PARSE_STEP);
+							parseSpan[0].close(source.getResource());
+							budgetStart = parseStart[0];
+						}
+						checkCanceled(monitor);
+						analyzeCompilationUnit(source, compilationUnit, parseTime,
+								budgetStart, monitor);
+						analyzed.incrementAndGet();
+						parse[0] = JavaSourceCodeAnalyzer.this.metrics.start();
+						parseSpan[0] = JavaSourceCodeAnalyzer.this.events.parse();
+						parseStart[0] = System.nanoTime();
+					}
+
+				}, monitor);
+	}
+
+	private void analyzeCompilationUnit(ICompilationUnit source,
+			CompilationUnit compilationUnit, long parseTime, long budgetStart,
+			IProgressMonitor monitor) {
+		IResource resource = source.getResource();
+		StandardProblemReporter problemReporter = new StandardProblemReporter(resource,
+				this.metrics);
+		FileCostRecorder cost = new FileCostRecorder(resource, compilationUnit,
+				problemReporter, parseTime);
+		AstVisitors visitors = new AstVisitors(new ResourceAnalysisContext(resource),
+				new SuppressingProblemReporter(problemReporter, compilationUnit,
+						() -> cost.readSource(source)),
+				this.coordinator.getTypeFacts());
+		TimeBudget budget = new TimeBudget(budgetStart, monitor);
+		visitors.stopWhen(budget);
+		int total = visitors.getStandardVisitors().size()
+				+ visitors.getExpensiveVisitors().size();
+		int run = 0;
+		for (ASTVisitor visitor : visitors) {
+			checkCanceled(monitor);
+			if (budget.isExceeded()) {
+				break;
+			}
+			cost.accept(visitor);
+			run++;
+		}
+		checkCanceled(monitor);
+		int incomplete = total - run + (budget.hasStoppedVisitor() ? 1 : 0);
+		if (incomplete > 0) {
+			problemReporter.warning(Problem.ANALYSIS_TIME_BUDGET_EXCEEDED,
+					this.fileTimeBudget, incomplete);
+		}
+		this.slowestFiles.offer(cost.finish());
+	}
+
+	private long accept(IResource resource, CompilationUnit compilationUnit,
+			ASTVisitor visitor) {
+		Measurement measurement = this.metrics.start();
+		Span span = this.events.visit(resource, visitor);
+		try {
+			compilationUnit.accept(visitor);
+		}
+		finally {
+			span.close();
+		}
+		return measurement.stop(visitor.getClass().getSimpleName());
+	}
+
+	private String getSource(ICompilationUnit compilationUnit) {
+		try {
+			return compilationUnit.getSource();
+		}
+		catch (JavaModelException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private void checkCanceled(IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * The time budget for the analysis of a compilation unit. It is used as the
+	 * condition that {@link AstVisitors#stopWhen(BooleanSupplier) stops} the visitors
+	 * and is met once the analysis has been cancelled or the budget has been exceeded.
+	 * To keep the cost of visiting each node low, it is only evaluated periodically.
+	 */
+	private final class TimeBudget implements BooleanSupplier {
+
+		private static final int CHECK_INTERVAL_MASK = 0x3F;
+
+		private final long deadline;
+
+		private final IProgressMonitor monitor;
+
+		private int checks;
+
+		private boolean stoppedVisitor;
+
+		private TimeBudget(long start, IProgressMonitor monitor) {
+			this.deadline = start + TimeUnit.MILLISECONDS
+					.toNanos(JavaSourceCodeAnalyzer.this.fileTimeBudget);
+			this.monitor = monitor;
+		}
+
+		@Override
+		public boolean getAsBoolean() {
+			if (!this.stoppedVisitor && (++this.checks & CHECK_INTERVAL_MASK) == 0) {
+				this.stoppedVisitor = this.monitor.isCanceled() || isExceeded();
+			}
+			return this.stoppedVisitor;
+		}
+
+		private boolean isExceeded() {
+			return System.nanoTime() - this.deadline > 0;
+		}
+
+		private boolean hasStoppedVisitor() {
+			return this.stoppedVisitor;
+		}
+
+	}
+
+	/**
+	 * Records the {@link FileCost cost} of analyzing a compilation unit. Reading the
+	 * source and writing markers happen while a visitor is running so their time is
+	 * excluded from the visitor's time and recorded separately.
+	 */
+	private final class FileCostRecorder {
+
+		private final FileCost cost;
+
+		private final IResource resource;
+
+		private final CompilationUnit compilationUnit;
+
+		private final StandardProblemReporter problemReporter;
+
+		private long readTime;
+
+		private FileCostRecorder(IResource resource, CompilationUnit compilationUnit,
+				StandardProblemReporter problemReporter, long parseTime) {
+			this.cost = new FileCost(resource.getProjectRelativePath().toString());
+			this.resource = resource;
+			this.compilationUnit = compilationUnit;
+			this.problemReporter = problemReporter;
+			this.cost.record(PARSE_STEP, parseTime);
+		}
+
+		private String readSource(ICompilationUnit source) {
+			Measurement measurement = JavaSourceCodeAnalyzer.this.metrics.start();
+			String content = getSource(source);
+			this.readTime += measurement.stop(READ_STEP);
+			return content;
+		}
+
+		private void accept(ASTVisitor visitor) {
+			long excluded = getExcludedTime();
+			long time = JavaSourceCodeAnalyzer.this.accept(this.resource,
+					this.compilationUnit, visitor);
+			this.cost.record(visitor.getClass().getSimpleName(),
+					time - (getExcludedTime() - excluded));
+		}
+
+		private long getExcludedTime() {
+			return this.readTime + this.problemReporter.getMarkerWriteTime();
+		}
+
+		private FileCost finish() {
+			this.cost.record(READ_STEP, this.readTime);
+			this.cost.record(StandardProblemReporter.MARKER_STEP,
+					this.problemReporter.getMarkerWriteTime());
+			return this.cost;
+		}
+
+	}
+
+}
@@ -12,13 +12,18 @@ package io.spring.boot.development.eclipse;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -29,11 +34,11 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
 /**
- * An {@link IResourceVisitor} that warns about missing {@code package-info.java} files.
+ * A {@link ResourceAnalyzer} that warns about missing {@code package-info.java} files.
  *
  * @author Andy Wilkinson
  */
-class MissingPackageInfoAnalyzer implements IResourceVisitor {
+public class MissingPackageInfoAnalyzer implements ResourceAnalyzer {
 
 	private static final Set<String> IGNORED_PROJECT_NAMES = Collections
 			.unmodifiableSet(new HashSet<>(Arrays.asList("spring-boot-maven-plugin",
@@ -42,12 +47,32 @@ class MissingPackageInfoAnalyzer implements IResourceVisitor {
 	private static final Set<String> IGNORED_PROJECT_NAME_PREFIXES = Collections
 			.unmodifiableSet(new HashSet<>(Arrays.asList("spring-boot-sample-")));
 
+	private final AnalysisMetrics metrics;
+
+	public MissingPackageInfoAnalyzer() {
+		this(AnalysisMetrics.disabled());
+	}
+
+	/**
+	 * Creates a new {@code MissingPackageInfoAnalyzer} that will record the cost of
+	 * writing markers in the given {@code metrics}.
+	 *
+	 * @param metrics the metrics to record to
+	 */
+	public MissingPackageInfoAnalyzer(AnalysisMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	@Override
-	public boolean visit(IResource resource) throws CoreException {
-		if (resource instanceof IFolder) {
-			visitFolder(resource);
+	public void analyze(List<IResource> resources, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, resources.size());
+		for (IResource resource : resources) {
+			subMonitor.split(1);
+			if (resource instanceof IFolder) {
+				visitFolder(resource);
+			}
 		}
-		return true;
 	}
 
 	private void visitFolder(IResource resource) throws JavaModelException {
@@ -59,7 +84,8 @@ class MissingPackageInfoAnalyzer implements IResourceVisitor {
 		if (!isInterestingProject(packageFragment.getJavaProject())) {
 			return;
 		}
-		ProblemReporter problemReporter = new StandardProblemReporter(resource);
+		ProblemReporter problemReporter = new StandardProblemReporter(resource,
+				this.metrics);
 		if (JavaElementUtils.isMainCode(packageFragment)
 				&& containsPublicOrProtectedJavaResources(packageFragment)) {
 			if (!Stream.of(packageFragment.getChildren())
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.fixes.Fix;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Support for applying {@link Fix fixes} to the compilation units in the workspace.
+ *
+ * @author Andy Wilkinson
+ */
+public final class QuickFixes {
+
+	private QuickFixes() {
+
+	}
+
+	/**
+	 * Parses the given {@code compilationUnit} so that the given {@code fix} can be
+	 * applied to the problems at the given {@code ranges}. When a single problem is
+	 * fixed, the parse is focused on its position, skipping the bodies of the other
+	 * methods, unless the fix {@link Fix#requiresFullAst() requires a full AST}.
+	 *
+	 * @param compilationUnit the compilation unit
+	 * @param fix the fix that will be applied
+	 * @param ranges the source ranges of the problems
+	 * @param monitor the progress monitor or {@code null}
+	 * @return the parsed compilation unit
+	 */
+	public static CompilationUnit parse(ICompilationUnit compilationUnit, Fix fix,
+			List<ISourceRange> ranges, IProgressMonitor monitor) {
+		ASTParser parser = ASTParser.newParser(AST.JLS11);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setSource(compilationUnit);
+		parser.setResolveBindings(true);
+		if (ranges.size() == 1 && !fix.requiresFullAst()) {
+			parser.setFocalPosition(ranges.get(0).getOffset());
+		}
+		return (CompilationUnit) parser.createAST(monitor);
+	}
+
+	/**
+	 * Returns the context in which the given compilation unit {@code resource} is
+	 * analyzed and its problems are fixed.
+	 *
+	 * @param resource the compilation unit resource
+	 * @return the analysis context
+	 */
+	public static AnalysisContext getContext(IResource resource) {
+		return new ResourceAnalysisContext(resource);
+	}
+
+}
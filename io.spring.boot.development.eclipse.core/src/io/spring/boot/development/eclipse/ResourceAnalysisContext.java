@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+import io.spring.boot.development.eclipse.analysis.AnalysisContext;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * An {@link AnalysisContext} for a compilation unit {@link IResource} in the workspace.
+ *
+ * @author Andy Wilkinson
+ */
+class ResourceAnalysisContext implements AnalysisContext {
+
+	private final IResource resource;
+
+	ResourceAnalysisContext(IResource resource) {
+		this.resource = resource;
+	}
+
+	@Override
+	public boolean isMainCode() {
+		return JavaElementUtils.isMainCode(JavaCore.create(this.resource));
+	}
+
+	@Override
+	public SpringFactories getSpringFactories() {
+		IProject project = this.resource.getProject();
+		IJavaProject javaProject = JavaCore.create(project);
+		try {
+			for (IPackageFragmentRoot root : javaProject.getAllPackageFragmentRoots()) {
+				if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+					IFile springFactories = project
+							.getFile(root.getResource().getProjectRelativePath()
+									.append("META-INF/spring.factories"));
+					if (springFactories.exists()) {
+						Properties properties = new Properties();
+						try (InputStream input = springFactories.getContents()) {
+							properties.load(input);
+						}
+						return new SpringFactories(properties);
+					}
+				}
+			}
+		}
+		catch (Exception ex) {
+			throw new RuntimeException("Failure while finding spring.factories", ex);
+		}
+		return null;
+	}
+
+	@Override
+	public ExpensiveObjects getExpensiveObjects() {
+		IFile file = this.resource.getProject().getFile(ExpensiveObjects.FILE_NAME);
+		if (!file.exists()) {
+			return ExpensiveObjects.defaults();
+		}
+		try (InputStream input = file.getContents()) {
+			Properties properties = new Properties();
+			properties.load(input);
+			return ExpensiveObjects.customize(properties);
+		}
+		catch (Exception ex) {
+			throw new RuntimeException(
+					"Failure while loading " + ExpensiveObjects.FILE_NAME, ex);
+		}
+	}
+
+}
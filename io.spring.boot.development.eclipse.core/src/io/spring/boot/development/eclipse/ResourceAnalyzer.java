@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * Analyzes {@link IResource IResources} and reports any problems that it finds.
+ *
+ * @author Andy Wilkinson
+ */
+public interface ResourceAnalyzer {
+
+	/**
+	 * Analyzes the given {@code resources}, reporting one unit of progress per resource
+	 * to the given {@code monitor}. Resources that are of no interest to the analyzer
+	 * are ignored.
+	 *
+	 * @param resources the resources to analyze
+	 * @param monitor the monitor to report progress to and to check for cancellation
+	 * @throws CoreException if analysis fails
+	 */
+	void analyze(List<IResource> resources, IProgressMonitor monitor)
+			throws CoreException;
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import io.spring.boot.development.eclipse.analysis.Fingerprints;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem;
+import io.spring.boot.development.eclipse.analysis.ReportedProblem.Severity;
+import io.spring.boot.development.eclipse.analysis.SarifWriter;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Exports the Spring Boot problem markers of projects as a SARIF log. Each project's
+ * files are visited in turn and the markers of each file are converted and written one
+ * at a time by a {@link SarifWriter} so that only one file's markers are held in
+ * memory at once.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SarifExport {
+
+	private final Path baseDirectory;
+
+	/**
+	 * Creates a new {@code SarifExport}. When a {@code baseDirectory} is provided,
+	 * the files that it contains are identified relative to it.
+	 *
+	 * @param baseDirectory the base directory or {@code null}
+	 */
+	public SarifExport(Path baseDirectory) {
+		this.baseDirectory = baseDirectory;
+	}
+
+	/**
+	 * Exports the problems of the given {@code projects} to the given {@code file}.
+	 *
+	 * @param projects the projects
+	 * @param file the file to write to
+	 * @param monitor the monitor to report progress to
+	 * @return the number of problems that were exported
+	 * @throws CoreException if the export fails
+	 */
+	public int export(Collection<IProject> projects, Path file, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, projects.size());
+		int[] exported = { 0 };
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file),
+				StandardCharsets.UTF_8);
+				SarifWriter sarif = new SarifWriter(writer, this.baseDirectory)) {
+			for (IProject project : projects) {
+				project.accept((proxy) -> {
+					if (proxy.getType() == IResource.FILE) {
+						exported[0] += export(proxy.requestResource(), sarif);
+					}
+					return true;
+				}, IResource.NONE);
+				subMonitor.split(1);
+			}
+		}
+		catch (IOException | UncheckedIOException ex) {
+			throw new CoreException(new Status(IStatus.ERROR,
+					"io.spring.boot.development.eclipse.core",
+					"Failed to export problems to " + file, ex));
+		}
+		return exported[0];
+	}
+
+	private int export(IResource file, SarifWriter sarif) throws CoreException {
+		int exported = 0;
+		for (IMarker marker : file.findMarkers(StandardProblemReporter.MARKER_TYPE,
+				true, IResource.DEPTH_ZERO)) {
+			ReportedProblem problem = toReportedProblem(marker);
+			if (problem != null) {
+				sarif.accept(problem);
+				exported++;
+			}
+		}
+		return exported;
+	}
+
+	private ReportedProblem toReportedProblem(IMarker marker) {
+		String sourceId = marker.getAttribute(IMarker.SOURCE_ID, null);
+		IPath location = marker.getResource().getLocation();
+		if (sourceId == null || location == null) {
+			return null;
+		}
+		Problem problem = Problem.valueOf(Integer.parseInt(sourceId));
+		Severity severity = (marker.getAttribute(IMarker.SEVERITY,
+				IMarker.SEVERITY_WARNING) == IMarker.SEVERITY_ERROR) ? Severity.ERROR
+						: Severity.WARNING;
+		int start = marker.getAttribute(IMarker.CHAR_START, -1);
+		int end = marker.getAttribute(IMarker.CHAR_END, start);
+		String fingerprint = marker.getAttribute(StandardProblemReporter.FINGERPRINT,
+				null);
+		return new ReportedProblem(location.toFile().toPath(), problem, severity,
+				marker.getAttribute(IMarker.MESSAGE, problem.getMessage()),
+				marker.getAttribute(IMarker.LINE_NUMBER, -1), start, end - start,
+				(fingerprint != null) ? Fingerprints.parse(fingerprint) : 0);
+	}
+
+}
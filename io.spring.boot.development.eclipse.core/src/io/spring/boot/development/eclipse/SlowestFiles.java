@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The most expensive files of a build. At most {@code limit} files are retained in a
+ * min-heap ordered by their total time so that offering a file that is cheaper than all
+ * of those that are retained only requires a comparison with the cheapest. Files may be
+ * offered concurrently.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SlowestFiles {
+
+	/**
+	 * The default number of files that are retained.
+	 */
+	public static final int DEFAULT_LIMIT = 20;
+
+	private static final Comparator<FileCost> BY_TOTAL_TIME = Comparator
+			.comparingLong(FileCost::getTotalTime);
+
+	private final PriorityQueue<FileCost> files;
+
+	private final int limit;
+
+	/**
+	 * Creates a new {@code SlowestFiles} that will retain up to {@code limit} files. A
+	 * limit of zero retains nothing.
+	 *
+	 * @param limit the maximum number of files to retain
+	 */
+	public SlowestFiles(int limit) {
+		this.files = new PriorityQueue<>(Math.max(limit, 1), BY_TOTAL_TIME);
+		this.limit = limit;
+	}
+
+	/**
+	 * Offers the cost of a file, retaining it if it is one of the most expensive files
+	 * that have been offered.
+	 *
+	 * @param file the cost of the file
+	 */
+	synchronized void offer(FileCost file) {
+		if (this.files.size() < this.limit) {
+			this.files.add(file);
+		}
+		else if (this.limit > 0
+				&& file.getTotalTime() > this.files.peek().getTotalTime()) {
+			this.files.poll();
+			this.files.add(file);
+		}
+	}
+
+	/**
+	 * Returns the retained files, most expensive first.
+	 *
+	 * @return the files
+	 */
+	public synchronized List<FileCost> getFiles() {
+		List<FileCost> files = new ArrayList<>(this.files);
+		files.sort(BY_TOTAL_TIME.reversed());
+		return files;
+	}
+
+	/**
+	 * The cost of analyzing a file, broken down into steps such as parsing and binding
+	 * and running each rule. A file's cost should be recorded by a single thread before
+	 * it is {@link SlowestFiles#offer(FileCost) offered}.
+	 */
+	public static final class FileCost {
+
+		private final String path;
+
+		private final Map<String, Long> steps = new LinkedHashMap<>();
+
+		private long totalTime;
+
+		FileCost(String path) {
+			this.path = path;
+		}
+
+		void record(String step, long time) {
+			this.steps.merge(step, time, Long::sum);
+			this.totalTime += time;
+		}
+
+		/**
+		 * Returns the project-relative path of the file.
+		 *
+		 * @return the path
+		 */
+		public String getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Returns the total time of the file's steps in nanoseconds.
+		 *
+		 * @return the total time
+		 */
+		public long getTotalTime() {
+			return this.totalTime;
+		}
+
+		/**
+		 * Returns the time, in nanoseconds, of each of the file's steps in the order in
+		 * which they were first recorded.
+		 *
+		 * @return the steps
+		 */
+		public Map<String, Long> getSteps() {
+			return Collections.unmodifiableMap(this.steps);
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.boot.development.eclipse.visitors.TypeFacts;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+/**
+ * Coordinates the work of every {@link SpringBootDevelopmentBuilder} in the workspace.
+ * All of the builders share the coordinator's {@link AnalysisScheduler}, its pool of
+ * analysis workers and, for the duration of a workspace build, its {@link TypeFacts}.
+ * Sharing the type facts allows facts about binary types and about the types of
+ * upstream projects to be reused when analyzing the projects that depend on them.
+ * <p>
+ * The coordinator does not schedule projects itself. Builders of different projects
+ * only run concurrently when the workspace's limit on the number of projects that are
+ * built at once has been raised above its default of one and when none of a project's
+ * other builders lock the workspace root. JDT's Java builder locks the workspace root
+ * so, in practice, Java projects are built one at a time and only the files of each
+ * project are analyzed in parallel.
+ *
+ * @author Andy Wilkinson
+ */
+final class SpringBootBuildCoordinator implements IResourceChangeListener {
+
+	private static SpringBootBuildCoordinator instance;
+
+	private final AnalysisScheduler scheduler = new AnalysisScheduler();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(
+			Runtime.getRuntime().availableProcessors(), new WorkerThreadFactory());
+
+	private volatile TypeFacts typeFacts = new TypeFacts();
+
+	private SpringBootBuildCoordinator() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this,
+				IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_BUILD);
+	}
+
+	/**
+	 * Returns the coordinator, creating it if necessary.
+	 *
+	 * @return the coordinator
+	 */
+	static synchronized SpringBootBuildCoordinator get() {
+		if (instance == null) {
+			instance = new SpringBootBuildCoordinator();
+		}
+		return instance;
+	}
+
+	/**
+	 * Disposes of the coordinator, if it has been created.
+	 */
+	static synchronized void dispose() {
+		if (instance != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+			instance.executor.shutdownNow();
+			instance = null;
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		this.typeFacts = new TypeFacts();
+	}
+
+	AnalysisScheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	ExecutorService getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the type facts for the current build. A new, empty set of facts is
+	 * created whenever a workspace build begins or ends.
+	 *
+	 * @return the type facts
+	 */
+	TypeFacts getTypeFacts() {
+		return this.typeFacts;
+	}
+
+	private static final class WorkerThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable,
+					"Spring Boot Development Analysis-" + this.count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
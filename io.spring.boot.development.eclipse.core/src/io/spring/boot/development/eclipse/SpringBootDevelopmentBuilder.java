@@ -0,0 +1,256 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.AnalysisEvents.Span;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.Measurement;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+
+/**
+ * {@link IncrementalProjectBuilder} that performs static analysis to identify code that
+ * does not confirm to Spring Boot's conventions.
+ * <p>
+ * The time that may be spent analyzing a single file can be configured using the
+ * {@value #FILE_TIME_BUDGET_ARGUMENT} build argument. Its value is in milliseconds.
+ * <p>
+ * Full builds can be limited to the files that have changed since a revision, and the
+ * files that reference them, using the {@value #CHANGED_SINCE_ARGUMENT} build argument.
+ * Its value is a commit, branch or other revision in the project's local git
+ * repository. Problems in files that are out of scope are not reported.
+ * <p>
+ * Files can be excluded from analysis using the {@value #EXCLUDES_ARGUMENT} build
+ * argument. Its value is a comma-separated list of glob patterns that are matched
+ * against each file's project-relative path.
+ * <p>
+ * Problems whose fingerprints are in the project's {@link Baselines baseline} do not
+ * create markers. A change to the baseline causes a full build.
+ * <p>
+ * The cost of each build is recorded in {@link AnalysisMetrics} that are published to
+ * {@link BuildMetrics}, along with the build's {@link SlowestFiles slowest files}, once
+ * the build has completed. Builds, and the phases within
+ * them, are also emitted as {@link AnalysisEvents events} that can be recorded by Java
+ * Flight Recorder.
+ * <p>
+ * The builder only requires a scheduling rule for its own project, allowing the
+ * workspace to build independent projects concurrently. Work is coordinated across
+ * builders by the {@link SpringBootBuildCoordinator}.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SpringBootDevelopmentBuilder extends IncrementalProjectBuilder {
+
+	public static final String BUILDER_ID = "io.spring.boot.development.eclipse.builder";
+
+	public static final String FILE_TIME_BUDGET_ARGUMENT = "fileTimeBudget";
+
+	public static final String CHANGED_SINCE_ARGUMENT = "changedSince";
+
+	public static final String EXCLUDES_ARGUMENT = "excludes";
+
+	public static final long DEFAULT_FILE_TIME_BUDGET = 5000;
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	protected IProject[] build(int kind, Map args, IProgressMonitor monitor)
+			throws CoreException {
+		AnalysisMetrics metrics = new AnalysisMetrics();
+		SlowestFiles slowestFiles = new SlowestFiles(SlowestFiles.DEFAULT_LIMIT);
+		List<ResourceAnalyzer> analyzers = createAnalyzers(args, metrics, slowestFiles);
+		List<PathMatcher> excludes = getExcludes(args);
+		String changedSince = getChangedSince(args);
+		Span span = AnalysisEvents.get().build(getProject(), kind);
+		try {
+			if (kind == FULL_BUILD) {
+				fullBuild(analyzers, excludes, changedSince, metrics, monitor);
+			}
+			else {
+				IResourceDelta delta = getDelta(getProject());
+				if (delta == null || !Baselines.isCurrent(getProject())) {
+					fullBuild(analyzers, excludes, changedSince, metrics, monitor);
+				}
+				else {
+					incrementalBuild(analyzers, excludes, delta, metrics, monitor);
+				}
+			}
+		}
+		finally {
+			span.close();
+		}
+		BuildMetrics.publish(getProject(), metrics, slowestFiles);
+		return null;
+	}
+
+	@Override
+	public ISchedulingRule getRule(int kind, Map<String, String> args) {
+		// Only has an effect when the workspace builds more than one project at once
+		// and none of the project's other builders, such as JDT's, lock the workspace
+		return getProject();
+	}
+
+	@Override
+	protected void clean(IProgressMonitor monitor) throws CoreException {
+		Span span = AnalysisEvents.get().build(getProject(), CLEAN_BUILD);
+		try {
+			deleteMarkers();
+		}
+		finally {
+			span.close();
+		}
+	}
+
+	private void deleteMarkers() throws CoreException {
+		getProject().deleteMarkers(StandardProblemReporter.MARKER_TYPE, true,
+				IResource.DEPTH_INFINITE);
+	}
+
+	static List<ResourceAnalyzer> createAnalyzers(Map<?, ?> args,
+			AnalysisMetrics metrics, SlowestFiles slowestFiles) {
+		return Arrays.asList(
+				new JavaSourceCodeAnalyzer(SpringBootBuildCoordinator.get(),
+						getFileTimeBudget(args), metrics, slowestFiles),
+				new MissingPackageInfoAnalyzer(metrics));
+	}
+
+	/**
+	 * Returns the matchers for the project-relative paths that should not be analyzed
+	 * as configured by the {@value #EXCLUDES_ARGUMENT} argument.
+	 *
+	 * @param args the builder's arguments
+	 * @return the exclude matchers
+	 */
+	static List<PathMatcher> getExcludes(Map<?, ?> args) {
+		Object excludes = (args != null) ? args.get(EXCLUDES_ARGUMENT) : null;
+		List<PathMatcher> matchers = new ArrayList<>();
+		if (excludes != null) {
+			for (String pattern : excludes.toString().split(",")) {
+				if (!pattern.trim().isEmpty()) {
+					matchers.add(FileSystems.getDefault()
+							.getPathMatcher("glob:" + pattern.trim()));
+				}
+			}
+		}
+		return matchers;
+	}
+
+	/**
+	 * Removes the resources that match any of the given {@code excludes}. Excluded
+	 * resources have their markers deleted as they will no longer be analyzed.
+	 *
+	 * @param resources the resources to filter
+	 * @param excludes the exclude matchers
+	 * @return the resources that are not excluded
+	 * @throws CoreException if the markers of an excluded resource cannot be deleted
+	 */
+	static List<IResource> exclude(List<IResource> resources, List<PathMatcher> excludes)
+			throws CoreException {
+		if (excludes.isEmpty()) {
+			return resources;
+		}
+		List<IResource> included = new ArrayList<>(resources.size());
+		for (IResource resource : resources) {
+			if (isExcluded(resource, excludes)) {
+				if (resource.exists()) {
+					resource.deleteMarkers(StandardProblemReporter.MARKER_TYPE, true,
+							IResource.DEPTH_ZERO);
+				}
+			}
+			else {
+				included.add(resource);
+			}
+		}
+		return included;
+	}
+
+	private static boolean isExcluded(IResource resource, List<PathMatcher> excludes) {
+		Path path = Paths.get(resource.getProjectRelativePath().toString());
+		for (PathMatcher exclude : excludes) {
+			if (exclude.matches(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long getFileTimeBudget(Map<?, ?> args) {
+		Object budget = (args != null) ? args.get(FILE_TIME_BUDGET_ARGUMENT) : null;
+		if (budget != null) {
+			try {
+				return Long.parseLong(budget.toString().trim());
+			}
+			catch (NumberFormatException ex) {
+				// Fall back to the default
+			}
+		}
+		return DEFAULT_FILE_TIME_BUDGET;
+	}
+
+	private String getChangedSince(Map<?, ?> args) {
+		Object changedSince = (args != null) ? args.get(CHANGED_SINCE_ARGUMENT) : null;
+		return (changedSince != null && !changedSince.toString().trim().isEmpty())
+				? changedSince.toString().trim() : null;
+	}
+
+	private void fullBuild(List<ResourceAnalyzer> analyzers, List<PathMatcher> excludes,
+			String changedSince, AnalysisMetrics metrics, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 10);
+		List<IResource> resources = new ArrayList<>();
+		if (changedSince != null) {
+			deleteMarkers();
+			subMonitor.worked(1);
+			resources.addAll(new GitChangeScope(getProject(), changedSince)
+					.findResources(subMonitor.split(1)));
+		}
+		else {
+			getProject().accept(resources::add);
+		}
+		analyze(analyzers, exclude(resources, excludes), metrics, subMonitor.split(8));
+	}
+
+	private void incrementalBuild(List<ResourceAnalyzer> analyzers,
+			List<PathMatcher> excludes, IResourceDelta delta, AnalysisMetrics metrics,
+			IProgressMonitor monitor) throws CoreException {
+		List<IResource> resources = new ArrayList<>();
+		delta.accept(new SpringBootDeltaVisitor(resources::add));
+		analyze(analyzers, exclude(resources, excludes), metrics, monitor);
+	}
+
+	private void analyze(List<ResourceAnalyzer> analyzers, List<IResource> resources,
+			AnalysisMetrics metrics, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor,
+				"Analyzing " + getProject().getName(),
+				resources.size() * analyzers.size());
+		for (ResourceAnalyzer analyzer : analyzers) {
+			// Work done by the JavaSourceCodeAnalyzer's workers is recorded as visitor
+			// and parse steps. This only measures the calling thread
+			Measurement measurement = metrics.start();
+			analyzer.analyze(resources, subMonitor.split(resources.size()));
+			measurement.stop(analyzer.getClass().getSimpleName());
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -43,53 +43,73 @@ public final class SpringBootDevelopmentNature implements IProjectNature {
 
 	@Override
 	public void configure() throws CoreException {
-		if (hasBuilder()) {
-			return;
+		IProjectDescription description = this.project.getDescription();
+		if (addBuilder(description)) {
+			this.project.setDescription(description, null);
 		}
-		addBuilder();
 	}
 
 	@Override
 	public void deconfigure() throws CoreException {
-		removeBuilder();
+		IProjectDescription description = this.project.getDescription();
+		if (removeBuilder(description)) {
+			this.project.setDescription(description, null);
+		}
 		deleteMarkers();
 	}
 
-	private boolean hasBuilder() throws CoreException {
-		for (ICommand command : this.project.getDescription().getBuildSpec()) {
-			if (SpringBootDevelopmentBuilder.BUILDER_ID
-					.equals(command.getBuilderName())) {
-				return true;
-			}
+	/**
+	 * Adds the {@link SpringBootDevelopmentBuilder} to the build spec of the given
+	 * {@code description} if it is not already present. Allows the nature and the builder
+	 * to be added with a single update of a project's description.
+	 *
+	 * @param description the project description to modify
+	 * @return {@code true} if the build spec was modified, otherwise {@code false}
+	 */
+	public static boolean addBuilder(IProjectDescription description) {
+		if (hasBuilder(description)) {
+			return false;
 		}
-		return false;
-	}
-
-	private void addBuilder() throws CoreException {
-		IProjectDescription description = this.project.getDescription();
 		List<ICommand> commands = new ArrayList<ICommand>(
 				Arrays.asList(description.getBuildSpec()));
 		ICommand command = description.newCommand();
 		command.setBuilderName(SpringBootDevelopmentBuilder.BUILDER_ID);
 		commands.add(command);
-		configureBuildSpec(commands);
+		description.setBuildSpec(commands.toArray(new ICommand[commands.size()]));
+		return true;
 	}
 
-	private void removeBuilder() throws CoreException {
+	/**
+	 * Removes the {@link SpringBootDevelopmentBuilder} from the build spec of the given
+	 * {@code description} if it is present. Allows the nature and the builder to be
+	 * removed with a single update of a project's description.
+	 *
+	 * @param description the project description to modify
+	 * @return {@code true} if the build spec was modified, otherwise {@code false}
+	 */
+	public static boolean removeBuilder(IProjectDescription description) {
+		if (!hasBuilder(description)) {
+			return false;
+		}
 		List<ICommand> commands = new ArrayList<ICommand>();
-		for (ICommand candidate : this.project.getDescription().getBuildSpec()) {
+		for (ICommand candidate : description.getBuildSpec()) {
 			if (!candidate.getBuilderName()
 					.equals(SpringBootDevelopmentBuilder.BUILDER_ID)) {
 				commands.add(candidate);
 			}
 		}
-		configureBuildSpec(commands);
+		description.setBuildSpec(commands.toArray(new ICommand[commands.size()]));
+		return true;
 	}
 
-	private void configureBuildSpec(List<ICommand> commands) throws CoreException {
-		IProjectDescription description = this.project.getDescription();
-		description.setBuildSpec(commands.toArray(new ICommand[commands.size()]));
-		this.project.setDescription(description, null);
+	private static boolean hasBuilder(IProjectDescription description) {
+		for (ICommand command : description.getBuildSpec()) {
+			if (SpringBootDevelopmentBuilder.BUILDER_ID
+					.equals(command.getBuilderName())) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private void deleteMarkers() throws CoreException {
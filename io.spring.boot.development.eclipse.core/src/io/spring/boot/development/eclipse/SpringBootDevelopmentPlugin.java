@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.core.runtime.Status;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Main class for the Spring Boot Development core plugin. It does not depend on the
+ * workbench so that the builder can be activated without loading the UI.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SpringBootDevelopmentPlugin extends Plugin {
+
+	static final String PLUGIN_ID = "io.spring.boot.development.eclipse.core";
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		SpringBootBuildCoordinator.dispose();
+		super.stop(context);
+	}
+
+	/**
+	 * Logs the given {@code message} and {@code exception} as a warning in the plugin's
+	 * log.
+	 *
+	 * @param message the message
+	 * @param exception the exception
+	 */
+	static void logWarning(String message, Throwable exception) {
+		Platform.getLog(FrameworkUtil.getBundle(SpringBootDevelopmentPlugin.class))
+				.log(new Status(IStatus.WARNING, PLUGIN_ID, message, exception));
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import io.spring.boot.development.eclipse.AnalysisEvents.Span;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.Measurement;
+import io.spring.boot.development.eclipse.analysis.Baseline;
+import io.spring.boot.development.eclipse.analysis.Fingerprints;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.ProblemReporter;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * A {@link ProblemReporter} that reports problems by creating markers on a resource.
+ * Problems that are in the {@link Baselines baseline} of the resource's project do not
+ * create markers. While the baseline is being regenerated, problems are recorded rather
+ * than creating markers. The cost of writing markers can be recorded in
+ * {@link AnalysisMetrics} and is emitted as {@link AnalysisEvents events}.
+ *
+ * @author Andy Wilkinson
+ */
+public class StandardProblemReporter implements ProblemReporter {
+
+	public static final String MARKER_TYPE = "io.spring.boot.development.eclipse.problem";
+
+	/**
+	 * The marker attribute that holds the problem's fingerprint.
+	 *
+	 * @see Fingerprints#toString(long)
+	 */
+	public static final String FINGERPRINT = "fingerprint";
+
+	static final String MARKER_STEP = "Marker writes";
+
+	private final IResource resource;
+
+	private final Baseline baseline;
+
+	private final Baseline.Builder recorder;
+
+	private final AnalysisMetrics metrics;
+
+	private final AnalysisEvents events = AnalysisEvents.get();
+
+	private long markerWriteTime;
+
+	public StandardProblemReporter(IResource resource) {
+		this(resource, AnalysisMetrics.disabled());
+	}
+
+	public StandardProblemReporter(IResource resource, AnalysisMetrics metrics) {
+		this.resource = resource;
+		this.metrics = metrics;
+		this.baseline = Baselines.get(resource.getProject());
+		this.recorder = Baselines.getRecorder(resource.getProject());
+		try {
+			this.resource.deleteMarkers(MARKER_TYPE, true, IResource.DEPTH_ZERO);
+		}
+		catch (CoreException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Override
+	public void warning(Problem problem, ASTNode node, Object... args) {
+		report(problem, IMarker.SEVERITY_WARNING, node, args);
+	}
+
+	@Override
+	public void error(Problem problem, ASTNode node, Object... args) {
+		report(problem, IMarker.SEVERITY_ERROR, node, args);
+	}
+
+	@Override
+	public void warning(Problem problem, Object... args) {
+		Span span = this.events.markerWrite(this.resource, problem);
+		try {
+			Measurement measurement = this.metrics.start();
+			createMarker(problem, IMarker.SEVERITY_WARNING,
+					Fingerprints.of(problem, getPath(this.resource)), args);
+			this.markerWriteTime += measurement.stop(MARKER_STEP);
+		}
+		catch (CoreException ex) {
+			throw new IllegalStateException(ex);
+		}
+		finally {
+			span.close();
+		}
+	}
+
+	/**
+	 * Returns the total time, in nanoseconds, that has been spent writing markers. The
+	 * time is only measured when {@link AnalysisMetrics} are enabled.
+	 *
+	 * @return the marker write time
+	 */
+	long getMarkerWriteTime() {
+		return this.markerWriteTime;
+	}
+
+	private IMarker createMarker(Problem problem, int severity, long fingerprint,
+			Object... args) throws CoreException {
+		if (this.recorder != null) {
+			this.recorder.add(fingerprint, problem);
+			return null;
+		}
+		if (this.baseline.contains(fingerprint)) {
+			return null;
+		}
+		IMarker marker = this.resource.createMarker(MARKER_TYPE);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		marker.setAttribute(IMarker.MESSAGE, problem.getMessage(args));
+		marker.setAttribute(IMarker.SOURCE_ID, Integer.toString(problem.getId()));
+		marker.setAttribute(FINGERPRINT, Fingerprints.toString(fingerprint));
+		return marker;
+	}
+
+	private void report(Problem problem, int severity, ASTNode node, Object... args) {
+		Span span = this.events.markerWrite(this.resource, problem);
+		try {
+			Measurement measurement = this.metrics.start();
+			IMarker marker = createMarker(problem, severity,
+					Fingerprints.of(problem, node), args);
+			if (marker == null) {
+				return;
+			}
+			int startPosition = node.getStartPosition();
+			marker.setAttribute(IMarker.CHAR_START, startPosition);
+			marker.setAttribute(IMarker.CHAR_END, startPosition + node.getLength());
+			int lineNumber = getCompilationUnit(node).getLineNumber(startPosition);
+			marker.setAttribute(IMarker.LINE_NUMBER, lineNumber);
+			marker.setAttribute(IMarker.LOCATION, "Line " + lineNumber);
+			this.markerWriteTime += measurement.stop(MARKER_STEP);
+		}
+		catch (CoreException ex) {
+			throw new IllegalStateException(ex);
+		}
+		finally {
+			span.close();
+		}
+	}
+
+	private String getPath(IResource resource) {
+		IJavaElement javaElement = JavaCore.create(resource);
+		if (javaElement instanceof IPackageFragment) {
+			return javaElement.getElementName();
+		}
+		if (javaElement instanceof ICompilationUnit) {
+			String packageName = javaElement.getParent().getElementName();
+			return packageName.isEmpty() ? resource.getName()
+					: packageName + "/" + resource.getName();
+		}
+		return resource.getProjectRelativePath().toString();
+	}
+
+	private CompilationUnit getCompilationUnit(ASTNode node) {
+		if (node.getRoot() instanceof CompilationUnit) {
+			return (CompilationUnit) node.getRoot();
+		}
+		ASTNode candidate = node;
+		while (candidate != null) {
+			if (candidate instanceof CompilationUnit) {
+				return (CompilationUnit) candidate;
+			}
+			candidate = candidate.getParent();
+		}
+		throw new IllegalStateException(
+				"Node " + node + " was not a descendant of a CompilationUnit");
+	}
+
+}
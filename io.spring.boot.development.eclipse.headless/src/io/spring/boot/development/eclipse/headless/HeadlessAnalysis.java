@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.headless;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.boot.development.eclipse.JavaSourceCodeAnalyzer;
+import io.spring.boot.development.eclipse.MissingPackageInfoAnalyzer;
+import io.spring.boot.development.eclipse.ResourceAnalyzer;
+import io.spring.boot.development.eclipse.SarifExport;
+import io.spring.boot.development.eclipse.StandardProblemReporter;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+/**
+ * Imports projects into the workspace, analyzes them and reports the problems that are
+ * found. The files of each project are analyzed in parallel by the workers of the
+ * {@link JavaSourceCodeAnalyzer}. The problems can also be exported as a SARIF log.
+ *
+ * @author Andy Wilkinson
+ */
+final class HeadlessAnalysis {
+
+	private final long fileTimeBudget;
+
+	private final PrintStream out;
+
+	private final Path sarifFile;
+
+	HeadlessAnalysis(long fileTimeBudget, PrintStream out, Path sarifFile) {
+		this.fileTimeBudget = fileTimeBudget;
+		this.out = out;
+		this.sarifFile = sarifFile;
+	}
+
+	/**
+	 * Imports the projects in the given {@code projectDirectories}, analyzes them and
+	 * prints the problems that are found followed by a summary.
+	 *
+	 * @param projectDirectories the directories of the projects to analyze
+	 * @return the number of errors that were found
+	 * @throws CoreException if the projects cannot be imported or analyzed
+	 */
+	int run(List<Path> projectDirectories) throws CoreException {
+		IProgressMonitor monitor = new NullProgressMonitor();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		disableAutoBuilding(workspace);
+		List<IProject> projects = new ArrayList<>();
+		for (Path projectDirectory : projectDirectories) {
+			projects.add(importProject(workspace, projectDirectory, monitor));
+		}
+		List<ResourceAnalyzer> analyzers = Arrays.asList(
+				new JavaSourceCodeAnalyzer(this.fileTimeBudget),
+				new MissingPackageInfoAnalyzer());
+		long start = System.nanoTime();
+		int files = 0;
+		for (IProject project : projects) {
+			List<IResource> resources = new ArrayList<>();
+			project.accept(resources::add);
+			for (ResourceAnalyzer analyzer : analyzers) {
+				analyzer.analyze(resources, monitor);
+			}
+			files += countJavaFiles(resources);
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		int errors = 0;
+		int warnings = 0;
+		for (IMarker marker : findMarkers(projects)) {
+			int severity = marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			if (severity == IMarker.SEVERITY_ERROR) {
+				errors++;
+			}
+			else {
+				warnings++;
+			}
+			this.out.println(describe(marker, severity));
+		}
+		this.out.printf("Analyzed %d files in %d projects in %dms (%.1f files/s): "
+				+ "%d errors, %d warnings%n", files, projects.size(), elapsed,
+				(elapsed > 0) ? files * 1000.0 / elapsed : (double) files, errors,
+				warnings);
+		if (this.sarifFile != null) {
+			new SarifExport(Paths.get("").toAbsolutePath()).export(projects,
+					this.sarifFile, monitor);
+		}
+		return errors;
+	}
+
+	private void disableAutoBuilding(IWorkspace workspace) throws CoreException {
+		IWorkspaceDescription description = workspace.getDescription();
+		description.setAutoBuilding(false);
+		workspace.setDescription(description);
+	}
+
+	private IProject importProject(IWorkspace workspace, Path projectDirectory,
+			IProgressMonitor monitor) throws CoreException {
+		IPath location = org.eclipse.core.runtime.Path
+				.fromOSString(projectDirectory.toAbsolutePath().toString());
+		IProjectDescription description = workspace.loadProjectDescription(
+				location.append(IProjectDescription.DESCRIPTION_FILE_NAME));
+		IProject project = workspace.getRoot().getProject(description.getName());
+		if (!project.exists()) {
+			project.create(description, monitor);
+		}
+		project.open(monitor);
+		return project;
+	}
+
+	private int countJavaFiles(List<IResource> resources) {
+		int count = 0;
+		for (IResource resource : resources) {
+			if (resource instanceof IFile && resource.getName().endsWith(".java")) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private List<IMarker> findMarkers(List<IProject> projects) throws CoreException {
+		List<IMarker> markers = new ArrayList<>();
+		for (IProject project : projects) {
+			markers.addAll(Arrays.asList(project.findMarkers(
+					StandardProblemReporter.MARKER_TYPE, true, IResource.DEPTH_INFINITE)));
+		}
+		markers.sort(Comparator
+				.comparing((IMarker marker) -> marker.getResource().getFullPath()
+						.toString())
+				.thenComparingInt(
+						(marker) -> marker.getAttribute(IMarker.LINE_NUMBER, 0)));
+		return markers;
+	}
+
+	private String describe(IMarker marker, int severity) {
+		StringBuilder description = new StringBuilder();
+		description.append((severity == IMarker.SEVERITY_ERROR) ? "ERROR " : "WARNING ");
+		description.append(marker.getResource().getLocation());
+		int line = marker.getAttribute(IMarker.LINE_NUMBER, -1);
+		if (line > 0) {
+			description.append(":").append(line);
+		}
+		description.append(": ").append(marker.getAttribute(IMarker.MESSAGE, ""));
+		return description.toString();
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.headless;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.SpringBootDevelopmentBuilder;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.osgi.service.datalocation.Location;
+
+/**
+ * An {@link IApplication} that analyzes projects without a workbench so that Spring
+ * Boot's conventions can be checked in CI. Each argument is a directory that contains
+ * a project or that contains projects in its subdirectories. The projects are imported
+ * into a temporary workspace and analyzed. The application exits with a non-zero
+ * status if any errors are found.
+ * <p>
+ * The time that may be spent analyzing a single file can be configured using the
+ * {@code -fileTimeBudget} argument. Its value is in milliseconds. The problems that are
+ * found can be exported as a SARIF log using the {@code -sarif} argument. Its value is
+ * the file to write to. Files are identified relative to the current directory.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SpringBootAnalysisApplication implements IApplication {
+
+	private static final Integer EXIT_ERRORS = 1;
+
+	private static final Integer EXIT_USAGE = 2;
+
+	private static final String FILE_TIME_BUDGET_ARGUMENT = "-fileTimeBudget";
+
+	private static final String SARIF_ARGUMENT = "-sarif";
+
+	@Override
+	public Object start(IApplicationContext context) throws Exception {
+		String[] args = (String[]) context.getArguments()
+				.get(IApplicationContext.APPLICATION_ARGS);
+		List<Path> projectDirectories = new ArrayList<>();
+		long fileTimeBudget = SpringBootDevelopmentBuilder.DEFAULT_FILE_TIME_BUDGET;
+		Path sarifFile = null;
+		for (int i = 0; i < args.length; i++) {
+			if (FILE_TIME_BUDGET_ARGUMENT.equals(args[i]) && i + 1 < args.length) {
+				fileTimeBudget = Long.parseLong(args[++i]);
+			}
+			else if (SARIF_ARGUMENT.equals(args[i]) && i + 1 < args.length) {
+				sarifFile = Paths.get(args[++i]).toAbsolutePath();
+			}
+			else {
+				projectDirectories.addAll(findProjectDirectories(Paths.get(args[i])));
+			}
+		}
+		if (projectDirectories.isEmpty()) {
+			printUsage(System.err);
+			return EXIT_USAGE;
+		}
+		useTemporaryWorkspace();
+		context.applicationRunning();
+		HeadlessAnalysis analysis = new HeadlessAnalysis(fileTimeBudget, System.out,
+				sarifFile);
+		return (analysis.run(projectDirectories) > 0) ? EXIT_ERRORS : EXIT_OK;
+	}
+
+	@Override
+	public void stop() {
+
+	}
+
+	private List<Path> findProjectDirectories(Path directory) throws IOException {
+		List<Path> projectDirectories = new ArrayList<>();
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir,
+					BasicFileAttributes attributes) throws IOException {
+				if (!dir.equals(directory) && dir.getFileName().toString().startsWith(".")) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				if (Files.isRegularFile(dir.resolve(".project"))) {
+					projectDirectories.add(dir);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		return projectDirectories;
+	}
+
+	private void useTemporaryWorkspace() throws IOException {
+		Location location = Platform.getInstanceLocation();
+		if (location.isSet()) {
+			return;
+		}
+		Path workspace = Files.createTempDirectory("spring-boot-development-workspace");
+		location.set(workspace.toUri().toURL(), false);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> delete(workspace)));
+	}
+
+	private void delete(Path root) {
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file,
+						BasicFileAttributes attributes) throws IOException {
+					Files.delete(file);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path dir, IOException ex)
+						throws IOException {
+					Files.delete(dir);
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void printUsage(PrintStream out) {
+		out.println("Usage: -application io.spring.boot.development.eclipse.headless."
+				+ "analyzer -data @noDefault [" + FILE_TIME_BUDGET_ARGUMENT
+				+ " <millis>] [" + SARIF_ARGUMENT + " <file>] <directory>...");
+	}
+
+}
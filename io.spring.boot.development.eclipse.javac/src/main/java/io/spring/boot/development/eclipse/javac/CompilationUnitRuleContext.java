@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.DocTrees;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+import io.spring.boot.development.eclipse.javac.rules.RuleContext;
+
+/**
+ * A {@link RuleContext} for a compilation unit that is being compiled by javac. The
+ * source of the compilation unit and the {@code spring.factories} and expensive objects
+ * catalogue of its project are only read if a rule needs them.
+ *
+ * @author Andy Wilkinson
+ */
+final class CompilationUnitRuleContext implements RuleContext {
+
+	private final CompilationUnitTree compilationUnit;
+
+	private final DocTrees trees;
+
+	private final Elements elements;
+
+	private final Types types;
+
+	private final boolean mainCode;
+
+	private final Supplier<SpringFactories> springFactories;
+
+	private final Supplier<ExpensiveObjects> expensiveObjects;
+
+	private CharSequence source;
+
+	CompilationUnitRuleContext(CompilationUnitTree compilationUnit, DocTrees trees,
+			Elements elements, Types types, boolean mainCode,
+			Supplier<SpringFactories> springFactories,
+			Supplier<ExpensiveObjects> expensiveObjects) {
+		this.compilationUnit = compilationUnit;
+		this.trees = trees;
+		this.elements = elements;
+		this.types = types;
+		this.mainCode = mainCode;
+		this.springFactories = springFactories;
+		this.expensiveObjects = expensiveObjects;
+	}
+
+	@Override
+	public CompilationUnitTree getCompilationUnit() {
+		return this.compilationUnit;
+	}
+
+	@Override
+	public CharSequence getSource() {
+		if (this.source == null) {
+			try {
+				this.source = this.compilationUnit.getSourceFile().getCharContent(true);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+		return this.source;
+	}
+
+	@Override
+	public DocTrees getTrees() {
+		return this.trees;
+	}
+
+	@Override
+	public Elements getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public Types getTypes() {
+		return this.types;
+	}
+
+	@Override
+	public boolean isMainCode() {
+		return this.mainCode;
+	}
+
+	@Override
+	public SpringFactories getSpringFactories() {
+		return this.springFactories.get();
+	}
+
+	@Override
+	public ExpensiveObjects getExpensiveObjects() {
+		return this.expensiveObjects.get();
+	}
+
+}
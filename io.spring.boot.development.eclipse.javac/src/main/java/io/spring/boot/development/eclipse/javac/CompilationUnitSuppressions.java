@@ -0,0 +1,233 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.NewArrayTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreeScanner;
+import io.spring.boot.development.eclipse.analysis.Suppressions;
+import io.spring.boot.development.eclipse.javac.rules.RuleContext;
+
+/**
+ * Finds the {@link Suppressions} in a compilation unit that has been parsed by javac.
+ * javac does not retain line comments so {@code // springboot:ignore} comments are found
+ * by scanning the source of the compilation unit.
+ *
+ * @author Andy Wilkinson
+ */
+final class CompilationUnitSuppressions {
+
+	private CompilationUnitSuppressions() {
+
+	}
+
+	/**
+	 * Finds the suppressions in the compilation unit of the given {@code context}.
+	 *
+	 * @param context the context of the compilation unit
+	 * @param positions the source positions of the compilation unit's trees
+	 * @return the suppressions
+	 */
+	static Suppressions find(RuleContext context, SourcePositions positions) {
+		Suppressions.Builder builder = new Suppressions.Builder();
+		context.getCompilationUnit().accept(new SuppressWarningsScanner(
+				context.getCompilationUnit(), positions, builder), null);
+		findIgnoreComments(context.getSource(), builder);
+		return builder.build();
+	}
+
+	private static void findIgnoreComments(CharSequence source,
+			Suppressions.Builder builder) {
+		int lineStart = 0;
+		int i = 0;
+		while (i < source.length()) {
+			char c = source.charAt(i);
+			char next = (i + 1 < source.length()) ? source.charAt(i + 1) : 0;
+			if (c == '\n') {
+				lineStart = ++i;
+			}
+			else if (c == '"' || c == '\'') {
+				i = skipLiteral(source, i);
+			}
+			else if (c == '/' && next == '*') {
+				int end = indexOf(source, "*/", i + 2);
+				i = (end < 0) ? source.length() : end + 2;
+				lineStart = lastIndexOf(source, '\n', i - 1) + 1;
+			}
+			else if (c == '/' && next == '/') {
+				int end = indexOf(source, "\n", i);
+				end = (end < 0) ? source.length() : end + 1;
+				if (Suppressions.isIgnoreComment(
+						source.subSequence(i + 2, end).toString())) {
+					if (source.subSequence(lineStart, i).toString().trim().isEmpty()) {
+						int followingEnd = indexOf(source, "\n", end);
+						builder.ignore(end,
+								(followingEnd < 0) ? source.length() : followingEnd + 1);
+					}
+					else {
+						builder.ignore(lineStart, end);
+					}
+				}
+				lineStart = i = end;
+			}
+			else {
+				i++;
+			}
+		}
+	}
+
+	private static int skipLiteral(CharSequence source, int start) {
+		char quote = source.charAt(start);
+		if (quote == '"' && startsWith(source, "\"\"\"", start)) {
+			int end = indexOf(source, "\"\"\"", start + 3);
+			return (end < 0) ? source.length() : end + 3;
+		}
+		int i = start + 1;
+		while (i < source.length()) {
+			char c = source.charAt(i);
+			if (c == '\\') {
+				i += 2;
+			}
+			else if (c == quote || c == '\n') {
+				return (c == quote) ? i + 1 : i;
+			}
+			else {
+				i++;
+			}
+		}
+		return i;
+	}
+
+	private static boolean startsWith(CharSequence source, String prefix, int start) {
+		return start + prefix.length() <= source.length() && source
+				.subSequence(start, start + prefix.length()).toString().equals(prefix);
+	}
+
+	private static int indexOf(CharSequence source, String text, int from) {
+		for (int i = from; i + text.length() <= source.length(); i++) {
+			if (startsWith(source, text, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(CharSequence source, char c, int from) {
+		for (int i = Math.min(from, source.length() - 1); i >= 0; i--) {
+			if (source.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * {@link TreeScanner} that finds the regions of declarations that are annotated with
+	 * {@code @SuppressWarnings} for one or more rules.
+	 */
+	private static final class SuppressWarningsScanner extends TreeScanner<Void, Void> {
+
+		private final CompilationUnitTree compilationUnit;
+
+		private final SourcePositions positions;
+
+		private final Suppressions.Builder builder;
+
+		private SuppressWarningsScanner(CompilationUnitTree compilationUnit,
+				SourcePositions positions, Suppressions.Builder builder) {
+			this.compilationUnit = compilationUnit;
+			this.positions = positions;
+			this.builder = builder;
+		}
+
+		@Override
+		public Void visitClass(ClassTree node, Void p) {
+			visitDeclaration(node, node.getModifiers());
+			return super.visitClass(node, p);
+		}
+
+		@Override
+		public Void visitMethod(MethodTree node, Void p) {
+			visitDeclaration(node, node.getModifiers());
+			return super.visitMethod(node, p);
+		}
+
+		@Override
+		public Void visitVariable(VariableTree node, Void p) {
+			visitDeclaration(node, node.getModifiers());
+			return super.visitVariable(node, p);
+		}
+
+		private void visitDeclaration(Tree node, ModifiersTree modifiers) {
+			List<String> values = new ArrayList<>();
+			for (AnnotationTree annotation : modifiers.getAnnotations()) {
+				collectSuppressWarningsValues(annotation, values);
+			}
+			if (!values.isEmpty()) {
+				this.builder.suppressWarnings(
+						(int) this.positions.getStartPosition(this.compilationUnit, node),
+						(int) this.positions.getEndPosition(this.compilationUnit, node),
+						values);
+			}
+		}
+
+		private void collectSuppressWarningsValues(AnnotationTree annotation,
+				List<String> values) {
+			String name = annotation.getAnnotationType().toString();
+			if (!"SuppressWarnings".equals(name)
+					&& !"java.lang.SuppressWarnings".equals(name)) {
+				return;
+			}
+			for (ExpressionTree argument : annotation.getArguments()) {
+				if (argument instanceof AssignmentTree) {
+					AssignmentTree assignment = (AssignmentTree) argument;
+					if (assignment.getVariable() instanceof IdentifierTree
+							&& ((IdentifierTree) assignment.getVariable()).getName()
+									.contentEquals("value")) {
+						collectValues(assignment.getExpression(), values);
+					}
+				}
+				else {
+					collectValues(argument, values);
+				}
+			}
+		}
+
+		private void collectValues(ExpressionTree value, List<String> values) {
+			if (value instanceof LiteralTree
+					&& ((LiteralTree) value).getValue() instanceof String) {
+				values.add((String) ((LiteralTree) value).getValue());
+			}
+			else if (value instanceof NewArrayTree
+					&& ((NewArrayTree) value).getInitializers() != null) {
+				for (ExpressionTree expression : ((NewArrayTree) value)
+						.getInitializers()) {
+					collectValues(expression, values);
+				}
+			}
+		}
+
+	}
+
+}
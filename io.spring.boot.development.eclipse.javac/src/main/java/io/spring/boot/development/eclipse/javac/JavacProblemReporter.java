@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac;
+
+import javax.tools.Diagnostic.Kind;
+
+import com.sun.source.doctree.DocCommentTree;
+import com.sun.source.doctree.DocTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.DocTrees;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.Suppressions;
+import io.spring.boot.development.eclipse.javac.rules.RuleContext;
+import io.spring.boot.development.eclipse.javac.rules.TreeProblemReporter;
+
+/**
+ * A {@link TreeProblemReporter} that reports problems as javac diagnostics. Each
+ * diagnostic's message is the problem's message followed by the name of its rule so that
+ * it can be {@link Suppressions suppressed}. The suppressions are found the first time
+ * that a problem is reported so that compilation units without any problems do not pay
+ * for them.
+ *
+ * @author Andy Wilkinson
+ */
+final class JavacProblemReporter implements TreeProblemReporter {
+
+	private final RuleContext context;
+
+	private final DocTrees trees;
+
+	private Suppressions suppressions;
+
+	JavacProblemReporter(RuleContext context, DocTrees trees) {
+		this.context = context;
+		this.trees = trees;
+	}
+
+	@Override
+	public void warning(Problem problem, Tree tree, Object... args) {
+		report(Kind.WARNING, problem, tree, args);
+	}
+
+	@Override
+	public void error(Problem problem, Tree tree, Object... args) {
+		report(Kind.ERROR, problem, tree, args);
+	}
+
+	@Override
+	public void warning(Problem problem, DocTree tree, DocCommentTree comment,
+			Object... args) {
+		long position = this.trees.getSourcePositions()
+				.getStartPosition(this.context.getCompilationUnit(), comment, tree);
+		if (!isSuppressed(problem, position)) {
+			this.trees.printMessage(Kind.WARNING, getMessage(problem, args), tree,
+					comment, this.context.getCompilationUnit());
+		}
+	}
+
+	private void report(Kind kind, Problem problem, Tree tree, Object... args) {
+		long position = this.trees.getSourcePositions()
+				.getStartPosition(this.context.getCompilationUnit(), tree);
+		if (!isSuppressed(problem, position)) {
+			this.trees.printMessage(kind, getMessage(problem, args), tree,
+					this.context.getCompilationUnit());
+		}
+	}
+
+	private String getMessage(Problem problem, Object... args) {
+		return problem.getMessage(args) + " [springboot:" + problem.getRuleName() + "]";
+	}
+
+	private boolean isSuppressed(Problem problem, long position) {
+		if (this.suppressions == null) {
+			this.suppressions = CompilationUnitSuppressions.find(this.context,
+					this.trees.getSourcePositions());
+		}
+		return this.suppressions.isSuppressed(problem, (int) position);
+	}
+
+}
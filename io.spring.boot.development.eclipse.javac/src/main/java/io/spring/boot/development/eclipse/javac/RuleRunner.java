@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.DocTrees;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+import io.spring.boot.development.eclipse.javac.rules.Rule;
+import io.spring.boot.development.eclipse.javac.rules.Rules;
+
+/**
+ * A {@link TaskListener} that runs the {@link Rules} on each top-level class once javac
+ * has finished analyzing it. The {@code spring.factories} and expensive objects
+ * catalogue of each project are loaded once per compilation.
+ *
+ * @author Andy Wilkinson
+ */
+final class RuleRunner implements TaskListener {
+
+	private static final Path SRC_MAIN_JAVA = Paths.get("src", "main", "java");
+
+	private static final Path SRC_MAIN_RESOURCES = Paths.get("src", "main", "resources");
+
+	private static final Path SPRING_FACTORIES = Paths.get("META-INF",
+			"spring.factories");
+
+	private final DocTrees trees;
+
+	private final Elements elements;
+
+	private final Types types;
+
+	private final Map<Path, Optional<SpringFactories>> springFactories = new HashMap<>();
+
+	private final Map<Path, ExpensiveObjects> expensiveObjects = new HashMap<>();
+
+	private CompilationUnitTree compilationUnit;
+
+	private Rules rules;
+
+	RuleRunner(DocTrees trees, Elements elements, Types types) {
+		this.trees = trees;
+		this.elements = elements;
+		this.types = types;
+	}
+
+	@Override
+	public void started(TaskEvent event) {
+
+	}
+
+	@Override
+	public void finished(TaskEvent event) {
+		if (event.getKind() != TaskEvent.Kind.ANALYZE || event.getTypeElement() == null) {
+			return;
+		}
+		TreePath path = this.trees.getPath(event.getTypeElement());
+		if (path == null) {
+			return;
+		}
+		for (Rule rule : getRules(event.getCompilationUnit())) {
+			rule.check(path);
+		}
+	}
+
+	private Rules getRules(CompilationUnitTree compilationUnit) {
+		if (compilationUnit != this.compilationUnit) {
+			Path sourceRoot = getSourceRoot(compilationUnit);
+			CompilationUnitRuleContext context = new CompilationUnitRuleContext(
+					compilationUnit, this.trees, this.elements, this.types,
+					sourceRoot != null && sourceRoot.endsWith(SRC_MAIN_JAVA),
+					() -> (sourceRoot != null) ? findSpringFactories(sourceRoot) : null,
+					() -> (sourceRoot != null) ? findExpensiveObjects(sourceRoot)
+							: ExpensiveObjects.defaults());
+			this.rules = new Rules(context,
+					new JavacProblemReporter(context, this.trees));
+			this.compilationUnit = compilationUnit;
+		}
+		return this.rules;
+	}
+
+	private Path getSourceRoot(CompilationUnitTree compilationUnit) {
+		URI uri = compilationUnit.getSourceFile().toUri();
+		if (!"file".equals(uri.getScheme())) {
+			return null;
+		}
+		Path directory = Paths.get(uri).getParent();
+		if (compilationUnit.getPackageName() != null) {
+			Path packagePath = Paths.get("",
+					compilationUnit.getPackageName().toString().split("\\."));
+			if (directory == null || !directory.endsWith(packagePath)) {
+				return null;
+			}
+			for (int i = 0; i < packagePath.getNameCount(); i++) {
+				directory = directory.getParent();
+			}
+		}
+		return directory;
+	}
+
+	private SpringFactories findSpringFactories(Path sourceRoot) {
+		Path project = getProject(sourceRoot);
+		return this.springFactories.computeIfAbsent(project,
+				(key) -> Optional.ofNullable(loadSpringFactories(sourceRoot, key)))
+				.orElse(null);
+	}
+
+	private SpringFactories loadSpringFactories(Path sourceRoot, Path project) {
+		List<Path> candidates = new ArrayList<>();
+		candidates.add(sourceRoot);
+		candidates.add(project.resolve(SRC_MAIN_RESOURCES));
+		for (Path candidate : candidates) {
+			Path springFactories = candidate.resolve(SPRING_FACTORIES);
+			if (Files.isRegularFile(springFactories)) {
+				Properties properties = new Properties();
+				try (InputStream input = Files.newInputStream(springFactories)) {
+					properties.load(input);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(
+							"Failure while loading " + springFactories, ex);
+				}
+				return new SpringFactories(properties);
+			}
+		}
+		return null;
+	}
+
+	private ExpensiveObjects findExpensiveObjects(Path sourceRoot) {
+		return this.expensiveObjects.computeIfAbsent(getProject(sourceRoot),
+				this::loadExpensiveObjects);
+	}
+
+	private ExpensiveObjects loadExpensiveObjects(Path project) {
+		Path file = project.resolve(ExpensiveObjects.FILE_NAME);
+		if (!Files.isRegularFile(file)) {
+			return ExpensiveObjects.defaults();
+		}
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(file)) {
+			properties.load(input);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failure while loading " + file, ex);
+		}
+		return ExpensiveObjects.customize(properties);
+	}
+
+	private Path getProject(Path sourceRoot) {
+		if (sourceRoot.getNameCount() > 3
+				&& sourceRoot.getName(sourceRoot.getNameCount() - 3).toString()
+						.equals("src")) {
+			return sourceRoot.getParent().getParent().getParent();
+		}
+		return sourceRoot.getParent();
+	}
+
+}
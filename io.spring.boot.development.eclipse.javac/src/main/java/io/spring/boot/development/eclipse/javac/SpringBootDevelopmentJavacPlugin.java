@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac;
+
+import com.sun.source.util.DocTrees;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Plugin;
+
+/**
+ * A javac {@link Plugin} that checks the code that is being compiled using the same
+ * rules as the Eclipse plugin. The rules are run on the trees that javac has already
+ * parsed and attributed so a build that uses the plugin does not have to parse its
+ * source again to check it. The plugin is enabled with
+ * {@code -Xplugin:SpringBootDevelopment}.
+ *
+ * @author Andy Wilkinson
+ */
+public class SpringBootDevelopmentJavacPlugin implements Plugin {
+
+	@Override
+	public String getName() {
+		return "SpringBootDevelopment";
+	}
+
+	@Override
+	public void init(JavacTask task, String... args) {
+		task.addTaskListener(new RuleRunner(DocTrees.instance(task), task.getElements(),
+				task.getTypes()));
+	}
+
+}
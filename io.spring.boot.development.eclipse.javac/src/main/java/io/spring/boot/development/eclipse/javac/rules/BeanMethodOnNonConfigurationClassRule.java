@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree.Kind;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * {@link Rule} that reports a warning when a {@code @Bean} method is declared on a
+ * non-{@code @Configuration} class.
+ *
+ * @author Andy Wilkinson
+ */
+final class BeanMethodOnNonConfigurationClassRule extends Rule {
+
+	private static final String BEAN_ANNOTATION_NAME = "org.springframework.context.annotation.Bean";
+
+	private static final String CONFIGURATION_ANNOTATION_NAME = "org.springframework.context.annotation.Configuration";
+
+	BeanMethodOnNonConfigurationClassRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		Element element = getCurrentElement();
+		if (element instanceof TypeElement && type.getExtendsClause() != null
+				&& hasInheritedBeanMethod((TypeElement) element)
+				&& !TreeUtils.hasAnnotation(getContext().getTrees(), getCurrentPath(),
+						CONFIGURATION_ANNOTATION_NAME)) {
+			getProblemReporter().warning(
+					Problem.NON_CONFIGURATION_CLASS_HAS_INHERITED_BEAN_METHODS,
+					type.getExtendsClause());
+		}
+		return super.visitClass(type, p);
+	}
+
+	private boolean hasInheritedBeanMethod(TypeElement type) {
+		return hasBeanMethod(TreeUtils.getSuperclass(type));
+	}
+
+	private boolean hasBeanMethod(TypeElement type) {
+		if (type == null) {
+			return false;
+		}
+		return declaresBeanMethod(type) || hasBeanMethod(TreeUtils.getSuperclass(type));
+	}
+
+	private boolean declaresBeanMethod(TypeElement type) {
+		for (ExecutableElement method : ElementFilter
+				.methodsIn(type.getEnclosedElements())) {
+			if (TreeUtils.hasAnnotation(method, BEAN_ANNOTATION_NAME)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Void visitMethod(MethodTree method, Void p) {
+		AnnotationTree beanAnnotation = TreeUtils.findAnnotation(getContext().getTrees(),
+				getCurrentPath(), BEAN_ANNOTATION_NAME);
+		if (beanAnnotation != null) {
+			TreePath type = findDeclaringType();
+			if (type != null) {
+				ClassTree classTree = (ClassTree) type.getLeaf();
+				if (!classTree.getModifiers().getFlags().contains(Modifier.ABSTRACT)
+						&& !TreeUtils.hasAnnotation(getContext().getTrees(), type,
+								CONFIGURATION_ANNOTATION_NAME)) {
+					getProblemReporter().warning(
+							Problem.BEAN_METHOD_ON_NON_CONFIGURATION_CLASS,
+							beanAnnotation);
+				}
+			}
+		}
+		return super.visitMethod(method, p);
+	}
+
+	private TreePath findDeclaringType() {
+		TreePath type = TreeUtils.findAncestor(getCurrentPath(), ClassTree.class);
+		while (type != null && !isTypeDeclaration((ClassTree) type.getLeaf())) {
+			type = TreeUtils.findAncestor(type, ClassTree.class);
+		}
+		return type;
+	}
+
+	private boolean isTypeDeclaration(ClassTree type) {
+		return (type.getKind() == Kind.CLASS || type.getKind() == Kind.INTERFACE)
+				&& type.getSimpleName().length() > 0;
+	}
+
+}
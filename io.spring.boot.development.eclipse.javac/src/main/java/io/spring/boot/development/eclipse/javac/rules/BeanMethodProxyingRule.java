@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.MethodInvocationTree;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that reports problems related to proxying of {@code @Bean} methods.
+ *
+ * @author Andy Wilkinson
+ */
+final class BeanMethodProxyingRule extends Rule {
+
+	private static final Set<String> CONFIGURATION_ANNOTATION_NAMES = new HashSet<>(
+			Arrays.asList("org.springframework.context.annotation.Configuration",
+					"org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration"));
+
+	private static final String BEAN_ANNOTATION_NAME = "org.springframework.context.annotation.Bean";
+
+	BeanMethodProxyingRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		Element element = getCurrentElement();
+		if (element instanceof TypeElement) {
+			if (beanMethodsAreProxied(TreeUtils.getSuperclass((TypeElement) element))) {
+				for (String name : CONFIGURATION_ANNOTATION_NAMES) {
+					AnnotationMirror annotation = TreeUtils.findAnnotation(element, name);
+					if (annotation != null && !beanMethodsAreProxied(annotation)) {
+						AnnotationTree annotationTree = TreeUtils.findAnnotation(
+								getContext().getTrees(), getCurrentPath(), name);
+						getProblemReporter().error(
+								Problem.MISMATCHED_BEAN_METHOD_PROXYING,
+								(annotationTree != null) ? annotationTree : type);
+						break;
+					}
+				}
+			}
+		}
+		return super.visitClass(type, p);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		Element invokedMethod = getElement(methodInvocation.getMethodSelect());
+		if (invokedMethod instanceof ExecutableElement
+				&& TreeUtils.hasAnnotation(invokedMethod, BEAN_ANNOTATION_NAME)) {
+			if (!beanMethodsAreProxied(
+					(TypeElement) invokedMethod.getEnclosingElement())) {
+				getProblemReporter().error(Problem.INVOCATION_OF_UNPROXIED_BEAN_METHOD,
+						methodInvocation);
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private boolean beanMethodsAreProxied(TypeElement type) {
+		if (type == null) {
+			return false;
+		}
+		for (String name : CONFIGURATION_ANNOTATION_NAMES) {
+			AnnotationMirror annotation = TreeUtils.findAnnotation(type, name);
+			if (annotation != null && beanMethodsAreProxied(annotation)) {
+				return true;
+			}
+		}
+		return beanMethodsAreProxied(TreeUtils.getSuperclass(type));
+	}
+
+	private boolean beanMethodsAreProxied(AnnotationMirror configurationAnnotation) {
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = getContext()
+				.getElements().getElementValuesWithDefaults(configurationAnnotation);
+		for (ExecutableElement attribute : values.keySet()) {
+			if (attribute.getSimpleName().contentEquals("proxyBeanMethods")) {
+				return Boolean.TRUE.equals(values.get(attribute).getValue());
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.type.TypeMirror;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about values that are boxed using a primitive wrapper's
+ * {@code valueOf} method or constructor only to be immediately unboxed or converted to
+ * a {@code String}, for example {@code Integer.valueOf(string).intValue()} or
+ * {@code Long.valueOf(value).toString()}, and recommends the use of the wrapper's
+ * static {@code parse} or {@code toString} method instead.
+ *
+ * @author Andy Wilkinson
+ */
+class BoxingRoundTripRule extends Rule {
+
+	BoxingRoundTripRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		ExpressionTree receiver = TreeUtils.getReceiver(methodInvocation);
+		ExpressionTree boxed = (receiver != null
+				&& methodInvocation.getArguments().isEmpty()) ? getBoxedArgument(receiver)
+						: null;
+		if (boxed != null) {
+			TypeMirror wrapperType = getType(receiver);
+			TypeMirror boxedType = getType(boxed);
+			String primitive = TreeUtils.getPrimitiveTypeName(wrapperType);
+			if (primitive != null && boxedType != null) {
+				check(methodInvocation, primitive, wrapperType, boxedType);
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private void check(MethodInvocationTree methodInvocation, String primitive,
+			TypeMirror wrapperType, TypeMirror boxedType) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method == null) {
+			return;
+		}
+		String name = method.getSimpleName().toString();
+		String wrapper = getContext().getTypes().asElement(wrapperType).getSimpleName()
+				.toString();
+		if (name.equals(primitive + "Value") && TreeUtils.getQualifiedName(boxedType)
+				.equals(String.class.getName())) {
+			getProblemReporter().warning(Problem.BOXING_ROUND_TRIP, methodInvocation,
+					wrapper, wrapper + "." + getParseMethodName(primitive) + "(String)");
+		}
+		else if (name.equals("toString") && boxedType.getKind().isPrimitive()) {
+			getProblemReporter().warning(Problem.BOXING_ROUND_TRIP, methodInvocation,
+					wrapper, wrapper + ".toString(" + primitive + ")");
+		}
+	}
+
+	private ExpressionTree getBoxedArgument(ExpressionTree expression) {
+		if (expression.getKind() == Kind.METHOD_INVOCATION) {
+			MethodInvocationTree methodInvocation = (MethodInvocationTree) expression;
+			Element method = getElement(methodInvocation.getMethodSelect());
+			if (methodInvocation.getArguments().size() == 1 && method != null
+					&& method.getSimpleName().contentEquals("valueOf")
+					&& TreeUtils.getPrimitiveTypeName(
+							method.getEnclosingElement().asType()) != null) {
+				return methodInvocation.getArguments().get(0);
+			}
+		}
+		else if (expression.getKind() == Kind.NEW_CLASS) {
+			NewClassTree newClass = (NewClassTree) expression;
+			if (newClass.getClassBody() == null && newClass.getArguments().size() == 1
+					&& TreeUtils.getPrimitiveTypeName(getType(newClass)) != null) {
+				return newClass.getArguments().get(0);
+			}
+		}
+		return null;
+	}
+
+	private String getParseMethodName(String primitive) {
+		return "parse" + Character.toUpperCase(primitive.charAt(0))
+				+ primitive.substring(1);
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about calls to {@link String#equals(Object)} on the result
+ * of {@link String#toLowerCase()} or {@link String#toUpperCase()} and recommends the use
+ * of {@link String#equalsIgnoreCase(String)} instead. A call is only reported when its
+ * argument has the same case conversion applied to it or is a string literal that the
+ * conversion leaves unchanged. As the conversions are locale-sensitive and
+ * {@code equalsIgnoreCase} is not, the result of the comparison can still differ, for
+ * example in the Turkish locale.
+ *
+ * @author Andy Wilkinson
+ */
+class CaseConversionBeforeEqualsRule extends Rule {
+
+	CaseConversionBeforeEqualsRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		ExpressionTree receiver = TreeUtils.getReceiver(methodInvocation);
+		if (isStringMethod(methodInvocation, "equals", 1)
+				&& receiver != null && receiver.getKind() == Kind.METHOD_INVOCATION) {
+			String conversion = getCaseConversion((MethodInvocationTree) receiver);
+			if (conversion != null && isConverted(
+					methodInvocation.getArguments().get(0), conversion)) {
+				getProblemReporter().warning(Problem.CASE_CONVERSION_BEFORE_EQUALS,
+						methodInvocation.getMethodSelect(), conversion);
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private String getCaseConversion(MethodInvocationTree methodInvocation) {
+		if (isStringMethod(methodInvocation, "toLowerCase", 0)) {
+			return "toLowerCase";
+		}
+		if (isStringMethod(methodInvocation, "toUpperCase", 0)) {
+			return "toUpperCase";
+		}
+		return null;
+	}
+
+	private boolean isConverted(ExpressionTree argument, String conversion) {
+		if (argument.getKind() == Kind.STRING_LITERAL) {
+			String value = ((LiteralTree) argument).getValue().toString();
+			return value.equals(conversion.equals("toLowerCase") ? value.toLowerCase()
+					: value.toUpperCase());
+		}
+		return argument.getKind() == Kind.METHOD_INVOCATION
+				&& TreeUtils.getReceiver((MethodInvocationTree) argument) != null
+				&& isStringMethod((MethodInvocationTree) argument, conversion, 0);
+	}
+
+	private boolean isStringMethod(MethodInvocationTree methodInvocation, String name,
+			int arguments) {
+		return methodInvocation.getArguments().size() == arguments
+				&& TreeUtils.isMethod(getElement(methodInvocation.getMethodSelect()),
+						String.class.getName(), name);
+	}
+
+}
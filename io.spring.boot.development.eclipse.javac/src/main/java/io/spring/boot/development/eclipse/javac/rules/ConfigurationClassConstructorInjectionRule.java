@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that recommends the use of constructor injection rather than field
+ * injection in {@code @Configuration} classes.
+ *
+ * @author Andy Wilkinson
+ */
+final class ConfigurationClassConstructorInjectionRule extends Rule {
+
+	ConfigurationClassConstructorInjectionRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		if (getContext().isMainCode()
+				&& TreeUtils.hasAnnotation(getContext().getTrees(), getCurrentPath(),
+						"org.springframework.context.annotation.Configuration")) {
+			analyzeFields(type);
+		}
+		return super.visitClass(type, p);
+	}
+
+	private void analyzeFields(ClassTree type) {
+		for (Tree member : type.getMembers()) {
+			if (member instanceof VariableTree) {
+				AnnotationTree autowired = TreeUtils.findAnnotation(
+						getContext().getTrees(), new TreePath(getCurrentPath(), member),
+						"org.springframework.beans.factory.annotation.Autowired");
+				if (autowired != null) {
+					getProblemReporter().warning(
+							Problem.CONFIGURATION_CLASS_CONSTRUCTOR_INJECTION, autowired);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about calls to {@link String#equals(Object)} with an empty
+ * string literal and recommends the use of {@link String#isEmpty()} instead. Calls
+ * where the empty string literal is the receiver are not reported as they are
+ * {@code null}-safe.
+ *
+ * @author Andy Wilkinson
+ */
+class EmptyStringEqualsRule extends Rule {
+
+	EmptyStringEqualsRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		ExpressionTree receiver = TreeUtils.getReceiver(methodInvocation);
+		if (receiver != null && receiver.getKind() != Kind.STRING_LITERAL
+				&& methodInvocation.getArguments().size() == 1
+				&& TreeUtils.isMethod(getElement(methodInvocation.getMethodSelect()),
+						String.class.getName(), "equals")) {
+			ExpressionTree argument = methodInvocation.getArguments().get(0);
+			if (argument.getKind() == Kind.STRING_LITERAL
+					&& ((LiteralTree) argument).getValue().toString().isEmpty()) {
+				getProblemReporter().warning(Problem.EQUALS_EMPTY_STRING,
+						methodInvocation.getMethodSelect());
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about objects that are expensive to create, as described by
+ * the project's {@link ExpensiveObjects catalogue}, being created each time an instance
+ * method is called. A separate warning is reported when an object is created
+ * repeatedly in a loop or a lambda expression. Objects that are created in
+ * constructors, static methods, initializers and {@code @Bean} methods are not
+ * reported, even in a loop or a lambda expression, as they are typically only created
+ * during startup.
+ *
+ * @author Andy Wilkinson
+ */
+class ExpensiveObjectCreationRule extends Rule {
+
+	private static final String BEAN_ANNOTATION_CLASS_NAME = "org.springframework.context.annotation.Bean";
+
+	ExpensiveObjectCreationRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitNewClass(NewClassTree newClass, Void p) {
+		Element constructor = getCurrentElement();
+		if (constructor != null && constructor.getKind() == ElementKind.CONSTRUCTOR) {
+			check(newClass.getIdentifier(),
+					(TypeElement) constructor.getEnclosingElement(), "new");
+		}
+		return super.visitNewClass(newClass, p);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method != null && method.getKind() == ElementKind.METHOD
+				&& method.getModifiers().contains(Modifier.STATIC)) {
+			check(methodInvocation.getMethodSelect(),
+					(TypeElement) method.getEnclosingElement(),
+					method.getSimpleName().toString());
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private void check(Tree problemTree, TypeElement type, String name) {
+		String className = type.getQualifiedName().toString();
+		ExpensiveObjects expensiveObjects = getContext().getExpensiveObjects();
+		if (!expensiveObjects.isExpensive(className, name)
+				|| !isCalledRepeatedly(findEnclosingDeclaration())) {
+			return;
+		}
+		boolean threadSafe = expensiveObjects.isThreadSafe(className, name);
+		String simpleName = type.getSimpleName().toString();
+		String repetition = findRepetition();
+		if (repetition != null) {
+			getProblemReporter().warning(threadSafe
+					? Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY
+					: Problem.UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_REPEATEDLY,
+					problemTree, simpleName, repetition);
+		}
+		else {
+			getProblemReporter().warning(threadSafe
+					? Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL
+					: Problem.UNSHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+					problemTree, simpleName);
+		}
+	}
+
+	private boolean isCalledRepeatedly(TreePath declaration) {
+		if (declaration == null || declaration.getLeaf().getKind() != Tree.Kind.METHOD) {
+			return false;
+		}
+		Element method = getContext().getTrees().getElement(declaration);
+		return method != null && method.getKind() == ElementKind.METHOD
+				&& !method.getModifiers().contains(Modifier.STATIC)
+				&& !TreeUtils.hasAnnotation(method, BEAN_ANNOTATION_CLASS_NAME);
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+
+/**
+ * A {@link Rule} that checks that a {@code FailureAnalyzer} is listed in
+ * {@code META-INF/spring.factories}.
+ *
+ * @author Andy Wilkinson
+ */
+class FailureAnalyzerSpringFactoriesRule extends Rule {
+
+	private static final String CLASS_NAME_FAILURE_ANALYZER = "org.springframework.boot.diagnostics.FailureAnalyzer";
+
+	FailureAnalyzerSpringFactoriesRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		Element element = getCurrentElement();
+		if (element instanceof TypeElement
+				&& isFailureAnalyzer(type, (TypeElement) element)
+				&& getContext().isMainCode()
+				&& !isListedInSpringFactories((TypeElement) element)) {
+			getProblemReporter().error(Problem.FAILURE_ANALYZER_NOT_IN_SPRING_FACTORIES,
+					type);
+		}
+		return super.visitClass(type, p);
+	}
+
+	private boolean isListedInSpringFactories(TypeElement element) {
+		SpringFactories springFactories = getContext().getSpringFactories();
+		return springFactories != null && springFactories.get(CLASS_NAME_FAILURE_ANALYZER)
+				.contains(element.getQualifiedName().toString());
+	}
+
+	private boolean isFailureAnalyzer(ClassTree type, TypeElement element) {
+		if (type.getKind() != Kind.CLASS
+				|| type.getModifiers().getFlags().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		return TreeUtils.getImplementedInterfaces(element)
+				.contains(CLASS_NAME_FAILURE_ANALYZER);
+	}
+
+}
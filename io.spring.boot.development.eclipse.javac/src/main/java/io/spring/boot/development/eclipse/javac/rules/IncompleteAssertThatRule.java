@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ExpressionStatementTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that detects incomplete invocations of AssertJ's
+ * {@code Assertions.assertThat(…)} methods. An invocation is deemed to be incomplete if
+ * no methods are chained to the result of the invocation.
+ *
+ * @author Andy Wilkinson
+ */
+class IncompleteAssertThatRule extends Rule {
+
+	IncompleteAssertThatRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitExpressionStatement(ExpressionStatementTree expressionStatement,
+			Void p) {
+		MethodInvocationCollector collector = new MethodInvocationCollector();
+		collector.scan(getCurrentPath(), null);
+		findAssertThatInvocation(collector.invocations).ifPresent((assertThat) -> {
+			if (!isInvoked(assertThat.getParentPath())) {
+				getProblemReporter().error(Problem.INCOMPLETE_USE_OF_ASSERT_THAT,
+						assertThat.getLeaf());
+			}
+		});
+		return null;
+	}
+
+	private boolean isInvoked(TreePath parent) {
+		Tree leaf = parent.getLeaf();
+		if (leaf instanceof MemberSelectTree) {
+			leaf = parent.getParentPath().getLeaf();
+		}
+		return leaf instanceof MethodInvocationTree;
+	}
+
+	private Optional<TreePath> findAssertThatInvocation(List<TreePath> invocations) {
+		for (TreePath invocation : invocations) {
+			if (isAssertThatInvocation(invocation)) {
+				return Optional.of(invocation);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean isAssertThatInvocation(TreePath invocation) {
+		Element method = getContext().getTrees().getElement(new TreePath(invocation,
+				((MethodInvocationTree) invocation.getLeaf()).getMethodSelect()));
+		if (method == null) {
+			return false;
+		}
+		Element declaringClass = method.getEnclosingElement();
+		return declaringClass instanceof TypeElement
+				&& ((TypeElement) declaringClass).getQualifiedName()
+						.contentEquals("org.assertj.core.api.Assertions")
+				&& method.getSimpleName().contentEquals("assertThat");
+	}
+
+	private static final class MethodInvocationCollector
+			extends TreePathScanner<Void, Void> {
+
+		private final List<TreePath> invocations = new ArrayList<TreePath>();
+
+		@Override
+		public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+			this.invocations.add(getCurrentPath());
+			return super.visitMethodInvocation(methodInvocation, p);
+		}
+
+	}
+
+}
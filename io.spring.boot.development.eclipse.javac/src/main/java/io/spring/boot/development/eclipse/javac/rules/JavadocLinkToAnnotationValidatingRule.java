@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+
+import com.sun.source.doctree.DocCommentTree;
+import com.sun.source.doctree.DocTree;
+import com.sun.source.doctree.LinkTree;
+import com.sun.source.doctree.TextTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.DocTreePath;
+import com.sun.source.util.DocTreePathScanner;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that validates that an {@code @link} to an annotation use
+ * {@code @$AnnotationName} as the link's text. Parsing a Javadoc comment is relatively
+ * expensive so only comments that contain a link are parsed.
+ *
+ * @author Andy Wilkinson
+ */
+class JavadocLinkToAnnotationValidatingRule extends Rule {
+
+	JavadocLinkToAnnotationValidatingRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		visitJavadoc();
+		return super.visitClass(type, p);
+	}
+
+	@Override
+	public Void visitMethod(MethodTree method, Void p) {
+		visitJavadoc();
+		return super.visitMethod(method, p);
+	}
+
+	@Override
+	public Void visitVariable(VariableTree variable, Void p) {
+		visitJavadoc();
+		return super.visitVariable(variable, p);
+	}
+
+	private void visitJavadoc() {
+		Element element = getCurrentElement();
+		String comment = (element != null)
+				? getContext().getElements().getDocComment(element) : null;
+		if (comment == null || !comment.contains("@link")) {
+			return;
+		}
+		DocCommentTree javadoc = getContext().getTrees()
+				.getDocCommentTree(getCurrentPath());
+		if (javadoc != null) {
+			new LinkScanner().scan(new DocTreePath(getCurrentPath(), javadoc), null);
+		}
+	}
+
+	private boolean linkTextIsCorrect(List<? extends DocTree> label,
+			String annotationName) {
+		if (label.isEmpty()) {
+			return false;
+		}
+		DocTree possibleText = label.get(0);
+		if (possibleText instanceof TextTree) {
+			String text = ((TextTree) possibleText).getBody().trim();
+			return text.equals("@" + annotationName) || !text.equals(annotationName);
+		}
+		return true;
+	}
+
+	private final class LinkScanner extends DocTreePathScanner<Void, Void> {
+
+		@Override
+		public Void visitLink(LinkTree link, Void p) {
+			if (link.getKind() == DocTree.Kind.LINK && link.getReference() != null) {
+				Element element = getContext().getTrees().getElement(
+						new DocTreePath(getCurrentPath(), link.getReference()));
+				if (element != null && element.getKind() == ElementKind.ANNOTATION_TYPE) {
+					String annotationName = element.getSimpleName().toString();
+					if (!linkTextIsCorrect(link.getLabel(), annotationName)) {
+						getProblemReporter().warning(Problem.INCORRECT_ANNOTATION_LINK,
+								link, getCurrentPath().getDocComment(), annotationName,
+								annotationName);
+					}
+				}
+			}
+			return super.visitLink(link, p);
+		}
+
+	}
+
+}
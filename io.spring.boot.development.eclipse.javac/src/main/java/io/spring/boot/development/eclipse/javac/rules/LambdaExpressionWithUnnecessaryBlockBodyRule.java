@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.List;
+
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.tree.SwitchTree;
+import com.sun.source.tree.ThrowTree;
+import com.sun.source.util.TreeScanner;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that reports a warning when a lambda expression's
+ * {@link LambdaExpressionTree#getBody() body} is a {@link BlockTree block} that contains
+ * a single {@link StatementTree statement}.
+ *
+ * @author Andy Wilkinson
+ */
+class LambdaExpressionWithUnnecessaryBlockBodyRule extends Rule {
+
+	LambdaExpressionWithUnnecessaryBlockBodyRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitLambdaExpression(LambdaExpressionTree lambda, Void p) {
+		if (lambda.getBody() instanceof BlockTree) {
+			List<? extends StatementTree> statements = ((BlockTree) lambda.getBody())
+					.getStatements();
+			if (statements.size() == 1) {
+				checkSingleStatement(statements.get(0));
+			}
+		}
+		return super.visitLambdaExpression(lambda, p);
+	}
+
+	private void checkSingleStatement(StatementTree singleStatement) {
+		if (singleStatement instanceof SwitchTree
+				|| singleStatement instanceof ThrowTree) {
+			return;
+		}
+		BlockCountingScanner blockCounter = new BlockCountingScanner();
+		singleStatement.accept(blockCounter, null);
+		if (blockCounter.blocks == 0) {
+			getProblemReporter().warning(
+					Problem.LAMBDA_EXPRESSION_BODY_IS_SINGLE_STATEMENT_BLOCK,
+					singleStatement);
+		}
+	}
+
+	private static class BlockCountingScanner extends TreeScanner<Void, Void> {
+
+		private int blocks;
+
+		@Override
+		public Void visitBlock(BlockTree node, Void p) {
+			this.blocks++;
+			return super.visitBlock(node, p);
+		}
+
+	}
+
+}
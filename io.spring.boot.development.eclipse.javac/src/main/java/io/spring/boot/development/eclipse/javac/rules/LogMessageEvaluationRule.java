@@ -0,0 +1,226 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.IfTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.Tree.Kind;
+import com.sun.source.tree.UnaryTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about calls to the {@code trace}, {@code debug} and
+ * {@code info} methods of Commons Logging's {@code Log} and SLF4J's {@code Logger} with
+ * arguments that are evaluated even when the level is disabled. An argument is
+ * evaluated eagerly when it contains a method call, such as {@code String.format} or
+ * {@code toString()}, or a {@code String} concatenation that is not a constant. A call
+ * is not reported when it is guarded by an {@code if} statement that checks that the
+ * level, or a finer level, is enabled or follows an {@code if} statement that returns
+ * when it is not.
+ *
+ * @author Andy Wilkinson
+ */
+class LogMessageEvaluationRule extends Rule {
+
+	private static final List<String> LEVELS = Arrays.asList("trace", "debug", "info");
+
+	private static final List<String> LOGGER_CLASS_NAMES = Arrays
+			.asList("org.apache.commons.logging.Log", "org.slf4j.Logger");
+
+	private static final String LOG_MESSAGE_CLASS_NAME = "org.springframework.core.log.LogMessage";
+
+	LogMessageEvaluationRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		String level = getLevel(methodInvocation);
+		if (level != null && evaluatesEagerly(methodInvocation)
+				&& !isGuarded(getCurrentPath(), level)) {
+			getProblemReporter().warning(Problem.LOG_MESSAGE_EVALUATED_EAGERLY,
+					methodInvocation.getMethodSelect(), level);
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private String getLevel(MethodInvocationTree methodInvocation) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method == null || method.getKind() != ElementKind.METHOD
+				|| !LOGGER_CLASS_NAMES.contains(((TypeElement) method
+						.getEnclosingElement()).getQualifiedName().toString())) {
+			return null;
+		}
+		String name = method.getSimpleName().toString();
+		return LEVELS.contains(name) ? name : null;
+	}
+
+	private boolean evaluatesEagerly(MethodInvocationTree methodInvocation) {
+		EagerEvaluationDetector detector = new EagerEvaluationDetector();
+		for (ExpressionTree argument : methodInvocation.getArguments()) {
+			if (Boolean.TRUE.equals(detector.scan(argument, null))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isGuarded(TreePath path, String level) {
+		Tree child = path.getLeaf();
+		TreePath parent = path.getParentPath();
+		while (parent != null && parent.getLeaf().getKind() != Kind.METHOD
+				&& parent.getLeaf().getKind() != Kind.CLASS) {
+			Tree tree = parent.getLeaf();
+			if (tree instanceof IfTree
+					&& ((IfTree) tree).getThenStatement() == child
+					&& checksLevel(((IfTree) tree).getCondition(), level)) {
+				return true;
+			}
+			if (tree instanceof BlockTree
+					&& isPrecededByReturnGuard((BlockTree) tree, child, level)) {
+				return true;
+			}
+			child = tree;
+			parent = parent.getParentPath();
+		}
+		return false;
+	}
+
+	private boolean isPrecededByReturnGuard(BlockTree block, Tree statement,
+			String level) {
+		for (StatementTree candidate : block.getStatements()) {
+			if (candidate == statement) {
+				return false;
+			}
+			if (candidate instanceof IfTree) {
+				IfTree ifStatement = (IfTree) candidate;
+				ExpressionTree condition = unwrap(ifStatement.getCondition());
+				if (condition.getKind() == Kind.LOGICAL_COMPLEMENT
+						&& checksLevel(((UnaryTree) condition).getExpression(), level)
+						&& exits(ifStatement.getThenStatement())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private ExpressionTree unwrap(ExpressionTree expression) {
+		return (expression instanceof ParenthesizedTree)
+				? unwrap(((ParenthesizedTree) expression).getExpression()) : expression;
+	}
+
+	private boolean exits(StatementTree statement) {
+		if (statement instanceof BlockTree) {
+			List<? extends StatementTree> statements = ((BlockTree) statement)
+					.getStatements();
+			return statements.size() == 1 && exits(statements.get(0));
+		}
+		return statement.getKind() == Kind.RETURN || statement.getKind() == Kind.THROW;
+	}
+
+	private boolean checksLevel(ExpressionTree condition, String level) {
+		List<String> levels = LEVELS.subList(0, LEVELS.indexOf(level) + 1);
+		Boolean found = new TreeScanner<Boolean, Void>() {
+
+			@Override
+			public Boolean visitMethodInvocation(MethodInvocationTree methodInvocation,
+					Void p) {
+				String name = getName(methodInvocation.getMethodSelect());
+				if (methodInvocation.getArguments().isEmpty()) {
+					for (String candidate : levels) {
+						if (name.equals(getLevelCheck(candidate))) {
+							return true;
+						}
+					}
+				}
+				return super.visitMethodInvocation(methodInvocation, p);
+			}
+
+			@Override
+			public Boolean reduce(Boolean r1, Boolean r2) {
+				return Boolean.TRUE.equals(r1) || Boolean.TRUE.equals(r2);
+			}
+
+		}.scan(condition, null);
+		return Boolean.TRUE.equals(found);
+	}
+
+	private String getName(ExpressionTree methodSelect) {
+		if (methodSelect instanceof MemberSelectTree) {
+			return ((MemberSelectTree) methodSelect).getIdentifier().toString();
+		}
+		if (methodSelect instanceof IdentifierTree) {
+			return ((IdentifierTree) methodSelect).getName().toString();
+		}
+		return "";
+	}
+
+	private String getLevelCheck(String level) {
+		return "is" + Character.toUpperCase(level.charAt(0)) + level.substring(1)
+				+ "Enabled";
+	}
+
+	private final class EagerEvaluationDetector extends TreeScanner<Boolean, Void> {
+
+		@Override
+		public Boolean visitMethodInvocation(MethodInvocationTree methodInvocation,
+				Void p) {
+			Element method = getElement(methodInvocation.getMethodSelect());
+			if (method == null || !((TypeElement) method.getEnclosingElement())
+					.getQualifiedName().contentEquals(LOG_MESSAGE_CLASS_NAME)) {
+				return true;
+			}
+			return super.visitMethodInvocation(methodInvocation, p);
+		}
+
+		@Override
+		public Boolean visitBinary(BinaryTree binary, Void p) {
+			if (binary.getKind() == Kind.PLUS
+					&& TreeUtils.getQualifiedName(getType(binary))
+							.equals(String.class.getName())
+					&& !isConstant(binary)) {
+				return true;
+			}
+			return super.visitBinary(binary, p);
+		}
+
+		@Override
+		public Boolean visitLambdaExpression(LambdaExpressionTree lambdaExpression,
+				Void p) {
+			return false;
+		}
+
+		@Override
+		public Boolean reduce(Boolean r1, Boolean r2) {
+			return Boolean.TRUE.equals(r1) || Boolean.TRUE.equals(r2);
+		}
+
+	}
+
+}
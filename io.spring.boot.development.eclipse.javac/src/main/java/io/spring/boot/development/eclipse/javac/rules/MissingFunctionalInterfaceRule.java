@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that reports a warning when a public or protected functional interface
+ * is not annotated with {@link FunctionalInterface}.
+ *
+ * @author Andy Wilkinson
+ */
+class MissingFunctionalInterfaceRule extends Rule {
+
+	MissingFunctionalInterfaceRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		if (getContext().isMainCode() && isFunctionalInterface(type)
+				&& isPublicOrProtected(type)
+				&& isNotAnnotatedWithFunctionalInterface()) {
+			getProblemReporter().warning(Problem.MISSING_FUNCTIONAL_INTERFACE_ANNOTATION,
+					type);
+		}
+		return super.visitClass(type, p);
+	}
+
+	private boolean isPublicOrProtected(ClassTree type) {
+		Set<Modifier> modifiers = type.getModifiers().getFlags();
+		return modifiers.contains(Modifier.PUBLIC)
+				|| modifiers.contains(Modifier.PROTECTED);
+	}
+
+	private boolean isFunctionalInterface(ClassTree type) {
+		if (type.getKind() != Kind.INTERFACE) {
+			return false;
+		}
+		Element element = getCurrentElement();
+		return element instanceof TypeElement && getContext().getElements()
+				.isFunctionalInterface((TypeElement) element);
+	}
+
+	private boolean isNotAnnotatedWithFunctionalInterface() {
+		return !TreeUtils.hasAnnotation(getContext().getTrees(), getCurrentPath(),
+				FunctionalInterface.class.getName());
+	}
+
+}
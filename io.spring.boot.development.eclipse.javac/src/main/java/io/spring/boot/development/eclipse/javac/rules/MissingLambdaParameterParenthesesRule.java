@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import com.sun.source.tree.LambdaExpressionTree;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that reports a warning when an expression for a single-parameter lambda
+ * does not wrap the parameter in parentheses. javac's trees do not record whether the
+ * parameters were enclosed in parentheses so the source of the lambda is examined
+ * instead.
+ *
+ * @author Andy Wilkinson
+ */
+class MissingLambdaParameterParenthesesRule extends Rule {
+
+	MissingLambdaParameterParenthesesRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitLambdaExpression(LambdaExpressionTree lambda, Void p) {
+		if (lambda.getParameters().size() == 1 && !hasParentheses(lambda)) {
+			getProblemReporter().warning(
+					Problem.MISSING_PARENTHESES_AROUND_LAMBDA_PARAMETER,
+					lambda.getParameters().get(0));
+		}
+		return super.visitLambdaExpression(lambda, p);
+	}
+
+	private boolean hasParentheses(LambdaExpressionTree lambda) {
+		long start = getContext().getTrees().getSourcePositions()
+				.getStartPosition(getContext().getCompilationUnit(), lambda);
+		CharSequence source = getContext().getSource();
+		return start < 0 || start >= source.length() || source.charAt((int) start) == '(';
+	}
+
+}
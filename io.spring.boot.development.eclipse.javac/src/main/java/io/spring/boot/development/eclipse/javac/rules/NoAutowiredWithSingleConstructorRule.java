@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that identifies the unnecessary use of {@code @Autowired} on classes
+ * with a single constructor.
+ *
+ * @author Andy Wilkinson
+ */
+class NoAutowiredWithSingleConstructorRule extends Rule {
+
+	NoAutowiredWithSingleConstructorRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		List<MethodTree> constructors = getConstructors(type);
+		if (constructors.size() == 1) {
+			analyzeAnnotations(new TreePath(getCurrentPath(), constructors.get(0)));
+		}
+		return super.visitClass(type, p);
+	}
+
+	private void analyzeAnnotations(TreePath constructor) {
+		AnnotationTree autowired = TreeUtils.findAnnotation(getContext().getTrees(),
+				constructor, "org.springframework.beans.factory.annotation.Autowired");
+		if (autowired != null) {
+			getProblemReporter().warning(Problem.AUTOWIRED_SINGLE_CONSTRUCTOR, autowired);
+		}
+	}
+
+	private List<MethodTree> getConstructors(ClassTree type) {
+		List<MethodTree> constructors = new ArrayList<MethodTree>();
+		for (Tree member : type.getMembers()) {
+			if (member instanceof MethodTree
+					&& ((MethodTree) member).getName().contentEquals("<init>")) {
+				constructors.add((MethodTree) member);
+			}
+		}
+		return constructors;
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ClassTree;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns when {@code @Component} is used in main code.
+ *
+ * @author Andy Wilkinson
+ */
+class NoComponentInMainCodeRule extends Rule {
+
+	NoComponentInMainCodeRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		Element element = getCurrentElement();
+		if (element instanceof TypeElement && isInSpringBootPackage((TypeElement) element)
+				&& getContext().isMainCode() && isComponent()) {
+			getProblemReporter().warning(Problem.MAIN_CODE_COMPONENT, type);
+		}
+		return super.visitClass(type, p);
+	}
+
+	private boolean isInSpringBootPackage(TypeElement element) {
+		return element.getQualifiedName().toString()
+				.startsWith("org.springframework.boot.");
+	}
+
+	private boolean isComponent() {
+		return TreeUtils.hasAnnotation(getContext().getTrees(), getCurrentPath(),
+				"org.springframework.stereotype.Component");
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.Stack;
+import java.util.function.Consumer;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import com.sun.source.tree.CatchTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.TryTree;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that recommends the use of AssertJ's exception assert support is used
+ * rather than {@code fail()} in a try-block and {@code assertThat()} in a catch-block.
+ *
+ * @author Andy Wilkinson
+ */
+class PreferAssertJExceptionAssertionRule extends Rule {
+
+	private Stack<Consumer<MethodInvocationTree>> methodInvocationHandler = new Stack<>();
+
+	PreferAssertJExceptionAssertionRule(RuleContext context,
+			TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitTry(TryTree tryTree, Void p) {
+		this.methodInvocationHandler.push(this::checkForAssertFail);
+		try {
+			return super.visitTry(tryTree, p);
+		}
+		finally {
+			this.methodInvocationHandler.pop();
+		}
+	}
+
+	@Override
+	public Void visitCatch(CatchTree catchTree, Void p) {
+		this.methodInvocationHandler.push(this::checkForAssertionsAssertThat);
+		try {
+			return super.visitCatch(catchTree, p);
+		}
+		finally {
+			this.methodInvocationHandler.pop();
+		}
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		if (!this.methodInvocationHandler.isEmpty()) {
+			this.methodInvocationHandler.peek().accept(methodInvocation);
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private void checkForAssertFail(MethodInvocationTree methodInvocation) {
+		checkForUnwantedInvocation(methodInvocation, "org.junit.Assert", "fail");
+	}
+
+	private void checkForAssertionsAssertThat(MethodInvocationTree methodInvocation) {
+		checkForUnwantedInvocation(methodInvocation, "org.assertj.core.api.Assertions",
+				"assertThat");
+	}
+
+	private void checkForUnwantedInvocation(MethodInvocationTree methodInvocation,
+			String declaringClassName, String methodName) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method == null || !method.getSimpleName().contentEquals(methodName)) {
+			return;
+		}
+		Element declaringClass = method.getEnclosingElement();
+		if (declaringClass instanceof TypeElement && ((TypeElement) declaringClass)
+				.getQualifiedName().contentEquals(declaringClassName)) {
+			TreePath containingMethod = TreeUtils.findAncestor(getCurrentPath(),
+					MethodTree.class);
+			if (containingMethod != null && !returnsException(containingMethod)) {
+				getProblemReporter().warning(
+						Problem.ASSERTJ_EXCEPTION_ASSERTION_SUPPORT_NOT_USED,
+						methodInvocation);
+			}
+		}
+	}
+
+	private boolean returnsException(TreePath method) {
+		Element element = getContext().getTrees().getElement(method);
+		if (!(element instanceof ExecutableElement)) {
+			return false;
+		}
+		TypeMirror returnType = ((ExecutableElement) element).getReturnType();
+		TypeElement exception = getContext().getElements()
+				.getTypeElement("java.lang.Exception");
+		return exception != null && isCastCompatible(returnType, exception.asType());
+	}
+
+	private boolean isCastCompatible(TypeMirror type, TypeMirror exception) {
+		if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.TYPEVAR) {
+			return false;
+		}
+		Types types = getContext().getTypes();
+		TypeMirror erasure = types.erasure(type);
+		return types.asElement(erasure).getKind() == ElementKind.INTERFACE
+				|| types.isSubtype(erasure, exception)
+				|| types.isSubtype(exception, erasure);
+	}
+
+}
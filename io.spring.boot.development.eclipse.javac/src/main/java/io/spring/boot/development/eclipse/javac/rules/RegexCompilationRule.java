@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about regular expressions that are constant but are
+ * compiled each time a method is called, either explicitly using
+ * {@code Pattern.compile} or {@code Pattern.matches}, or implicitly using
+ * {@code String}'s {@code matches}, {@code replaceAll}, {@code replaceFirst} and
+ * {@code split} methods. A separate warning is reported when the regular expression
+ * is compiled repeatedly in a loop or a lambda expression. Regular expressions that are
+ * compiled in field or static initializers, even in a loop or a lambda expression, and
+ * calls to {@code split} that do not use a regular expression are not reported.
+ *
+ * @author Andy Wilkinson
+ */
+class RegexCompilationRule extends Rule {
+
+	RegexCompilationRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		TreePath declaration = findEnclosingDeclaration();
+		if (declaration != null && declaration.getLeaf().getKind() == Tree.Kind.METHOD
+				&& compilesConstantRegex(methodInvocation)) {
+			String repetition = findRepetition();
+			if (repetition != null) {
+				getProblemReporter().warning(Problem.REGEX_COMPILED_REPEATEDLY,
+						methodInvocation.getMethodSelect(), repetition);
+			}
+			else {
+				getProblemReporter().warning(Problem.REGEX_COMPILED_ON_EACH_CALL,
+						methodInvocation.getMethodSelect());
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private boolean compilesConstantRegex(MethodInvocationTree methodInvocation) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method == null || method.getKind() != ElementKind.METHOD
+				|| methodInvocation.getArguments().isEmpty()) {
+			return false;
+		}
+		ExpressionTree regex = methodInvocation.getArguments().get(0);
+		if (!isConstant(regex)) {
+			return false;
+		}
+		Name declaringClass = ((TypeElement) method.getEnclosingElement())
+				.getQualifiedName();
+		String name = method.getSimpleName().toString();
+		if (declaringClass.contentEquals("java.util.regex.Pattern")) {
+			return (name.equals("compile") && allConstant(methodInvocation))
+					|| name.equals("matches");
+		}
+		if (declaringClass.contentEquals(String.class.getName())) {
+			return name.equals("matches") || name.equals("replaceAll")
+					|| name.equals("replaceFirst")
+					|| (name.equals("split") && !isFastSplit(regex));
+		}
+		return false;
+	}
+
+	private boolean allConstant(MethodInvocationTree methodInvocation) {
+		for (ExpressionTree argument : methodInvocation.getArguments()) {
+			if (!isConstant(argument)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether {@link String#split(String)} splits using the given {@code regex}
+	 * without compiling it. This is the case for a single character that is not a
+	 * regular expression metacharacter or an escaped character that is not a letter or
+	 * a digit. A regular expression whose value cannot be determined is assumed to be
+	 * split without compiling it.
+	 *
+	 * @param regex the regular expression
+	 * @return {@code true} if the regular expression is not compiled
+	 */
+	private boolean isFastSplit(ExpressionTree regex) {
+		Object value = getConstantValue(regex);
+		if (!(value instanceof String)) {
+			return true;
+		}
+		String string = (String) value;
+		if (string.length() == 1) {
+			return ".$|()[{^?*+\\".indexOf(string.charAt(0)) == -1
+					&& !Character.isSurrogate(string.charAt(0));
+		}
+		if (string.length() == 2 && string.charAt(0) == '\\') {
+			char c = string.charAt(1);
+			return !isAsciiLetterOrDigit(c) && !Character.isSurrogate(c);
+		}
+		return false;
+	}
+
+	private boolean isAsciiLetterOrDigit(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+}
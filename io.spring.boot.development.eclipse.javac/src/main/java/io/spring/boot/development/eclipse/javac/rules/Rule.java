@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.EnhancedForLoopTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.ForLoopTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+
+/**
+ * A rule that checks the trees of a compilation unit once they have been attributed by
+ * javac. A rule is the javac equivalent of one of the analysis plugin's
+ * {@code ASTVisitor ASTVisitors} and reports the same {@code Problem problems}. It uses
+ * javac's {@code com.sun.source} trees and the {@code javax.lang.model} elements and
+ * types to which they have been attributed rather than JDT's DOM.
+ *
+ * @author Andy Wilkinson
+ */
+public abstract class Rule extends TreePathScanner<Void, Void> {
+
+	private final RuleContext context;
+
+	private final TreeProblemReporter problemReporter;
+
+	protected Rule(RuleContext context, TreeProblemReporter problemReporter) {
+		this.context = context;
+		this.problemReporter = problemReporter;
+	}
+
+	/**
+	 * Checks the top-level class with the given {@code path}, and all of the trees that
+	 * it contains.
+	 *
+	 * @param path the path of the class
+	 */
+	public void check(TreePath path) {
+		scan(path, null);
+	}
+
+	protected final RuleContext getContext() {
+		return this.context;
+	}
+
+	protected final TreeProblemReporter getProblemReporter() {
+		return this.problemReporter;
+	}
+
+	/**
+	 * Returns the element of the tree at the current path.
+	 *
+	 * @return the element or {@code null}
+	 */
+	protected final Element getCurrentElement() {
+		return this.context.getTrees().getElement(getCurrentPath());
+	}
+
+	/**
+	 * Returns the element of the given {@code child} of the tree at the current path.
+	 *
+	 * @param child the child tree
+	 * @return the element or {@code null}
+	 */
+	protected final Element getElement(Tree child) {
+		return this.context.getTrees().getElement(new TreePath(getCurrentPath(), child));
+	}
+
+	/**
+	 * Returns whether the given {@code expression} is a constant expression made up of
+	 * literals and constant variables.
+	 *
+	 * @param expression the expression
+	 * @return {@code true} if the expression is constant, otherwise {@code false}
+	 */
+	protected final boolean isConstant(ExpressionTree expression) {
+		if (expression instanceof LiteralTree) {
+			return ((LiteralTree) expression).getValue() != null;
+		}
+		if (expression instanceof ParenthesizedTree) {
+			return isConstant(((ParenthesizedTree) expression).getExpression());
+		}
+		if (expression instanceof BinaryTree) {
+			return isConstant(((BinaryTree) expression).getLeftOperand())
+					&& isConstant(((BinaryTree) expression).getRightOperand());
+		}
+		return getConstantValue(expression) != null;
+	}
+
+	/**
+	 * Returns the value of the given {@code expression} when it is a literal or a
+	 * constant variable.
+	 *
+	 * @param expression the expression
+	 * @return the value or {@code null}
+	 */
+	protected final Object getConstantValue(ExpressionTree expression) {
+		if (expression instanceof LiteralTree) {
+			return ((LiteralTree) expression).getValue();
+		}
+		Element element = getElement(expression);
+		return (element instanceof VariableElement)
+				? ((VariableElement) element).getConstantValue() : null;
+	}
+
+	/**
+	 * Returns the type of the given {@code child} of the tree at the current path.
+	 *
+	 * @param child the child tree
+	 * @return the type or {@code null}
+	 */
+	protected final TypeMirror getType(Tree child) {
+		return this.context.getTrees()
+				.getTypeMirror(new TreePath(getCurrentPath(), child));
+	}
+
+	/**
+	 * Finds the path of the method or class declaration that encloses the tree at the
+	 * current path.
+	 *
+	 * @return the path of the enclosing declaration or {@code null}
+	 */
+	protected final TreePath findEnclosingDeclaration() {
+		TreePath path = getCurrentPath().getParentPath();
+		while (path != null && !isDeclaration(path.getLeaf())) {
+			path = path.getParentPath();
+		}
+		return path;
+	}
+
+	/**
+	 * Finds the repetition, within its enclosing declaration, that causes the tree at
+	 * the current path to be evaluated more than once each time the declaration is
+	 * executed. The repetition is either a {@code "loop"}, when the tree is in the body
+	 * or the condition or update of a loop, or a {@code "lambda expression"}.
+	 *
+	 * @return a description of the repetition or {@code null} if the tree is not
+	 * repeated
+	 */
+	protected final String findRepetition() {
+		Tree child = getCurrentPath().getLeaf();
+		TreePath path = getCurrentPath().getParentPath();
+		while (path != null && !isDeclaration(path.getLeaf())) {
+			String repetition = getRepetition(path.getLeaf(), child);
+			if (repetition != null) {
+				return repetition;
+			}
+			child = path.getLeaf();
+			path = path.getParentPath();
+		}
+		return null;
+	}
+
+	private boolean isDeclaration(Tree tree) {
+		return tree.getKind() == Tree.Kind.METHOD || tree.getKind() == Tree.Kind.CLASS
+				|| tree.getKind() == Tree.Kind.ENUM
+				|| tree.getKind() == Tree.Kind.INTERFACE;
+	}
+
+	private String getRepetition(Tree tree, Tree child) {
+		switch (tree.getKind()) {
+		case LAMBDA_EXPRESSION:
+			return "lambda expression";
+		case WHILE_LOOP:
+		case DO_WHILE_LOOP:
+			return "loop";
+		case ENHANCED_FOR_LOOP:
+			return (child == ((EnhancedForLoopTree) tree).getStatement()) ? "loop" : null;
+		case FOR_LOOP:
+			return ((ForLoopTree) tree).getInitializer().contains(child) ? null : "loop";
+		default:
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.DocTrees;
+import io.spring.boot.development.eclipse.analysis.ExpensiveObjects;
+import io.spring.boot.development.eclipse.analysis.SpringFactories;
+
+/**
+ * Context for checking a compilation unit that has been attributed by javac, providing
+ * access to javac's model of the compilation unit and information about its project
+ * that cannot be derived from its trees.
+ *
+ * @author Andy Wilkinson
+ */
+public interface RuleContext {
+
+	/**
+	 * Returns the compilation unit that is being checked.
+	 *
+	 * @return the compilation unit
+	 */
+	CompilationUnitTree getCompilationUnit();
+
+	/**
+	 * Returns the source of the compilation unit.
+	 *
+	 * @return the source
+	 */
+	CharSequence getSource();
+
+	DocTrees getTrees();
+
+	Elements getElements();
+
+	Types getTypes();
+
+	/**
+	 * Returns whether the compilation unit is main code. Code is considered to be main
+	 * code if it resides in {@code src/main/java}.
+	 *
+	 * @return {@code true} if the compilation unit is main code, otherwise
+	 * {@code false}
+	 */
+	boolean isMainCode();
+
+	/**
+	 * Returns the {@code META-INF/spring.factories} of the compilation unit's project.
+	 *
+	 * @return the spring factories or {@code null} if the project has none
+	 */
+	SpringFactories getSpringFactories();
+
+	/**
+	 * Returns the catalogue of objects that are expensive to create, including any
+	 * customizations made by the compilation unit's project.
+	 *
+	 * @return the expensive objects
+	 */
+	ExpensiveObjects getExpensiveObjects();
+
+}
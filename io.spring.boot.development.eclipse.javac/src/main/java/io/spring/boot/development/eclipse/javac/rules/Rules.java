@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The {@link Rule Rules} that are used to check a compilation unit. There is a rule for
+ * each of the analysis plugin's {@code ASTVisitor ASTVisitors}. Unlike the visitors,
+ * rules are not divided into standard and expensive rules as javac has already
+ * attributed the trees and resolved the types on which the expensive rules depend.
+ *
+ * @author Andy Wilkinson
+ */
+public class Rules implements Iterable<Rule> {
+
+	private final List<Rule> rules;
+
+	public Rules(RuleContext context, TreeProblemReporter problemReporter) {
+		this.rules = Arrays.asList(
+				new NoAutowiredWithSingleConstructorRule(context, problemReporter),
+				new ConfigurationClassConstructorInjectionRule(context, problemReporter),
+				new NoComponentInMainCodeRule(context, problemReporter),
+				new MissingFunctionalInterfaceRule(context, problemReporter),
+				new MissingLambdaParameterParenthesesRule(context, problemReporter),
+				new LambdaExpressionWithUnnecessaryBlockBodyRule(context,
+						problemReporter),
+				new IncompleteAssertThatRule(context, problemReporter),
+				new JavadocLinkToAnnotationValidatingRule(context, problemReporter),
+				new PreferAssertJExceptionAssertionRule(context, problemReporter),
+				new StringIndexOfRule(context, problemReporter),
+				new StringReplaceRule(context, problemReporter),
+				new CaseConversionBeforeEqualsRule(context, problemReporter),
+				new EmptyStringEqualsRule(context, problemReporter),
+				new BoxingRoundTripRule(context, problemReporter),
+				new RegexCompilationRule(context, problemReporter),
+				new LogMessageEvaluationRule(context, problemReporter),
+				new ExpensiveObjectCreationRule(context, problemReporter),
+				new FailureAnalyzerSpringFactoriesRule(context, problemReporter),
+				new UnusedMethodParameterRule(context, problemReporter),
+				new BeanMethodProxyingRule(context, problemReporter),
+				new BeanMethodOnNonConfigurationClassRule(context, problemReporter));
+	}
+
+	@Override
+	public Iterator<Rule> iterator() {
+		return this.rules.iterator();
+	}
+
+}
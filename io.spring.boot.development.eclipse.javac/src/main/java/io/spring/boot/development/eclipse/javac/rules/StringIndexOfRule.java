@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about calls to {@link String#indexOf(String)} and
+ * {@link String#lastIndexOf(String)} with a single character string literal and
+ * recommends the use of their {@code char} variants instead.
+ *
+ * @author Andy Wilkinson
+ */
+class StringIndexOfRule extends Rule {
+
+	StringIndexOfRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		Element method = getElement(methodInvocation.getMethodSelect());
+		if (method != null && method.getKind() == ElementKind.METHOD
+				&& isDeclaredByString(method)
+				&& (method.getSimpleName().contentEquals("indexOf")
+						|| method.getSimpleName().contentEquals("lastIndexOf"))
+				&& methodInvocation.getArguments().size() == 1) {
+			ExpressionTree argument = methodInvocation.getArguments().get(0);
+			if (argument.getKind() == Kind.STRING_LITERAL
+					&& ((LiteralTree) argument).getValue().toString().length() == 1) {
+				String name = method.getSimpleName().toString();
+				getProblemReporter().warning(
+						Problem.SINGLE_CHARACTER_STRING_LITERAL_INDEX_OF,
+						methodInvocation.getMethodSelect(), name, name);
+			}
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private boolean isDeclaredByString(Element method) {
+		return ((TypeElement) method.getEnclosingElement()).getQualifiedName()
+				.contentEquals(String.class.getName());
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.List;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree.Kind;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about calls to
+ * {@link String#replace(CharSequence, CharSequence)} with two single character string
+ * literals and recommends the use of {@link String#replace(char, char)} instead.
+ *
+ * @author Andy Wilkinson
+ */
+class StringReplaceRule extends Rule {
+
+	StringReplaceRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitMethodInvocation(MethodInvocationTree methodInvocation, Void p) {
+		List<? extends ExpressionTree> arguments = methodInvocation.getArguments();
+		if (arguments.size() == 2
+				&& TreeUtils.isMethod(getElement(methodInvocation.getMethodSelect()),
+						String.class.getName(), "replace")
+				&& isSingleCharacterStringLiteral(arguments.get(0))
+				&& isSingleCharacterStringLiteral(arguments.get(1))) {
+			getProblemReporter().warning(Problem.SINGLE_CHARACTER_STRING_LITERAL_REPLACE,
+					methodInvocation.getMethodSelect());
+		}
+		return super.visitMethodInvocation(methodInvocation, p);
+	}
+
+	private boolean isSingleCharacterStringLiteral(ExpressionTree argument) {
+		return argument.getKind() == Kind.STRING_LITERAL
+				&& ((LiteralTree) argument).getValue().toString().length() == 1;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import com.sun.source.doctree.DocCommentTree;
+import com.sun.source.doctree.DocTree;
+import com.sun.source.tree.Tree;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * Reports the {@link Problem problems} that a {@link Rule} finds in the trees of a
+ * compilation unit.
+ *
+ * @author Andy Wilkinson
+ */
+public interface TreeProblemReporter {
+
+	/**
+	 * Reports a warning for the given {@code problem}, associating it with the given
+	 * {@code tree}.
+	 *
+	 * @param problem the problem
+	 * @param tree the tree
+	 * @param args arguments to substitute into the problem's message
+	 */
+	void warning(Problem problem, Tree tree, Object... args);
+
+	/**
+	 * Reports an error for the given {@code problem}, associating it with the given
+	 * {@code tree}.
+	 *
+	 * @param problem the problem
+	 * @param tree the tree
+	 * @param args arguments to substitute into the problem's message
+	 */
+	void error(Problem problem, Tree tree, Object... args);
+
+	/**
+	 * Reports a warning for the given {@code problem}, associating it with the given
+	 * {@code tree} in a Javadoc comment.
+	 *
+	 * @param problem the problem
+	 * @param tree the tree
+	 * @param comment the comment that contains the tree
+	 * @param args arguments to substitute into the problem's message
+	 */
+	void warning(Problem problem, DocTree tree, DocCommentTree comment, Object... args);
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.Tree.Kind;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+
+/**
+ * Utility methods for working with javac's trees and the elements to which they have
+ * been attributed.
+ *
+ * @author Andy Wilkinson
+ */
+final class TreeUtils {
+
+	private static final Map<String, String> PRIMITIVE_TYPES;
+
+	static {
+		Map<String, String> primitiveTypes = new HashMap<>();
+		primitiveTypes.put(Boolean.class.getName(), "boolean");
+		primitiveTypes.put(Byte.class.getName(), "byte");
+		primitiveTypes.put(Character.class.getName(), "char");
+		primitiveTypes.put(Double.class.getName(), "double");
+		primitiveTypes.put(Float.class.getName(), "float");
+		primitiveTypes.put(Integer.class.getName(), "int");
+		primitiveTypes.put(Long.class.getName(), "long");
+		primitiveTypes.put(Short.class.getName(), "short");
+		PRIMITIVE_TYPES = Collections.unmodifiableMap(primitiveTypes);
+	}
+
+	private TreeUtils() {
+
+	}
+
+	/**
+	 * Returns whether the declaration with the given {@code path} is annotated with the
+	 * annotation with the given {@code name}.
+	 *
+	 * @param trees the trees
+	 * @param path the path of the declaration
+	 * @param name the fully qualified name of the annotation
+	 * @return {@code true} if the annotation is present, otherwise {@code false}
+	 */
+	static boolean hasAnnotation(Trees trees, TreePath path, String name) {
+		return findAnnotation(trees, path, name) != null;
+	}
+
+	/**
+	 * Finds the annotation with the given {@code name} on the declaration with the given
+	 * {@code path}.
+	 *
+	 * @param trees the trees
+	 * @param path the path of the class, method or variable declaration
+	 * @param name the fully qualified name of the annotation
+	 * @return the annotation or {@code null} if it is not present
+	 */
+	static AnnotationTree findAnnotation(Trees trees, TreePath path, String name) {
+		ModifiersTree modifiers = getModifiers(path.getLeaf());
+		if (modifiers == null) {
+			return null;
+		}
+		TreePath modifiersPath = new TreePath(path, modifiers);
+		for (AnnotationTree annotation : modifiers.getAnnotations()) {
+			TreePath annotationPath = new TreePath(modifiersPath, annotation);
+			Element type = trees.getElement(
+					new TreePath(annotationPath, annotation.getAnnotationType()));
+			if (type instanceof TypeElement
+					&& ((TypeElement) type).getQualifiedName().contentEquals(name)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the given {@code element} is annotated with the annotation with
+	 * the given {@code name}.
+	 *
+	 * @param element the element
+	 * @param name the fully qualified name of the annotation
+	 * @return {@code true} if the annotation is present, otherwise {@code false}
+	 */
+	static boolean hasAnnotation(Element element, String name) {
+		return findAnnotation(element, name) != null;
+	}
+
+	/**
+	 * Finds the annotation with the given {@code name} on the given {@code element}.
+	 *
+	 * @param element the element
+	 * @param name the fully qualified name of the annotation
+	 * @return the annotation or {@code null} if it is not present
+	 */
+	static AnnotationMirror findAnnotation(Element element, String name) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (getQualifiedName(annotation.getAnnotationType()).equals(name)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the fully qualified name of the erasure of the given {@code type}, or an
+	 * empty string if it is not a declared type.
+	 *
+	 * @param type the type
+	 * @return the qualified name
+	 */
+	static String getQualifiedName(TypeMirror type) {
+		if (type == null || type.getKind() != TypeKind.DECLARED) {
+			return "";
+		}
+		Element element = ((DeclaredType) type).asElement();
+		return ((TypeElement) element).getQualifiedName().toString();
+	}
+
+	/**
+	 * Returns whether the given {@code element} is a method with the given {@code name}
+	 * that is declared by the class with the given {@code className}.
+	 *
+	 * @param element the element, may be {@code null}
+	 * @param className the name of the declaring class
+	 * @param name the name of the method
+	 * @return {@code true} if the element is a matching method, otherwise {@code false}
+	 */
+	static boolean isMethod(Element element, String className, String name) {
+		return element != null && element.getKind() == ElementKind.METHOD
+				&& element.getSimpleName().contentEquals(name)
+				&& ((TypeElement) element.getEnclosingElement()).getQualifiedName()
+						.contentEquals(className);
+	}
+
+	/**
+	 * Returns the receiver of the given {@code methodInvocation}.
+	 *
+	 * @param methodInvocation the method invocation
+	 * @return the receiver or {@code null} if the method is invoked on {@code this}
+	 */
+	static ExpressionTree getReceiver(MethodInvocationTree methodInvocation) {
+		ExpressionTree methodSelect = methodInvocation.getMethodSelect();
+		return (methodSelect.getKind() == Kind.MEMBER_SELECT)
+				? ((MemberSelectTree) methodSelect).getExpression() : null;
+	}
+
+	/**
+	 * Returns the name of the primitive type that is wrapped by the given {@code type}.
+	 *
+	 * @param type the type
+	 * @return the name of the primitive type or {@code null} if the type is not a
+	 * primitive wrapper
+	 */
+	static String getPrimitiveTypeName(TypeMirror type) {
+		return PRIMITIVE_TYPES.get(getQualifiedName(type));
+	}
+
+	/**
+	 * Returns the superclass of the given {@code type}.
+	 *
+	 * @param type the type
+	 * @return the superclass or {@code null} if the type has no superclass
+	 */
+	static TypeElement getSuperclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	/**
+	 * Gets the fully qualified name of all of the interfaces and their super-interfaces
+	 * implemented by the given {@code type} and its superclasses.
+	 *
+	 * @param type the type
+	 * @return the fully qualified names of the implemented interfaces
+	 */
+	static List<String> getImplementedInterfaces(TypeElement type) {
+		List<String> implementedInterfaces = new ArrayList<String>();
+		for (TypeMirror iface : type.getInterfaces()) {
+			if (iface.getKind() == TypeKind.DECLARED) {
+				implementedInterfaces.add(getQualifiedName(iface));
+				implementedInterfaces.addAll(getImplementedInterfaces(
+						(TypeElement) ((DeclaredType) iface).asElement()));
+			}
+		}
+		TypeElement superclass = getSuperclass(type);
+		if (superclass != null) {
+			implementedInterfaces.addAll(getImplementedInterfaces(superclass));
+		}
+		return implementedInterfaces;
+	}
+
+	/**
+	 * Finds the path of the first ancestor of the tree with the given {@code path} that
+	 * is of the given {@code type}.
+	 *
+	 * @param path the path to search from
+	 * @param type the type of tree to search for
+	 * @return the path of the first ancestor of the required type or {@code null}
+	 */
+	static TreePath findAncestor(TreePath path, Class<? extends Tree> type) {
+		TreePath candidate = path.getParentPath();
+		while (candidate != null) {
+			if (type.isInstance(candidate.getLeaf())) {
+				return candidate;
+			}
+			candidate = candidate.getParentPath();
+		}
+		return null;
+	}
+
+	private static ModifiersTree getModifiers(Tree tree) {
+		if (tree instanceof ClassTree) {
+			return ((ClassTree) tree).getModifiers();
+		}
+		if (tree instanceof MethodTree) {
+			return ((MethodTree) tree).getModifiers();
+		}
+		if (tree instanceof VariableTree) {
+			return ((VariableTree) tree).getModifiers();
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.javac.rules;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+import io.spring.boot.development.eclipse.analysis.Problem;
+
+/**
+ * A {@link Rule} that warns about unused method parameters.
+ *
+ * @author Andy Wilkinson
+ */
+class UnusedMethodParameterRule extends Rule {
+
+	UnusedMethodParameterRule(RuleContext context, TreeProblemReporter problemReporter) {
+		super(context, problemReporter);
+	}
+
+	@Override
+	public Void visitClass(ClassTree type, Void p) {
+		return getContext().isMainCode() ? super.visitClass(type, p) : null;
+	}
+
+	@Override
+	public Void visitMethod(MethodTree method, Void p) {
+		if (method.getBody() == null) {
+			return null;
+		}
+		Element element = getCurrentElement();
+		if (!(element instanceof ExecutableElement)
+				|| isMethodOverridable((ExecutableElement) element)
+				|| isMethodOverriding((ExecutableElement) element)) {
+			return null;
+		}
+		VariableElementCollector collector = new VariableElementCollector(
+				getContext().getTrees());
+		collector.scan(new TreePath(getCurrentPath(), method.getBody()), null);
+		for (VariableTree parameter : method.getParameters()) {
+			Element parameterElement = getElement(parameter);
+			if (parameterElement != null
+					&& !collector.elements.contains(parameterElement)) {
+				if (!isThrowable(parameterElement.asType())
+						&& !isExceptionHandlingMethod()) {
+					getProblemReporter().warning(Problem.UNUSED_METHOD_PARAMETER,
+							parameter);
+				}
+			}
+		}
+		return null;
+	}
+
+	private boolean isExceptionHandlingMethod() {
+		return TreeUtils.hasAnnotation(getContext().getTrees(), getCurrentPath(),
+				"org.springframework.web.bind.annotation.ExceptionHandler");
+	}
+
+	private boolean isThrowable(TypeMirror type) {
+		TypeElement throwable = getContext().getElements()
+				.getTypeElement(Throwable.class.getName());
+		return type.getKind() == TypeKind.DECLARED && throwable != null
+				&& getContext().getTypes().isSubtype(type, throwable.asType());
+	}
+
+	private boolean isMethodOverridable(ExecutableElement method) {
+		Element declaringClass = method.getEnclosingElement();
+		if (declaringClass.getModifiers().contains(Modifier.FINAL)
+				|| method.getModifiers().contains(Modifier.FINAL)) {
+			return false;
+		}
+		return method.getModifiers().contains(Modifier.PUBLIC)
+				|| method.getModifiers().contains(Modifier.PROTECTED);
+	}
+
+	private boolean isMethodOverriding(ExecutableElement method) {
+		TypeElement declaringClass = (TypeElement) method.getEnclosingElement();
+		return isMethodOverriding(method, declaringClass, declaringClass.asType());
+	}
+
+	private boolean isMethodOverriding(ExecutableElement method, TypeElement type,
+			TypeMirror declaringType) {
+		for (TypeMirror supertype : getContext().getTypes()
+				.directSupertypes(declaringType)) {
+			if (supertype.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+			TypeElement superElement = (TypeElement) ((DeclaredType) supertype)
+					.asElement();
+			for (ExecutableElement candidate : ElementFilter
+					.methodsIn(superElement.getEnclosedElements())) {
+				if (getContext().getElements().overrides(method, candidate, type)) {
+					return true;
+				}
+			}
+			if (isMethodOverriding(method, type, supertype)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class VariableElementCollector
+			extends TreePathScanner<Void, Void> {
+
+		private final Trees trees;
+
+		private final Set<Element> elements = new HashSet<>();
+
+		private VariableElementCollector(Trees trees) {
+			this.trees = trees;
+		}
+
+		@Override
+		public Void visitIdentifier(IdentifierTree identifier, Void p) {
+			Element element = this.trees.getElement(getCurrentPath());
+			if (element instanceof VariableElement) {
+				this.elements.add(element);
+			}
+			return super.visitIdentifier(identifier, p);
+		}
+
+	}
+
+}
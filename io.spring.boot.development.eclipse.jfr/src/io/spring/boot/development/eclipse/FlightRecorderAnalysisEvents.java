@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * {@link AnalysisEvents} that are emitted to Java Flight Recorder. Each span is an
+ * {@link Event} that is begun when the span is created and committed when it is closed.
+ * The fields that identify an event's file are only computed when the event will be
+ * committed so a span costs little more than an allocation, which the JIT can usually
+ * eliminate, when Flight Recorder is not recording the event.
+ *
+ * @author Andy Wilkinson
+ */
+final class FlightRecorderAnalysisEvents extends AnalysisEvents {
+
+	@Override
+	Span build(IProject project, int kind) {
+		BuildEvent event = new BuildEvent(project, kind);
+		event.begin();
+		return event;
+	}
+
+	@Override
+	FileSpan parse() {
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	Span visit(IResource resource, ASTVisitor visitor) {
+		VisitEvent event = new VisitEvent(resource, visitor);
+		event.begin();
+		return event;
+	}
+
+	@Override
+	Span markerWrite(IResource resource, Problem problem) {
+		MarkerWriteEvent event = new MarkerWriteEvent(resource, problem);
+		event.begin();
+		return event;
+	}
+
+	private static String getPath(IResource resource) {
+		return (resource != null) ? resource.getFullPath().toString() : null;
+	}
+
+	@Name("io.spring.boot.development.Build")
+	@Label("Build")
+	@Description("A build of a project by the Spring Boot Development builder")
+	@Category({ "Spring Boot", "Development" })
+	static final class BuildEvent extends Event implements Span {
+
+		@Label("Project")
+		String project;
+
+		@Label("Kind")
+		String kind;
+
+		private final transient IProject source;
+
+		private final transient int buildKind;
+
+		private BuildEvent(IProject source, int buildKind) {
+			this.source = source;
+			this.buildKind = buildKind;
+		}
+
+		@Override
+		public void close() {
+			if (shouldCommit()) {
+				this.project = this.source.getName();
+				this.kind = getKind(this.buildKind);
+				commit();
+			}
+		}
+
+		private static String getKind(int kind) {
+			switch (kind) {
+			case IncrementalProjectBuilder.FULL_BUILD:
+				return "Full";
+			case IncrementalProjectBuilder.INCREMENTAL_BUILD:
+				return "Incremental";
+			case IncrementalProjectBuilder.AUTO_BUILD:
+				return "Auto";
+			case IncrementalProjectBuilder.CLEAN_BUILD:
+				return "Clean";
+			default:
+				return Integer.toString(kind);
+			}
+		}
+
+	}
+
+	@Name("io.spring.boot.development.ParseAndBind")
+	@Label("Parse and Bind")
+	@Description("Parsing a Java file and resolving its bindings")
+	@Category({ "Spring Boot", "Development" })
+	static final class ParseEvent extends Event implements FileSpan {
+
+		@Label("File")
+		String file;
+
+		@Override
+		public void close(IResource resource) {
+			if (shouldCommit()) {
+				this.file = getPath(resource);
+				commit();
+			}
+		}
+
+	}
+
+	@Name("io.spring.boot.development.RuleVisit")
+	@Label("Rule Visit")
+	@Description("Running a rule over the syntax tree of a Java file")
+	@Category({ "Spring Boot", "Development" })
+	static final class VisitEvent extends Event implements Span {
+
+		@Label("File")
+		String file;
+
+		@Label("Rule")
+		Class<?> rule;
+
+		private final transient IResource resource;
+
+		private VisitEvent(IResource resource, ASTVisitor visitor) {
+			this.resource = resource;
+			this.rule = visitor.getClass();
+		}
+
+		@Override
+		public void close() {
+			if (shouldCommit()) {
+				this.file = getPath(this.resource);
+				commit();
+			}
+		}
+
+	}
+
+	@Name("io.spring.boot.development.MarkerWrite")
+	@Label("Marker Write")
+	@Description("Writing the marker of a problem")
+	@Category({ "Spring Boot", "Development" })
+	static final class MarkerWriteEvent extends Event implements Span {
+
+		@Label("File")
+		String file;
+
+		@Label("Problem Id")
+		int problem;
+
+		private final transient IResource resource;
+
+		private MarkerWriteEvent(IResource resource, Problem problem) {
+			this.resource = resource;
+			this.problem = problem.getId();
+		}
+
+		@Override
+		public void close() {
+			if (shouldCommit()) {
+				this.file = getPath(this.resource);
+				commit();
+			}
+		}
+
+	}
+
+}
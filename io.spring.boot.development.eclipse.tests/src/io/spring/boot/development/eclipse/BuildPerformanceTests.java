@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import io.spring.boot.development.eclipse.BuildMetrics.Build;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.StepMetrics;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Performance regression tests that run full and incremental builds of a project
+ * created by the {@link SpringBootCorpusGenerator}. Each build's wall time and
+ * allocation are compared with the budgets that have been recorded for the size of the
+ * corpus in {@code performance-budgets.properties}. The size of the corpus is
+ * configured using the {@code corpus.configurations} system property.
+ * <p>
+ * When the {@code performance.record} system property is {@code true}, the budgets are
+ * not enforced. Instead, each measurement, with 50% headroom, is written to
+ * {@code target/performance-budgets.properties} so that the budgets can be updated.
+ *
+ * @author Andy Wilkinson
+ */
+public class BuildPerformanceTests {
+
+	private static final String PROJECT_NAME = "spring-boot-corpus";
+
+	private static final int CONFIGURATIONS = Integer
+			.getInteger("corpus.configurations", 200);
+
+	private static final boolean RECORD = Boolean.getBoolean("performance.record");
+
+	private static final double HEADROOM = 1.5;
+
+	private static final Properties budgets = new Properties();
+
+	private static final Properties recorded = new Properties();
+
+	private static IProject project;
+
+	private static List<Path> sourceFiles;
+
+	@BeforeClass
+	public static void createProject() throws Exception {
+		try (InputStream input = BuildPerformanceTests.class
+				.getResourceAsStream("performance-budgets.properties")) {
+			budgets.load(input);
+		}
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription workspaceDescription = workspace.getDescription();
+		workspaceDescription.setAutoBuilding(false);
+		workspace.setDescription(workspaceDescription);
+		project = workspace.getRoot().getProject(PROJECT_NAME);
+		Path location = workspace.getRoot().getLocation().toFile().toPath()
+				.resolve(PROJECT_NAME);
+		sourceFiles = new SpringBootCorpusGenerator().configurations(CONFIGURATIONS)
+				.services(CONFIGURATIONS / 2).tests(CONFIGURATIONS / 2)
+				.failureAnalyzers(CONFIGURATIONS / 10).generate(location);
+		project.create(null);
+		project.open(null);
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(
+				new String[] { JavaCore.NATURE_ID, SpringBootDevelopmentNature.NATURE_ID });
+		SpringBootDevelopmentNature.addBuilder(description);
+		project.setDescription(description, null);
+		configureClasspath(JavaCore.create(project));
+		// Warm up the JIT, the Java model and the build coordinator
+		build(IncrementalProjectBuilder.FULL_BUILD);
+	}
+
+	private static void configureClasspath(IJavaProject javaProject)
+			throws CoreException {
+		List<IClasspathEntry> entries = new ArrayList<>();
+		for (String sourceRoot : SpringBootCorpusGenerator.SOURCE_ROOTS) {
+			entries.add(
+					JavaCore.newSourceEntry(project.getFolder(sourceRoot).getFullPath()));
+		}
+		entries.add(JavaCore.newContainerEntry(JavaRuntime.newDefaultJREContainerPath()));
+		javaProject.setRawClasspath(entries.toArray(new IClasspathEntry[entries.size()]),
+				project.getFolder("bin").getFullPath(), null);
+	}
+
+	@AfterClass
+	public static void deleteProject() throws CoreException, IOException {
+		if (project != null) {
+			project.delete(true, true, null);
+		}
+		if (RECORD) {
+			Path file = Paths.get("target", "performance-budgets.properties");
+			Files.createDirectories(file.getParent());
+			try (OutputStream output = Files.newOutputStream(file)) {
+				recorded.store(output,
+						"Budgets recorded with " + HEADROOM + "x headroom");
+			}
+		}
+	}
+
+	@Test
+	public void fullBuild() throws CoreException {
+		verify("full", build(IncrementalProjectBuilder.FULL_BUILD));
+	}
+
+	@Test
+	public void incrementalBuild() throws CoreException {
+		int changes = Math.max(CONFIGURATIONS / 20, 1);
+		for (int i = 0; i < changes; i++) {
+			Path relativePath = project.getLocation().toFile().toPath()
+					.relativize(sourceFiles.get(i));
+			IFile file = project.getFile(relativePath.toString().replace('\\', '/'));
+			file.appendContents(new ByteArrayInputStream(
+					"// Changed\n".getBytes(StandardCharsets.UTF_8)), IResource.FORCE,
+					null);
+		}
+		verify("incremental", build(IncrementalProjectBuilder.INCREMENTAL_BUILD));
+	}
+
+	private static Measurement build(int kind) throws CoreException {
+		long start = System.nanoTime();
+		project.build(kind, SpringBootDevelopmentBuilder.BUILDER_ID, null, null);
+		long wallTime = (System.nanoTime() - start) / 1000000;
+		long allocatedBytes = 0;
+		for (Build build : BuildMetrics.getBuilds()) {
+			if (build.getProject().equals(PROJECT_NAME)) {
+				for (StepMetrics step : build.getSteps()) {
+					if (!isNested(step.getStep())) {
+						allocatedBytes += step.getAllocatedBytes();
+					}
+				}
+			}
+		}
+		return new Measurement(wallTime, allocatedBytes);
+	}
+
+	private static boolean isNested(String step) {
+		// Measured while a visitor or analyzer, whose totals include them, is running
+		return step.equals(StandardProblemReporter.MARKER_STEP)
+				|| step.equals(JavaSourceCodeAnalyzer.READ_STEP);
+	}
+
+	private void verify(String build, Measurement measurement) {
+		verify(build + ".wallTimeMillis", measurement.wallTime);
+		verify(build + ".allocatedBytes", measurement.allocatedBytes);
+	}
+
+	private void verify(String name, long measured) {
+		String key = CONFIGURATIONS + "." + name;
+		if (RECORD) {
+			recorded.setProperty(key, Long.toString((long) (measured * HEADROOM)));
+			return;
+		}
+		String budget = budgets.getProperty(key);
+		Assume.assumeTrue("No budget has been recorded for " + key, budget != null);
+		assertTrue(key + " of " + measured + " exceeded its budget of " + budget,
+				measured <= Long.parseLong(budget));
+	}
+
+	private static final class Measurement {
+
+		private final long wallTime;
+
+		private final long allocatedBytes;
+
+		private Measurement(long wallTime, long allocatedBytes) {
+			this.wallTime = wallTime;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.fixes.Fix;
+import io.spring.boot.development.eclipse.fixes.Fixes;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jface.text.Document;
+import org.eclipse.text.edits.TextEdit;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link QuickFixes}.
+ *
+ * @author Andy Wilkinson
+ */
+public class QuickFixesTests {
+
+	private static final String PROJECT_NAME = "quick-fixes";
+
+	private static IProject project;
+
+	@BeforeClass
+	public static void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		project.create(null);
+		project.open(null);
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+		IFolder sourceRoot = project.getFolder("src");
+		sourceRoot.create(true, true, null);
+		JavaCore.create(project).setRawClasspath(
+				new IClasspathEntry[] { JavaCore.newSourceEntry(sourceRoot.getFullPath()),
+						JavaCore.newContainerEntry(
+								JavaRuntime.newDefaultJREContainerPath()) },
+				project.getFolder("bin").getFullPath(), null);
+		createFile("org/springframework/stereotype/Component.java",
+				"package org.springframework.stereotype;",
+				"public @interface Component {", "}");
+		createFile("com/fasterxml/jackson/databind/ObjectMapper.java",
+				"package com.fasterxml.jackson.databind;", "public class ObjectMapper {",
+				"\tpublic ObjectMapper configure(String feature, boolean state) {",
+				"\t\treturn this;", "\t}",
+				"\tpublic String writeValueAsString(Object value) {",
+				"\t\treturn null;", "\t}", "}");
+	}
+
+	@AfterClass
+	public static void deleteProject() throws CoreException {
+		if (project != null) {
+			project.delete(true, true, null);
+		}
+	}
+
+	@Test
+	public void injectionWithFocalParseAssignsFieldAfterSuperConstructorCall()
+			throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Converter.java",
+				"package com.example;", "",
+				"import com.fasterxml.jackson.databind.ObjectMapper;",
+				"import org.springframework.stereotype.Component;", "", "@Component",
+				"public class Converter {", "", "\tprivate final String name;", "",
+				"\tpublic Converter() {", "\t\tsuper();",
+				"\t\tthis.name = \"converter\";", "\t}", "",
+				"\tString convert(Object value) {",
+				"\t\treturn new ObjectMapper().writeValueAsString(value);",
+				"\t}", "", "}");
+		String fixed = applyToSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL, "Inject as a bean"),
+				"new ObjectMapper()", "ObjectMapper");
+		assertTrue(fixed,
+				fixed.contains("public Converter(ObjectMapper objectMapper) {"));
+		int superCall = fixed.indexOf("super();");
+		int assignment = fixed.indexOf("this.objectMapper = objectMapper;");
+		assertTrue(fixed, superCall != -1 && assignment > superCall);
+		assertTrue(fixed, fixed.indexOf("this.name = \"converter\";") > assignment);
+		assertTrue(fixed, fixed
+				.contains("return this.objectMapper.writeValueAsString(value);"));
+	}
+
+	@Test
+	public void constantForObjectThatIsOnlyReadHoistsItIntoField() throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Reader.java",
+				"package com.example;", "",
+				"import com.fasterxml.jackson.databind.ObjectMapper;", "",
+				"public class Reader {", "", "\tString convert(Object value) {",
+				"\t\tObjectMapper mapper = new ObjectMapper();",
+				"\t\treturn mapper.writeValueAsString(value);", "\t}", "", "}");
+		String fixed = applyToSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+						"Hoist to a static final field"),
+				"new ObjectMapper()", "ObjectMapper");
+		assertTrue(fixed, fixed.contains(
+				"private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();"));
+		assertTrue(fixed, fixed.contains("ObjectMapper mapper = OBJECT_MAPPER;"));
+	}
+
+	@Test
+	public void constantForObjectThatIsConfiguredAfterCreationIsNotApplied()
+			throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Configurer.java",
+				"package com.example;", "",
+				"import com.fasterxml.jackson.databind.ObjectMapper;", "",
+				"public class Configurer {", "", "\tString convert(Object value) {",
+				"\t\tObjectMapper mapper = new ObjectMapper();",
+				"\t\tmapper.configure(\"INDENT_OUTPUT\", true);",
+				"\t\treturn mapper.writeValueAsString(value);", "\t}", "", "}");
+		assertNull(fixSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+						"Hoist to a static final field"),
+				"new ObjectMapper()", "ObjectMapper"));
+	}
+
+	@Test
+	public void constantForObjectThatIsPassedToAnotherMethodIsNotApplied()
+			throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Customizer.java",
+				"package com.example;", "",
+				"import com.fasterxml.jackson.databind.ObjectMapper;", "",
+				"public class Customizer {", "", "\tString convert(Object value) {",
+				"\t\tObjectMapper mapper = new ObjectMapper();",
+				"\t\tcustomize(mapper);",
+				"\t\treturn mapper.writeValueAsString(value);", "\t}", "",
+				"\tvoid customize(ObjectMapper mapper) {", "\t}", "", "}");
+		assertNull(fixSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+						"Hoist to a static final field"),
+				"new ObjectMapper()", "ObjectMapper"));
+	}
+
+	@Test
+	public void injectionOutsideOfComponentIsNotApplied() throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Plain.java",
+				"package com.example;", "",
+				"import com.fasterxml.jackson.databind.ObjectMapper;", "",
+				"public class Plain {", "", "\tString convert(Object value) {",
+				"\t\treturn new ObjectMapper().writeValueAsString(value);", "\t}", "",
+				"}");
+		assertNull(fixSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+						"Inject as a bean"),
+				"new ObjectMapper()", "ObjectMapper"));
+	}
+
+	@Test
+	public void constantForObjectCreatedFromLocalConstantIsNotApplied()
+			throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Formatter.java",
+				"package com.example;", "", "import java.time.LocalDate;",
+				"import java.time.format.DateTimeFormatter;", "",
+				"public class Formatter {", "", "\tString format(LocalDate date) {",
+				"\t\tfinal String pattern = \"yyyy-MM-dd\";",
+				"\t\treturn DateTimeFormatter.ofPattern(pattern).format(date);",
+				"\t}", "", "}");
+		assertNull(fixSingleProblem(compilationUnit,
+				getFix(Problem.SHAREABLE_EXPENSIVE_OBJECT_CREATED_ON_EACH_CALL,
+						"Hoist to a static final field"),
+				"DateTimeFormatter.ofPattern", "ofPattern"));
+	}
+
+	@Test
+	public void patternConstantForRegexInLocalConstantUsesItsValue() throws Exception {
+		ICompilationUnit compilationUnit = createFile("com/example/Matcher.java",
+				"package com.example;", "", "public class Matcher {", "",
+				"\tboolean isWord(String value) {",
+				"\t\tfinal String regex = \"[a-z]+\";",
+				"\t\treturn value.matches(regex);", "\t}", "", "}");
+		String fixed = applyToSingleProblem(compilationUnit,
+				getFix(Problem.REGEX_COMPILED_ON_EACH_CALL, "Extract Pattern constant"),
+				"value.matches", "matches");
+		assertTrue(fixed, fixed.contains(
+				"private static final Pattern IS_WORD_PATTERN = Pattern.compile(\"[a-z]+\");"));
+		assertTrue(fixed,
+				fixed.contains("return IS_WORD_PATTERN.matcher(value).matches();"));
+	}
+
+	private static ICompilationUnit createFile(String path, String... lines)
+			throws CoreException {
+		IFile file = project.getFile("src/" + path);
+		createFolders(file.getParent());
+		file.create(new ByteArrayInputStream(
+				String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), true, null);
+		return JavaCore.createCompilationUnitFrom(file);
+	}
+
+	private static void createFolders(IResource resource) throws CoreException {
+		if (resource instanceof IFolder && !resource.exists()) {
+			createFolders(resource.getParent());
+			((IFolder) resource).create(true, true, null);
+		}
+	}
+
+	private Fix getFix(Problem problem, String label) {
+		for (Fix fix : Fixes.forProblem(problem)) {
+			if (fix.getLabel().equals(label)) {
+				return fix;
+			}
+		}
+		throw new IllegalStateException("No fix labelled '" + label + "' for " + problem);
+	}
+
+	private String applyToSingleProblem(ICompilationUnit compilationUnit, Fix fix,
+			String context, String problemSource) throws Exception {
+		TextEdit edit = fixSingleProblem(compilationUnit, fix, context, problemSource);
+		assertNotNull(edit);
+		Document document = new Document(compilationUnit.getSource());
+		edit.apply(document);
+		return document.get();
+	}
+
+	private TextEdit fixSingleProblem(ICompilationUnit compilationUnit, Fix fix,
+			String context, String problemSource) throws Exception {
+		String source = compilationUnit.getSource();
+		int offset = source.indexOf(problemSource, source.indexOf(context));
+		List<ISourceRange> ranges = Collections
+				.singletonList(new SourceRange(offset, problemSource.length()));
+		CompilationUnit ast = QuickFixes.parse(compilationUnit, fix, ranges, null);
+		return fix.apply(ast, source, ranges,
+				QuickFixes.getContext(compilationUnit.getResource()));
+	}
+
+}
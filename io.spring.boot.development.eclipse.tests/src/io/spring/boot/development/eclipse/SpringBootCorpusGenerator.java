@@ -0,0 +1,452 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates a Spring Boot-shaped source tree of a configurable size for performance
+ * testing. The tree contains:
+ * <ul>
+ * <li>{@code @Configuration} classes with {@code @Bean} methods, arranged in
+ * inheritance chains, some of which disable bean method proxying</li>
+ * <li>Lambda-heavy services, some of which are {@code @Component} classes</li>
+ * <li>{@code FailureAnalyzer} implementations, half of which are listed in
+ * {@code META-INF/spring.factories}</li>
+ * <li>Test classes that make heavy use of AssertJ</li>
+ * </ul>
+ * Classes are spread across modules with deep package trees. Stubs of the Spring
+ * Framework, Spring Boot, JUnit and AssertJ types that the rules look for are generated
+ * in a separate source root so that the tree compiles and resolves without any jars. The
+ * output is deterministic for a given configuration.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SpringBootCorpusGenerator {
+
+	/**
+	 * The source roots of a generated tree, relative to its root.
+	 */
+	public static final List<String> SOURCE_ROOTS = Collections
+			.unmodifiableList(Arrays.asList("src/main/java", "src/test/java", "stubs"));
+
+	private static final String BASE_PACKAGE = "com.example.generated";
+
+	private static final int CLASSES_PER_MODULE = 10;
+
+	private int configurations = 100;
+
+	private int beanMethods = 5;
+
+	private int inheritanceDepth = 3;
+
+	private int services = 100;
+
+	private int failureAnalyzers = 20;
+
+	private int tests = 100;
+
+	private int packageDepth = 6;
+
+	/**
+	 * Sets the number of {@code @Configuration} classes to generate.
+	 *
+	 * @param configurations the number of configuration classes
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator configurations(int configurations) {
+		this.configurations = configurations;
+		return this;
+	}
+
+	/**
+	 * Sets the number of {@code @Bean} methods in each configuration class.
+	 *
+	 * @param beanMethods the number of bean methods
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator beanMethods(int beanMethods) {
+		this.beanMethods = beanMethods;
+		return this;
+	}
+
+	/**
+	 * Sets the length of the inheritance chains of configuration classes.
+	 *
+	 * @param inheritanceDepth the length of each chain
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator inheritanceDepth(int inheritanceDepth) {
+		this.inheritanceDepth = inheritanceDepth;
+		return this;
+	}
+
+	/**
+	 * Sets the number of lambda-heavy service classes to generate.
+	 *
+	 * @param services the number of service classes
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator services(int services) {
+		this.services = services;
+		return this;
+	}
+
+	/**
+	 * Sets the number of {@code FailureAnalyzer} implementations to generate.
+	 *
+	 * @param failureAnalyzers the number of failure analyzers
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator failureAnalyzers(int failureAnalyzers) {
+		this.failureAnalyzers = failureAnalyzers;
+		return this;
+	}
+
+	/**
+	 * Sets the number of test classes to generate. Each test class tests a service so
+	 * no more test classes than services are generated.
+	 *
+	 * @param tests the number of test classes
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator tests(int tests) {
+		this.tests = tests;
+		return this;
+	}
+
+	/**
+	 * Sets the number of packages between the base package and each class.
+	 *
+	 * @param packageDepth the depth of the package trees
+	 * @return this generator
+	 */
+	public SpringBootCorpusGenerator packageDepth(int packageDepth) {
+		this.packageDepth = packageDepth;
+		return this;
+	}
+
+	/**
+	 * Generates the tree beneath the given {@code root}.
+	 *
+	 * @param root the root of the tree
+	 * @return the generated source files
+	 * @throws IOException if the tree cannot be written
+	 */
+	public List<Path> generate(Path root) throws IOException {
+		List<Path> files = new ArrayList<>();
+		writeStubs(root.resolve("stubs"));
+		Path main = root.resolve("src/main/java");
+		for (int i = 0; i < this.configurations; i++) {
+			files.add(write(main, getPackage(i, "config"), "Configuration" + i,
+					configuration(i)));
+		}
+		for (int i = 0; i < this.services; i++) {
+			files.add(write(main, getPackage(i, "service"), "Service" + i, service(i)));
+		}
+		StringBuilder registered = new StringBuilder();
+		for (int i = 0; i < this.failureAnalyzers; i++) {
+			String packageName = getPackage(i, "diagnostics");
+			files.add(write(main, packageName, "Failure" + i + "Analyzer",
+					failureAnalyzer(i)));
+			if (i % 2 == 0) {
+				registered.append((registered.length() > 0) ? ",\\\n" : "\\\n")
+						.append(packageName).append(".Failure").append(i)
+						.append("Analyzer");
+			}
+		}
+		Path springFactories = root.resolve("src/main/resources/META-INF/spring.factories");
+		Files.createDirectories(springFactories.getParent());
+		Files.write(springFactories,
+				("org.springframework.boot.diagnostics.FailureAnalyzer=" + registered
+						+ "\n").getBytes(StandardCharsets.UTF_8));
+		Path test = root.resolve("src/test/java");
+		for (int i = 0; i < Math.min(this.tests, this.services); i++) {
+			files.add(write(test, getPackage(i, "service"), "Service" + i + "Tests",
+					test(i)));
+		}
+		return files;
+	}
+
+	private String getPackage(int index, String leaf) {
+		StringBuilder packageName = new StringBuilder(BASE_PACKAGE);
+		packageName.append(".module").append(index / CLASSES_PER_MODULE);
+		for (int level = 1; level <= this.packageDepth; level++) {
+			packageName.append(".level").append(level);
+		}
+		return packageName.append('.').append(leaf).toString();
+	}
+
+	private String configuration(int index) {
+		int position = index % Math.max(this.inheritanceDepth, 1);
+		boolean unproxied = position > 0 && index % 5 == 0;
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(getPackage(index, "config")).append(";\n\n");
+		source.append("import java.util.List;\n");
+		source.append("import java.util.function.Supplier;\n\n");
+		source.append("import org.springframework.context.annotation.Bean;\n");
+		source.append("import org.springframework.context.annotation.Configuration;\n\n");
+		source.append("/**\n * Generated configuration ").append(index).append(".\n */\n");
+		source.append(unproxied ? "@Configuration(proxyBeanMethods = false)\n"
+				: "@Configuration\n");
+		source.append("public class Configuration").append(index);
+		if (position > 0) {
+			source.append(" extends ").append(getPackage(index - 1, "config"))
+					.append(".Configuration").append(index - 1);
+		}
+		source.append(" {\n\n");
+		source.append("\tprivate final List<String> names;\n\n");
+		source.append("\tpublic Configuration").append(index)
+				.append("(List<String> names) {\n");
+		if (position > 0) {
+			source.append("\t\tsuper(names);\n");
+		}
+		source.append("\t\tthis.names = names;\n\t}\n\n");
+		for (int i = 0; i < this.beanMethods; i++) {
+			String name = "bean" + index + "x" + i;
+			source.append("\t@Bean\n");
+			source.append("\tpublic Supplier<String> ").append(name).append("() {\n");
+			if (i > 0) {
+				source.append("\t\tString previous = bean").append(index).append("x")
+						.append(i - 1).append("().get();\n");
+				source.append("\t\treturn () -> previous + this.names.size();\n");
+			}
+			else {
+				source.append("\t\treturn () -> {\n\t\t\treturn \"").append(name)
+						.append("\";\n\t\t};\n");
+			}
+			source.append("\t}\n\n");
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private String service(int index) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(getPackage(index, "service")).append(";\n\n");
+		source.append("import java.util.List;\n");
+		source.append("import java.util.Map;\n");
+		source.append("import java.util.function.Function;\n");
+		source.append("import java.util.stream.Collectors;\n\n");
+		source.append("import org.springframework.beans.factory.annotation.Autowired;\n");
+		source.append("import org.springframework.stereotype.Component;\n\n");
+		source.append("/**\n * Generated service ").append(index)
+				.append(". See {@link Component}.\n */\n");
+		if (index % 3 == 0) {
+			source.append("@Component\n");
+		}
+		source.append("public class Service").append(index).append(" {\n\n");
+		source.append("\tprivate final List<String> values;\n\n");
+		source.append("\t@Autowired\n");
+		source.append("\tpublic Service").append(index)
+				.append("(List<String> values) {\n");
+		source.append("\t\tthis.values = values;\n\t}\n\n");
+		source.append("\tpublic Map<String, Integer> index(String separator) {\n");
+		source.append("\t\treturn this.values.stream().filter((value) -> !value.isEmpty())\n");
+		source.append("\t\t\t\t.collect(Collectors.toMap(Function.identity(),\n");
+		source.append("\t\t\t\t\t\tvalue -> value.indexOf(\"-\")));\n\t}\n\n");
+		source.append("\tpublic List<String> transform(Transformer transformer) {\n");
+		source.append("\t\treturn this.values.stream().map((value) -> {\n");
+		source.append("\t\t\treturn transformer.transform(value);\n");
+		source.append("\t\t}).sorted((one, two) -> one.compareTo(two))\n");
+		source.append("\t\t\t\t.collect(Collectors.toList());\n\t}\n\n");
+		source.append("\tpublic int count(String prefix, boolean ignoreCase) {\n");
+		source.append("\t\treturn (int) this.values.stream()\n");
+		source.append("\t\t\t\t.filter((value) -> value.startsWith(prefix)).count();\n");
+		source.append("\t}\n\n");
+		source.append("\tpublic String get(int position) {\n");
+		source.append("\t\treturn this.values.get(position);\n\t}\n\n");
+		source.append("\tpublic interface Transformer {\n\n");
+		source.append("\t\tString transform(String value);\n\n\t}\n\n");
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private String failureAnalyzer(int index) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(getPackage(index, "diagnostics"))
+				.append(";\n\n");
+		source.append("import org.springframework.boot.diagnostics.FailureAnalysis;\n");
+		source.append("import org.springframework.boot.diagnostics.FailureAnalyzer;\n\n");
+		source.append("/**\n * Generated failure analyzer ").append(index)
+				.append(".\n */\n");
+		source.append("public class Failure").append(index)
+				.append("Analyzer implements FailureAnalyzer {\n\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic FailureAnalysis analyze(Throwable failure) {\n");
+		source.append("\t\tThrowable cause = failure;\n");
+		source.append("\t\twhile (cause != null) {\n");
+		source.append("\t\t\tif (cause instanceof IllegalStateException) {\n");
+		source.append("\t\t\t\treturn new FailureAnalysis(cause.getMessage(), \"Fix ")
+				.append(index).append("\", cause);\n\t\t\t}\n");
+		source.append("\t\t\tcause = cause.getCause();\n\t\t}\n");
+		source.append("\t\treturn null;\n\t}\n\n}\n");
+		return source.toString();
+	}
+
+	private String test(int index) {
+		String service = "Service" + index;
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(getPackage(index, "service")).append(";\n\n");
+		source.append("import java.util.Arrays;\n\n");
+		source.append("import org.junit.Test;\n\n");
+		source.append("import static org.assertj.core.api.Assertions.assertThat;\n");
+		source.append(
+				"import static org.assertj.core.api.Assertions.assertThatExceptionOfType;\n");
+		source.append("import static org.junit.Assert.fail;\n\n");
+		source.append("/**\n * Generated tests for {@link ").append(service)
+				.append("}.\n */\n");
+		source.append("public class ").append(service).append("Tests {\n\n");
+		source.append("\tprivate final ").append(service).append(" service = new ")
+				.append(service).append("(Arrays.asList(\"a-1\", \"b-2\", \"c\"));\n\n");
+		for (int i = 0; i < 5; i++) {
+			source.append("\t@Test\n\tpublic void index").append(i).append("() {\n");
+			source.append("\t\tassertThat(this.service.index(\"-\")).isNotNull();\n");
+			source.append("\t\tassertThat(this.service.count(\"a\", false)).isEqualTo(1);\n");
+			source.append("\t\tassertThat(this.service.get(").append(i % 3)
+					.append(")).isNotNull().isEqualTo(this.service.get(").append(i % 3)
+					.append("));\n\t}\n\n");
+		}
+		source.append("\t@Test\n\tpublic void incompleteAssertion() {\n");
+		source.append("\t\tassertThat(this.service.get(0));\n\t}\n\n");
+		source.append("\t@Test\n\tpublic void tryFail() {\n");
+		source.append("\t\ttry {\n\t\t\tthis.service.get(10);\n");
+		source.append("\t\t\tfail(\"Expected IndexOutOfBoundsException\");\n\t\t}\n");
+		source.append("\t\tcatch (IndexOutOfBoundsException ex) {\n");
+		source.append("\t\t\tassertThat(ex).isNotNull();\n\t\t}\n\t}\n\n");
+		source.append("\t@Test\n\tpublic void exceptionAssertion() {\n");
+		source.append("\t\tassertThatExceptionOfType(IndexOutOfBoundsException.class)\n");
+		source.append("\t\t\t\t.isThrownBy(() -> this.service.get(10));\n\t}\n\n");
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private void writeStubs(Path stubs) throws IOException {
+		writeAnnotation(stubs, "org.springframework.context.annotation", "Configuration",
+				"ElementType.TYPE", "\tString value() default \"\";\n\n"
+						+ "\tboolean proxyBeanMethods() default true;\n");
+		writeAnnotation(stubs, "org.springframework.context.annotation", "Bean",
+				"ElementType.METHOD", "\tString[] name() default {};\n");
+		writeAnnotation(stubs, "org.springframework.stereotype", "Component",
+				"ElementType.TYPE", "\tString value() default \"\";\n");
+		writeAnnotation(stubs, "org.springframework.beans.factory.annotation",
+				"Autowired", "{ ElementType.CONSTRUCTOR, ElementType.FIELD }",
+				"\tboolean required() default true;\n");
+		writeAnnotation(stubs, "org.junit", "Test", "ElementType.METHOD", "");
+		write(stubs, "org.springframework.boot.diagnostics", "FailureAnalyzer",
+				"package org.springframework.boot.diagnostics;\n\n"
+						+ "public interface FailureAnalyzer {\n\n"
+						+ "\tFailureAnalysis analyze(Throwable failure);\n\n}\n");
+		write(stubs, "org.springframework.boot.diagnostics", "FailureAnalysis",
+				"package org.springframework.boot.diagnostics;\n\n"
+						+ "public class FailureAnalysis {\n\n"
+						+ "\tpublic FailureAnalysis(String description, String action,"
+						+ " Throwable cause) {\n\t}\n\n}\n");
+		write(stubs, "org.junit", "Assert",
+				"package org.junit;\n\npublic class Assert {\n\n"
+						+ "\tpublic static void fail(String message) {\n"
+						+ "\t\tthrow new AssertionError(message);\n\t}\n\n}\n");
+		write(stubs, "org.assertj.core.api", "Assertions",
+				"package org.assertj.core.api;\n\npublic class Assertions {\n\n"
+						+ "\tpublic static <T> ObjectAssert<T> assertThat(T actual) {\n"
+						+ "\t\treturn new ObjectAssert<>();\n\t}\n\n"
+						+ "\tpublic static ThrowableTypeAssert assertThatExceptionOfType("
+						+ "Class<? extends Throwable> type) {\n"
+						+ "\t\treturn new ThrowableTypeAssert();\n\t}\n\n}\n");
+		write(stubs, "org.assertj.core.api", "ObjectAssert",
+				"package org.assertj.core.api;\n\npublic class ObjectAssert<T> {\n\n"
+						+ "\tpublic ObjectAssert<T> isEqualTo(Object expected) {\n"
+						+ "\t\treturn this;\n\t}\n\n"
+						+ "\tpublic ObjectAssert<T> isNotNull() {\n"
+						+ "\t\treturn this;\n\t}\n\n}\n");
+		write(stubs, "org.assertj.core.api", "ThrowableTypeAssert",
+				"package org.assertj.core.api;\n\npublic class ThrowableTypeAssert {\n\n"
+						+ "\tpublic ObjectAssert<Throwable> isThrownBy(Runnable runnable) {\n"
+						+ "\t\treturn new ObjectAssert<>();\n\t}\n\n}\n");
+	}
+
+	private void writeAnnotation(Path root, String packageName, String name,
+			String target, String members) throws IOException {
+		write(root, packageName, name, "package " + packageName + ";\n\n"
+				+ "import java.lang.annotation.ElementType;\n"
+				+ "import java.lang.annotation.Retention;\n"
+				+ "import java.lang.annotation.RetentionPolicy;\n"
+				+ "import java.lang.annotation.Target;\n\n" + "@Target(" + target + ")\n"
+				+ "@Retention(RetentionPolicy.RUNTIME)\n" + "public @interface " + name
+				+ " {\n\n" + members + (members.isEmpty() ? "" : "\n") + "}\n");
+	}
+
+	private Path write(Path root, String packageName, String name, String source)
+			throws IOException {
+		Path file = root.resolve(packageName.replace('.', '/')).resolve(name + ".java");
+		Files.createDirectories(file.getParent());
+		Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	/**
+	 * Generates a tree from the command line. The first argument is the directory in
+	 * which the tree should be generated. Each of the remaining arguments is of the form
+	 * {@code name=value}, where {@code name} is one of {@code configurations},
+	 * {@code beanMethods}, {@code inheritanceDepth}, {@code services},
+	 * {@code failureAnalyzers}, {@code tests} or {@code packageDepth}.
+	 *
+	 * @param args the arguments
+	 * @throws IOException if the tree cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: SpringBootCorpusGenerator <directory> "
+					+ "[<name>=<value>...]");
+			System.exit(1);
+		}
+		SpringBootCorpusGenerator generator = new SpringBootCorpusGenerator();
+		for (int i = 1; i < args.length; i++) {
+			String[] pair = args[i].split("=", 2);
+			int value = Integer.parseInt(pair[1]);
+			switch (pair[0]) {
+			case "configurations":
+				generator.configurations(value);
+				break;
+			case "beanMethods":
+				generator.beanMethods(value);
+				break;
+			case "inheritanceDepth":
+				generator.inheritanceDepth(value);
+				break;
+			case "services":
+				generator.services(value);
+				break;
+			case "failureAnalyzers":
+				generator.failureAnalyzers(value);
+				break;
+			case "tests":
+				generator.tests(value);
+				break;
+			case "packageDepth":
+				generator.packageDepth(value);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown setting '" + pair[0] + "'");
+			}
+		}
+		List<Path> files = generator.generate(Paths.get(args[0]));
+		System.out.println("Generated " + files.size() + " source files in " + args[0]);
+	}
+
+}
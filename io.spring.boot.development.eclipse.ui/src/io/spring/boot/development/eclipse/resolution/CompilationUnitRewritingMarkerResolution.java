@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.resolution;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.boot.development.eclipse.QuickFixes;
+import io.spring.boot.development.eclipse.StandardProblemReporter;
+import io.spring.boot.development.eclipse.fixes.Fix;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.ui.IMarkerResolution;
+import org.eclipse.ui.statushandlers.StatusManager;
+import org.eclipse.ui.views.markers.WorkbenchMarkerResolution;
+
+/**
+ * An {@link IMarkerResolution} that rewrites a {@link CompilationUnit} by applying a
+ * {@link Fix}.
+ * <p>
+ * Multiple markers can be resolved at once. Markers are grouped by compilation unit and
+ * each compilation unit is parsed once, with all of its markers being resolved before
+ * it is rewritten. The changes to every compilation unit are performed as a single
+ * change that can be undone.
+ * <p>
+ * When a compilation unit has a single marker, its parse is focused on the marker's position so that unrelated method bodies are skipped, unless
+ * the fix {@link Fix#requiresFullAst() requires a full AST}.
+ * <p>
+ * Resolutions are offered for every fix of a marker's problem without checking that the
+ * fix applies, as that would require the compilation unit to be parsed whenever the
+ * workbench shows the marker. When a fix does not change any of the compilation units,
+ * the user is told so.
+ *
+ * @author Andy Wilkinson
+ */
+class CompilationUnitRewritingMarkerResolution extends WorkbenchMarkerResolution {
+
+	private static final String PLUGIN_ID = "io.spring.boot.development.eclipse.ui";
+
+	private final Fix fix;
+
+	private final IMarker marker;
+
+	/**
+	 * Creates a new resolution for the given {@code marker} that will apply the given
+	 * {@code fix}.
+	 *
+	 * @param fix the fix for the marker's problem
+	 * @param marker the marker that the resolution was created for
+	 */
+	CompilationUnitRewritingMarkerResolution(Fix fix, IMarker marker) {
+		this.fix = fix;
+		this.marker = marker;
+	}
+
+	@Override
+	public String getLabel() {
+		return this.fix.getLabel();
+	}
+
+	@Override
+	public String getDescription() {
+		return getLabel();
+	}
+
+	@Override
+	public Image getImage() {
+		return null;
+	}
+
+	@Override
+	public IMarker[] findOtherMarkers(IMarker[] markers) {
+		String sourceId = Integer.toString(this.fix.getProblem().getId());
+		List<IMarker> others = new ArrayList<>();
+		for (IMarker candidate : markers) {
+			if (!candidate.equals(this.marker) && isProblemMarker(candidate)
+					&& sourceId.equals(candidate.getAttribute(IMarker.SOURCE_ID, null))) {
+				others.add(candidate);
+			}
+		}
+		return others.toArray(new IMarker[others.size()]);
+	}
+
+	private boolean isProblemMarker(IMarker marker) {
+		try {
+			return marker.isSubtypeOf(StandardProblemReporter.MARKER_TYPE);
+		}
+		catch (CoreException ex) {
+			// The marker no longer exists
+			return false;
+		}
+	}
+
+	@Override
+	public void run(IMarker marker) {
+		run(new IMarker[] { marker }, new NullProgressMonitor());
+	}
+
+	@Override
+	public void run(IMarker[] markers, IProgressMonitor monitor) {
+		try {
+			Map<IResource, List<IMarker>> markersByResource = groupByResource(markers);
+			SubMonitor subMonitor = SubMonitor.convert(monitor, getLabel(),
+					markersByResource.size() + 1);
+			CompositeChange change = new CompositeChange(getLabel());
+			for (Map.Entry<IResource, List<IMarker>> entry : markersByResource
+					.entrySet()) {
+				TextFileChange fileChange = resolveMarkers(entry.getKey(),
+						entry.getValue(), subMonitor.split(1));
+				if (fileChange != null) {
+					change.add(fileChange);
+				}
+			}
+			if (change.getChildren().length > 0) {
+				perform(change, subMonitor.split(1));
+			}
+			else {
+				StatusManager.getManager().handle(new Status(IStatus.INFO, PLUGIN_ID,
+						"'" + getLabel() + "' does not apply to the selected problems"),
+						StatusManager.SHOW);
+			}
+		}
+		catch (Exception ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	private Map<IResource, List<IMarker>> groupByResource(IMarker[] markers) {
+		Map<IResource, List<IMarker>> markersByResource = new LinkedHashMap<>();
+		for (IMarker marker : markers) {
+			markersByResource.computeIfAbsent(marker.getResource(),
+					(resource) -> new ArrayList<>()).add(marker);
+		}
+		return markersByResource;
+	}
+
+	private TextFileChange resolveMarkers(IResource resource, List<IMarker> markers,
+			IProgressMonitor monitor) throws Exception {
+		IJavaElement javaElement = JavaCore.create(resource);
+		if (!(resource instanceof IFile) || !(javaElement instanceof ICompilationUnit)) {
+			return null;
+		}
+		ICompilationUnit sourceUnit = (ICompilationUnit) javaElement;
+		List<ISourceRange> ranges = new ArrayList<>();
+		for (IMarker marker : markers) {
+			ranges.add(getRange(marker));
+		}
+		CompilationUnit compilationUnit = QuickFixes.parse(sourceUnit, this.fix, ranges,
+				monitor);
+		TextEdit edit = this.fix.apply(compilationUnit, sourceUnit.getSource(), ranges,
+				QuickFixes.getContext(resource));
+		if (edit == null) {
+			return null;
+		}
+		TextFileChange change = new TextFileChange(resource.getName(), (IFile) resource);
+		change.setEdit(edit);
+		change.setSaveMode(TextFileChange.KEEP_SAVE_STATE);
+		return change;
+	}
+
+	private void perform(CompositeChange change, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		change.initializeValidationData(subMonitor.split(1));
+		PerformChangeOperation operation = new PerformChangeOperation(change);
+		operation.setUndoManager(RefactoringCore.getUndoManager(), getLabel());
+		ResourcesPlugin.getWorkspace().run(operation, subMonitor.split(1));
+	}
+
+	private ISourceRange getRange(IMarker marker) {
+		int start = marker.getAttribute(IMarker.CHAR_START, 0);
+		return new SourceRange(start,
+				marker.getAttribute(IMarker.CHAR_END, start) - start);
+	}
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.resolution;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.fixes.Fix;
+import io.spring.boot.development.eclipse.fixes.Fixes;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.ui.IMarkerResolution;
+
+public class MarkerResolutions {
+
+	public static IMarkerResolution[] resolutionsForMarker(Problem problem,
+			IMarker marker) {
+		List<Fix> fixes = Fixes.forProblem(problem);
+		IMarkerResolution[] resolutions = new IMarkerResolution[fixes.size()];
+		for (int i = 0; i < resolutions.length; i++) {
+			resolutions[i] = new CompilationUnitRewritingMarkerResolution(fixes.get(i),
+					marker);
+		}
+		return resolutions;
+	}
+
+}
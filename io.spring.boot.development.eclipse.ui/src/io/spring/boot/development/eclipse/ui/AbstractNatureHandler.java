@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * Base class for {@link AbstractHandler AbstractHandlers} that configure a project's
+ * natures. All of the selected projects are configured in a single {@link WorkspaceJob}
+ * that holds the workspace rule so that only one build is performed once every project
+ * has been configured.
+ *
+ * @author Andy Wilkinson
+ */
+abstract class AbstractNatureHandler extends AbstractHandler {
+
+	private static final String PLUGIN_ID = "io.spring.boot.development.eclipse.ui";
+
+	@Override
+	public final Object execute(ExecutionEvent event) throws ExecutionException {
+		ISelection selection = HandlerUtil.getCurrentSelection(event);
+		List<IProject> projects = Selections.findProjects(selection);
+		if (!projects.isEmpty()) {
+			new NatureConfigurationJob(projects).schedule();
+		}
+		return null;
+	}
+
+	private boolean configureNature(IProject project, IProgressMonitor monitor)
+			throws CoreException {
+		IProjectDescription description = project.getDescription();
+		List<String> natureIds = new ArrayList<String>(
+				Arrays.asList(description.getNatureIds()));
+		configureNatures(natureIds);
+		boolean naturesChanged = !natureIds
+				.equals(Arrays.asList(description.getNatureIds()));
+		boolean buildSpecChanged = configureBuildSpec(description);
+		if (!naturesChanged && !buildSpecChanged) {
+			return false;
+		}
+		description.setNatureIds(natureIds.toArray(new String[natureIds.size()]));
+		project.setDescription(description, monitor);
+		return true;
+	}
+
+	protected abstract void configureNatures(List<String> natureIds) throws CoreException;
+
+	/**
+	 * Configures the build spec of the given {@code description} to match its natures.
+	 * Called before the description is set so that the natures and the build spec are
+	 * written together.
+	 *
+	 * @param description the description to configure
+	 * @return {@code true} if the build spec was changed, otherwise {@code false}
+	 * @throws CoreException if configuration fails
+	 */
+	protected abstract boolean configureBuildSpec(IProjectDescription description)
+			throws CoreException;
+
+	/**
+	 * Returns whether configured projects should be built once every project has been
+	 * configured.
+	 *
+	 * @return {@code true} to build configured projects, otherwise {@code false}
+	 */
+	protected abstract boolean requiresBuild();
+
+	private final class NatureConfigurationJob extends WorkspaceJob {
+
+		private final List<IProject> projects;
+
+		private NatureConfigurationJob(List<IProject> projects) {
+			super("Updating Spring Boot development nature configuration");
+			this.projects = projects;
+			setRule(ResourcesPlugin.getWorkspace().getRoot());
+			setUser(true);
+		}
+
+		@Override
+		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			SubMonitor subMonitor = SubMonitor.convert(monitor,
+					this.projects.size() + 1);
+			MultiStatus status = new MultiStatus(PLUGIN_ID, 0,
+					"Failed to update Spring Boot development nature configuration",
+					null);
+			List<IBuildConfiguration> configured = new ArrayList<>();
+			for (IProject project : this.projects) {
+				try {
+					if (configureNature(project, subMonitor.split(1))) {
+						configured.add(project.getActiveBuildConfig());
+					}
+				}
+				catch (CoreException ex) {
+					status.add(ex.getStatus());
+				}
+			}
+			build(configured, subMonitor.split(1));
+			return status.isOK() ? Status.OK_STATUS : status;
+		}
+
+		private void build(List<IBuildConfiguration> configured,
+				IProgressMonitor monitor) throws CoreException {
+			IWorkspace workspace = ResourcesPlugin.getWorkspace();
+			if (configured.isEmpty() || !requiresBuild()
+					|| workspace.isAutoBuilding()) {
+				// Auto-build runs once when the job's workspace operation completes
+				return;
+			}
+			workspace.build(
+					configured.toArray(new IBuildConfiguration[configured.size()]),
+					IncrementalProjectBuilder.INCREMENTAL_BUILD, false, monitor);
+		}
+
+	}
+
+}
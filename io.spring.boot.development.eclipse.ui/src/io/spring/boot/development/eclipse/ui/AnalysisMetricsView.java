@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import io.spring.boot.development.eclipse.BuildMetrics;
+import io.spring.boot.development.eclipse.BuildMetrics.Build;
+import io.spring.boot.development.eclipse.analysis.AnalysisMetrics.StepMetrics;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * A view that shows the {@link BuildMetrics} of the most recent build of each project.
+ * There is a row for each step of each build, such as running a visitor, parsing
+ * compilation units or writing markers, with the step's total wall time, CPU time and
+ * allocation. The view is refreshed whenever a build completes.
+ *
+ * @author Andy Wilkinson
+ */
+public final class AnalysisMetricsView extends ViewPart {
+
+	/**
+	 * The id of the view.
+	 */
+	public static final String ID = "io.spring.boot.development.eclipse.metricsView";
+
+	private final Runnable listener = this::scheduleRefresh;
+
+	private TableViewer viewer;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		this.viewer = new TableViewer(parent,
+				SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+		Table table = this.viewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		addColumn("Project", 160, SWT.LEFT, (row) -> row.build.getProject());
+		addColumn("Step", 280, SWT.LEFT, (row) -> row.step.getStep());
+		addColumn("Count", 80, SWT.RIGHT,
+				(row) -> Long.toString(row.step.getCount()));
+		addColumn("Wall (ms)", 100, SWT.RIGHT,
+				(row) -> formatMillis(row.step.getWallTime()));
+		addColumn("CPU (ms)", 100, SWT.RIGHT,
+				(row) -> formatMillis(row.step.getCpuTime()));
+		addColumn("Allocated (MB)", 110, SWT.RIGHT, (row) -> String.format(Locale.ROOT,
+				"%.1f", row.step.getAllocatedBytes() / (1024.0 * 1024.0)));
+		this.viewer.setContentProvider(ArrayContentProvider.getInstance());
+		refresh();
+		BuildMetrics.addListener(this.listener);
+	}
+
+	private void addColumn(String title, int width, int style,
+			Function<Row, String> text) {
+		TableViewerColumn column = new TableViewerColumn(this.viewer, style);
+		column.getColumn().setText(title);
+		column.getColumn().setWidth(width);
+		column.getColumn().setAlignment(style);
+		column.setLabelProvider(new ColumnLabelProvider() {
+
+			@Override
+			public String getText(Object element) {
+				return text.apply((Row) element);
+			}
+
+		});
+	}
+
+	private String formatMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+	}
+
+	private void scheduleRefresh() {
+		Control control = this.viewer.getControl();
+		if (!control.isDisposed()) {
+			control.getDisplay().asyncExec(this::refresh);
+		}
+	}
+
+	private void refresh() {
+		if (this.viewer.getControl().isDisposed()) {
+			return;
+		}
+		List<Row> rows = new ArrayList<>();
+		for (Build build : BuildMetrics.getBuilds()) {
+			for (StepMetrics step : build.getSteps()) {
+				rows.add(new Row(build, step));
+			}
+		}
+		this.viewer.setInput(rows);
+	}
+
+	@Override
+	public void setFocus() {
+		this.viewer.getControl().setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		BuildMetrics.removeListener(this.listener);
+		super.dispose();
+	}
+
+	private static final class Row {
+
+		private final Build build;
+
+		private final StepMetrics step;
+
+		private Row(Build build, StepMetrics step) {
+			this.build = build;
+			this.step = step;
+		}
+
+	}
+
+}
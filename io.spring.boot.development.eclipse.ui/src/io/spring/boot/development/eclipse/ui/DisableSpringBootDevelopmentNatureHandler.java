@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -12,6 +12,7 @@ package io.spring.boot.development.eclipse.ui;
 import java.util.List;
 
 import io.spring.boot.development.eclipse.SpringBootDevelopmentNature;
+import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.runtime.CoreException;
 
 /**
@@ -26,4 +27,14 @@ public class DisableSpringBootDevelopmentNatureHandler extends AbstractNatureHan
 		natureIds.remove(SpringBootDevelopmentNature.NATURE_ID);
 	}
 
-}
\ No newline at end of file
+	@Override
+	protected boolean configureBuildSpec(IProjectDescription description) {
+		return SpringBootDevelopmentNature.removeBuilder(description);
+	}
+
+	@Override
+	protected boolean requiresBuild() {
+		return false;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 the original author or authors
+ * Copyright 2016-2019 the original author or authors
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -12,6 +12,7 @@ package io.spring.boot.development.eclipse.ui;
 import java.util.List;
 
 import io.spring.boot.development.eclipse.SpringBootDevelopmentNature;
+import org.eclipse.core.resources.IProjectDescription;
 
 /**
  * {@link AbstractNatureHandler} for enabling the Spring Boot development nature.
@@ -28,4 +29,14 @@ public final class EnableSpringBootDevelopmentNatureHandler
 		}
 	}
 
-}
\ No newline at end of file
+	@Override
+	protected boolean configureBuildSpec(IProjectDescription description) {
+		return SpringBootDevelopmentNature.addBuilder(description);
+	}
+
+	@Override
+	protected boolean requiresBuild() {
+		return true;
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import io.spring.boot.development.eclipse.BuildMetrics;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * {@link AbstractHandler} that exports the {@link BuildMetrics} of the most recent build
+ * of each project to a CSV file.
+ *
+ * @author Andy Wilkinson
+ */
+public final class ExportMetricsHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		FileDialog dialog = new FileDialog(HandlerUtil.getActiveShellChecked(event),
+				SWT.SAVE);
+		dialog.setText("Export Spring Boot Analysis Metrics");
+		dialog.setFilterExtensions(new String[] { "*.csv", "*.*" });
+		dialog.setFileName("spring-boot-analysis-metrics.csv");
+		dialog.setOverwrite(true);
+		String file = dialog.open();
+		if (file != null) {
+			try (Writer writer = Files.newBufferedWriter(Paths.get(file),
+					StandardCharsets.UTF_8)) {
+				BuildMetrics.writeCsv(writer);
+			}
+			catch (IOException ex) {
+				throw new ExecutionException("Failed to export metrics to " + file, ex);
+			}
+		}
+		return null;
+	}
+
+}
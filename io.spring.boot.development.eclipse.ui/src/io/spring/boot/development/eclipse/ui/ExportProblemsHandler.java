@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import io.spring.boot.development.eclipse.SarifExport;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * {@link AbstractHandler} that exports the Spring Boot problems of the selected projects
+ * to a SARIF file. The export is performed in a {@link Job} so that the UI remains
+ * responsive while a large number of problems are written.
+ *
+ * @author Andy Wilkinson
+ */
+public final class ExportProblemsHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		List<IProject> projects = Selections
+				.findProjects(HandlerUtil.getCurrentSelection(event));
+		if (projects.isEmpty()) {
+			return null;
+		}
+		FileDialog dialog = new FileDialog(HandlerUtil.getActiveShellChecked(event),
+				SWT.SAVE);
+		dialog.setText("Export Spring Boot Problems");
+		dialog.setFilterExtensions(new String[] { "*.sarif", "*.*" });
+		dialog.setFileName(
+				((projects.size() == 1) ? projects.get(0).getName() : "problems")
+						+ ".sarif");
+		dialog.setOverwrite(true);
+		String file = dialog.open();
+		if (file != null) {
+			new ExportJob(projects, file).schedule();
+		}
+		return null;
+	}
+
+	private static final class ExportJob extends Job {
+
+		private final List<IProject> projects;
+
+		private final String file;
+
+		private ExportJob(List<IProject> projects, String file) {
+			super("Exporting Spring Boot problems");
+			this.projects = projects;
+			this.file = file;
+			setUser(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				new SarifExport(null).export(this.projects, Paths.get(this.file),
+						monitor);
+				return Status.OK_STATUS;
+			}
+			catch (CoreException ex) {
+				return ex.getStatus();
+			}
+		}
+
+	}
+
+}
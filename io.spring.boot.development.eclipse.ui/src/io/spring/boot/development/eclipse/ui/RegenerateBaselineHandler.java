@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.util.List;
+
+import io.spring.boot.development.eclipse.Baselines;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * {@link AbstractHandler} that regenerates the baselines of the selected projects so
+ * that the problems that they currently have are no longer reported.
+ *
+ * @author Andy Wilkinson
+ */
+public final class RegenerateBaselineHandler extends AbstractHandler {
+
+	private static final String PLUGIN_ID = "io.spring.boot.development.eclipse.ui";
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		List<IProject> projects = Selections
+				.findProjects(HandlerUtil.getCurrentSelection(event));
+		if (!projects.isEmpty()) {
+			new RegenerateBaselineJob(projects).schedule();
+		}
+		return null;
+	}
+
+	private static final class RegenerateBaselineJob extends WorkspaceJob {
+
+		private final List<IProject> projects;
+
+		private RegenerateBaselineJob(List<IProject> projects) {
+			super("Regenerating Spring Boot problem baselines");
+			this.projects = projects;
+			setRule(MultiRule.combine(projects.toArray(new IProject[projects.size()])));
+			setUser(true);
+		}
+
+		@Override
+		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			SubMonitor subMonitor = SubMonitor.convert(monitor, this.projects.size());
+			MultiStatus status = new MultiStatus(PLUGIN_ID, 0,
+					"Failed to regenerate Spring Boot problem baselines", null);
+			for (IProject project : this.projects) {
+				try {
+					Baselines.regenerate(project, subMonitor.split(1));
+				}
+				catch (CoreException ex) {
+					status.add(ex.getStatus());
+				}
+			}
+			return status.isOK() ? Status.OK_STATUS : status;
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+/**
+ * Utility methods for working with the current selection.
+ *
+ * @author Andy Wilkinson
+ */
+final class Selections {
+
+	private Selections() {
+
+	}
+
+	static List<IProject> findProjects(ISelection selection) {
+		List<IProject> projects = new ArrayList<IProject>();
+		if (selection instanceof IStructuredSelection) {
+			for (Object item : ((IStructuredSelection) selection).toList()) {
+				IProject project = extractProjectIfPossible(item);
+				if (project != null) {
+					projects.add(project);
+				}
+			}
+		}
+		return projects;
+	}
+
+	private static IProject extractProjectIfPossible(Object item) {
+		if (item instanceof IProject) {
+			return (IProject) item;
+		}
+		if (item instanceof IAdaptable) {
+			return ((IAdaptable) item).getAdapter(IProject.class);
+		}
+		return null;
+	}
+
+}
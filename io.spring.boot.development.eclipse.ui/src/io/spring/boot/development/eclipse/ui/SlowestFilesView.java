@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.spring.boot.development.eclipse.BuildMetrics;
+import io.spring.boot.development.eclipse.BuildMetrics.Build;
+import io.spring.boot.development.eclipse.SlowestFiles.FileCost;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.TreeViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * A view that shows the {@link BuildMetrics.Build#getSlowestFiles() slowest files} of
+ * the most recent build of each project. Each file can be expanded to show the time of
+ * each of its steps, such as parsing and binding, running each rule and writing
+ * markers. The view is refreshed whenever a build completes.
+ *
+ * @author Andy Wilkinson
+ */
+public final class SlowestFilesView extends ViewPart {
+
+	/**
+	 * The id of the view.
+	 */
+	public static final String ID = "io.spring.boot.development.eclipse.slowestFilesView";
+
+	private final Runnable listener = this::scheduleRefresh;
+
+	private TreeViewer viewer;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		this.viewer = new TreeViewer(parent,
+				SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+		Tree tree = this.viewer.getTree();
+		tree.setHeaderVisible(true);
+		tree.setLinesVisible(true);
+		addColumn("File", 420, SWT.LEFT, Row::getName);
+		addColumn("Project", 160, SWT.LEFT, Row::getProject);
+		addColumn("Time (ms)", 100, SWT.RIGHT,
+				(row) -> String.format(Locale.ROOT, "%.1f", row.getTime() / 1e6));
+		addColumn("Share", 80, SWT.RIGHT, (row) -> String.format(Locale.ROOT, "%.0f%%",
+				row.getTime() * 100.0 / Math.max(row.getFileTime(), 1)));
+		this.viewer.setContentProvider(new RowContentProvider());
+		refresh();
+		BuildMetrics.addListener(this.listener);
+	}
+
+	private void addColumn(String title, int width, int style,
+			Function<Row, String> text) {
+		TreeViewerColumn column = new TreeViewerColumn(this.viewer, style);
+		column.getColumn().setText(title);
+		column.getColumn().setWidth(width);
+		column.getColumn().setAlignment(style);
+		column.setLabelProvider(new ColumnLabelProvider() {
+
+			@Override
+			public String getText(Object element) {
+				return text.apply((Row) element);
+			}
+
+		});
+	}
+
+	private void scheduleRefresh() {
+		Control control = this.viewer.getControl();
+		if (!control.isDisposed()) {
+			control.getDisplay().asyncExec(this::refresh);
+		}
+	}
+
+	private void refresh() {
+		if (this.viewer.getControl().isDisposed()) {
+			return;
+		}
+		List<Row> rows = new ArrayList<>();
+		for (Build build : BuildMetrics.getBuilds()) {
+			for (FileCost file : build.getSlowestFiles()) {
+				rows.add(new Row(build, file, null));
+			}
+		}
+		rows.sort((one, two) -> Long.compare(two.getTime(), one.getTime()));
+		this.viewer.setInput(rows);
+	}
+
+	@Override
+	public void setFocus() {
+		this.viewer.getControl().setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		BuildMetrics.removeListener(this.listener);
+		super.dispose();
+	}
+
+	/**
+	 * A row for a file or, when it has a step, for one of a file's steps.
+	 */
+	private static final class Row {
+
+		private final Build build;
+
+		private final FileCost file;
+
+		private final Map.Entry<String, Long> step;
+
+		private Row(Build build, FileCost file, Map.Entry<String, Long> step) {
+			this.build = build;
+			this.file = file;
+			this.step = step;
+		}
+
+		private String getName() {
+			return (this.step != null) ? this.step.getKey() : this.file.getPath();
+		}
+
+		private String getProject() {
+			return (this.step != null) ? "" : this.build.getProject();
+		}
+
+		private long getTime() {
+			return (this.step != null) ? this.step.getValue() : this.file.getTotalTime();
+		}
+
+		private long getFileTime() {
+			return this.file.getTotalTime();
+		}
+
+		private Object[] getSteps() {
+			if (this.step != null) {
+				return new Object[0];
+			}
+			List<Row> steps = new ArrayList<>();
+			for (Map.Entry<String, Long> step : this.file.getSteps().entrySet()) {
+				steps.add(new Row(this.build, this.file, step));
+			}
+			steps.sort((one, two) -> Long.compare(two.getTime(), one.getTime()));
+			return steps.toArray();
+		}
+
+	}
+
+	private static final class RowContentProvider implements ITreeContentProvider {
+
+		@Override
+		public Object[] getElements(Object input) {
+			return ((List<?>) input).toArray();
+		}
+
+		@Override
+		public Object[] getChildren(Object element) {
+			return ((Row) element).getSteps();
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			return null;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return ((Row) element).step == null;
+		}
+
+	}
+
+}
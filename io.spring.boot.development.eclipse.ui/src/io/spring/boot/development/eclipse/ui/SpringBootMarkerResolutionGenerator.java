@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2019 the original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package io.spring.boot.development.eclipse.ui;
+
+import io.spring.boot.development.eclipse.analysis.Problem;
+import io.spring.boot.development.eclipse.fixes.Fixes;
+import io.spring.boot.development.eclipse.resolution.MarkerResolutions;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.ui.IMarkerResolution;
+import org.eclipse.ui.IMarkerResolutionGenerator2;
+
+/**
+ * An {@link IMarkerResolutionGenerator2} for Spring Boot development problems. Whether
+ * a marker has resolutions is decided from the fixes that are registered for its problem
+ * alone so that the workbench can ask about every marker that it shows without any
+ * compilation unit being parsed.
+ *
+ * @author Andy Wilkinson
+ */
+public class SpringBootMarkerResolutionGenerator implements IMarkerResolutionGenerator2 {
+
+	@Override
+	public boolean hasResolutions(IMarker marker) {
+		Problem problem = getProblem(marker);
+		return problem != null && !Fixes.forProblem(problem).isEmpty();
+	}
+
+	@Override
+	public IMarkerResolution[] getResolutions(IMarker marker) {
+		Problem problem = getProblem(marker);
+		if (problem == null) {
+			return new IMarkerResolution[0];
+		}
+		return MarkerResolutions.resolutionsForMarker(problem, marker);
+	}
+
+	private Problem getProblem(IMarker marker) {
+		String sourceId = marker.getAttribute(IMarker.SOURCE_ID, null);
+		if (sourceId == null) {
+			return null;
+		}
+		try {
+			return Problem.valueOf(Integer.parseInt(sourceId));
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+}
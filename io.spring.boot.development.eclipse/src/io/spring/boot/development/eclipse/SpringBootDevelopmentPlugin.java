@@ -1,21 +0,0 @@
-/*
- * Copyright 2016 the original author or authors
- *
- * All rights reserved. This program and the accompanying materials
- * are made available under the terms of the Eclipse Public License v1.0
- * which accompanies this distribution, and is available at
- * http://www.eclipse.org/legal/epl-v10.html
- */
-
-package io.spring.boot.development.eclipse;
-
-import org.eclipse.ui.plugin.AbstractUIPlugin;
-
-/**
- * Main class for the Spring Boot Development plugin.
- *
- * @author Andy Wilkinson
- */
-public final class SpringBootDevelopmentPlugin extends AbstractUIPlugin {
-
-}